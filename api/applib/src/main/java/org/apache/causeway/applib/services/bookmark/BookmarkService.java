@@ -18,13 +18,16 @@
  */
 package org.apache.causeway.applib.services.bookmark;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.annotation.DomainObject;
 import org.apache.causeway.applib.annotation.DomainService;
+import org.apache.causeway.commons.collections.Can;
 
 import lombok.NonNull;
 
@@ -83,6 +86,25 @@ public interface BookmarkService {
      */
     Optional<Object> lookup(@Nullable Bookmark bookmark);
 
+    /**
+     * Bulk variant of {@link #lookup(Bookmark)}.
+     * <p>
+     * Implementations are expected to fetch entities in bulk (grouped by logical type),
+     * rather than one by one, hence is to be preferred when looking up many bookmarks at once.
+     *
+     * @param bookmarks - representing domain objects
+     * @return - the domain objects that could be looked up, keyed by their {@link Bookmark}
+     *      (iterating in the order of given {@code bookmarks})
+     */
+    default Map<Bookmark, Object> lookupAll(@Nullable final Can<Bookmark> bookmarks) {
+        var pojoByBookmark = new LinkedHashMap<Bookmark, Object>();
+        if(bookmarks != null) {
+            bookmarks.forEach(bookmark->
+                lookup(bookmark).ifPresent(pojo->pojoByBookmark.put(bookmark, pojo)));
+        }
+        return pojoByBookmark;
+    }
+
     // -- SHORTCUTS
 
     /**
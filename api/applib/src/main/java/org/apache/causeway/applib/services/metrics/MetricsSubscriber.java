@@ -0,0 +1,77 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.metrics;
+
+import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.applib.services.iactn.Interaction;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.commons.having.HasEnabling;
+
+/**
+ * SPI that allows the duration of {@link Interaction}s and of their {@link Execution}s to be subscribed to,
+ * for example to publish these as metrics to a monitoring system.
+ *
+ * <p>
+ *     Unlike {@link org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber}, <i>all</i> action
+ *     invocations and property edits are notified, irrespective of whether they are annotated for publishing.
+ *     Durations are measured using {@link System#nanoTime()}, not the {@link org.apache.causeway.applib.services.clock.ClockService}.
+ * </p>
+ *
+ * <p>
+ *     Callbacks occur on the thread of the interaction, so implementations should be quick.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public interface MetricsSubscriber extends HasEnabling {
+
+    /**
+     * Called once a (top-level) {@link Interaction} has been closed, that is, after its transaction has completed
+     * and any commands have been published.
+     *
+     * @param durationNanos - time elapsed since the interaction was opened
+     */
+    default void onInteractionClosed(final Interaction interaction, final long durationNanos) {}
+
+    /**
+     * Called once an action invocation or property edit has completed, whether successfully or
+     * not (see {@link Execution#getThrew()}).
+     *
+     * @param durationNanos - time elapsed executing the member, including any nested executions
+     */
+    default void onExecutionCompleted(final Execution<?, ?> execution, final long durationNanos) {}
+
+    /**
+     * Called when the (interaction scoped) {@link QueryResultsCache} is disposed, provided it was used at all.
+     */
+    default void onQueryResultsCacheDisposed(final int hitCount, final int missCount) {}
+
+    /**
+     * Called once a viewer has handled a request, that is, after the response (if any) has been rendered.
+     * Currently called by the <i>Restful Objects</i> viewer; the <i>Wicket</i> viewer reports the rendering
+     * of its pages through {@link org.apache.causeway.applib.services.publishing.spi.PageRenderSubscriber}.
+     *
+     * @param viewer - identifies the viewer, eg. <code>restfulobjects</code>
+     * @param resource - the resource (method) that handled the request, eg. <code>DomainObjectResourceServerside#object</code>
+     * @param status - the HTTP status code of the response
+     * @param durationNanos - time elapsed since the request was matched to the resource, including rendering the response
+     */
+    default void onRequestHandled(final String viewer, final String resource, final int status, final long durationNanos) {}
+
+}
@@ -34,6 +34,7 @@
 import org.apache.causeway.applib.CausewayModuleApplib;
 import org.apache.causeway.applib.annotation.InteractionScope;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.metrics.MetricsSubscriber;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.collections._Maps;
@@ -60,6 +61,11 @@
  * algorithm of the business logic can remain easy to understand.
  * </p>
  *
+ * <p>
+ * Results of selected callers (eg. reference data lookups) may additionally be shared across interactions,
+ * see {@link SharedQueryResultsCache}.
+ * </p>
+ *
  * @since 1.x {@index}
  */
 @Component
@@ -74,6 +80,10 @@ public class QueryResultsCache implements DisposableBean {
 
     private final Map<Key, Value<?>> cache = _Maps.newHashMap();
 
+    // for metrics only
+    private int hitCount;
+    private int missCount;
+
     /**
      * Executes the callable if not already cached for the supplied calling
      * class, method and keys.
@@ -182,11 +192,15 @@ private <T> T executeWithCaching(final Callable<T> callable, final Key cacheKey)
             final Value<?> cacheValue = cache.get(cacheKey);
             logHitOrMiss(cacheKey, cacheValue);
             if(cacheValue != null) {
+                hitCount++;
                 return _Casts.uncheckedCast(cacheValue.getResult());
             }
+            missCount++;
 
-            // cache miss, so get the result...
-            T result = callable.call();
+            // cache miss, so get the result (from the shared tier if opted in)...
+            T result = isShared(cacheKey)
+                    ? sharedCache.execute(cacheKey, callable)
+                    : callable.call();
 
             // ... and cache
             //
@@ -229,6 +243,7 @@ public void onTransactionEnded() {
     @Override
     public void destroy() throws Exception {
         cache.clear();
+        notifyMetricsSubscribers();
     }
 
     // -- HELPER
@@ -236,6 +251,28 @@ public void destroy() throws Exception {
     @Autowired(required = false)
     protected List<QueryResultsCacheControl> cacheControl;
 
+    @Autowired(required = false)
+    protected SharedQueryResultsCache sharedCache;
+
+    @Autowired(required = false)
+    protected List<MetricsSubscriber> metricsSubscribers;
+
+    private boolean isShared(final Key cacheKey) {
+        return sharedCache!=null
+                && sharedCache.isShared(cacheKey.getCallingClass(), cacheKey.getMethodName());
+    }
+
+    private void notifyMetricsSubscribers() {
+        if(hitCount + missCount == 0) {
+            return;
+        }
+        _NullSafe.stream(metricsSubscribers)
+            .filter(MetricsSubscriber::isEnabled)
+            .forEach(subscriber->subscriber.onQueryResultsCacheDisposed(hitCount, missCount));
+        hitCount = 0;
+        missCount = 0;
+    }
+
     private boolean isIgnoreCache() {
         return _NullSafe.stream(cacheControl)
                 .anyMatch(c->c.isIgnoreCache());
@@ -0,0 +1,138 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.queryresultscache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import org.apache.causeway.commons.collections.Can;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * Application scoped (second level) tier of the {@link QueryResultsCache}, that retains results across
+ * {@link org.apache.causeway.applib.services.iactn.Interaction}s.
+ *
+ * <p>
+ *     This tier is opt-in, per calling class and method: only results of callers that have been
+ *     {@link #register(Class, String, Policy) registered} are shared, each with its own time-to-live and size limit.
+ *     Results are invalidated, whenever an entity of any of the types listed by the caller's {@link Policy}
+ *     is persisted, updated or removed.
+ * </p>
+ *
+ * <p>
+ *     Because results are shared between interactions (and hence threads), they should be immutable
+ *     (eg. value types or view models), or at least not be modified by the caller.
+ *     Entities are bound to the persistence context of the interaction that loaded them, hence results that are
+ *     (or contain) entities are never shared: these are recomputed on every call. To share such lookups, return
+ *     their {@link org.apache.causeway.applib.services.bookmark.Bookmark}s (or any other value) instead.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public interface SharedQueryResultsCache {
+
+    /**
+     * Time-to-live, size limit and invalidation triggers for the results of a calling class and method.
+     */
+    @lombok.Value
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    class Policy {
+        private final @NonNull Duration timeToLive;
+        private final int maxSize;
+        /**
+         * Entity types, any persist, update or remove of which invalidates the cached results.
+         * If empty, the results are invalidated on any entity change.
+         */
+        private final @NonNull Can<Class<?>> invalidatedBy;
+
+        public static Policy of(
+                final @NonNull Duration timeToLive,
+                final int maxSize,
+                final @NonNull Can<Class<?>> invalidatedBy) {
+            return new Policy(timeToLive, maxSize, invalidatedBy);
+        }
+
+        public static Policy of(
+                final @NonNull Duration timeToLive,
+                final int maxSize,
+                final Class<?>... invalidatedBy) {
+            return new Policy(timeToLive, maxSize, Can.ofArray(invalidatedBy));
+        }
+    }
+
+    /**
+     * Hit and miss counts of the shared tier, accumulated over all callers since application start.
+     */
+    @lombok.Value(staticConstructor = "of")
+    class Metrics {
+        private final long hitCount;
+        private final long missCount;
+        /**
+         * Number of entries dropped because of the size limit or time-to-live.
+         */
+        private final long evictionCount;
+        /**
+         * Number of entries dropped because of entity changes.
+         */
+        private final long invalidationCount;
+        private final int size;
+
+        public double getHitRatio() {
+            var requestCount = hitCount + missCount;
+            return requestCount == 0
+                    ? 0.
+                    : (double) hitCount / requestCount;
+        }
+    }
+
+    /**
+     * Opts in given calling class and method, such that {@link QueryResultsCache#execute(Callable, Class, String, Object...)}
+     * shares its results across interactions, governed by given {@link Policy}.
+     */
+    void register(Class<?> callingClass, String methodName, Policy policy);
+
+    /**
+     * As {@link #register(Class, String, Policy)}, using the configured default time-to-live and size limit.
+     */
+    void register(Class<?> callingClass, String methodName, Class<?>... invalidatedBy);
+
+    /**
+     * Whether results of given calling class and method are shared across interactions.
+     */
+    boolean isShared(Class<?> callingClass, String methodName);
+
+    /**
+     * Returns the shared result for given {@link QueryResultsCache.Key}, if not expired,
+     * otherwise executes given {@link Callable} and shares its result.
+     */
+    <T> T execute(QueryResultsCache.Key cacheKey, Callable<T> callable) throws Exception;
+
+    /**
+     * Invalidates the results of all callers, whose {@link Policy} is triggered by given entity type.
+     */
+    void invalidate(Class<?> entityType);
+
+    void invalidateAll();
+
+    Metrics getMetrics();
+
+}
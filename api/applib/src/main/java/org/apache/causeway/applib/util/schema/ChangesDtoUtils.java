@@ -19,6 +19,7 @@
 package org.apache.causeway.applib.util.schema;
 
 import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.commons.io.CompressingDtoMapper;
 import org.apache.causeway.commons.io.DtoMapper;
 import org.apache.causeway.commons.io.JaxbUtils;
 import org.apache.causeway.schema.chg.v2.ChangesDto;
@@ -42,4 +43,15 @@ public DtoMapper<ChangesDto> dtoMapper() {
         return dtoMapper.get();
     }
 
+    private _Lazy<DtoMapper<ChangesDto>> compressingDtoMapper = _Lazy.threadSafe(
+            ()->CompressingDtoMapper.of(JaxbUtils.mapperFor(ChangesDto.class, opts->opts.formattedOutput(false))));
+
+    /**
+     * Writes compressed (unformatted) XML; reads both, compressed and plain XML.
+     * @see CompressingDtoMapper
+     */
+    public DtoMapper<ChangesDto> compressingDtoMapper() {
+        return compressingDtoMapper.get();
+    }
+
 }
@@ -21,6 +21,7 @@
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.io.CompressingDtoMapper;
 import org.apache.causeway.commons.io.DtoMapper;
 import org.apache.causeway.commons.io.JaxbUtils;
 import org.apache.causeway.schema.cmd.v2.ActionDto;
@@ -49,6 +50,17 @@ public DtoMapper<CommandDto> dtoMapper() {
         return dtoMapper.get();
     }
 
+    private _Lazy<DtoMapper<CommandDto>> compressingDtoMapper = _Lazy.threadSafe(
+            ()->CompressingDtoMapper.of(JaxbUtils.mapperFor(CommandDto.class, opts->opts.formattedOutput(false))));
+
+    /**
+     * Writes compressed (unformatted) XML; reads both, compressed and plain XML.
+     * @see CompressingDtoMapper
+     */
+    public DtoMapper<CommandDto> compressingDtoMapper() {
+        return compressingDtoMapper.get();
+    }
+
     public OidsDto targetsFor(final CommandDto dto) {
         OidsDto targets = dto.getTargets();
         if(targets == null) {
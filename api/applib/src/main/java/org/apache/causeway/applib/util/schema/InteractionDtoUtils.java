@@ -28,6 +28,7 @@
 import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.collections._Lists;
+import org.apache.causeway.commons.io.CompressingDtoMapper;
 import org.apache.causeway.commons.io.DtoMapper;
 import org.apache.causeway.commons.io.JaxbUtils;
 import org.apache.causeway.schema.cmd.v2.ParamDto;
@@ -61,6 +62,17 @@ public DtoMapper<InteractionDto> dtoMapper() {
         return dtoMapper.get();
     }
 
+    private _Lazy<DtoMapper<InteractionDto>> compressingDtoMapper = _Lazy.threadSafe(
+            ()->CompressingDtoMapper.of(JaxbUtils.mapperFor(InteractionDto.class, opts->opts.formattedOutput(false))));
+
+    /**
+     * Writes compressed (unformatted) XML; reads both, compressed and plain XML.
+     * @see CompressingDtoMapper
+     */
+    public DtoMapper<InteractionDto> compressingDtoMapper() {
+        return compressingDtoMapper.get();
+    }
+
     // -- newInteractionDto
 
     /**
@@ -75,6 +75,7 @@
     requires transitive spring.core;
     requires java.inject;
     requires java.annotation;
+    requires jdk.jfr;
     requires com.sun.xml.bind;
     requires com.fasterxml.jackson.datatype.jsr310;
     requires com.fasterxml.jackson.dataformat.yaml;
@@ -0,0 +1,160 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.debug;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * <h1>- internal use only -</h1>
+ * <p>
+ * JDK Flight Recorder events, emitted along the framework's hot paths, such that framework activity shows up
+ * in recordings (eg. <code>-XX:StartFlightRecording</code> or JDK Mission Control).
+ * </p>
+ * <p>
+ * Call sites follow the pattern
+ * <pre>{@code
+ * var jfrEvent = new _JfrEvents.MemberExecution();
+ * jfrEvent.begin();
+ * // ...
+ * if(jfrEvent.shouldCommit()) {
+ *     jfrEvent.member = ...; // computing the fields only if recorded
+ *     jfrEvent.commit();
+ * }
+ * }</pre>
+ * With recording off (or the event disabled), <code>begin()</code> and <code>shouldCommit()</code> are no-ops
+ * and the JIT eliminates the event's allocation.
+ * </p>
+ * <p>
+ * <b>WARNING</b>: Do <b>NOT</b> use any of the classes provided by this package! <br/>
+ * These may be changed or removed without notice!
+ * </p>
+ * @since 2.0
+ */
+@UtilityClass
+public class _JfrEvents {
+
+    private static final String CATEGORY = "Apache Causeway";
+
+    @Name("causeway.Interaction")
+    @Label("Interaction")
+    @Description("Top-level interaction, from being opened until closed (including transaction completion and publishing)")
+    @Category({CATEGORY, "Runtime"})
+    @StackTrace(false)
+    public static final class Interaction extends Event {
+        @Label("Interaction Id")
+        public String interactionId;
+        @Label("Member")
+        @Description("Logical member identifier of the interaction's command, if any")
+        public String member;
+    }
+
+    @Name("causeway.MemberExecution")
+    @Label("Member Execution")
+    @Description("Action invocation or property edit")
+    @Category({CATEGORY, "Runtime"})
+    @StackTrace(false)
+    public static final class MemberExecution extends Event {
+        @Label("Member")
+        @Description("Logical member identifier")
+        public String member;
+        @Label("Type")
+        public String type;
+        @Label("Failed")
+        public boolean failed;
+    }
+
+    @Name("causeway.ConsentEvaluation")
+    @Label("Consent Evaluation")
+    @Description("Evaluation of the (facet based) hiding or disabling advisors of a feature")
+    @Category({CATEGORY, "Metamodel"})
+    @StackTrace(false)
+    public static final class ConsentEvaluation extends Event {
+        @Label("Consent")
+        @Description("Either visibility or usability")
+        public String consent;
+        @Label("Feature")
+        @Description("Logical identifier of the feature")
+        public String feature;
+        @Label("Vetoed")
+        public boolean vetoed;
+    }
+
+    @Name("causeway.ObjectRendering")
+    @Label("Object Rendering")
+    @Description("Computation of an object's title or icon")
+    @Category({CATEGORY, "Metamodel"})
+    @StackTrace(false)
+    public static final class ObjectRendering extends Event {
+        @Label("Kind")
+        @Description("Either title or icon")
+        public String kind;
+        @Label("Logical Type")
+        public String logicalType;
+    }
+
+    @Name("causeway.SpecIntrospection")
+    @Label("Spec Introspection")
+    @Description("Introspection of an object specification")
+    @Category({CATEGORY, "Metamodel"})
+    @StackTrace(false)
+    public static final class SpecIntrospection extends Event {
+        @Label("Type")
+        @Description("Fully qualified name of the introspected class")
+        public String type;
+        @Label("Introspection State")
+        @Description("The state introspected up to")
+        public String state;
+    }
+
+    @Name("causeway.ObjectBulkLoad")
+    @Label("Object Bulk Load")
+    @Description("Query or bookmark based bulk load of objects")
+    @Category({CATEGORY, "Persistence"})
+    @StackTrace(false)
+    public static final class ObjectBulkLoad extends Event {
+        @Label("Kind")
+        @Description("Either query or bookmarks")
+        public String kind;
+        @Label("Logical Type")
+        public String logicalType;
+        @Label("Object Count")
+        @Description("Number of objects loaded")
+        public int objectCount;
+    }
+
+    @Name("causeway.Publishing")
+    @Label("Publishing")
+    @Description("Dispatch of a command, execution or entity changes to the enabled subscribers")
+    @Category({CATEGORY, "Publishing"})
+    @StackTrace(false)
+    public static final class Publishing extends Event {
+        @Label("Publisher")
+        public String publisher;
+        @Label("Subscriber Count")
+        public int subscriberCount;
+    }
+
+}
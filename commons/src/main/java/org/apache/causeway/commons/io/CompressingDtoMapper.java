@@ -0,0 +1,100 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.io;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.lang.Nullable;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Decorates a {@link DtoMapper}, compressing its output (GZIP), such that it can still be held as text
+ * (Base64 encoded, prefixed with {@value #PREFIX}).
+ * <p>
+ * When reading, any content not carrying the prefix is passed on to the decorated {@link DtoMapper} as is,
+ * hence content written previously (eg. XML) can still be read.
+ *
+ * @since 2.0 {@index}
+ */
+@RequiredArgsConstructor(staticName = "of")
+public final class CompressingDtoMapper<T> implements DtoMapper<T> {
+
+    /**
+     * Marks compressed content, cannot be confused with XML or JSON.
+     */
+    public static final String PREFIX = "gz:";
+    private static final byte[] PREFIX_BYTES = PREFIX.getBytes(StandardCharsets.US_ASCII);
+
+    private final @NonNull DtoMapper<T> delegate;
+
+    @Override
+    public T read(final @NonNull DataSource source) {
+        return delegate.read(source.map(this::decompressIfPrefixed));
+    }
+
+    @Override
+    public void write(final @Nullable T dto, final @NonNull DataSink sink) {
+        if(dto==null) return;
+        sink.writeAll(os->{
+            os.write(PREFIX_BYTES);
+            // closing the GZIP stream closes the Base64 encoder (writing any padding), but not the sink's stream
+            try(var gzip = new GZIPOutputStream(Base64.getEncoder().wrap(new NonClosingOutputStream(os)))) {
+                delegate.write(dto, DataSink.ofOutputStreamSupplier(()->new NonClosingOutputStream(gzip)));
+            }
+        });
+    }
+
+    // -- HELPER
+
+    private InputStream decompressIfPrefixed(final InputStream is) throws IOException {
+        var pushback = new PushbackInputStream(is, PREFIX_BYTES.length);
+        var head = pushback.readNBytes(PREFIX_BYTES.length);
+        if(Arrays.equals(head, PREFIX_BYTES)) {
+            return new GZIPInputStream(Base64.getDecoder().wrap(pushback));
+        }
+        pushback.unread(head);
+        return pushback;
+    }
+
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        NonClosingOutputStream(final OutputStream out) {
+            super(out);
+        }
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+        }
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+}
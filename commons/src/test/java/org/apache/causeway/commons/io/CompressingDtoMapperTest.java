@@ -0,0 +1,78 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.io;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+class CompressingDtoMapperTest {
+
+    @XmlRootElement(name = "sample")
+    @XmlType
+    @XmlAccessorType(XmlAccessType.FIELD)
+    @EqualsAndHashCode
+    static class Sample {
+        @XmlElement(required = false)
+        @Getter @Setter private String string;
+    }
+
+    private final DtoMapper<Sample> xmlMapper = JaxbUtils.mapperFor(Sample.class);
+    private final DtoMapper<Sample> compressingMapper = CompressingDtoMapper.of(xmlMapper);
+
+    @Test
+    void roundtrip() {
+        var sample = sample();
+
+        var compressed = compressingMapper.toString(sample);
+
+        assertTrue(compressed.startsWith(CompressingDtoMapper.PREFIX));
+        assertTrue(compressed.length() < xmlMapper.toString(sample).length());
+        assertEquals(sample, compressingMapper.read(compressed));
+    }
+
+    @Test
+    void shouldReadUncompressed() {
+        var sample = sample();
+
+        var xml = xmlMapper.toString(sample);
+
+        assertEquals(sample, compressingMapper.read(xml));
+    }
+
+    // -- HELPER
+
+    private static Sample sample() {
+        var sample = new Sample();
+        sample.setString("lorem ipsum ".repeat(100));
+        return sample;
+    }
+
+}
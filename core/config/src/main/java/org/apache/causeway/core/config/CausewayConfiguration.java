@@ -1645,6 +1645,11 @@ public IntrospectionPolicy getPolicy() {
                  * Whether to perform metamodel introspection in parallel, intended to speed up bootstrapping.
                  *
                  * <p>
+                 *     Types are introspected level by level of their type hierarchy (supertypes first),
+                 *     the types of each level concurrently.
+                 * </p>
+                 *
+                 * <p>
                  *     For now this is <i>experimental</i>.
                  *     We recommend this is left as disabled (the default).
                  * </p>
@@ -1696,6 +1701,17 @@ public IntrospectionPolicy getPolicy() {
                  */
                 private boolean validateIncrementally = true;
 
+                /**
+                 * Whether to bind the methods of introspected actions, properties, collections and their supporting
+                 * methods to pre-adapted {@link java.lang.invoke.MethodHandle}s, once introspected.
+                 *
+                 * <p>
+                 *     Bound methods are no longer invoked via reflection, and parameter conversion is precomputed.
+                 *     Any methods that cannot be bound, are still invoked via reflection.
+                 * </p>
+                 */
+                private boolean bindMethodHandles = false;
+
             }
 
             private final Validator validator = new Validator();
@@ -2013,6 +2029,46 @@ public static class ApplicationFeatures {
                 ApplicationFeaturesInitConfiguration init = ApplicationFeaturesInitConfiguration.NOT_SPECIFIED;
             }
 
+            private final WrapperFactory wrapperFactory = new WrapperFactory();
+            @Data
+            public static class WrapperFactory {
+
+                public enum AsyncExecutorMode {
+                    /**
+                     * Async interactions are executed on a fixed pool of threads, sized according to the number of
+                     * available processors (at least 2, at most 4).
+                     *
+                     * <p>
+                     *     Appropriate for CPU-bound async actions; if the actions are I/O-bound (calls to external
+                     *     systems, slow queries) then the pool is easily saturated and further tasks are queued.
+                     * </p>
+                     */
+                    FIXED_THREAD_POOL,
+                    /**
+                     * Each async interaction is executed on its own virtual thread.
+                     *
+                     * <p>
+                     *     Appropriate for I/O-bound async actions.  Requires Java 21 or later; on earlier JVMs
+                     *     this falls back to the {@link #FIXED_THREAD_POOL} (with a warning logged).
+                     * </p>
+                     */
+                    VIRTUAL_THREADS;
+                }
+
+                /**
+                 * Determines the {@link java.util.concurrent.ExecutorService} used by the
+                 * {@link org.apache.causeway.applib.services.wrapper.WrapperFactory} to execute async interactions
+                 * (<code>asyncWrap</code> and <code>asyncWrapMixin</code>), where the <code>AsyncControl</code>
+                 * does not specify an executor of its own.
+                 *
+                 * <p>
+                 *     Regardless of this setting, each async interaction runs in its own interaction and
+                 *     transaction.
+                 * </p>
+                 */
+                private AsyncExecutorMode asyncExecutorMode = AsyncExecutorMode.FIXED_THREAD_POOL;
+            }
+
             private final RepositoryService repositoryService = new RepositoryService();
             @Data
             public static class RepositoryService {
@@ -2120,6 +2176,63 @@ public static class Bulk {
                      * </p>
                      */
                     int threshold = 1;
+
+                    /**
+                     * If positive, the entity property changes of a transaction are handed to the subscribers in chunks of
+                     * (at most) this size, rather than all at once.
+                     *
+                     * <p>
+                     *     Each chunk is delivered either one by one or in bulk, as determined by the {@link #getThreshold() threshold}.
+                     *     Combined with the compact {@link Persistence.Commons.EntityChangeTracker#getMode() mode} of the
+                     *     entity change tracker, the changes are then never all held in memory at once, which is of benefit for
+                     *     large bulk transactions.
+                     * </p>
+                     *
+                     * <p>
+                     *     By default, changes are not chunked.
+                     * </p>
+                     */
+                    @Min(value = 0)
+                    int chunkSize = 0;
+                }
+            }
+
+            private final QueryResultsCache queryResultsCache = new QueryResultsCache();
+            @Data
+            public static class QueryResultsCache {
+
+                private final Shared shared = new Shared();
+                @Data
+                public static class Shared {
+
+                    /**
+                     * Whether the application scoped tier of the
+                     * {@link org.apache.causeway.applib.services.queryresultscache.QueryResultsCache} is enabled.
+                     *
+                     * <p>
+                     *     Results are only shared for callers that explicitly opted in, using
+                     *     {@link org.apache.causeway.applib.services.queryresultscache.SharedQueryResultsCache#register(Class, String, org.apache.causeway.applib.services.queryresultscache.SharedQueryResultsCache.Policy)}.
+                     *     Setting this to <code>false</code> ignores any such registrations.
+                     * </p>
+                     *
+                     * <p>
+                     *     Results that are (or contain) entities are never shared, as entities are bound to the
+                     *     interaction that loaded them.
+                     * </p>
+                     */
+                    private boolean enabled = true;
+
+                    /**
+                     * Time-to-live of shared results, for callers that registered without an explicit policy.
+                     */
+                    private Duration defaultTimeToLive = Duration.ofMinutes(10);
+
+                    /**
+                     * Maximum number of shared results (per calling class and method), for callers that registered
+                     * without an explicit policy. Least recently used results are evicted first.
+                     */
+                    @Min(value = 1)
+                    private int defaultMaxSize = 1000;
                 }
             }
         }
@@ -2178,6 +2291,103 @@ public static class EntityChangeTracker {
                  * </p>
                  */
                 private boolean enabled = true;
+
+                public enum Mode {
+                    /**
+                     * Holds a {@link org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord}
+                     * for each enlisted property of each enlisted entity.
+                     */
+                    DEFAULT,
+                    /**
+                     * Holds a single compact record for each enlisted entity, with the pre- and post-values of its
+                     * properties in arrays.  Pre-values are not captured at all, if no
+                     * {@link EntityPropertyChangeSubscriber} is enabled, and changes are streamed to the subscribers
+                     * (in chunks, if {@link Core.RuntimeServices.EntityPropertyChangePublisher.Bulk#getChunkSize() configured}).
+                     *
+                     * <p>
+                     *     Intended for large bulk transactions (eg. imports of many entities).
+                     * </p>
+                     */
+                    COMPACT;
+                    public boolean isCompact() { return this == COMPACT; }
+                }
+
+                /**
+                 * How the changes of a transaction are held, until published.
+                 *
+                 * <p>
+                 *     The {@link Mode#COMPACT compact} mode uses considerably less memory for transactions
+                 *     that change many entities.  However, if no {@link EntityPropertyChangeSubscriber} is enabled,
+                 *     the number of modified properties (as reported by {@link org.apache.causeway.applib.services.publishing.spi.EntityChanges})
+                 *     is then always zero.
+                 * </p>
+                 */
+                private Mode mode = Mode.DEFAULT;
+
+                /**
+                 * JDO/DataNucleus only: whether to enlist only those properties, whose fields DataNucleus reports as dirty,
+                 * rather than capturing the pre-values of all properties of an entity, once it is first modified.
+                 *
+                 * <p>
+                 *     The pre-values are captured by the (Causeway provided) DataNucleus state manager, as fields are changed.
+                 *     The entity is enlisted when flushed (just like for JPA), hence the updating lifecycle callback
+                 *     then also occurs when flushed, rather than when first modified.
+                 *     Changes of derived (non-persisted) properties are no longer tracked.
+                 * </p>
+                 *
+                 * <p>
+                 *     Of benefit for wide entities, where only few fields change per transaction.
+                 * </p>
+                 */
+                private boolean jdoDirtyFieldTracking = false;
+            }
+
+            private final DtoEncoding dtoEncoding = new DtoEncoding();
+            /**
+             * How the <code>cmd</code>, <code>ixn</code> and <code>chg</code> schema DTOs are encoded, when persisted
+             * (as text) by the JDO and JPA type converters.
+             *
+             * <p>
+             *     Regardless of the encoding configured, the type converters read both encodings, hence existing
+             *     (XML) rows remain readable after switching to the compressed encoding (and vice versa).
+             * </p>
+             */
+            @Data
+            public static class DtoEncoding {
+
+                public enum Encoding {
+                    /**
+                     * Formatted XML, as marshalled by JAXB.
+                     */
+                    XML,
+                    /**
+                     * Unformatted XML, compressed (GZIP) and Base64 encoded.
+                     *
+                     * <p>
+                     *     Typically takes up a fraction of the space of XML, at the cost of no longer being
+                     *     human readable (or queryable) in the database.
+                     * </p>
+                     */
+                    COMPRESSED;
+                    public boolean isCompressed() { return this == COMPRESSED; }
+                }
+
+                /**
+                 * Encoding of {@link org.apache.causeway.schema.chg.v2.ChangesDto}s.
+                 */
+                private Encoding changes = Encoding.XML;
+
+                /**
+                 * Encoding of {@link org.apache.causeway.schema.cmd.v2.CommandDto}s,
+                 * as persisted by the <i>Command Log</i> extension.
+                 */
+                private Encoding command = Encoding.XML;
+
+                /**
+                 * Encoding of {@link org.apache.causeway.schema.ixn.v2.InteractionDto}s,
+                 * as persisted by the <i>Execution Log</i> and <i>Execution Outbox</i> extensions.
+                 */
+                private Encoding interaction = Encoding.XML;
             }
         }
 
@@ -2800,6 +3010,21 @@ public static class Authentication {
                 private String strategyClassName = "org.apache.causeway.viewer.restfulobjects.viewer.webmodule.auth.AuthenticationStrategyBasicAuth";
             }
 
+            /**
+             * Whether to emit (weak) <code>ETag</code> headers with the representations of domain objects,
+             * and to answer conditional <code>GET</code>s (<code>If-None-Match</code>) with <i>Not Modified</i> (304),
+             * without building the representation.
+             *
+             * <p>
+             *     Entity tags are derived from the entity's version, hence only apply to versioned entities.
+             *     They also depend on the user (and its roles), locale, requested media type and query parameters.
+             *     Note that changes to other objects, that are not reflected in the entity's version (eg. derived
+             *     properties), do not change the entity tag.  Hence property and collection details, as well as
+             *     representations following links (<code>x-ro-follow-links</code>), never carry an entity tag.
+             * </p>
+             */
+            private boolean etags = false;
+
             /**
              * Whether to enable the <code>x-ro-follow-links</code> support, to minimize round trips.
              *
@@ -2829,6 +3054,20 @@ public static class Authentication {
              */
             private boolean objectPropertyValuesOnly = false;
 
+            /**
+             * If set, then JSON representations are written directly to the response's output stream, rather than
+             * first being serialized into an intermediate (in-memory) string.  The elements of lists and
+             * collections are moreover rendered one at a time, while being written.
+             *
+             * <p>
+             *     Memory use hence no longer grows with the number of elements of a list or collection, and the
+             *     first bytes are sent sooner.  However, the response no longer carries a
+             *     <code>Content-Length</code> header (but is chunked instead), and a failure to render an element
+             *     can no longer be reported with an error status, as the response is already committed.
+             * </p>
+             */
+            private boolean streamRepresentations = false;
+
             /**
              * If set, then any unrecognised <code>Accept</code> headers will result in an HTTP <i>Not Acceptable</i>
              * response code (406).
@@ -3896,6 +4135,68 @@ public enum PersistPolicy {
              * </p>
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            /**
+             * When persisting a set of entity property changes (in bulk), the number of audit trail entries
+             * after which pending inserts are flushed to the database.
+             *
+             * <p>
+             *     Combine with JDBC batching of the ORM (eg. <code>eclipselink.jdbc.batch-writing=JDBC</code> along
+             *     with a matching <code>eclipselink.jdbc.batch-writing.size</code> for JPA, or
+             *     <code>datanucleus.rdbms.statementBatchLimit</code> for JDO), such that each flush results in
+             *     only a few batched <code>INSERT</code> statements.
+             * </p>
+             */
+            @Min(value = 1)
+            private int batchSize = 50;
+
+            /**
+             * As per {@link AuditTrail#getWriteMode()}.
+             */
+            public enum WriteMode {
+                /**
+                 * Audit trail entries are persisted within the transaction that changed the entities.
+                 * This is the default.
+                 */
+                IN_TRANSACTION,
+                /**
+                 * Entity property changes are handed over to a bounded queue, once the transaction that changed
+                 * the entities has committed, and are persisted in a separate transaction by a background writer.
+                 *
+                 * <p>
+                 *     Audit trail entries are thus no longer part of the user's transaction; if the application
+                 *     shuts down abruptly, any queued changes are lost.
+                 * </p>
+                 */
+                AFTER_COMMIT;
+
+                public boolean isInTransaction() { return this == IN_TRANSACTION; }
+                public boolean isAfterCommit() { return this == AFTER_COMMIT; }
+            }
+
+            /**
+             * Whether audit trail entries are persisted within the transaction that changed the entities,
+             * or asynchronously after it has committed.
+             */
+            private WriteMode writeMode = WriteMode.IN_TRANSACTION;
+
+            private final AfterCommit afterCommit = new AfterCommit();
+            @Data
+            public static class AfterCommit {
+
+                /**
+                 * Only applies if {@link AuditTrail#getWriteMode()} is {@link WriteMode#AFTER_COMMIT}:
+                 * the maximum number of committed transactions, whose entity property changes are queued
+                 * for the background writer.
+                 *
+                 * <p>
+                 *     Once the queue is full, the committing thread persists its changes itself, which slows down
+                 *     producers until the background writer has caught up (back-pressure).
+                 * </p>
+                 */
+                @Min(value = 1)
+                private int queueCapacity = 1000;
+            }
         }
 
         private final CommandLog commandLog = new CommandLog();
@@ -3984,6 +4285,37 @@ public enum OnFailurePolicy {
                  * If there is an exception executing one of the commands, what should be done?
                  */
                 private OnFailurePolicy onFailurePolicy = OnFailurePolicy.STOP_THE_LINE;
+
+                /**
+                 * The number of pending commands that the <code>RunBackgroundCommandsJob</code> will execute
+                 * concurrently, each within its own interaction.
+                 *
+                 * <p>
+                 *     With the default of 1, commands are executed one after the other, in the order they were
+                 *     created.  With a value greater than 1, each batch is first leased (see
+                 *     {@link #getLeaseDuration() leaseDuration}), so that multiple nodes can drain the queue of
+                 *     background commands concurrently; the order of execution is then no longer guaranteed, so
+                 *     should only be used if the background commands are independent of each other.  Also, commands
+                 *     are then executed at least once: a command outliving its lease may be executed again by some
+                 *     other node, and although only one of these executions is committed, side effects outside of the
+                 *     database are not rolled back.
+                 * </p>
+                 */
+                @Min(value = 1)
+                private int parallelism = 1;
+
+                /**
+                 * If the {@link #getParallelism() parallelism} is greater than 1, the duration for which a batch of
+                 * pending commands is leased by the node that is about to execute them.  Each lease is renewed for
+                 * this duration just before its command is executed.
+                 *
+                 * <p>
+                 *     Commands not completed within this time (for example because the node has crashed) become
+                 *     available to be leased again, so this should comfortably exceed the time it takes to execute
+                 *     any single command.
+                 * </p>
+                 */
+                private Duration leaseDuration = Duration.ofMinutes(10);
             }
         }
 
@@ -4159,6 +4491,25 @@ public static class Cors {
 
         }
 
+        private final Excel excel = new Excel();
+        @Data
+        public static class Excel {
+
+            /**
+             * Number of rows kept in memory while writing a spreadsheet, both by the <code>ExcelService</code>
+             * and by the Excel download of (standalone or parented) collections.
+             *
+             * <p>
+             *     Spreadsheets are written using Apache POI's streaming <code>SXSSFWorkbook</code>,
+             *     which flushes any rows beyond this window to a temporary file. Memory use therefore does not
+             *     grow with the number of rows exported.
+             * </p>
+             */
+            @Min(value = 1)
+            private int rowAccessWindowSize = 100;
+
+        }
+
         private final ExecutionLog executionLog = new ExecutionLog();
         @Data
         public static class ExecutionLog {
@@ -4215,6 +4566,21 @@ public static class RestApi {
                 @Min(value = 1)
                 @Max(value = 1000)
                 private int maxPending = 100;
+
+                /**
+                 * Entries younger than this are not (yet) returned by the cursor based
+                 * <code>OutboxRestApi#pendingAfter</code>.
+                 *
+                 * <p>
+                 *     Outbox entries are ordered by the time their execution started, but only become visible once
+                 *     their transaction commits.  This delay prevents entries of slow transactions from ending up
+                 *     in front of a cursor already handed out, where they would be skipped, and deleted by
+                 *     <code>OutboxRestApi#acknowledgeUpTo</code>.
+                 *     It should hence exceed the duration of the longest transaction.
+                 * </p>
+                 */
+                @NotNull
+                private Duration settleDelay = Duration.ofSeconds(10);
             }
 
             /**
@@ -4255,6 +4621,38 @@ public enum PersistPolicy {
 
         }
 
+        private final Metrics metrics = new Metrics();
+        @Data
+        public static class Metrics {
+
+            private final Micrometer micrometer = new Micrometer();
+            @Data
+            public static class Micrometer {
+
+                /**
+                 * Whether the subscribers provided by the <i>metrics-micrometer</i> extension publish any meters.
+                 */
+                private boolean enabled = true;
+
+                /**
+                 * Whether the sizes of the entity changes of each transaction are recorded.
+                 *
+                 * <p>
+                 *     This is done by subscribing to {@link org.apache.causeway.applib.services.publishing.spi.EntityChanges},
+                 *     which are then computed for all entities with entity change publishing enabled, even if no other
+                 *     subscriber is interested.
+                 * </p>
+                 */
+                private boolean entityChanges = true;
+
+                /**
+                 * Whether the timers publish a percentile histogram (eg. for Prometheus' <code>histogram_quantile</code>),
+                 * rather than just count, total and maximum.
+                 */
+                private boolean percentileHistogram = false;
+            }
+        }
+
         private final LayoutLoaders layoutLoaders = new LayoutLoaders();
         @Data
         public static class LayoutLoaders {
@@ -4547,6 +4945,55 @@ public enum UserMenuMeActionPolicy {
              * </p>
              */
             private UserMenuMeActionPolicy userMenuMeActionPolicy = UserMenuMeActionPolicy.HIDE;
+
+            private final PermissionCache permissionCache = new PermissionCache();
+            @Data
+            public static class PermissionCache {
+
+                /**
+                 * Whether the permissions of a user (as used by <code>AuthorizorSecman</code>) should be cached
+                 * across interactions, in a cache that is shared by the application.
+                 *
+                 * <p>
+                 *     If disabled (the default), the permissions of a user are only cached for the duration of a
+                 *     single interaction, and so are reloaded from the database for every (HTTP) request.
+                 * </p>
+                 *
+                 * <p>
+                 *     If enabled, cached entries are invalidated whenever any <code>ApplicationUser</code>,
+                 *     <code>ApplicationRole</code> or <code>ApplicationPermission</code> is persisted, updated or
+                 *     removed.
+                 * </p>
+
+                 * <p>
+                 *     This invalidation does not depend on domain object lifecycle events being posted (that is,
+                 *     it also applies with <code>causeway.applib.annotation.domain-object.*-lifecycle-event.post-for-default</code>
+                 *     set to <code>false</code>). However, changes not made through this application (eg. by direct
+                 *     SQL, or by another node of a cluster) are only picked up once entries have
+                 *     {@link #getExpiryDurationInMinutes() expired}.
+                 * </p>
+                 */
+                private boolean shared = false;
+
+                /**
+                 * Maximum number of users, whose permissions are held in the shared cache.
+                 *
+                 * <p>
+                 *     Only applies if the {@link #isShared() shared} cache is enabled.
+                 * </p>
+                 */
+                private int maxSizeInEntries = 1000;
+
+                /**
+                 * Duration that entries remain in the shared cache, in minutes; with zero (the default) meaning
+                 * entries don't expire (and only are invalidated on change).
+                 *
+                 * <p>
+                 *     Only applies if the {@link #isShared() shared} cache is enabled.
+                 * </p>
+                 */
+                private int expiryDurationInMinutes = 0;
+            }
         }
 
         private final SessionLog sessionLog = new SessionLog();
@@ -4555,6 +5002,23 @@ public static class SessionLog {
             boolean autoLogoutOnRestart = true;
         }
 
+        private final Sse sse = new Sse();
+        @Data
+        public static class Sse {
+
+            /**
+             * Maximum number of events buffered per connected client (server-sent events), that have not yet
+             * been written to the client's connection.
+             *
+             * <p>
+             *     Events are written using non-blocking servlet I/O. If a client does not keep up, its oldest pending
+             *     events are dropped, such that a slow client neither holds a container thread nor accumulates memory.
+             * </p>
+             */
+            @Min(value = 1)
+            private int clientBufferSize = 16;
+        }
+
         private final Titlecache titlecache = new Titlecache();
         @Data
         public static class Titlecache {
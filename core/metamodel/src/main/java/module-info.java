@@ -152,6 +152,7 @@
     requires java.xml;
     requires java.xml.bind;
     requires java.inject;
+    requires jdk.jfr;
     requires lombok;
     requires transitive org.apache.causeway.applib;
     requires transitive org.apache.causeway.commons;
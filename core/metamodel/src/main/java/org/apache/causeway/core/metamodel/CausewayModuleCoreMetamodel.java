@@ -66,6 +66,7 @@
 import org.apache.causeway.core.metamodel.services.layout.LayoutServiceDefault;
 import org.apache.causeway.core.metamodel.services.metamodel.MetaModelServiceDefault;
 import org.apache.causeway.core.metamodel.services.registry.ServiceRegistryDefault;
+import org.apache.causeway.core.metamodel.services.schema.DtoEncodingService;
 import org.apache.causeway.core.metamodel.services.tablecol.TableColumnOrderServiceDefault;
 import org.apache.causeway.core.metamodel.services.tablecol.TableColumnOrderServiceUsingTxtFile;
 import org.apache.causeway.core.metamodel.services.title.TitleServiceDefault;
@@ -181,6 +182,7 @@
 
         // @Service's
         ColumnOrderTxtFileServiceDefault.class,
+        DtoEncodingService.class,
         ExceptionRecognizerForRecoverableException.class,
         GridLoaderServiceDefault.class,
         GridMarshallerServiceBootstrap.class,
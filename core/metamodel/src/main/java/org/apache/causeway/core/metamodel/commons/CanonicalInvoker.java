@@ -18,10 +18,13 @@
  */
 package org.apache.causeway.core.metamodel.commons;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.lang.Nullable;
 
@@ -32,6 +35,7 @@
 import org.apache.causeway.commons.internal.reflection._Reflect;
 
 import lombok.NonNull;
+import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -42,6 +46,9 @@
  * <p>
  * We do this for collection parameter types List, Set, SortedSet, Collection, Can, Arrays
  * missing arguments and primitives that are not initialized.
+ * <p>
+ * Methods that were {@link #bind(MethodFacade) bound} (eg. during meta-model post-processing)
+ * are invoked via a pre-adapted {@link MethodHandle}, others via reflection.
  */
 @UtilityClass
 public class CanonicalInvoker {
@@ -63,6 +70,10 @@ public Object invoke(
             final MethodFacade methodFacade, 
             final Object targetPojo, 
             final Object[] executionParameters) {
+        if(methodFacade.asMethod().isPresent()) {
+            // regular method
+            return invoke(methodFacade.asMethodElseFail().method(), targetPojo, executionParameters);
+        }
         var method = methodFacade.asMethodForIntrospection().method();
         var args = methodFacade.getArguments(executionParameters, ParameterConverters.DEFAULT);
         return invokeWithConvertedArgs(method, targetPojo, args);
@@ -77,6 +88,10 @@ public Object invoke(
             final Method method,
             final Object targetPojo,
             final @Nullable Object ... executionParameters) {
+        var invoker = invokerByMethod.get(method);
+        if(invoker!=null) {
+            return invokeBound(invoker, method, targetPojo, invoker.convertAll(executionParameters));
+        }
         var convertedExecutionParameters = ParameterConverters.DEFAULT.convertAll(method, executionParameters);
         return _Reflect.invokeMethodOn(method, targetPojo, convertedExecutionParameters)
             .mapFailure(ex->toVerboseException(ex,
@@ -89,6 +104,10 @@ public Object invokeWithConvertedArgs(
             final Method method,
             final Object targetPojo,
             final @Nullable Object ... convertedExecutionParameters) {
+        var invoker = invokerByMethod.get(method);
+        if(invoker!=null) {
+            return invokeBound(invoker, method, targetPojo, convertedExecutionParameters);
+        }
         return _Reflect.invokeMethodOn(method, targetPojo, convertedExecutionParameters)
             .mapFailure(ex->toVerboseException(ex,
                     method,
@@ -96,8 +115,61 @@ public Object invokeWithConvertedArgs(
             .valueAsNullableElseFail();
     }
 
+    // -- METHOD HANDLE BINDING
+
+    private final Map<Method, MethodHandleInvoker> invokerByMethod = new ConcurrentHashMap<>();
+
+    /**
+     * Binds the underlying method (if any) to a pre-adapted {@link MethodHandle},
+     * such that subsequent invocations of this method bypass reflection.
+     * <p>
+     * Methods that cannot be bound (eg. because not accessible) are silently ignored,
+     * and will be invoked via reflection.
+     */
+    public void bind(final @NonNull MethodFacade methodFacade) {
+        bind(methodFacade.asMethodForIntrospection().method());
+    }
+
+    /**
+     * @see #bind(MethodFacade)
+     */
+    public void bind(final @NonNull Method method) {
+        if(invokerByMethod.containsKey(method)) {
+            return;
+        }
+        MethodHandleInvoker.tryBind(method)
+            .ifPresent(invoker->invokerByMethod.putIfAbsent(method, invoker));
+    }
+
+    /**
+     * Whether given method was successfully {@link #bind(Method) bound} to a {@link MethodHandle}.
+     */
+    public boolean isBound(final @NonNull Method method) {
+        return invokerByMethod.containsKey(method);
+    }
+
+    /**
+     * Reverts all {@link #bind(Method) bindings}, such that methods are invoked via reflection again.
+     */
+    public void unbindAll() {
+        invokerByMethod.clear();
+    }
+
     // -- HELPER
 
+    @SneakyThrows
+    private Object invokeBound(
+            final MethodHandleInvoker invoker,
+            final Method method,
+            final Object targetPojo,
+            final @Nullable Object[] convertedExecutionParameters) {
+        try {
+            return invoker.invokeWithConvertedArgs(targetPojo, convertedExecutionParameters);
+        } catch (Throwable ex) {
+            throw toVerboseException(ex, method, convertedExecutionParameters);
+        }
+    }
+
     private Throwable toVerboseException(
             final Throwable e,
             final Executable executable,
@@ -117,7 +189,9 @@ private Throwable toVerboseException(
         // information, but also at the expense of a potentially hiding the original cause, namely when the
         // IllegalArgumentException has a different origin and the param incompatibility check is a
         // false positive
-        if(e instanceof IllegalArgumentException) {
+        // (when invoked via MethodHandle, param type incompatibility shows as ClassCastException instead)
+        if(e instanceof IllegalArgumentException
+                || e instanceof ClassCastException) {
             boolean paramTypeMismatchEncountered = false;
             var sb = new StringBuilder();
             for(int j=0;j<parameterTypes.length;++j) {
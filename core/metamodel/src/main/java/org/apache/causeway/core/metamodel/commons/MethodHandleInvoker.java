@@ -0,0 +1,128 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal._Constants;
+import org.apache.causeway.commons.semantics.CollectionSemantics;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Helper for {@link CanonicalInvoker}.
+ * <p>
+ * Binds a {@link Method} to a {@link MethodHandle}, that is pre-adapted to the generic
+ * {@code (Object target, Object[] args) -> Object} signature, such that it can be invoked via
+ * {@link MethodHandle#invokeExact(Object...)}.
+ * <p>
+ * Also precomputes which of the method's parameters require conversion by
+ * {@link ParameterConverters#DEFAULT}, so parameters that don't, are passed through as is.
+ */
+@RequiredArgsConstructor
+final class MethodHandleInvoker {
+
+    private final @NonNull MethodHandle methodHandle;
+    private final @NonNull Class<?>[] parameterTypes;
+    /** per parameter, whether {@link ParameterConverters#DEFAULT} needs to be applied */
+    private final @NonNull boolean[] requiresConversion;
+    /** whether none of the parameters require conversion */
+    private final boolean isPassThrough;
+
+    /**
+     * Returns an empty Optional, if the method cannot be bound,
+     * in which case callers should fall back to reflective invocation.
+     */
+    static Optional<MethodHandleInvoker> tryBind(final @NonNull Method method) {
+        final MethodHandle unreflected;
+        try {
+            unreflected = MethodHandles
+                    .privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup())
+                    .unreflect(method);
+        } catch (IllegalAccessException | SecurityException e) {
+            return Optional.empty();
+        }
+
+        final int paramCount = method.getParameterCount();
+        var mh = unreflected.asFixedArity();
+        if(Modifier.isStatic(method.getModifiers())) {
+            mh = MethodHandles.dropArguments(mh, 0, Object.class);
+        }
+        // (Object, Object[]) -> Object
+        mh = mh.asType(mh.type().generic())
+                .asSpreader(Object[].class, paramCount);
+
+        var parameterTypes = method.getParameterTypes();
+        var requiresConversion = new boolean[paramCount];
+        var isPassThrough = true;
+        for(int i=0; i<paramCount; ++i) {
+            requiresConversion[i] = parameterTypes[i].isPrimitive()
+                    || CollectionSemantics.valueOf(parameterTypes[i]).isPresent();
+            isPassThrough &= !requiresConversion[i];
+        }
+        return Optional.of(new MethodHandleInvoker(mh, parameterTypes, requiresConversion, isPassThrough));
+    }
+
+    /**
+     * Semantically equivalent to {@link ParameterConverters#DEFAULT}'s
+     * {@link org.apache.causeway.commons.internal.reflection._MethodFacades.ParameterConverter#convertAll convertAll},
+     * but only converts those parameters that require conversion.
+     */
+    Object[] convertAll(final @Nullable Object[] executionParameters) {
+        final int paramCount = parameterTypes.length;
+        if(paramCount==0) {
+            return _Constants.emptyObjects;
+        }
+        final int argCount = executionParameters!=null
+                ? executionParameters.length
+                : 0;
+        if(isPassThrough
+                && argCount==paramCount) {
+            return executionParameters;
+        }
+        var convertedExecutionParameters = new Object[paramCount];
+        for(int i=0; i<paramCount; ++i) {
+            var origParam = i<argCount
+                    ? executionParameters[i]
+                    : null;
+            convertedExecutionParameters[i] = requiresConversion[i]
+                    ? ParameterConverters.DEFAULT.convert(parameterTypes[i], origParam)
+                    : origParam;
+        }
+        return convertedExecutionParameters;
+    }
+
+    Object invokeWithConvertedArgs(
+            final Object targetPojo,
+            final @Nullable Object[] convertedExecutionParameters) throws Throwable {
+        return (Object) methodHandle.invokeExact(
+                targetPojo,
+                convertedExecutionParameters!=null
+                    ? convertedExecutionParameters
+                    : _Constants.emptyObjects);
+    }
+
+}
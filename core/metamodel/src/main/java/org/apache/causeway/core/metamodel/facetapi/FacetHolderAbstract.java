@@ -18,14 +18,21 @@
  */
 package org.apache.causeway.core.metamodel.facetapi;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 
 import static org.apache.causeway.commons.internal.base._Casts.uncheckedCast;
 
@@ -53,10 +60,21 @@
     private final Map<Class<? extends Facet>, FacetRanking> rankingByType = _Maps.newHashMap();
     private final Object $lock = new Object();
 
+    /**
+     * Immutable facet lookup table, only ever published once the meta-model is sealed.
+     * Reads from this table require no locking.
+     * @see SpecificationLoader#isMetamodelSealed()
+     */
+    private volatile @Nullable FacetTable sealedTable;
+
     @Override
     public final boolean containsFacet(final Class<? extends Facet> facetType) {
+        var table = sealedTable;
+        if(table!=null) {
+            return table.get(facetType)!=null;
+        }
         synchronized($lock) {
-            return snapshot.get().containsKey(facetType);
+            return snapshotElseSeal().containsKey(facetType);
         }
     }
 
@@ -67,6 +85,7 @@ public final void addFacet(final @NonNull Facet facet) {
             var ranking = rankingByType.computeIfAbsent(facet.facetType(), FacetRanking::new);
             var needsInvalidate = ranking.add(facet);
             if(needsInvalidate) {
+                sealedTable = null; // unseal, falls back to the synchronized code path
                 snapshot.clear(); //invalidate
             }
         }
@@ -76,23 +95,35 @@ public final void addFacet(final @NonNull Facet facet) {
     // which potentially leads to inconsistent behavior with facet and facet-ranking streaming
     @Override
     public /*final*/ <T extends Facet> T getFacet(final Class<T> facetType) {
+        var table = sealedTable;
+        if(table!=null) {
+            return uncheckedCast(table.get(facetType));
+        }
         synchronized($lock) {
-            return uncheckedCast(snapshot.get().get(facetType));
+            return uncheckedCast(snapshotElseSeal().get(facetType));
         }
     }
 
     @Override
     public final Stream<Facet> streamFacets() {
+        var table = sealedTable;
+        if(table!=null) {
+            return table.stream();
+        }
         synchronized($lock) {
             // consumers should play nice and don't take too long (as we have a lock)
-            return snapshot.get().values().stream();
+            return snapshotElseSeal().values().stream();
         }
     }
 
     @Override
     public final int getFacetCount() {
+        var table = sealedTable;
+        if(table!=null) {
+            return table.size();
+        }
         synchronized($lock) {
-            return snapshot.get().size();
+            return snapshotElseSeal().size();
         }
     }
 
@@ -110,6 +141,21 @@ public final Optional<FacetRanking> getFacetRanking(final Class<? extends Facet>
 
     // -- HELPER
 
+    /**
+     * Returns the current snapshot, and as a side effect publishes the {@link FacetTable},
+     * once the meta-model is sealed.
+     * @implNote only call within synchronized block!
+     */
+    private Map<Class<? extends Facet>, Facet> snapshotElseSeal() {
+        var snapshot = this.snapshot.get();
+        var specLoader = metaModelContext.getSpecificationLoader();
+        if(specLoader!=null
+                && specLoader.isMetamodelSealed()) {
+            sealedTable = FacetTable.of(snapshot);
+        }
+        return snapshot;
+    }
+
     private final _Lazy<Map<Class<? extends Facet>, Facet>> snapshot = _Lazy.threadSafe(this::snapshot);
 
     // collect all facet information provided with the top-level facets (contributed facets and aliases)
@@ -130,4 +176,76 @@ private Map<Class<? extends Facet>, Facet> snapshot() {
         return snapshot;
     }
 
+    /**
+     * Immutable array based facet lookup, sized to the number of facets held (not to the number of
+     * facet types known JVM wide), hence the binary search over the sorted {@link FacetTypeIndex}es.
+     *
+     * <p>
+     *     A table directly indexed by {@link FacetTypeIndex} would need a slot for each of the (several hundred)
+     *     facet types for every one of the (tens of thousands of) facet holders, that is specs, members and
+     *     parameters, while a holder typically holds a few dozen facets only. Binary search over those
+     *     takes a handful of comparisons, still without locking.
+     * </p>
+     */
+    private static final class FacetTable {
+
+        private final int[] typeIndexes; // sorted
+        private final Facet[] facets; // aligned with typeIndexes
+
+        static FacetTable of(final Map<Class<? extends Facet>, Facet> snapshot) {
+            var facetTypes = new ArrayList<Class<? extends Facet>>(snapshot.keySet());
+            facetTypes.sort(Comparator.comparingInt(FacetTypeIndex::indexOf));
+            var typeIndexes = new int[facetTypes.size()];
+            var facets = new Facet[facetTypes.size()];
+            for(int i=0; i<typeIndexes.length; ++i) {
+                var facetType = facetTypes.get(i);
+                typeIndexes[i] = FacetTypeIndex.indexOf(facetType);
+                facets[i] = snapshot.get(facetType);
+            }
+            return new FacetTable(typeIndexes, facets);
+        }
+
+        private FacetTable(final int[] typeIndexes, final Facet[] facets) {
+            this.typeIndexes = typeIndexes;
+            this.facets = facets;
+        }
+
+        @Nullable Facet get(final Class<? extends Facet> facetType) {
+            var pos = Arrays.binarySearch(typeIndexes, FacetTypeIndex.indexOf(facetType));
+            return pos >= 0
+                    ? facets[pos]
+                    : null;
+        }
+
+        Stream<Facet> stream() {
+            return Arrays.stream(facets);
+        }
+
+        int size() {
+            return facets.length;
+        }
+
+    }
+
+    /**
+     * Assigns each facet type a dense (JVM wide) index, starting at zero.
+     * Backed by a {@link ClassValue}, which does not lock on lookup.
+     */
+    private static final class FacetTypeIndex {
+
+        private static final AtomicInteger nextIndex = new AtomicInteger();
+
+        private static final ClassValue<Integer> indexByType = new ClassValue<>() {
+            @Override
+            protected Integer computeValue(final Class<?> type) {
+                return nextIndex.getAndIncrement();
+            }
+        };
+
+        static int indexOf(final Class<? extends Facet> facetType) {
+            return indexByType.get(facetType);
+        }
+
+    }
+
 }
@@ -31,6 +31,7 @@
 import org.apache.causeway.applib.services.repository.EntityState;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.beans.PersistenceStack;
 import org.apache.causeway.core.metamodel.facetapi.Facet;
@@ -141,8 +142,102 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
      */
     Optional<Object> fetchByBookmark(Bookmark bookmark);
 
+    /**
+     * Bulk variant of {@link #fetchByBookmark(Bookmark)}, for {@link Bookmark}s of this entity type.
+     * <p>
+     * Returns an entry for each of the given {@code bookmarks} (in order), where entities
+     * that could not be found are represented by an {@link ManagedObject#empty(ObjectSpecification) empty}
+     * {@link ManagedObject}.
+     * <p>
+     * The default fetches one by one, implementations are encouraged to fetch
+     * all entities using (a few) primary key {@code IN (...)} queries instead.
+     */
+    default Can<ManagedObject> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        var entitySpec = getEntitySpecification();
+        return bookmarks.map(bookmark->fetchByBookmark(bookmark)
+                .map(entityPojo->ManagedObject.entity(entitySpec, entityPojo, Optional.of(bookmark)))
+                .orElseGet(()->ManagedObject.empty(entitySpec)));
+    }
+
+    /**
+     * As {@link #fetchByBookmarks(Can)}, additionally fetching the values of the given persistent associations
+     * (identified by their member id) along with the entities, such that reading these associations subsequently
+     * does not require a query per entity, even if lazily loaded.
+     * <p>
+     * The default ignores the associations, hence these are loaded as per their mapping.
+     */
+    default Can<ManagedObject> fetchByBookmarks(
+            final @NonNull Can<Bookmark> bookmarks,
+            final @NonNull Can<String> associationIds) {
+        return fetchByBookmarks(bookmarks);
+    }
+
     Can<ManagedObject> fetchByQuery(Query<?> query);
 
+    // -- QUERY REFINEMENT
+
+    /**
+     * Sort and search criteria, to be applied by the persistence layer on top of a {@link Query},
+     * in support of tables that are paged, sorted and filtered by the database.
+     *
+     * @see EntityFacet#supportsQueryRefinement(Query)
+     */
+    @lombok.Value(staticConstructor = "of")
+    static class QueryRefinement {
+        /**
+         * Member id of the persistent property to sort by, if any.
+         */
+        private final @Nullable String sortMemberId;
+        private final boolean sortAscending;
+        /**
+         * Member ids of the persistent {@link String} properties to match the {@link #getSearchTerm()} against.
+         */
+        private final @NonNull Can<String> searchMemberIds;
+        /**
+         * Case-insensitive sub-string, any of the {@link #getSearchMemberIds()} must contain.
+         */
+        private final @Nullable String searchTerm;
+
+        public static QueryRefinement none() {
+            return of(null, true, Can.empty(), null);
+        }
+        public boolean isSorting() {
+            return sortMemberId!=null;
+        }
+        public boolean isSearching() {
+            return _Strings.isNotEmpty(searchTerm)
+                    && searchMemberIds.isNotEmpty();
+        }
+    }
+
+    /**
+     * Whether this persistence implementation can refine given {@link Query}
+     * with sort and search criteria and count its results,
+     * as supported by {@link #countByQuery(Query, QueryRefinement)} and
+     * {@link #fetchByQuery(Query, QueryRefinement)}.
+     */
+    default boolean supportsQueryRefinement(final Query<?> query) {
+        return false;
+    }
+
+    /**
+     * Number of entities matching given {@link Query} and {@link QueryRefinement},
+     * ignoring the query's {@link org.apache.causeway.applib.query.QueryRange}.
+     */
+    default long countByQuery(final Query<?> query, final QueryRefinement refinement) {
+        throw _Exceptions.unsupportedOperation("query refinement not supported for query %s",
+                query.getDescription());
+    }
+
+    /**
+     * Entities matching given {@link Query} and {@link QueryRefinement},
+     * honoring the query's {@link org.apache.causeway.applib.query.QueryRange}.
+     */
+    default Can<ManagedObject> fetchByQuery(final Query<?> query, final QueryRefinement refinement) {
+        throw _Exceptions.unsupportedOperation("query refinement not supported for query %s",
+                query.getDescription());
+    }
+
     void persist(Object pojo);
 
     void refresh(Object pojo);
@@ -161,6 +256,18 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
 
     <T> T detach(T pojo);
 
+    /**
+     * Releases given (attached) entities from the persistence context, such that they can be garbage collected
+     * once no longer referenced otherwise. Intended for processing large, read-only results page by page.
+     * <p>
+     * Entities that are new or have pending (not yet flushed) changes are left attached,
+     * such that no changes are lost.
+     * <p>
+     * The default does nothing.
+     */
+    default void evict(final @NonNull Can<Object> pojos) {
+    }
+
     PersistenceStack getPersistenceStack();
 
     /**
@@ -23,6 +23,7 @@
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.commons.internal.debug._JfrEvents;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.DeploymentType;
 import org.apache.causeway.core.config.progmodel.ProgrammingModelConstants;
@@ -46,6 +47,9 @@ public final class InteractionUtils {
 
     public InteractionResult isVisibleResult(final FacetHolder facetHolder, final VisibilityContext context) {
 
+        var jfrEvent = new _JfrEvents.ConsentEvaluation();
+        jfrEvent.begin();
+
         var iaResult = new InteractionResult(context.createInteractionEvent());
 
         // depending on the ifHiddenPolicy, we may do no vetoing here (instead, it moves into the usability check).
@@ -69,11 +73,15 @@ public InteractionResult isVisibleResult(final FacetHolder facetHolder, final Vi
                 break;
         }
 
+        commitJfrEvent(jfrEvent, "visibility", context, iaResult);
         return iaResult;
     }
 
     public InteractionResult isUsableResult(final FacetHolder facetHolder, final UsabilityContext context) {
 
+        var jfrEvent = new _JfrEvents.ConsentEvaluation();
+        jfrEvent.begin();
+
         var isResult = new InteractionResult(context.createInteractionEvent());
 
         // depending on the ifHiddenPolicy, we additionally may disable using a hidden advisor
@@ -112,6 +120,7 @@ public InteractionResult isUsableResult(final FacetHolder facetHolder, final Usa
             isResult.advise(disablingReason, advisor);
         });
 
+        commitJfrEvent(jfrEvent, "usability", context, isResult);
         return isResult;
     }
 
@@ -184,6 +193,19 @@ private static boolean isDomainEventAdvisor(final InteractionAdvisor advisor) {
         return advisor instanceof DomainEventFacetAbstract;
     }
 
+    private static void commitJfrEvent(
+            final _JfrEvents.ConsentEvaluation jfrEvent,
+            final String consent,
+            final InteractionContext context,
+            final InteractionResult result) {
+        if(jfrEvent.shouldCommit()) {
+            jfrEvent.consent = consent;
+            jfrEvent.feature = context.getIdentifier().getLogicalIdentityString("#");
+            jfrEvent.vetoed = result.isVetoing();
+            jfrEvent.commit();
+        }
+    }
+
     private CausewayConfiguration.Prototyping.IfHiddenPolicy determineIfHiddenPolicyFrom(final ManagedObject ownerAdapter) {
         DeploymentType deploymentType = ownerAdapter.getSystemEnvironment().getDeploymentType();
         switch (deploymentType) {
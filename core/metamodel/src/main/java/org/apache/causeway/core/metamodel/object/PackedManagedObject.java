@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.core.metamodel.object;
 
+import java.util.Optional;
+
+import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.commons.collections.Can;
 
 /**
@@ -29,4 +32,13 @@
 
     Can<ManagedObject> unpack();
 
+    /**
+     * The {@link Query}, that yielded the {@link #unpack() packed} objects, if known
+     * (eg. when returned as is by {@link org.apache.causeway.applib.services.repository.RepositoryService#allMatches(Query)}).
+     * <p>
+     * Allows viewers to re-run the {@link Query} with paging, sorting and searching
+     * delegated to the persistence layer.
+     */
+    Optional<Query<?>> getQuery();
+
 }
@@ -18,16 +18,22 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.handler.ChainOfResponsibility;
+import org.apache.causeway.commons.internal.collections._Lists;
+import org.apache.causeway.commons.internal.debug._JfrEvents;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ProtoObject;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
+import lombok.NonNull;
 import lombok.Value;
 
 /**
@@ -37,6 +43,18 @@ public interface ObjectBulkLoader {
 
     Can<ManagedObject> loadObject(Request objectQuery);
 
+    /**
+     * Recovers the objects for given {@link Bookmark}s, returning an entry for each (in order).
+     * <p>
+     * Entity bookmarks are grouped by logical type, each group being fetched in bulk
+     * via {@link org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet#fetchByBookmarks(Can)}.
+     * Any other bookmarks are loaded one by one via the {@link ObjectLoader}.
+     * <p>
+     * Entities that cannot be found are represented by an empty {@link ManagedObject},
+     * bookmarks of unknown logical type by {@link ManagedObject#unspecified()}.
+     */
+    Can<ManagedObject> loadObjects(@NonNull Can<Bookmark> bookmarks);
+
     // -- REQUEST (VALUE) TYPE
 
     @Value(staticConstructor = "of")
@@ -55,11 +73,70 @@ public static class Request {
     // -- FACTORY
 
     public static ObjectBulkLoader createDefault(final MetaModelContext mmc) {
-        return request ->
-            ChainOfResponsibility.named(
-                    "ObjectBulkLoader",
-                    handlers)
-                .handle(request);
+        return new ObjectBulkLoader() {
+            @Override
+            public Can<ManagedObject> loadObject(final Request request) {
+                return ChainOfResponsibility.named(
+                        "ObjectBulkLoader",
+                        handlers)
+                    .handle(request);
+            }
+            @Override
+            public Can<ManagedObject> loadObjects(final @NonNull Can<Bookmark> bookmarks) {
+                return loadByBookmarks(mmc, bookmarks);
+            }
+        };
+    }
+
+    private static Can<ManagedObject> loadByBookmarks(
+            final MetaModelContext mmc,
+            final Can<Bookmark> bookmarks) {
+
+        var specLoader = mmc.getSpecificationLoader();
+        var objectManager = mmc.getObjectManager();
+        var objects = new ManagedObject[bookmarks.size()];
+
+        // entity bookmarks grouped by logical type, remembering their position
+        var indexesBySpec = new LinkedHashMap<ObjectSpecification, List<Integer>>();
+
+        for(int i=0; i<objects.length; ++i) {
+            var protoObject = ProtoObject.resolve(specLoader, bookmarks.getElseFail(i)).orElse(null);
+            if(protoObject==null) {
+                // eg "NONEXISTENT:123"
+                objects[i] = ManagedObject.unspecified();
+                continue;
+            }
+            var spec = protoObject.getObjectSpecification();
+            if(spec.isEntity()) {
+                indexesBySpec.computeIfAbsent(spec, key->_Lists.newArrayList()).add(i);
+                continue;
+            }
+            objects[i] = objectManager.loadObject(protoObject);
+        }
+
+        indexesBySpec.forEach((spec, indexes)->{
+            var jfrEvent = new _JfrEvents.ObjectBulkLoad();
+            jfrEvent.begin();
+            var entities = spec.entityFacetElseFail()
+                    .fetchByBookmarks(Can.ofCollection(indexes).map(bookmarks::getElseFail));
+            commitJfrEvent(jfrEvent, "bookmarks", spec, entities.size());
+            entities.zip(indexes, (entity, index)->objects[index] = entity);
+        });
+
+        return Can.ofArray(objects);
+    }
+
+    private static void commitJfrEvent(
+            final _JfrEvents.ObjectBulkLoad jfrEvent,
+            final String kind,
+            final ObjectSpecification spec,
+            final int objectCount) {
+        if(jfrEvent.shouldCommit()) {
+            jfrEvent.kind = kind;
+            jfrEvent.logicalType = spec.getLogicalTypeName();
+            jfrEvent.objectCount = objectCount;
+            jfrEvent.commit();
+        }
     }
 
     // -- HANDLERS
@@ -97,7 +174,10 @@ public boolean isHandling(final ObjectBulkLoader.Request objectQuery) {
             public Can<ManagedObject> handle(final ObjectBulkLoader.Request objectQuery) {
                 var spec = objectQuery.getObjectSpecification();
                 var entityFacet = spec.entityFacetElseFail();
+                var jfrEvent = new _JfrEvents.ObjectBulkLoad();
+                jfrEvent.begin();
                 var entities = entityFacet.fetchByQuery(objectQuery.getQuery());
+                commitJfrEvent(jfrEvent, "query", spec, entities.size());
                 return entities;
             }
         },
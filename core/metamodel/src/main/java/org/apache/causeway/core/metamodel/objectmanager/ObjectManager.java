@@ -112,6 +112,24 @@ default Optional<ManagedObject> loadObject(final @Nullable Bookmark bookmark) {
                 .map(this::loadObject);
     }
 
+    /**
+     * Bulk variant of {@link #loadObject(Bookmark)}, returning an entry for each of the given
+     * {@code bookmarks} (in order).
+     * <p>
+     * Entities are fetched in bulk, grouped by logical type.
+     * <p>
+     * Resolves injection-points for the result. (Handles service injection.)
+     *
+     * @see ObjectBulkLoader#loadObjects(Can)
+     */
+    default Can<ManagedObject> loadObjects(final @Nullable Can<Bookmark> bookmarks) {
+        if(bookmarks==null
+                || bookmarks.isEmpty()) {
+            return Can.empty();
+        }
+        return getObjectBulkLoader().loadObjects(bookmarks);
+    }
+
     /**
      * Introduced for serializing action parameter values to bookmarks and vice versa.
      * <p>
@@ -212,13 +230,16 @@ public default ManagedObject adapt(
             // best we can do?
             return ManagedObject.unspecified();
         }
-        return spec.isSingular()
-                ? ManagedObject.adaptSingular(spec, pojo)
-                : ManagedObject.packed(
-                        spec.getElementSpecification().orElseGet(fallbackElementType),
-                        _NullSafe.streamAutodetect(pojo)
-                        .map(element->adapt(element))
-                        .collect(Can.toCan()));
+        if(spec.isSingular()) {
+            return ManagedObject.adaptSingular(spec, pojo);
+        }
+        var elementSpec = spec.getElementSpecification().orElseGet(fallbackElementType);
+        var elements = _NullSafe.streamAutodetect(pojo)
+                .map(element->adapt(element))
+                .collect(Can.toCan());
+        return pojo instanceof QueryResultList
+                ? ManagedObject.packed(elementSpec, elements, ((QueryResultList<?>) pojo).getQuery())
+                : ManagedObject.packed(elementSpec, elements);
     }
 
 }
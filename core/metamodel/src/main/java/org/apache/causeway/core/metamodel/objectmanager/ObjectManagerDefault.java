@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager;
 
+import java.util.List;
+
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -29,6 +31,7 @@
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
@@ -37,6 +40,7 @@
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoCollection;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoForEmpty;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoForScalar;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -91,9 +95,7 @@ public ManagedObject demementify(final @Nullable ObjectMemento memento) {
              * as the latter can be ambiguous, when shared in a type hierarchy*/
             var elementSpec = getSpecificationLoader().specForLogicalTypeElseFail(logicalType);
 
-            var objects = objectMementoCollection.unwrapList().stream()
-                    .map(this::demementify)
-                    .collect(Can.toCan());
+            var objects = demementifyAll(objectMementoCollection.unwrapList());
 
             return ManagedObject.packed(elementSpec, objects);
         }
@@ -106,6 +108,39 @@ public ManagedObject demementify(final @Nullable ObjectMemento memento) {
         throw _Exceptions.unrecoverable("unsupported ObjectMemento type %s", memento.getClass());
     }
 
+    // -- HELPER
+
+    /**
+     * Entities are looked up in bulk (grouped by logical type), any other objects one by one.
+     */
+    private Can<ManagedObject> demementifyAll(final List<ObjectMemento> mementos) {
+        var objects = new ManagedObject[mementos.size()];
+        var entityIndexes = _Lists.<Integer>newArrayList();
+        for(int i=0; i<objects.length; ++i) {
+            var memento = mementos.get(i);
+            if(isEntityLookup(memento)) {
+                entityIndexes.add(i);
+                continue;
+            }
+            objects[i] = demementify(memento);
+        }
+        if(!entityIndexes.isEmpty()) {
+            var entityBookmarks = Can.ofCollection(entityIndexes)
+                    .map(index->((ObjectMementoForScalar) mementos.get(index)).getBookmark());
+            loadObjects(entityBookmarks)
+                .zip(entityIndexes, (entity, index)->objects[index] = entity);
+        }
+        return Can.ofArray(objects);
+    }
+
+    private boolean isEntityLookup(final @Nullable ObjectMemento memento) {
+        return memento instanceof ObjectMementoForScalar
+                && ((ObjectMementoForScalar) memento).getBookmark()!=null
+                && getSpecificationLoader().specForLogicalType(memento.getLogicalType())
+                    .map(ObjectSpecification::isEntity)
+                    .orElse(false);
+    }
+
     // JUnit support
     public static ObjectManager forTesting(final MetaModelContext metaModelContext) {
         var objectManager = new ObjectManagerDefault(metaModelContext);
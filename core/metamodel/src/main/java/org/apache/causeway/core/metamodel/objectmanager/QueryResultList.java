@@ -0,0 +1,61 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.objectmanager;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.apache.causeway.applib.query.Query;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Unmodifiable {@link List} of the pojos a {@link Query} yielded, remembering the {@link Query}.
+ * <p>
+ * When returned as is by an action, {@link ObjectManager#adapt(Object, java.util.function.Supplier)}
+ * retains the {@link Query} with the packed result, such that viewers may re-run it with paging,
+ * sorting and searching delegated to the persistence layer.
+ *
+ * @since 2.0
+ */
+@RequiredArgsConstructor(staticName = "of")
+public final class QueryResultList<T>
+extends AbstractList<T>
+implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Getter private final @NonNull Query<T> query;
+    private final @NonNull List<T> elements;
+
+    @Override
+    public T get(final int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.postprocessors.all.invoke;
+
+import javax.inject.Inject;
+
+import org.apache.causeway.core.metamodel.commons.CanonicalInvoker;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
+import org.apache.causeway.core.metamodel.postprocessors.MetaModelPostProcessorAbstract;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectActionParameter;
+import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+/**
+ * Binds the methods of all {@link ImperativeFacet}s (accessors, action bodies and supporting methods)
+ * to pre-adapted {@link java.lang.invoke.MethodHandle}s,
+ * such that {@link CanonicalInvoker} no longer needs to invoke these via reflection.
+ *
+ * @since 2.0
+ */
+public class MethodHandleBindingPostProcessor
+extends MetaModelPostProcessorAbstract {
+
+    @Inject
+    public MethodHandleBindingPostProcessor(final MetaModelContext metaModelContext) {
+        super(metaModelContext);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return getConfiguration().getCore().getMetaModel().getIntrospector().isBindMethodHandles();
+    }
+
+    @Override
+    public void postProcessObject(final ObjectSpecification objSpec) {
+        bindImperativeFacetMethods(objSpec);
+    }
+
+    @Override
+    public void postProcessAction(final ObjectSpecification objSpec, final ObjectAction act) {
+        bindImperativeFacetMethods(act);
+    }
+
+    @Override
+    public void postProcessParameter(final ObjectSpecification objSpec, final ObjectAction act, final ObjectActionParameter param) {
+        bindImperativeFacetMethods(param);
+    }
+
+    @Override
+    public void postProcessProperty(final ObjectSpecification objSpec, final OneToOneAssociation prop) {
+        bindImperativeFacetMethods(prop);
+    }
+
+    @Override
+    public void postProcessCollection(final ObjectSpecification objSpec, final OneToManyAssociation coll) {
+        bindImperativeFacetMethods(coll);
+    }
+
+    // -- HELPER
+
+    private static void bindImperativeFacetMethods(final FacetHolder facetHolder) {
+        facetHolder.streamFacets(ImperativeFacet.class)
+            .flatMap(imperativeFacet->imperativeFacet.getMethods().stream())
+            .forEach(CanonicalInvoker::bind);
+    }
+
+}
@@ -91,6 +91,7 @@
 import org.apache.causeway.core.metamodel.postprocessors.all.SanityChecksValidator;
 import org.apache.causeway.core.metamodel.postprocessors.all.i18n.SynthesizeObjectNamingPostProcessor;
 import org.apache.causeway.core.metamodel.postprocessors.all.i18n.TranslationPostProcessor;
+import org.apache.causeway.core.metamodel.postprocessors.all.invoke.MethodHandleBindingPostProcessor;
 import org.apache.causeway.core.metamodel.postprocessors.allbutparam.authorization.AuthorizationPostProcessor;
 import org.apache.causeway.core.metamodel.postprocessors.members.SynthesizeDomainEventsForMixinPostProcessor;
 import org.apache.causeway.core.metamodel.postprocessors.members.navigation.NavigationFacetFromHiddenTypePostProcessor;
@@ -267,6 +268,9 @@ private void addPostProcessors() {
         addPostProcessor(PostProcessingOrder.A1_BUILTIN, new TranslationPostProcessor(mmc));
 
         addPostProcessor(PostProcessingOrder.A1_BUILTIN, new AuthorizationPostProcessor(mmc));
+
+        // must be after all imperative facets have been installed
+        addPostProcessor(PostProcessingOrder.A1_BUILTIN, new MethodHandleBindingPostProcessor(mmc));
     }
 
     private void addValidators() {
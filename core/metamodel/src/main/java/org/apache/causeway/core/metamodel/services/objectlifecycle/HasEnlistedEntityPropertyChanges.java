@@ -19,6 +19,8 @@
 package org.apache.causeway.core.metamodel.services.objectlifecycle;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.function.Consumer;
 
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.xactn.TransactionId;
@@ -28,4 +30,39 @@ public interface HasEnlistedEntityPropertyChanges {
 
     Can<EntityPropertyChange> getPropertyChanges(Timestamp timestamp, String user, TransactionId txId);
 
+    /**
+     * Hands the (unique) enlisted property changes to given consumer, in chunks of at most given size,
+     * in support of implementations that do not need to hold all changes in memory at once.
+     * <p>
+     * The default implementation partitions the result of {@link #getPropertyChanges(Timestamp, String, TransactionId)}.
+     *
+     * @param chunkSize - if not positive, all changes are handed over as a single chunk
+     */
+    default void streamPropertyChanges(
+            final Timestamp timestamp, final String user, final TransactionId txId,
+            final int chunkSize,
+            final Consumer<Can<EntityPropertyChange>> chunkConsumer) {
+
+        var propertyChanges = getPropertyChanges(timestamp, user, txId).toSet();
+        if(propertyChanges.isEmpty()) {
+            return;
+        }
+        if(chunkSize<=0
+                || propertyChanges.size()<=chunkSize) {
+            chunkConsumer.accept(Can.ofCollection(propertyChanges));
+            return;
+        }
+        var chunk = new ArrayList<EntityPropertyChange>(chunkSize);
+        for(var propertyChange : propertyChanges) {
+            chunk.add(propertyChange);
+            if(chunk.size()==chunkSize) {
+                chunkConsumer.accept(Can.ofCollection(chunk));
+                chunk.clear();
+            }
+        }
+        if(!chunk.isEmpty()) {
+            chunkConsumer.accept(Can.ofCollection(chunk));
+        }
+    }
+
 }
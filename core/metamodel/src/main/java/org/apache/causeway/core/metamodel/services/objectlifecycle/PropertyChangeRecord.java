@@ -143,15 +143,29 @@ public EntityPropertyChange toEntityPropertyChange(
             final Timestamp timestamp,
             final String username,
             final TransactionId txId) {
+        return toEntityPropertyChange(
+                getBookmark(), getPropertyId(), getPreAndPostValue(),
+                timestamp, username, txId);
+    }
+
+    /**
+     * As {@link #toEntityPropertyChange(Timestamp, String, TransactionId)}, for callers that hold
+     * the pre- and post-values of properties without creating a {@link PropertyChangeRecord} for each.
+     */
+    public static EntityPropertyChange toEntityPropertyChange(
+            final Bookmark target,
+            final String propertyId,
+            final PreAndPostValue preAndPostValue,
+            final Timestamp timestamp,
+            final String username,
+            final TransactionId txId) {
 
-        var target = getBookmark();
-        var propertyId = getPropertyId();
-        var preValue = getPreAndPostValue().getPreString();
-        var postValue = getPreAndPostValue().getPostString();
+        var preValue = preAndPostValue.getPreString();
+        var postValue = preAndPostValue.getPostString();
         var interactionId = txId.getInteractionId();
         var sequence = txId.getSequence();
 
-        String logicalMemberId = getLogicalMemberIdentifier();
+        String logicalMemberId = target.getLogicalTypeName() + "#" + propertyId;
         return EntityPropertyChange.of(
                 interactionId, sequence,
                 target, logicalMemberId, propertyId,
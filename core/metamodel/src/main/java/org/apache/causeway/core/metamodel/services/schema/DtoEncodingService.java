@@ -0,0 +1,102 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.schema;
+
+import java.util.Optional;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.util.schema.ChangesDtoUtils;
+import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.commons.io.DtoMapper;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Persistence.Commons.DtoEncoding;
+import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.schema.chg.v2.ChangesDto;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
+
+import lombok.NonNull;
+
+/**
+ * Provides the {@link DtoMapper}s used to persist {@link CommandDto}s, {@link InteractionDto}s
+ * and {@link ChangesDto}s, as configured by
+ * <code>causeway.persistence.commons.dto-encoding</code>.
+ * <p>
+ * Mappers for writing honor the configured encoding, while mappers for reading
+ * always accept both, compressed and plain XML.
+ *
+ * @since 2.x
+ */
+@Service
+@Named(CausewayModuleCoreMetamodel.NAMESPACE + ".DtoEncodingService")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+public class DtoEncodingService {
+
+    private final DtoEncoding dtoEncoding;
+
+    @Inject
+    public DtoEncodingService(final @NonNull CausewayConfiguration configuration) {
+        this.dtoEncoding = configuration.getPersistence().getCommons().getDtoEncoding();
+    }
+
+    // -- WRITING
+
+    public DtoMapper<CommandDto> commandDtoMapper() {
+        return dtoEncoding.getCommand().isCompressed()
+                ? CommandDtoUtils.compressingDtoMapper()
+                : CommandDtoUtils.dtoMapper();
+    }
+
+    public DtoMapper<InteractionDto> interactionDtoMapper() {
+        return dtoEncoding.getInteraction().isCompressed()
+                ? InteractionDtoUtils.compressingDtoMapper()
+                : InteractionDtoUtils.dtoMapper();
+    }
+
+    public DtoMapper<ChangesDto> changesDtoMapper() {
+        return dtoEncoding.getChanges().isCompressed()
+                ? ChangesDtoUtils.compressingDtoMapper()
+                : ChangesDtoUtils.dtoMapper();
+    }
+
+    // -- LOOKUP
+
+    /**
+     * For type converters, which are instantiated by the persistence provider
+     * and hence cannot have this service injected.
+     * <p>
+     * Empty if there is no {@link MetaModelContext} (yet), in which case
+     * callers should fall back to plain XML.
+     */
+    public static Optional<DtoEncodingService> lookup() {
+        return MetaModelContext.instance()
+                .flatMap(mmc->mmc.lookupService(DtoEncodingService.class));
+    }
+
+}
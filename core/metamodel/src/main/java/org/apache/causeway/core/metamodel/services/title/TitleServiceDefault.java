@@ -28,8 +28,10 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.title.TitleService;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.commons.internal.debug._JfrEvents;
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
 import org.apache.causeway.core.metamodel.facets.object.title.TitleRenderRequest;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.object.MmEntityUtils;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
@@ -69,10 +71,16 @@ public String titleOf(final Object domainObject) {
             // here we just mean NOT-ATTACHED (and not the concrete DETACHED entity state)
             return "[DETACHED]";
         } else {
-            return objectAdapter.getSpecification().getTitle(
-                    TitleRenderRequest.builder()
-                    .object(objectAdapter)
-                    .build());
+            var jfrEvent = new _JfrEvents.ObjectRendering();
+            jfrEvent.begin();
+            try {
+                return objectAdapter.getSpecification().getTitle(
+                        TitleRenderRequest.builder()
+                        .object(objectAdapter)
+                        .build());
+            } finally {
+                commitJfrEvent(jfrEvent, "title", objectAdapter);
+            }
         }
     }
 
@@ -90,7 +98,13 @@ public String iconNameOf(final Object domainObject) {
             return "unspecified";
         }
 
-        return objectAdapter.getSpecification().getIconName(objectAdapter);
+        var jfrEvent = new _JfrEvents.ObjectRendering();
+        jfrEvent.begin();
+        try {
+            return objectAdapter.getSpecification().getIconName(objectAdapter);
+        } finally {
+            commitJfrEvent(jfrEvent, "icon", objectAdapter);
+        }
     }
 
     //-- HELPER
@@ -99,4 +113,15 @@ private Object unwrapped(final Object domainObject) {
         return wrapperFactory != null ? wrapperFactory.unwrap(domainObject) : domainObject;
     }
 
+    private static void commitJfrEvent(
+            final _JfrEvents.ObjectRendering jfrEvent,
+            final String kind,
+            final ManagedObject objectAdapter) {
+        if(jfrEvent.shouldCommit()) {
+            jfrEvent.kind = kind;
+            jfrEvent.logicalType = objectAdapter.getSpecification().getLogicalTypeName();
+            jfrEvent.commit();
+        }
+    }
+
 }
@@ -0,0 +1,141 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.collections.snapshot._VersionedList;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.NonNull;
+
+/**
+ * {@link SpecificationCache} that does not lock on lookup of already cached specifications.
+ * <p>
+ * Cache misses are serialized per class only, such that concurrent misses for different classes
+ * do not block each other.
+ * <p>
+ * We deliberately don't use {@link ConcurrentHashMap#computeIfAbsent(Object, Function)},
+ * as the mapping function might (indirectly) load other specifications,
+ * which is not allowed with {@link ConcurrentHashMap}.
+ *
+ * @since 2.0
+ */
+class SpecificationCacheConcurrent<T extends ObjectSpecification> implements SpecificationCache<T> {
+
+    private final ConcurrentHashMap<Class<?>, T> specByClass = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Class<?>, ReentrantLock> lockByClass = new ConcurrentHashMap<>();
+
+    // optimization: specialized list to keep track of any additions to the cache fast
+    private final _VersionedList<T> vList = new _VersionedList<>();
+
+    @Override
+    public Optional<T> lookup(final Class<?> cls) {
+        return Optional.ofNullable(specByClass.get(cls));
+    }
+
+    @Override
+    public T computeIfAbsent(
+            final Class<?> cls,
+            final Function<Class<?>, T> mappingFunction) {
+
+        // fast path, no locking
+        var spec = specByClass.get(cls);
+        if(spec!=null) {
+            return spec;
+        }
+
+        // slow path, serialized per class
+        var lock = lockByClass.computeIfAbsent(cls, __->new ReentrantLock());
+        lock.lock();
+        try {
+            spec = specByClass.get(cls);
+            if(spec==null) {
+                spec = mappingFunction.apply(cls);
+                internalPut(spec);
+            }
+            return spec;
+        } finally {
+            // reentrant calls must not drop the lock, while the outer frame is still computing
+            var isOutermost = lock.getHoldCount()==1;
+            lock.unlock();
+            if(isOutermost) {
+                lockByClass.remove(cls, lock);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized(vList) {
+            specByClass.clear();
+            vList.clear();
+        }
+    }
+
+    @Override
+    public Can<T> snapshotSpecs() {
+        return Can.ofCollection(specByClass.values());
+    }
+
+    @Override
+    public T remove(@NonNull final Class<?> cls) {
+        synchronized(vList) {
+            final T removed = specByClass.remove(cls);
+            if(removed!=null) {
+                vList.clear(); // invalidate
+                vList.addAll(specByClass.values());
+            }
+            return removed;
+        }
+    }
+
+    @Override
+    public void forEachConcurrent(final Consumer<T> onSpec) {
+        vList.forEachConcurrent(onSpec);
+    }
+
+    @Override
+    public void forEach(final Consumer<T> onSpec) {
+        vList.forEach(onSpec);
+    }
+
+    // -- HELPER
+
+    private void internalPut(@Nullable final T spec) {
+        if(spec==null) {
+            return;
+        }
+        var cls = spec.getCorrespondingClass();
+        synchronized(vList) {
+            var existing = specByClass.put(cls, spec);
+            if(existing==null) {
+                vList.add(spec); // add to vList only if we don't have it already
+            }
+        }
+    }
+
+}
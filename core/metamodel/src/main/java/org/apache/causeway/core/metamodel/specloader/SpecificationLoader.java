@@ -266,4 +266,15 @@ default ObjectFeature loadFeatureElseFail(final @NonNull Identifier featureIdent
     }
 
     boolean isMetamodelFullyIntrospected();
+
+    /**
+     * Whether the meta-model is sealed, that is, {@link #createMetaModel()} has completed
+     * and the calling thread is not {@link #reloadSpecification(Class) reloading} a specification.
+     * <p>
+     * Once sealed, {@link org.apache.causeway.core.metamodel.facetapi.FacetHolder}s publish
+     * immutable facet lookup tables, which can be read without locking.
+     */
+    default boolean isMetamodelSealed() {
+        return false;
+    }
 }
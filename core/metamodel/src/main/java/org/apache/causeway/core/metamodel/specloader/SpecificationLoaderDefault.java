@@ -20,7 +20,9 @@
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -65,6 +67,7 @@
 import org.apache.causeway.core.config.progmodel.ProgrammingModelConstants;
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel.PreloadableTypes;
+import org.apache.causeway.core.metamodel.commons.CanonicalInvoker;
 import org.apache.causeway.core.metamodel.commons.ClassUtil;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.facetapi.Facet;
@@ -131,7 +134,7 @@
 
     private FacetProcessor facetProcessor;
 
-    private final SpecificationCache<ObjectSpecification> cache = new SpecificationCacheDefault<>();
+    private final SpecificationCache<ObjectSpecification> cache = new SpecificationCacheConcurrent<>();
     private final LogicalTypeResolver logicalTypeResolver = new LogicalTypeResolverDefault();
 
     /**
@@ -141,6 +144,18 @@
     @Getter @Setter
     private boolean metamodelFullyIntrospected = false;
 
+    /**
+     * Set once {@link #createMetaModel()} has completed.
+     */
+    private volatile boolean metamodelSealed = false;
+
+    /**
+     * Set for the calling thread only, while {@link #reloadSpecification(Class) reloading}, such that
+     * facet holders (re-)introspected by that thread are not sealed, while the meta-model stays sealed
+     * for any other thread.
+     */
+    private final ThreadLocal<Boolean> reloadingOnCurrentThread = ThreadLocal.withInitial(()->Boolean.FALSE);
+
     @Inject
     public SpecificationLoaderDefault(
             final ProgrammingModelService programmingModelService,
@@ -232,6 +247,7 @@ public void createMetaModel() {
         var knownSpecs = _Lists.<ObjectSpecification>newArrayList();
 
         var stopWatch = _Timing.now();
+        var phaseTimings = new PhaseTimings();
 
         // preload otherwise not eagerly discovered classes
         var prealoadCount = preloadableTypes.stream()
@@ -240,6 +256,7 @@ public void createMetaModel() {
             .count();
 
         log.info(" - preloaded {} otherwise not eagerly discovered types", prealoadCount);
+        phaseTimings.endOfPhase("preloading");
 
         log.info(" - adding value types from from class-path scan and ValueTypeProviders");
 
@@ -257,6 +274,8 @@ public void createMetaModel() {
                 }
             });
 
+        phaseTimings.endOfPhase("value types");
+
         log.info(" - categorizing types from class-path scan");
 
         var domainObjectSpecs = _Lists.<ObjectSpecification>newArrayList();
@@ -287,15 +306,19 @@ public void createMetaModel() {
         // (observation by experiment, no real understanding as to why)
 
         _LogUtil.logBefore(log, cache, knownSpecs);
+        phaseTimings.endOfPhase("categorizing");
 
         log.info(" - introspecting {} type hierarchies", knownSpecs.size());
         introspect(Can.ofCollection(knownSpecs), IntrospectionState.TYPE_INTROSPECTED);
+        phaseTimings.endOfPhase("type hierarchies");
 
         log.info(" - introspecting {} value types", valueTypeSpecs.size());
         introspect(Can.ofCollection(valueTypeSpecs.values()), IntrospectionState.FULLY_INTROSPECTED);
+        phaseTimings.endOfPhase("value type introspection");
 
         log.info(" - introspecting {} mixins", causewayBeanTypeRegistry.getMixinTypes().size());
         introspect(Can.ofCollection(mixinSpecs), IntrospectionState.FULLY_INTROSPECTED);
+        phaseTimings.endOfPhase("mixin introspection");
 
         log.info(" - introspecting {} managed beans contributing (domain services)",
                 causewayBeanTypeRegistry.getManagedBeansContributing().size());
@@ -307,8 +330,10 @@ public void createMetaModel() {
         log.info(" - introspecting {} view models", causewayBeanTypeRegistry.getViewModelTypes().size());
 
         serviceRegistry.lookupServiceElseFail(MenuBarsService.class).menuBars();
+        phaseTimings.endOfPhase("menu bars");
 
         introspect(Can.ofCollection(domainObjectSpecs), IntrospectionState.FULLY_INTROSPECTED);
+        phaseTimings.endOfPhase("domain object introspection");
 
         _LogUtil.logAfter(log, cache, knownSpecs);
 
@@ -317,17 +342,22 @@ public void createMetaModel() {
             log.info(" - introspecting all {} types eagerly (FullIntrospect=true)", snapshot.size());
             introspect(snapshot.filter(x->x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
             introspect(snapshot.filter(x->!x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
+            phaseTimings.endOfPhase("full introspection");
         }
 
         log.info(" - running remaining validators");
         _Blackhole.consume(getOrAssessValidationResult()); // as a side effect memoizes the validation result
+        phaseTimings.endOfPhase("validation");
 
         stopWatch.stop();
         log.info("Metamodel created in " + stopWatch.getMillis() + " ms.");
+        phaseTimings.report();
 
         if(isFullIntrospect()) {
             setMetamodelFullyIntrospected(true);
         }
+
+        metamodelSealed = true;
     }
 
     @Override
@@ -343,6 +373,8 @@ public ValidationFailures getOrAssessValidationResult() {
     @Override
     public void disposeMetaModel() {
         waitForValidationToFinish();
+        metamodelSealed = false;
+        CanonicalInvoker.unbindAll();
         logicalTypeResolver.clear();
         cache.clear();
         validationResult.clear();
@@ -382,10 +414,25 @@ private boolean isFullIntrospect() {
 
     // -- SPEC LOADING
 
+    @Override
+    public boolean isMetamodelSealed() {
+        return metamodelSealed
+                && !reloadingOnCurrentThread.get();
+    }
+
     @Override
     public void reloadSpecification(final Class<?> domainType) {
-        invalidateCache(domainType);
-        loadSpecification(domainType, IntrospectionState.FULLY_INTROSPECTED);
+        // fall back to synchronized facet lookup on the calling thread, while reloading
+        var wasReloading = reloadingOnCurrentThread.get();
+        reloadingOnCurrentThread.set(Boolean.TRUE);
+        try {
+            invalidateCache(domainType);
+            loadSpecification(domainType, IntrospectionState.FULLY_INTROSPECTED);
+        } finally {
+            if(!wasReloading) {
+                reloadingOnCurrentThread.remove();
+            }
+        }
     }
 
     @Override
@@ -649,8 +696,8 @@ private void introspectSequential(
     private void introspectParallel(
             final Can<ObjectSpecification> specs,
             final IntrospectionState upTo) {
-        specs.parallelStream()
-        .forEach(spec -> {
+        // supertypes first, as to not have concurrent threads contend on their introspection
+        _IntrospectionScheduler.introspectParallel(specs, spec -> {
             try {
                 spec.introspectUpTo(upTo);
             } catch (Throwable ex) {
@@ -660,6 +707,22 @@ private void introspectParallel(
         });
     }
 
+    /**
+     * Collects the time spent in each phase of {@link #createMetaModel()}, reported once completed.
+     */
+    private static class PhaseTimings {
+        private final Map<String, Long> millisByPhase = new LinkedHashMap<>();
+        private final _Timing.StopWatch phaseWatch = _Timing.now();
+        void endOfPhase(final String phase) {
+            millisByPhase.put(phase, phaseWatch.stop().getMillis());
+            phaseWatch.start();
+        }
+        void report() {
+            millisByPhase.forEach((phase, millis)->
+                log.info(" - {} ms spent on {}", millis, phase));
+        }
+    }
+
     private void introspect(
             final Can<ObjectSpecification> specs,
             final IntrospectionState upTo) {
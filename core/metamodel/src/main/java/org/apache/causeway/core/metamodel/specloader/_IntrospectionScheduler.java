@@ -0,0 +1,143 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.graph.GraphUtils;
+import org.apache.causeway.commons.graph.GraphUtils.Graph;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Introspects {@link ObjectSpecification}s in parallel, respecting their type hierarchy:
+ * specs are partitioned into levels, such that any supertype (among the specs to introspect)
+ * is in a lower level than its subtypes. Levels are processed one after the other,
+ * the specs within a level concurrently on the fork/join common pool.
+ * <p>
+ * This way, threads do not contend on (or redundantly wait for) the introspection
+ * of shared supertypes.
+ */
+@UtilityClass
+final class _IntrospectionScheduler {
+
+    void introspectParallel(
+            final Can<ObjectSpecification> specs,
+            final Consumer<ObjectSpecification> introspector) {
+        for (var level : levels(specs)) {
+            if(level.size()==1) {
+                introspector.accept(level.get(0));
+                continue;
+            }
+            level.parallelStream()
+                .forEach(introspector);
+        }
+    }
+
+    /**
+     * Partitions given specs into levels (topological order of the supertype graph).
+     */
+    List<List<ObjectSpecification>> levels(final Can<ObjectSpecification> specs) {
+        var graph = supertypeGraph(specs);
+        var kernel = graph.kernel();
+        final int nodeCount = kernel.nodeCount();
+
+        final int[] inDegree = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            kernel.streamNeighbors(i).forEach(subIndex->inDegree[subIndex]++);
+        }
+
+        var levels = new ArrayList<List<ObjectSpecification>>();
+        var current = IntStream.range(0, nodeCount)
+                .filter(i->inDegree[i]==0)
+                .toArray();
+        while(current.length>0) {
+            var level = new ArrayList<ObjectSpecification>(current.length);
+            var next = IntStream.builder();
+            for (int nodeIndex : current) {
+                level.add(graph.nodes().getElseFail(nodeIndex));
+                kernel.streamNeighbors(nodeIndex).forEach(subIndex->{
+                    if(--inDegree[subIndex]==0) {
+                        next.add(subIndex);
+                    }
+                });
+            }
+            levels.add(level);
+            current = next.build().toArray();
+        }
+        return levels;
+    }
+
+    // -- HELPER
+
+    /**
+     * Directed graph with an edge from each supertype to its subtypes.
+     */
+    private Graph<ObjectSpecification> supertypeGraph(final Can<ObjectSpecification> specs) {
+        var graphBuilder = GraphUtils.GraphBuilder.directed(ObjectSpecification.class);
+        var specsByClass = new HashMap<Class<?>, ObjectSpecification>();
+        specs.forEach(spec->{
+            graphBuilder.addNode(spec);
+            specsByClass.put(spec.getCorrespondingClass(), spec);
+        });
+        specs.forEach(spec->
+            addEdgesFromSupertypes(graphBuilder, specsByClass, spec, spec.getCorrespondingClass()));
+        return graphBuilder.build();
+    }
+
+    /**
+     * Walks up the type hierarchy of given class, adding an edge for the nearest supertypes
+     * that are among the specs to introspect.
+     */
+    private void addEdgesFromSupertypes(
+            final GraphUtils.GraphBuilder<ObjectSpecification> graphBuilder,
+            final Map<Class<?>, ObjectSpecification> specsByClass,
+            final ObjectSpecification spec,
+            final Class<?> cls) {
+        var superclass = cls.getSuperclass();
+        if(superclass!=null
+                && superclass!=Object.class) {
+            addEdgeFrom(graphBuilder, specsByClass, spec, superclass);
+        }
+        for (var superInterface : cls.getInterfaces()) {
+            addEdgeFrom(graphBuilder, specsByClass, spec, superInterface);
+        }
+    }
+
+    private void addEdgeFrom(
+            final GraphUtils.GraphBuilder<ObjectSpecification> graphBuilder,
+            final Map<Class<?>, ObjectSpecification> specsByClass,
+            final ObjectSpecification spec,
+            final Class<?> supertype) {
+        var superSpec = specsByClass.get(supertype);
+        if(superSpec!=null) {
+            graphBuilder.addEdge(superSpec, spec);
+        } else {
+            addEdgesFromSupertypes(graphBuilder, specsByClass, spec, supertype);
+        }
+    }
+
+}
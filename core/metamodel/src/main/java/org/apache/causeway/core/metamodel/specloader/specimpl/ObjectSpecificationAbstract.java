@@ -48,6 +48,7 @@
 import org.apache.causeway.commons.internal.collections._Multimaps.ListMultimap;
 import org.apache.causeway.commons.internal.collections._Sets;
 import org.apache.causeway.commons.internal.collections._Streams;
+import org.apache.causeway.commons.internal.debug._JfrEvents;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedMethod;
 import org.apache.causeway.core.config.beans.CausewayBeanTypeRegistry;
@@ -260,45 +261,56 @@ public void introspectUpTo(final IntrospectionState upTo) {
             log.debug("introspectingUpTo: {}, {}", getFullIdentifier(), upTo);
         }
 
-        boolean revalidate = false;
-
-        switch (introspectionState) {
-        case NOT_INTROSPECTED:
-            if(isLessThan(upTo)) {
-                introspectType();
-            }
-            if(isLessThan(upTo)) {
-                introspectFully();
-                revalidate = true;
+        var jfrEvent = new _JfrEvents.SpecIntrospection();
+        jfrEvent.begin();
+        try {
+            boolean revalidate = false;
+
+            switch (introspectionState) {
+            case NOT_INTROSPECTED:
+                if(isLessThan(upTo)) {
+                    introspectType();
+                }
+                if(isLessThan(upTo)) {
+                    introspectFully();
+                    revalidate = true;
+                }
+                // set to avoid infinite loops
+                break;
+
+            case TYPE_BEING_INTROSPECTED:
+                // nothing to do (interim state during introspectType)
+                break;
+
+            case TYPE_INTROSPECTED:
+                if(isLessThan(upTo)) {
+                    introspectFully();
+                    revalidate = true;
+                }
+                break;
+
+            case MEMBERS_BEING_INTROSPECTED:
+                // nothing to do (interim state during introspectully)
+                break;
+
+            case FULLY_INTROSPECTED:
+                // nothing to do ... all done
+                break;
+
+            default:
+                throw _Exceptions.unexpectedCodeReach();
             }
-            // set to avoid infinite loops
-            break;
-
-        case TYPE_BEING_INTROSPECTED:
-            // nothing to do (interim state during introspectType)
-            break;
 
-        case TYPE_INTROSPECTED:
-            if(isLessThan(upTo)) {
-                introspectFully();
-                revalidate = true;
+            if(revalidate) {
+                getSpecificationLoader().validateLater(this);
+            }
+        } finally {
+            // committed even if introspection fails
+            if(jfrEvent.shouldCommit()) {
+                jfrEvent.type = getFullIdentifier();
+                jfrEvent.state = introspectionState.name();
+                jfrEvent.commit();
             }
-            break;
-
-        case MEMBERS_BEING_INTROSPECTED:
-            // nothing to do (interim state during introspectully)
-            break;
-
-        case FULLY_INTROSPECTED:
-            // nothing to do ... all done
-            break;
-
-        default:
-            throw _Exceptions.unexpectedCodeReach();
-        }
-
-        if(revalidate) {
-            getSpecificationLoader().validateLater(this);
         }
     }
 
@@ -20,12 +20,14 @@
 
 import java.io.Serializable;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.IntStream;
 
 import org.apache.causeway.applib.annotation.TableDecorator;
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.commons.binding.Bindable;
 import org.apache.causeway.commons.binding.Observable;
 import org.apache.causeway.commons.collections.Can;
@@ -36,7 +38,9 @@
 import org.apache.causeway.core.metamodel.interactions.managed.MultiselectChoices;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.MmSortUtils;
+import org.apache.causeway.core.metamodel.object.PackedManagedObject;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.causeway.core.metamodel.tabular.internal.DataTableInternal;
 import org.apache.causeway.core.metamodel.tabular.simple.DataTable;
 
@@ -55,12 +59,35 @@ public static DataTableInteractive forCollection(final ManagedCollection managed
         return DataTableInternal.forCollection(managedCollection);
     }
 
+    /**
+     * Table of an action's plural result.
+     * <p>
+     * If the action returned the result of a repository {@link Query} as is
+     * (see {@link PackedManagedObject#getQuery()}), the table is backed by that {@link Query}
+     * instead, as with {@link #forQuery(ManagedMember, Where, Query)}.
+     */
     public static DataTableInteractive forAction(
             final ManagedAction managedAction,
             final ManagedObject actionResult) {
         return DataTableInternal.forAction(managedAction, actionResult);
     }
 
+    /**
+     * Table backed by given {@link Query}, rather than by a materialized collection of elements.
+     * <p>
+     * If supported by the persistence layer, paging, sorting and searching are delegated to the database,
+     * such that only the rows actually requested (eg. via {@link #iterateDataRowsFilteredAndSorted(int, int)})
+     * are fetched. Otherwise falls back to fetching all elements up front.
+     *
+     * @param managedMember - the collection or action, the query's elements originate from
+     */
+    public static DataTableInteractive forQuery(
+            final ManagedMember managedMember,
+            final Where where,
+            final Query<?> query) {
+        return DataTableInternal.forQuery(managedMember, where, query);
+    }
+
     // --
 
     /**
@@ -73,10 +100,18 @@ public static class ColumnSort implements Serializable {
         final int columnIndex;
         final MmSortUtils.SortDirection sortDirection;
         public Optional<Comparator<ManagedObject>> asComparator(final Can<? extends DataColumn> columns) {
+            return lookupSortProperty(columns)
+                    .map(sortProperty->MmSortUtils.orderingBy(sortProperty, sortDirection));
+        }
+        /**
+         * The property to sort by, if the column to sort corresponds to a property.
+         */
+        public Optional<OneToOneAssociation> lookupSortProperty(final Can<? extends DataColumn> columns) {
             var columnToSort = columns.get(columnIndex).orElse(null);
-            var sortProperty = columnToSort.getAssociationMetaModel().getSpecialization().leftIfAny();
-            return Optional.ofNullable(sortProperty)
-                    .map(prop->MmSortUtils.orderingBy(sortProperty, sortDirection));
+            return Optional.ofNullable(columnToSort.getAssociationMetaModel().getSpecialization().leftIfAny());
+        }
+        public boolean isAscending() {
+            return sortDirection != MmSortUtils.SortDirection.DESCENDING;
         }
     }
 
@@ -103,6 +138,20 @@ public Optional<Comparator<ManagedObject>> asComparator(final Can<? extends Data
      */
     int getFilteredElementCount();
 
+    // -- ROW PAGING
+
+    /**
+     * Iterates the rows of {@link #getDataRowsFilteredAndSorted()},
+     * skipping the first {@code skip} rows and stopping after {@code limit} rows.
+     * <p>
+     * Query-backed tables (see {@link #forQuery(ManagedMember, Where, Query)}) only fetch the requested rows,
+     * if supported by the persistence layer.
+     */
+    default Iterator<DataRow> iterateDataRowsFilteredAndSorted(final int skip, final int limit) {
+        return getDataRowsFilteredAndSorted().getValue()
+                .iterator(skip, limit);
+    }
+
     // -- ROW LOOKUP
 
     /**
@@ -19,6 +19,7 @@
 package org.apache.causeway.core.metamodel.tabular.internal;
 
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -31,6 +32,7 @@
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.TableDecorator;
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.filter.CollectionFilterService;
 import org.apache.causeway.commons.binding.Bindable;
 import org.apache.causeway.commons.collections.Can;
@@ -40,6 +42,7 @@
 import org.apache.causeway.commons.internal.binding._Observables;
 import org.apache.causeway.commons.internal.binding._Observables.LazyObservable;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet.QueryRefinement;
 import org.apache.causeway.core.metamodel.interactions.managed.ActionInteraction;
 import org.apache.causeway.core.metamodel.interactions.managed.CollectionInteraction;
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedAction;
@@ -68,7 +71,7 @@
     // -- FACTORIES
 
     public static DataTableInternal empty(final ManagedMember managedMember, final Where where) {
-        return new DataTableInternal(managedMember, where, Can.empty());
+        return new DataTableInternal(managedMember, where, Can.empty(), null);
     }
 
     public static DataTableInternal forCollection(
@@ -76,7 +79,8 @@ public static DataTableInternal forCollection(
         return new DataTableInternal(managedCollection, managedCollection.getWhere(),
             managedCollection
             .streamElements()
-            .collect(Can.toCan()));
+            .collect(Can.toCan()),
+            null);
     }
 
     public static DataTableInternal forAction(
@@ -84,16 +88,41 @@ public static DataTableInternal forAction(
             final ManagedObject actionResult) {
 
         if(actionResult==null) {
-            new DataTableInternal(managedAction, managedAction.getWhere(), Can.empty());
+            new DataTableInternal(managedAction, managedAction.getWhere(), Can.empty(), null);
         }
         if(!(actionResult instanceof PackedManagedObject)) {
             throw _Exceptions.unexpectedCodeReach();
         }
 
-        var elements = ((PackedManagedObject)actionResult).unpack();
+        var packedResult = (PackedManagedObject)actionResult;
+
+        // if the action returned a repository query's result as is, re-run the query on demand instead
+        var elementType = managedAction.getElementType();
+        var queryIfAny = packedResult.getQuery()
+                .filter(query->query.getResultType().equals(elementType.getCorrespondingClass())
+                        && QueryBackedRows.isSupported(elementType, query));
+        if(queryIfAny.isPresent()) {
+            return new DataTableInternal(managedAction, managedAction.getWhere(), Can.empty(), queryIfAny.get());
+        }
+
+        var elements = packedResult.unpack();
         elements.forEach(ManagedObject::getBookmark);
 
-        return new DataTableInternal(managedAction, managedAction.getWhere(), elements);
+        return new DataTableInternal(managedAction, managedAction.getWhere(), elements, null);
+    }
+
+    public static DataTableInternal forQuery(
+            final ManagedMember managedMember,
+            final Where where,
+            final Query<?> query) {
+
+        var elementType = managedMember.getElementType();
+        if(QueryBackedRows.isSupported(elementType, query)) {
+            return new DataTableInternal(managedMember, where, Can.empty(), query);
+        }
+        // fallback: materialize all elements
+        var elements = elementType.entityFacetElseFail().fetchByQuery(query);
+        return new DataTableInternal(managedMember, where, elements, null);
     }
 
     // -- CONSTRUCTION
@@ -116,6 +145,11 @@ public static DataTableInternal forAction(
 
     private final Optional<FilterHandler> filterHandler;
 
+    /**
+     * Only present for query-backed tables, in which case rows are fetched on demand.
+     */
+    private final @Nullable QueryBackedRows queryBackedRows;
+
     /**
      * On data row selection changes (originating from UI),
      * the framework updates this {@link Bindable},
@@ -127,7 +161,9 @@ private DataTableInternal(
             // we need access to the owner in support of imperative title and referenced column detection
             final ManagedMember managedMember,
             final Where where,
-            final Can<ManagedObject> elements) {
+            final Can<ManagedObject> elements,
+            // if present, elements are ignored and instead fetched on demand
+            final @Nullable Query<?> query) {
 
         var elementType = managedMember.getElementType();
         //var mmc = elementType.getMetaModelContext();
@@ -135,26 +171,32 @@ private DataTableInternal(
         this.managedMember = managedMember;
         this.where = where;
         this.filterHandler = _FilterUtils.createFilterHandler(elementType);
+        this.queryBackedRows = query!=null
+                ? new QueryBackedRows(this, query)
+                : null;
 
         this.searchArgument = _Bindables.forValue("");
         this.columnSort = _Bindables.forValue(null);
 
-        this.dataElements = _Observables.lazy(()->elements
+        this.dataElements = _Observables.lazy(()->queryBackedRows!=null
+                ? queryBackedRows.fetchAllElements()
+                : elements
                 //.map(mmc::injectServicesInto) // I believe is redundant, has major performance impact
                 //.filter(this::ignoreHidden) // I believe is redundant, has major performance impact
                 );
 
-        this.dataRows = _Observables.lazy(()->
-            dataElements.getValue().stream()
-                .map(IndexedFunction.zeroBased((rowIndex, element)->new DataRowInternal(rowIndex, this, element, tokens(element))))
-                .collect(Can.toCan()));
+        // for query-backed tables, these are the rows fetched so far
+        this.dataRows = _Observables.lazy(()->queryBackedRows!=null
+                ? queryBackedRows.getRows()
+                : dataElements.getValue().stream()
+                    .map(IndexedFunction.zeroBased((rowIndex, element)->new DataRowInternal(rowIndex, this, element, tokens(element))))
+                    .collect(Can.toCan()));
 
-        this.dataRowsFilteredAndSorted = _Observables.lazy(()->
-            dataRows.getValue().stream()
-                .filter(adaptSearchPredicate())
-                .sorted(sortingComparator()
-                        .orElseGet(()->(a, b)->0)) // else don't sort (no-op comparator for streams)
-                .collect(Can.toCan()));
+        this.dataRowsFilteredAndSorted = _Observables.lazy(()->queryBackedRows!=null
+                ? queryBackedRows.refinement()
+                    .map(queryBackedRows::fetchAll)
+                    .orElseGet(()->filterAndSort(queryBackedRows.rowsFor(dataElements.getValue())))
+                : filterAndSort(dataRows.getValue()));
 
         this.dataRowsSelected = _Observables.lazy(()->
             dataRows.getValue().stream()
@@ -195,6 +237,12 @@ private DataTableInternal(
 
     @Override
     public boolean isSearchSupported() {
+        return filterHandler.isPresent()
+                || (queryBackedRows!=null
+                    && queryBackedRows.isSearchSupported());
+    }
+
+    boolean hasFilterHandler() {
         return filterHandler.isPresent();
     }
 
@@ -212,7 +260,9 @@ public Optional<TableDecorator> getTableDecoratorIfAny() {
      * Count all data rows (the user is allowed to see).
      */
     public int getVisibleElementCount() {
-        return dataElements.getValue().size();
+        return queryBackedRows!=null
+                ? queryBackedRows.count(QueryRefinement.none())
+                : dataElements.getValue().size();
     }
 
     /**
@@ -220,7 +270,16 @@ public int getVisibleElementCount() {
      */
     @Override
     public int getFilteredElementCount() {
-        return dataRowsFilteredAndSorted.getValue().size();
+        return pushedDownRefinement()
+                .map(refinement->queryBackedRows.count(refinement))
+                .orElseGet(()->dataRowsFilteredAndSorted.getValue().size());
+    }
+
+    @Override
+    public Iterator<DataRow> iterateDataRowsFilteredAndSorted(final int skip, final int limit) {
+        return pushedDownRefinement()
+                .map(refinement->queryBackedRows.fetchPage(refinement, skip, limit).iterator())
+                .orElseGet(()->DataTableInteractive.super.iterateDataRowsFilteredAndSorted(skip, limit));
     }
 
     @Override
@@ -254,7 +313,7 @@ private Predicate<DataRow> adaptSearchPredicate() {
     }
 
     @Nullable
-    private CollectionFilterService.Tokens tokens(final ManagedObject element){
+    CollectionFilterService.Tokens tokens(final ManagedObject element){
         return filterHandler.isEmpty()
                 ? null
                 : filterHandler.get().tokenizer.apply(element.getPojo());
@@ -262,6 +321,14 @@ private CollectionFilterService.Tokens tokens(final ManagedObject element){
 
     // -- SORTING
 
+    private Can<DataRow> filterAndSort(final Can<DataRow> rows) {
+        return rows.stream()
+                .filter(adaptSearchPredicate())
+                .sorted(sortingComparator()
+                        .orElseGet(()->(a, b)->0)) // else don't sort (no-op comparator for streams)
+                .collect(Can.toCan());
+    }
+
     private Optional<Comparator<DataRow>> sortingComparator() {
         return Optional.ofNullable(columnSort.getValue())
                 .flatMap(sort->sort.asComparator(dataColumns.getValue()))
@@ -269,6 +336,17 @@ private Optional<Comparator<DataRow>> sortingComparator() {
                 .map(elementComparator->(rowA, rowB)->elementComparator.compare(rowA.getRowElement(), rowB.getRowElement()));
     }
 
+    // -- QUERY REFINEMENT
+
+    /**
+     * The current sort and search state, if (query-backed and) it can be delegated to the persistence layer.
+     */
+    private Optional<QueryRefinement> pushedDownRefinement() {
+        return queryBackedRows!=null
+                ? queryBackedRows.refinement()
+                : Optional.empty();
+    }
+
     // -- TOGGLE ALL
 
     private final AtomicBoolean isProgrammaticToggle = new AtomicBoolean();
@@ -310,9 +388,11 @@ private void invalidateSelectionThenNotifyListeners() {
 
     @Override
     public void selectRangeOfRowsByIndex(final IntStream range, final boolean select) {
+        var dataRowsInRange = pushedDownRefinement()
+                .map(refinement->queryBackedRows.fetchByPosition(refinement, range))
+                .orElseGet(()->dataRowsFilteredAndSorted.getValue().pickByIndex(range));
         doProgrammaticToggle(()->{
-            dataRowsFilteredAndSorted.getValue()
-                .pickByIndex(range)
+            dataRowsInRange
                 .forEach(dataRow->{
                     dataRow.getSelectToggle().setValue(select);
                 });
@@ -367,6 +447,22 @@ public ActionInteraction startAssociatedActionInteraction(final String actionId,
 
     @Override
     public DataTable export() {
+        var refinementIfAny = queryBackedRows!=null
+                ? queryBackedRows.refinement()
+                : Optional.<QueryRefinement>empty();
+        if(refinementIfAny.isPresent()) {
+            // rows are pulled page by page, as the exporter consumes them
+            return new DataTable(
+                    getElementType(),
+                    getTitle().getValue(),
+                    getDataColumns().getValue()
+                        .map(DataColumn::getAssociationMetaModel),
+                    Can.empty())
+                .populateEntitiesLazily(
+                        queryBackedRows.getQuery(),
+                        refinementIfAny.get(),
+                        DataTable.DEFAULT_PAGE_SIZE);
+        }
         return new DataTable(
                 getElementType(),
                 getTitle().getValue(),
@@ -378,14 +474,17 @@ public DataTable export() {
                     .collect(Can.toCan()));
     }
 
-    // used internally for serialization
+    // used internally for serialization;
+    // for query-backed tables, only the rows fetched so far, such that their row indexes can be restored
     private DataTable exportAll() {
         return new DataTable(
                 getElementType(),
                 getTitle().getValue(),
                 getDataColumns().getValue()
                     .map(DataColumn::getAssociationMetaModel),
-                getDataElements().getValue());
+                queryBackedRows!=null
+                    ? queryBackedRows.getRows().map(DataRow::getRowElement)
+                    : getDataElements().getValue());
     }
 
     // -- MEMENTO
@@ -417,7 +516,10 @@ static Memento create(
                     tableInteractive.exportAll(),
                     tableInteractive.searchArgument.getValue(),
                     tableInteractive.getSelectedRowIndexes(),
-                    tableInteractive.getColumnSort().getValue());
+                    tableInteractive.getColumnSort().getValue(),
+                    tableInteractive.queryBackedRows!=null
+                        ? tableInteractive.queryBackedRows.getQuery()
+                        : null);
         }
 
         private final @NonNull Identifier featureId;
@@ -427,6 +529,10 @@ static Memento create(
         private @Nullable String searchArgument;
         private @NonNull Set<Integer> selectedRowIndexes;
         private @Nullable DataTableInteractive.ColumnSort columnSort;
+        /**
+         * Only present for query-backed tables, in which case {@link #dataTable} holds the rows fetched so far.
+         */
+        private final @Nullable Query<?> query;
 
         @Override
         public DataTableInternal getDataTableModel(final ManagedObject owner) {
@@ -444,15 +550,22 @@ public DataTableInternal getDataTableModel(final ManagedObject owner) {
                     : ActionInteraction.start(owner, memberId, where)
                         .getManagedActionElseFail();
 
-            var dataTableInteractive = new DataTableInternal(managedMember, where,
-                    dataTable.streamDataElements()
+            var elements = dataTable.streamDataElements()
                     .peek(obj->{
                         if(obj.getSpecialization().isViewmodel()) {
                             // make sure any referenced entities are made live if currently hollow
                             ManagedObjects.refreshViewmodel(obj, /*bookmark supplier*/ null);
                         }
                     })
-                    .collect(Can.toCan()));
+                    .collect(Can.toCan());
+
+            var dataTableInteractive = query!=null
+                    ? new DataTableInternal(managedMember, where, Can.empty(), query)
+                    : new DataTableInternal(managedMember, where, elements, null);
+            if(dataTableInteractive.queryBackedRows!=null) {
+                // restores the row indexes of the rows fetched so far
+                dataTableInteractive.queryBackedRows.rowsFor(elements);
+            }
 
             if(columnSort!=null)  {
                 dataTableInteractive.columnSort.setValue(columnSort);
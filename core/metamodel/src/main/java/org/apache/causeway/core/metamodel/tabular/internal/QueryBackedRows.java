@@ -0,0 +1,253 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet.QueryRefinement;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityOrmMetadata.ColumnOrmMetadata;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.causeway.core.metamodel.tabular.DataColumn;
+import org.apache.causeway.core.metamodel.tabular.DataRow;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Row source of a {@link DataTableInternal}, that is backed by a {@link Query},
+ * delegating paging, sorting and searching to the persistence layer, as far as supported.
+ * <p>
+ * Rows are created on first fetch and kept for the lifetime of the table,
+ * such that their row index is invariant with respect to sorting and filtering.
+ * Hence memory consumption grows with the number of rows actually fetched (eg. pages visited),
+ * rather than with the number of rows the query would yield.
+ */
+class QueryBackedRows {
+
+    static boolean isSupported(
+            final @NonNull ObjectSpecification elementType,
+            final @NonNull Query<?> query) {
+        return elementType.entityFacet()
+                .map(entityFacet->entityFacet.supportsQueryRefinement(query))
+                .orElse(false);
+    }
+
+    private final @NonNull DataTableInternal table;
+    @Getter private final @NonNull Query<?> query;
+    private final @NonNull EntityFacet entityFacet;
+
+    private final Map<Bookmark, DataRow> rowsByBookmark = new HashMap<>();
+    private final List<DataRow> rows = new ArrayList<>();
+
+    // lazily computed
+    private Set<String> persistentMemberIds;
+    private Can<String> searchMemberIds;
+
+    // count memoized per refinement
+    private @Nullable QueryRefinement countedRefinement;
+    private int count;
+
+    QueryBackedRows(
+            final @NonNull DataTableInternal table,
+            final @NonNull Query<?> query) {
+        this.table = table;
+        this.query = query;
+        this.entityFacet = table.getElementType().entityFacetElseFail();
+    }
+
+    /**
+     * All rows fetched so far, in order of their row index.
+     */
+    Can<DataRow> getRows() {
+        return Can.ofCollection(rows);
+    }
+
+    /**
+     * Maps given elements to their rows, creating rows for elements not seen before.
+     */
+    Can<DataRow> rowsFor(final @NonNull Can<ManagedObject> elements) {
+        final int rowCountBefore = rows.size();
+        var rowsForElements = elements.map(this::rowFor);
+        if(rows.size()!=rowCountBefore) {
+            table.getDataRows().invalidate();
+        }
+        return rowsForElements;
+    }
+
+    /**
+     * All elements, the {@link Query} yields, ignoring any sorting or searching.
+     */
+    Can<ManagedObject> fetchAllElements() {
+        return entityFacet.fetchByQuery(query);
+    }
+
+    /**
+     * The {@link QueryRefinement} corresponding to the table's current sort and search state,
+     * or empty if that cannot be delegated to the persistence layer, in which case callers
+     * need to fall back to in-memory sorting and filtering.
+     */
+    Optional<QueryRefinement> refinement() {
+        var searchArg = table.getSearchArgument().getValue();
+        var isSearching = _Strings.isNotEmpty(searchArg);
+        if(isSearching
+                && table.hasFilterHandler()) {
+            // the CollectionFilterService's tokenizer can only be applied in-memory
+            return Optional.empty();
+        }
+
+        String sortMemberId = null;
+        var sortAscending = true;
+        var columnSort = table.getColumnSort().getValue();
+        var sortProperty = columnSort!=null
+                ? columnSort.lookupSortProperty(table.getDataColumns().getValue()).orElse(null)
+                : null;
+        if(sortProperty!=null) {
+            if(!isPersistent(sortProperty)) {
+                return Optional.empty();
+            }
+            sortMemberId = sortProperty.getId();
+            sortAscending = columnSort.isAscending();
+        } else if(table.getMetaModel().getElementComparator().isPresent()) {
+            // honoring the member's element comparator requires in-memory sorting
+            return Optional.empty();
+        }
+
+        return Optional.of(QueryRefinement.of(
+                sortMemberId,
+                sortAscending,
+                isSearching
+                    ? searchMemberIds()
+                    : Can.empty(),
+                isSearching
+                    ? searchArg
+                    : null));
+    }
+
+    /**
+     * Whether searching can be delegated to the persistence layer,
+     * that is, if there is at least one persistent {@link String} property column.
+     */
+    boolean isSearchSupported() {
+        return searchMemberIds().isNotEmpty();
+    }
+
+    /**
+     * Number of rows, the {@link Query} yields with given {@link QueryRefinement} applied.
+     */
+    int count(final @NonNull QueryRefinement refinement) {
+        if(!refinement.equals(countedRefinement)) {
+            var range = query.getRange();
+            var total = Math.max(0L, entityFacet.countByQuery(query, refinement) - range.getStart());
+            count = Math.toIntExact(range.hasLimit()
+                    ? Math.min(total, range.getLimit())
+                    : total);
+            countedRefinement = refinement;
+        }
+        return count;
+    }
+
+    Can<DataRow> fetchAll(final @NonNull QueryRefinement refinement) {
+        return rowsFor(entityFacet.fetchByQuery(query, refinement));
+    }
+
+    /**
+     * Fetches the rows from (zero-based) position {@code skip} (inclusive) up to {@code skip + limit} (exclusive)
+     * within the refined result.
+     */
+    Can<DataRow> fetchPage(final @NonNull QueryRefinement refinement, final long skip, final long limit) {
+        var range = query.getRange();
+        var maxLimit = range.hasLimit()
+                ? range.getLimit() - skip
+                : Long.MAX_VALUE;
+        var pageLimit = Math.min(limit, maxLimit);
+        if(pageLimit<=0) {
+            return Can.empty();
+        }
+        var pageQuery = query.withRange(range.getStart() + skip, pageLimit);
+        return rowsFor(entityFacet.fetchByQuery(pageQuery, refinement));
+    }
+
+    /**
+     * Fetches the rows at given (zero-based) positions within the refined result.
+     */
+    Can<DataRow> fetchByPosition(final @NonNull QueryRefinement refinement, final @NonNull IntStream positions) {
+        var positionArray = positions.toArray();
+        if(positionArray.length==0) {
+            return Can.empty();
+        }
+        final int min = IntStream.of(positionArray).min().getAsInt();
+        final int max = IntStream.of(positionArray).max().getAsInt();
+        return fetchPage(refinement, min, max - min + 1)
+                .pickByIndex(IntStream.of(positionArray).map(position->position - min));
+    }
+
+    // -- HELPER
+
+    private DataRow rowFor(final ManagedObject element) {
+        var bookmark = element.getBookmarkElseFail();
+        var row = rowsByBookmark.get(bookmark);
+        if(row==null) {
+            row = new DataRowInternal(rows.size(), table, element, table.tokens(element));
+            rowsByBookmark.put(bookmark, row);
+            rows.add(row);
+        }
+        return row;
+    }
+
+    private boolean isPersistent(final OneToOneAssociation property) {
+        if(persistentMemberIds==null) {
+            persistentMemberIds = entityFacet.getOrmMetadata().columns().stream()
+                    .map(ColumnOrmMetadata::memberId)
+                    .collect(Collectors.toSet());
+        }
+        return !property.isMixedIn()
+                && persistentMemberIds.contains(property.getId());
+    }
+
+    private Can<String> searchMemberIds() {
+        if(searchMemberIds==null) {
+            searchMemberIds = table.getDataColumns().getValue().stream()
+                    .map(DataColumn::getAssociationMetaModel)
+                    .map(assoc->assoc.getSpecialization().leftIfAny())
+                    .filter(property->property!=null
+                            && String.class.equals(property.getElementType().getCorrespondingClass())
+                            && isPersistent(property))
+                    .map(OneToOneAssociation::getId)
+                    .collect(Can.toCan());
+        }
+        return searchMemberIds;
+    }
+
+}
@@ -29,6 +29,7 @@
 
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.commons.collections.Can;
@@ -39,6 +40,8 @@
 import org.apache.causeway.commons.internal.functions._Predicates;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet.QueryRefinement;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectBulkLoader;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
@@ -63,9 +66,20 @@ public class DataTable implements Serializable {
 
     @Getter private final @NonNull ObjectSpecification elementType;
     @Getter private final @NonNull Can<DataColumn> dataColumns;
-    @Getter private @NonNull Can<DataRow> dataRows;
+    private @NonNull Can<DataRow> dataRows;
+    /**
+     * If populated lazily, the rows are not held in {@link #dataRows}, but pulled from the persistence layer
+     * page by page, whenever streamed.
+     */
+    private @Nullable _PagedRows pagedRows;
     @Getter private @NonNull String tableFriendlyName;
 
+    /**
+     * Default number of entities per page, when populated lazily.
+     * @see #populateEntitiesLazily(Query)
+     */
+    public static final int DEFAULT_PAGE_SIZE = 500;
+
     /**
      * Returns an empty {@link DataTable} for given domain object type,
      * with all properties as columns, excluding mixed-in ones.
@@ -170,18 +184,52 @@ public String getLogicalName() {
         return getElementType().getLogicalTypeName();
     }
 
+    /**
+     * The data rows of this table.
+     * <p>
+     * If {@link #populateEntitiesLazily(Query) populated lazily}, this fetches all rows into memory,
+     * consider {@link #streamDataRows()} instead.
+     */
+    public Can<DataRow> getDataRows() {
+        if(pagedRows!=null) {
+            try(var rows = pagedRows.stream()) {
+                return rows.collect(Can.toCan());
+            }
+        }
+        return dataRows;
+    }
+
     /**
      * Count data rows.
+     * <p>
+     * If {@link #populateEntitiesLazily(Query) populated lazily}, this issues a count query
+     * (if supported by the persistence layer), without fetching any rows.
      */
     public int getElementCount() {
+        if(pagedRows!=null) {
+            return Math.toIntExact(pagedRows.count());
+        }
         return dataRows.size();
     }
 
     public Stream<ManagedObject> streamDataElements() {
-        return dataRows.stream()
+        return streamDataRows()
             .map(DataRow::getRowElement);
     }
 
+    /**
+     * Streams the data rows, such that exporters can write one row at a time,
+     * without holding on to any rows already written.
+     * <p>
+     * If {@link #populateEntitiesLazily(Query) populated lazily}, entities are fetched page by page,
+     * as the stream is consumed. Callers should close the stream when done.
+     */
+    public Stream<DataRow> streamDataRows() {
+        return pagedRows!=null
+                ? pagedRows.stream()
+                : dataRows.stream();
+    }
+
     // -- CONCATENATION (ADD ROWS)
 
     /**
@@ -197,8 +245,10 @@ public DataTable addDataElementsFrom(final @Nullable DataTable otherTable) {
                             otherType,
                             thisType));
         }
-        if(otherTable.dataRows.isNotEmpty()) {
-            this.dataRows = this.dataRows.addAll(otherTable.dataRows);
+        var otherDataRows = otherTable.getDataRows();
+        if(otherDataRows.isNotEmpty()) {
+            this.dataRows = this.getDataRows().addAll(otherDataRows);
+            this.pagedRows = null;
         }
         return this;
     }
@@ -211,6 +261,7 @@ public DataTable addDataElementsFrom(final @Nullable DataTable otherTable) {
     public DataTable setDataElements(final @Nullable Iterable<ManagedObject> dataElements) {
         this.dataRows = Can.ofIterable(dataElements)
                 .map(domainObject->new DataRow(this, domainObject));
+        this.pagedRows = null;
         return this;
     }
     /**
@@ -252,6 +303,43 @@ public DataTable populateEntities(final Query<?> query) {
         return setDataElements(allMatching);
     }
 
+    /**
+     * As {@link #populateEntities(Query)}, but rather than holding all rows in memory,
+     * pulls the entities page by page from the persistence layer (using {@link QueryRange}),
+     * whenever the rows are {@link #streamDataRows() streamed}, eg. by a {@link CollectionContentsExporter}.
+     * Once a page has been consumed, its entities are evicted from the persistence context.
+     * <p>
+     * Hence memory consumption does not grow with the number of rows. Paging requires the {@link Query}
+     * to yield its results in a stable order (eg. a named query with an {@code ORDER BY} clause).
+     * @see #DEFAULT_PAGE_SIZE
+     */
+    public DataTable populateEntitiesLazily(final Query<?> query) {
+        return populateEntitiesLazily(query, null, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * As {@link #populateEntitiesLazily(Query)}, with given {@link QueryRefinement} (if any) applied
+     * and given number of entities per page.
+     * @see EntityFacet#supportsQueryRefinement(Query)
+     */
+    public DataTable populateEntitiesLazily(
+            final Query<?> query,
+            final @Nullable QueryRefinement refinement,
+            final int pageSize) {
+        { // sanity check
+            var requestType = query.getResultType();
+            var resultType = getElementType().getCorrespondingClass();
+            _Assert.assertEquals(requestType, resultType, ()->
+                    String.format("Query's result-type %s must match the table's element-type %s.",
+                            requestType,
+                            resultType));
+            _Assert.assertTrue(pageSize>0, ()->"page size must be positive");
+        }
+        this.dataRows = Can.empty();
+        this.pagedRows = new _PagedRows(this, query, refinement, pageSize);
+        return this;
+    }
+
     // -- TRAVERSAL
 
     public static interface CellVisitor {
@@ -266,13 +354,15 @@ public DataTable visit(final CellVisitor visitor) {
     public DataTable visit(final CellVisitor visitor, final Predicate<DataColumn> columnFilter) {
         var columnsOfInterest = getDataColumns().filter(columnFilter);
         if(columnsOfInterest.isNotEmpty()) {
-            getDataRows().forEach(row->{
-                visitor.onRowEnter(row);
-                columnsOfInterest.forEach(col->{
-                    visitor.onCell(col, row.getCellElements(col, InteractionInitiatedBy.PASS_THROUGH));
+            try(var rows = streamDataRows()) {
+                rows.forEach(row->{
+                    visitor.onRowEnter(row);
+                    columnsOfInterest.forEach(col->{
+                        visitor.onCell(col, row.getCellElements(col, InteractionInitiatedBy.PASS_THROUGH));
+                    });
+                    visitor.onRowLeave(row);
                 });
-                visitor.onRowLeave(row);
-            });
+            }
         }
         return this;
     }
@@ -0,0 +1,155 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.simple;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet.QueryRefinement;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Row source of a lazily populated {@link DataTable}, that pulls the entities a {@link Query} yields
+ * page by page from the persistence layer (using {@link QueryRange}), rather than holding all rows in memory.
+ * <p>
+ * Once all rows of a page have been consumed, the page's entities are evicted from the persistence context.
+ * Hence memory consumption does not grow with the number of rows.
+ */
+@RequiredArgsConstructor
+class _PagedRows {
+
+    private final @NonNull DataTable table;
+    private final @NonNull Query<?> query;
+    private final @Nullable QueryRefinement refinement;
+    private final int pageSize;
+
+    /**
+     * Each call re-executes the {@link Query}, one page at a time, as the returned {@link Stream} is consumed.
+     * Closing the stream evicts the entities of the last page fetched.
+     */
+    Stream<DataRow> stream() {
+        var pages = new PageIterator(table.getElementType().entityFacetElseFail());
+        return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL),
+                    false)
+                .onClose(pages::evictCurrentPage)
+                .flatMap(Can::stream)
+                .map(element->new DataRow(table, element));
+    }
+
+    /**
+     * Number of entities the {@link Query} yields, honoring its {@link QueryRange}.
+     * <p>
+     * Uses a count query, if supported by the persistence layer,
+     * otherwise falls back to iterating over all pages.
+     */
+    long count() {
+        var entityFacet = table.getElementType().entityFacetElseFail();
+        if(!entityFacet.supportsQueryRefinement(query)) {
+            try(var rows = stream()) {
+                return rows.count();
+            }
+        }
+        var range = query.getRange();
+        var count = Math.max(0L,
+                entityFacet.countByQuery(query, refinement!=null ? refinement : QueryRefinement.none())
+                - range.getStart());
+        return range.hasLimit()
+                ? Math.min(count, range.getLimit())
+                : count;
+    }
+
+    // -- HELPER
+
+    @RequiredArgsConstructor
+    private class PageIterator implements Iterator<Can<ManagedObject>> {
+
+        private final @NonNull EntityFacet entityFacet;
+        private final QueryRange range = query.getRange();
+
+        private long skip;
+        private boolean exhausted;
+        private Can<ManagedObject> currentPage = Can.empty();
+        private @Nullable Can<ManagedObject> nextPage; // fetched by hasNext()
+
+        @Override
+        public boolean hasNext() {
+            if(nextPage==null
+                    && !exhausted) {
+                nextPage = fetchNextPage();
+            }
+            return nextPage!=null
+                    && nextPage.isNotEmpty();
+        }
+
+        @Override
+        public Can<ManagedObject> next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            currentPage = nextPage;
+            nextPage = null;
+            return currentPage;
+        }
+
+        void evictCurrentPage() {
+            entityFacet.evict(currentPage.map(ManagedObject::getPojo));
+            currentPage = Can.empty();
+        }
+
+        private Can<ManagedObject> fetchNextPage() {
+            // by now, all rows of the current page have been consumed
+            evictCurrentPage();
+
+            final long limit = range.hasLimit()
+                    ? Math.min(pageSize, range.getLimit() - skip)
+                    : pageSize;
+            if(limit<=0) {
+                exhausted = true;
+                return Can.empty();
+            }
+
+            var pageQuery = query.withRange(range.getStart() + skip, limit);
+            var page = refinement!=null
+                    ? entityFacet.fetchByQuery(pageQuery, refinement)
+                    : entityFacet.fetchByQuery(pageQuery);
+
+            skip += page.size();
+            if(page.size()<limit) {
+                exhausted = true;
+            }
+            return page;
+        }
+
+    }
+
+}
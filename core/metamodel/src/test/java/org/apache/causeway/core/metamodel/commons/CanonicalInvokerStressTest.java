@@ -0,0 +1,105 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.apache.causeway.commons.internal.base._Blackhole;
+import org.apache.causeway.commons.internal.base._Timing;
+import org.apache.causeway.core.internaltestsupport.annotations.DisabledIfRunningWithSurefire;
+
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Compares reflective invocation with invocation via bound {@link java.lang.invoke.MethodHandle}s.
+ */
+@DisabledIfRunningWithSurefire
+@Log4j2
+class CanonicalInvokerStressTest {
+
+    public static class Customer {
+        private int age = 42;
+        public int getAge() { return age; }
+        public String validateAge(final int age) { return age < 0 ? "negative" : null; }
+        public int placeOrder(final String product, final int quantity, final List<String> notes) {
+            return quantity + notes.size();
+        }
+    }
+
+    private static final int ITERATIONS = 10_000_000;
+
+    @AfterEach
+    void tearDown() {
+        CanonicalInvoker.unbindAll();
+    }
+
+    @Test @SneakyThrows
+    void invoke_stressTest() {
+        var customer = new Customer();
+        var getter = Customer.class.getMethod("getAge");
+        var validator = Customer.class.getMethod("validateAge", int.class);
+        var action = Customer.class.getMethod("placeOrder", String.class, int.class, List.class);
+        var notes = List.of("a", "b");
+
+        runAll("reflection", customer, getter, validator, action, notes);
+
+        CanonicalInvoker.bind(getter);
+        CanonicalInvoker.bind(validator);
+        CanonicalInvoker.bind(action);
+
+        runAll("method handles", customer, getter, validator, action, notes);
+    }
+
+    // -- HELPER
+
+    private void runAll(
+            final String strategy,
+            final Customer customer,
+            final Method getter,
+            final Method validator,
+            final Method action,
+            final List<String> notes) {
+
+        // warm up
+        run(customer, getter, validator, action, notes, ITERATIONS / 10);
+
+        _Timing.runVerbose(log, String.format("Invoking 3 methods %d times using %s", ITERATIONS, strategy), ()->
+            run(customer, getter, validator, action, notes, ITERATIONS));
+    }
+
+    private void run(
+            final Customer customer,
+            final Method getter,
+            final Method validator,
+            final Method action,
+            final List<String> notes,
+            final int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            _Blackhole.consume(CanonicalInvoker.invoke(getter, customer));
+            _Blackhole.consume(CanonicalInvoker.invoke(validator, customer, i));
+            _Blackhole.consume(CanonicalInvoker.invoke(action, customer, "book", i, notes));
+        }
+    }
+
+}
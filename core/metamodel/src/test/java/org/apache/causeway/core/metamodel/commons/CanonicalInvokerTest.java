@@ -0,0 +1,116 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.SneakyThrows;
+
+class CanonicalInvokerTest {
+
+    public static class Customer {
+        public int sum(final int a, final int b) { return a + b; }
+        public String join(final List<String> parts) { return String.join(",", parts); }
+        public int count(final Set<String> parts) { return parts.size(); }
+        public void touch() { }
+        public static String echo(final String s) { return s; }
+        public String fail() { throw new IllegalStateException("fail"); }
+    }
+
+    @AfterEach
+    void tearDown() {
+        CanonicalInvoker.unbindAll();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void invoke_shouldConvertArgs(final boolean bindMethodHandles) {
+        var customer = new Customer();
+
+        assertEquals(3, CanonicalInvoker.invoke(method("sum", int.class, int.class, bindMethodHandles), customer, 1, 2));
+        // missing and null args for primitives are defaulted
+        assertEquals(1, CanonicalInvoker.invoke(method("sum", int.class, int.class, bindMethodHandles), customer, 1));
+        assertEquals(0, CanonicalInvoker.invoke(method("sum", int.class, int.class, bindMethodHandles), customer, null, null));
+        // collection args are converted to the required collection type
+        assertEquals(2, CanonicalInvoker.invoke(method("count", Set.class, bindMethodHandles), customer, List.of("a", "b", "a")));
+        assertEquals("a,b", CanonicalInvoker.invoke(method("join", List.class, bindMethodHandles), customer, List.of("a", "b")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void invoke_voidAndStatic(final boolean bindMethodHandles) {
+        var customer = new Customer();
+        assertNull(CanonicalInvoker.invoke(method("touch", bindMethodHandles), customer));
+        assertEquals("x", CanonicalInvoker.invoke(method("echo", String.class, bindMethodHandles), customer, "x"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void invoke_shouldPropagateExceptions(final boolean bindMethodHandles) {
+        var customer = new Customer();
+        var ex = assertThrows(Exception.class, ()->
+            CanonicalInvoker.invoke(method("fail", bindMethodHandles), customer));
+        assertTrue(ex.getMessage().contains("fail"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void invoke_withIncompatibleArgs(final boolean bindMethodHandles) {
+        var customer = new Customer();
+        var ex = assertThrows(IllegalArgumentException.class, ()->
+            CanonicalInvoker.invoke(method("echo", String.class, bindMethodHandles), customer, 5));
+        assertTrue(ex.getMessage().contains("param-type[0]"));
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private static java.lang.reflect.Method method(final String name, final Class<?> p0, final Class<?> p1, final boolean bind) {
+        return bindIfRequested(Customer.class.getMethod(name, p0, p1), bind);
+    }
+
+    @SneakyThrows
+    private static java.lang.reflect.Method method(final String name, final Class<?> p0, final boolean bind) {
+        return bindIfRequested(Customer.class.getMethod(name, p0), bind);
+    }
+
+    @SneakyThrows
+    private static java.lang.reflect.Method method(final String name, final boolean bind) {
+        return bindIfRequested(Customer.class.getMethod(name), bind);
+    }
+
+    private static java.lang.reflect.Method bindIfRequested(final java.lang.reflect.Method method, final boolean bind) {
+        if(bind) {
+            CanonicalInvoker.bind(method);
+            assertTrue(CanonicalInvoker.isBound(method));
+        }
+        return method;
+    }
+
+}
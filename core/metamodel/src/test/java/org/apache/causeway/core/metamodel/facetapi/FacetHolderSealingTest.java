@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facetapi;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+
+class FacetHolderSealingTest {
+
+    static interface FooFacet extends Facet {
+    }
+
+    static interface BarFacet extends Facet {
+    }
+
+    static class ConcreteFacet extends FacetAbstract {
+        public ConcreteFacet(final Class<? extends Facet> facetType, final FacetHolder holder, final Precedence precedence) {
+            super(facetType, holder, precedence);
+        }
+    }
+
+    private final AtomicBoolean sealed = new AtomicBoolean();
+    private FacetHolder facetHolder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        var specLoader = Mockito.mock(SpecificationLoader.class);
+        Mockito.when(specLoader.isMetamodelSealed()).thenAnswer(__->sealed.get());
+        facetHolder = FacetHolder.forTesting(MetaModelContext_forTesting.builder()
+                .specificationLoader(specLoader)
+                .build());
+    }
+
+    @Test
+    void lookup_whenSealed() {
+        var fooFacet = new ConcreteFacet(FooFacet.class, facetHolder, Facet.Precedence.DEFAULT);
+        facetHolder.addFacet(fooFacet);
+
+        sealed.set(true);
+
+        // first read publishes the sealed table, second read is served from it
+        for(int i=0; i<2; ++i) {
+            assertSame(fooFacet, facetHolder.getFacet(FooFacet.class));
+            assertTrue(facetHolder.containsFacet(FooFacet.class));
+            assertNull(facetHolder.getFacet(BarFacet.class));
+            assertFalse(facetHolder.containsFacet(BarFacet.class));
+            assertEquals(1, facetHolder.getFacetCount());
+            assertEquals(1L, facetHolder.streamFacets().count());
+        }
+    }
+
+    @Test
+    void addFacet_whenSealed_shouldInvalidateTable() {
+        var fooFacet = new ConcreteFacet(FooFacet.class, facetHolder, Facet.Precedence.DEFAULT);
+        facetHolder.addFacet(fooFacet);
+
+        sealed.set(true);
+        assertSame(fooFacet, facetHolder.getFacet(FooFacet.class));
+
+        var barFacet = new ConcreteFacet(BarFacet.class, facetHolder, Facet.Precedence.DEFAULT);
+        facetHolder.addFacet(barFacet);
+        var higherRankingFooFacet = new ConcreteFacet(FooFacet.class, facetHolder, Facet.Precedence.HIGH);
+        facetHolder.addFacet(higherRankingFooFacet);
+
+        assertSame(barFacet, facetHolder.getFacet(BarFacet.class));
+        assertSame(higherRankingFooFacet, facetHolder.getFacet(FooFacet.class));
+        assertEquals(2, facetHolder.getFacetCount());
+    }
+
+    @Test
+    void addLowerRankingFacet_whenSealed_shouldNotChangeLookup() {
+        var fooFacet = new ConcreteFacet(FooFacet.class, facetHolder, Facet.Precedence.HIGH);
+        facetHolder.addFacet(fooFacet);
+
+        sealed.set(true);
+        assertSame(fooFacet, facetHolder.getFacet(FooFacet.class));
+
+        facetHolder.addFacet(new ConcreteFacet(FooFacet.class, facetHolder, Facet.Precedence.LOW));
+
+        assertSame(fooFacet, facetHolder.getFacet(FooFacet.class));
+        assertEquals(1, facetHolder.getFacetCount());
+    }
+
+}
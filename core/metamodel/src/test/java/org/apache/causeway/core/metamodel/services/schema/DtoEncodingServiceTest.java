@@ -0,0 +1,58 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.schema;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.causeway.applib.util.schema.ChangesDtoUtils;
+import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Persistence.Commons.DtoEncoding.Encoding;
+
+class DtoEncodingServiceTest {
+
+    @Test
+    void plain_xml_by_default() {
+        var dtoEncodingService = new DtoEncodingService(new CausewayConfiguration(null, Optional.empty()));
+
+        assertSame(CommandDtoUtils.dtoMapper(), dtoEncodingService.commandDtoMapper());
+        assertSame(InteractionDtoUtils.dtoMapper(), dtoEncodingService.interactionDtoMapper());
+        assertSame(ChangesDtoUtils.dtoMapper(), dtoEncodingService.changesDtoMapper());
+    }
+
+    @Test
+    void compressed_when_configured() {
+        var configuration = new CausewayConfiguration(null, Optional.empty());
+        var dtoEncoding = configuration.getPersistence().getCommons().getDtoEncoding();
+        dtoEncoding.setCommand(Encoding.COMPRESSED);
+        dtoEncoding.setChanges(Encoding.COMPRESSED);
+
+        var dtoEncodingService = new DtoEncodingService(configuration);
+
+        assertSame(CommandDtoUtils.compressingDtoMapper(), dtoEncodingService.commandDtoMapper());
+        assertSame(InteractionDtoUtils.dtoMapper(), dtoEncodingService.interactionDtoMapper());
+        assertSame(ChangesDtoUtils.compressingDtoMapper(), dtoEncodingService.changesDtoMapper());
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+class IntrospectionSchedulerTest {
+
+    interface Named {}
+    static abstract class Party implements Named {}
+    static class Customer extends Party {}
+    static class Supplier extends Party {}
+    static class Intermediate extends Customer {}
+    static class PreferredCustomer extends Intermediate {} // Intermediate not introspected
+    static class Order {}
+
+    @Test
+    void supertypes_shouldBeInLowerLevels() {
+        var named = mockSpec(Named.class);
+        var party = mockSpec(Party.class);
+        var customer = mockSpec(Customer.class);
+        var supplier = mockSpec(Supplier.class);
+        var preferred = mockSpec(PreferredCustomer.class);
+        var order = mockSpec(Order.class);
+
+        var levels = _IntrospectionScheduler.levels(
+                Can.of(preferred, customer, order, supplier, party, named));
+
+        assertEquals(4, levels.size());
+        assertEquals(Set.of(named, order), Set.copyOf(levels.get(0)));
+        assertEquals(List.of(party), levels.get(1));
+        assertEquals(Set.of(customer, supplier), Set.copyOf(levels.get(2)));
+        assertEquals(List.of(preferred), levels.get(3));
+    }
+
+    @Test
+    void allSpecs_shouldBeIntrospectedOnce() {
+        var specs = Can.of(
+                mockSpec(Named.class),
+                mockSpec(Party.class),
+                mockSpec(Customer.class),
+                mockSpec(Supplier.class),
+                mockSpec(Order.class));
+        var introspected = ConcurrentHashMap.<ObjectSpecification>newKeySet();
+
+        _IntrospectionScheduler.introspectParallel(specs, spec->
+            assertTrue(introspected.add(spec)));
+
+        assertEquals(specs.size(), introspected.size());
+    }
+
+    // -- HELPER
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static ObjectSpecification mockSpec(final Class<?> cls) {
+        var spec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(spec.getCorrespondingClass()).thenReturn((Class)cls);
+        return spec;
+    }
+
+}
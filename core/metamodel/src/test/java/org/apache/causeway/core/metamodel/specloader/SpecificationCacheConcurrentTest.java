@@ -0,0 +1,133 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+class SpecificationCacheConcurrentTest {
+
+    ObjectSpecification customerSpec;
+    ObjectSpecification orderSpec;
+
+    private SpecificationCache<ObjectSpecification> specificationCache =
+            new SpecificationCacheConcurrent<>();
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        customerSpec = Mockito.mock(ObjectSpecification.class);
+        orderSpec = Mockito.mock(ObjectSpecification.class);
+
+        Mockito.when(customerSpec.getCorrespondingClass()).thenReturn((Class)Customer.class);
+        Mockito.when(orderSpec.getCorrespondingClass()).thenReturn((Class)Order.class);
+    }
+
+    static class Customer {}
+    static class Order {}
+
+    @Test
+    void get_whenNotCached() {
+        assertFalse(specificationCache.lookup(Customer.class).isPresent());
+    }
+
+    @Test
+    void get_whenCached() {
+        specificationCache.computeIfAbsent(Customer.class, __->customerSpec);
+        assertSame(customerSpec, specificationCache.lookup(Customer.class).orElse(null));
+    }
+
+    @Test
+    void remove_whenCached() {
+        specificationCache.computeIfAbsent(Customer.class, __->customerSpec);
+        specificationCache.computeIfAbsent(Order.class, __->orderSpec);
+
+        assertSame(customerSpec, specificationCache.remove(Customer.class));
+        assertFalse(specificationCache.lookup(Customer.class).isPresent());
+
+        var remaining = new LongAdder();
+        specificationCache.forEach(__->remaining.increment());
+        assertEquals(1, remaining.intValue());
+    }
+
+    @Test
+    void concurrentMisses_shouldComputeOnlyOnce() {
+        var mappingCallCount = new LongAdder();
+
+        IntStream.range(0, 10_000)
+        .parallel()
+        .forEach(i->{
+            var spec = specificationCache.computeIfAbsent(i%2==0 ? Customer.class : Order.class, cls->{
+                mappingCallCount.increment();
+                return cls==Customer.class ? customerSpec : orderSpec;
+            });
+            assertSame(i%2==0 ? customerSpec : orderSpec, spec);
+        });
+
+        assertEquals(2, mappingCallCount.intValue());
+        assertEquals(2, specificationCache.snapshotSpecs().size());
+    }
+
+    @Test
+    void reentrantMiss_shouldNotReleaseLockOfOuterFrame() throws Exception {
+        var mappingCallCount = new LongAdder();
+        var concurrentMiss = new AtomicReference<Future<ObjectSpecification>>();
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var spec = specificationCache.computeIfAbsent(Customer.class, cls->{
+                // reentrant miss for the same class, not yielding a spec
+                specificationCache.computeIfAbsent(Customer.class, __->null);
+
+                // a concurrent miss must still wait for the outer computation to complete
+                concurrentMiss.set(executor.submit(()->
+                    specificationCache.computeIfAbsent(Customer.class, __->{
+                        mappingCallCount.increment();
+                        return customerSpec;
+                    })));
+                assertThrows(TimeoutException.class, ()->concurrentMiss.get().get(200, TimeUnit.MILLISECONDS));
+
+                return customerSpec;
+            });
+
+            assertSame(customerSpec, spec);
+            assertSame(customerSpec, concurrentMiss.get().get(5, TimeUnit.SECONDS));
+            assertEquals(0, mappingCallCount.intValue());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
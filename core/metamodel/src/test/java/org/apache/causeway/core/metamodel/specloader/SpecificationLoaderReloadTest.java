@@ -0,0 +1,86 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+
+import lombok.Getter;
+
+class SpecificationLoaderReloadTest
+implements HasMetaModelContext {
+
+    @Getter
+    private MetaModelContext metaModelContext;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        metaModelContext = MetaModelContext_forTesting.buildDefault();
+        getSpecificationLoader().createMetaModel();
+        getSpecificationLoader().specForTypeElseFail(TestPojo.class);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        getSpecificationLoader().disposeMetaModel();
+    }
+
+    @Test
+    void concurrentReloads_shouldLeaveMetamodelSealed() {
+        assertTrue(getSpecificationLoader().isMetamodelSealed());
+
+        IntStream.range(0, 200)
+        .parallel()
+        .forEach(__->getSpecificationLoader().reloadSpecification(TestPojo.class));
+
+        assertTrue(getSpecificationLoader().isMetamodelSealed());
+    }
+
+    @Test
+    void reload_shouldNotUnsealMetamodelForOtherThreads() {
+        var done = new AtomicBoolean();
+        var reloading = CompletableFuture.runAsync(()->{
+            for(int i=0; i<200; ++i) {
+                getSpecificationLoader().reloadSpecification(TestPojo.class);
+            }
+            done.set(true);
+        });
+
+        var unsealedSeen = false;
+        while(!done.get()) {
+            unsealedSeen |= !getSpecificationLoader().isMetamodelSealed();
+        }
+        reloading.join();
+
+        assertFalse(unsealedSeen);
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.internal.base._Timing;
+import org.apache.causeway.core.internaltestsupport.annotations.DisabledIfRunningWithSurefire;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Measures multi-threaded {@link SpecificationLoader#specForType(Class)} throughput
+ * on an already populated cache.
+ */
+@DisabledIfRunningWithSurefire
+@Log4j2
+class SpecificationLoaderStressTest
+implements HasMetaModelContext {
+
+    @Getter
+    private MetaModelContext metaModelContext;
+
+    private final List<Class<?>> types = List.of(
+            TestPojo.class, String.class, Integer.class, BigDecimal.class, LocalDate.class);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        metaModelContext = MetaModelContext_forTesting.buildDefault();
+        // warm up
+        types.forEach(getSpecificationLoader()::specForTypeElseFail);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        metaModelContext.getSpecificationLoader().disposeMetaModel();
+    }
+
+    @Test
+    void specForType_stressTest() {
+
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final int iterations = 1_000_000;
+        var label = String.format("Looking up specs %d times using %d threads", threads * iterations, threads);
+
+        _Timing.runVerbose(log, label, ()->{
+            IntStream.range(0, threads)
+            .parallel()
+            .forEach(thread->{
+                for (int i = 0; i < iterations; i++) {
+                    assertTrue(getSpecificationLoader().specForType(types.get(i % types.size())).isPresent());
+                }
+            });
+        });
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader.specimpl;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.apache.causeway.commons.internal.debug._JfrEvents;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.spec.IntrospectionState;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import lombok.Getter;
+import lombok.Setter;
+
+class ObjectSpecificationAbstract_jfr_Test {
+
+    public static class Customer {
+        @Getter @Setter private String name;
+    }
+
+    private SpecificationLoader specLoader;
+
+    @BeforeEach
+    void setUp() {
+        specLoader = MetaModelContext_forTesting.buildDefault().getSpecificationLoader();
+    }
+
+    @Test
+    void introspection_emits_event(final @TempDir Path tempDir) throws Exception {
+
+        // RecordingStream requires Java 14+, so record to and read back from a file instead
+        var dump = tempDir.resolve("introspection.jfr");
+        try(var recording = new Recording()) {
+            recording.enable(_JfrEvents.SpecIntrospection.class).withoutThreshold();
+            recording.start();
+
+            specLoader.specForTypeElseFail(Customer.class)
+                .introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        var events = introspectionsOf(Customer.class, RecordingFile.readAllEvents(dump));
+        assertFalse(events.isEmpty());
+        assertEquals(
+                IntrospectionState.FULLY_INTROSPECTED.name(),
+                events.get(events.size() - 1).getString("state"));
+    }
+
+    // -- HELPER
+
+    private static List<RecordedEvent> introspectionsOf(final Class<?> type, final List<RecordedEvent> events) {
+        return events.stream()
+                .filter(event->event.getEventType().getName().equals("causeway.SpecIntrospection"))
+                .filter(event->type.getName().equals(event.getString("type")))
+                .collect(Collectors.toList());
+    }
+
+}
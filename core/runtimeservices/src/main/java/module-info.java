@@ -61,6 +61,7 @@
     requires java.xml;
     requires java.xml.bind;
     requires java.inject;
+    requires jdk.jfr;
     requires lombok;
     requires org.apache.causeway.applib;
     requires org.apache.causeway.commons;
@@ -19,7 +19,9 @@
 package org.apache.causeway.core.runtimeservices.bookmarks;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -103,6 +105,29 @@ public Optional<Object> lookup(final @Nullable Bookmark bookmark) {
         }
     }
 
+    @Override
+    public Map<Bookmark, Object> lookupAll(final @Nullable Can<Bookmark> bookmarks) {
+        if(bookmarks == null
+                || bookmarks.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        var distinctBookmarks = bookmarks.distinct();
+        var pojoByBookmark = new LinkedHashMap<Bookmark, Object>();
+        try {
+            mmc.getObjectManager().loadObjects(distinctBookmarks)
+                .zip(distinctBookmarks, (object, bookmark)->{
+                    var pojo = object.getPojo();
+                    if(pojo != null) {
+                        pojoByBookmark.put(bookmark, pojo);
+                    }
+                });
+        } catch(ObjectNotFoundException ex) {
+            // some (non-entity) bookmark could not be looked up, so fall back to looking up one by one
+            return BookmarkService.super.lookupAll(distinctBookmarks);
+        }
+        return pojoByBookmark;
+    }
+
     @Override
     public Optional<Bookmark> bookmarkFor(final @Nullable Object domainObject) {
         if(domainObject == null) {
@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.core.runtimeservices.executor;
 
+import java.util.List;
 import java.util.Optional;
 
 import javax.annotation.Priority;
@@ -39,11 +40,15 @@
 import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
 import org.apache.causeway.applib.services.inject.ServiceInjector;
 import org.apache.causeway.applib.services.metrics.MetricsService;
+import org.apache.causeway.applib.services.metrics.MetricsSubscriber;
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.commons.having.HasEnabling;
 import org.apache.causeway.commons.internal.assertions._Assert;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.collections._Lists;
+import org.apache.causeway.commons.internal.debug._JfrEvents;
 import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.progmodel.ProgrammingModelConstants.MessageTemplate;
@@ -107,6 +112,10 @@
     private final @Getter MetamodelEventService metamodelEventService;
     private final @Getter TransactionService transactionService;
     private final Provider<CommandPublisher> commandPublisherProvider;
+    private final List<MetricsSubscriber> metricsSubscribers;
+
+    private final _Lazy<Can<MetricsSubscriber>> enabledMetricsSubscribers = _Lazy.threadSafe(()->
+            Can.ofCollection(this.metricsSubscribers).filter(HasEnabling::isEnabled));
 
     private MetricsService metricsService() {
         return metricsServiceProvider.get();
@@ -172,7 +181,15 @@ private ManagedObject invokeActionInternally(
                         interaction, actionId, targetPojo, argumentPojos);
 
         // sets up startedAt and completedAt on the execution, also manages the execution call graph
-        interaction.execute(actionExecutor, actionInvocation, InteractionInternal.Context.of(clockService, metricsService(), commandPublisherProvider.get(), deadlockRecognizer));
+        final long startedAtSystemNanos = System.nanoTime();
+        var jfrEvent = new _JfrEvents.MemberExecution();
+        jfrEvent.begin();
+        try {
+            interaction.execute(actionExecutor, actionInvocation, InteractionInternal.Context.of(clockService, metricsService(), commandPublisherProvider.get(), deadlockRecognizer));
+        } finally {
+            notifyMetricsSubscribers(actionInvocation, startedAtSystemNanos);
+            commitJfrEvent(jfrEvent, actionInvocation);
+        }
 
         // handle any exceptions
         var priorExecution = interaction.getPriorExecutionOrThrowIfAnyException(actionInvocation);
@@ -269,8 +286,17 @@ private ManagedObject setOrClearPropertyInternally(
         var propertyEdit = new PropertyEdit(interaction, propertyId, target, argValuePojo);
 
         // sets up startedAt and completedAt on the execution, also manages the execution call graph
-        var targetPojo = interaction.execute(propertyModifier, propertyEdit,
-                InteractionInternal.Context.of(clockService, metricsService(), commandPublisherProvider.get(), deadlockRecognizer));
+        final long startedAtSystemNanos = System.nanoTime();
+        var jfrEvent = new _JfrEvents.MemberExecution();
+        jfrEvent.begin();
+        final Object targetPojo;
+        try {
+            targetPojo = interaction.execute(propertyModifier, propertyEdit,
+                    InteractionInternal.Context.of(clockService, metricsService(), commandPublisherProvider.get(), deadlockRecognizer));
+        } finally {
+            notifyMetricsSubscribers(propertyEdit, startedAtSystemNanos);
+            commitJfrEvent(jfrEvent, propertyEdit);
+        }
 
         // handle any exceptions
         final Execution<?, ?> priorExecution = interaction.getPriorExecution();
@@ -297,6 +323,24 @@ private ManagedObject setOrClearPropertyInternally(
 
     // -- HELPER
 
+    private void notifyMetricsSubscribers(final Execution<?, ?> execution, final long startedAtSystemNanos) {
+        var subscribers = enabledMetricsSubscribers.get();
+        if(subscribers.isEmpty()) {
+            return;
+        }
+        final long durationNanos = System.nanoTime() - startedAtSystemNanos;
+        subscribers.forEach(subscriber->subscriber.onExecutionCompleted(execution, durationNanos));
+    }
+
+    private static void commitJfrEvent(final _JfrEvents.MemberExecution jfrEvent, final Execution<?, ?> execution) {
+        if(jfrEvent.shouldCommit()) {
+            jfrEvent.member = execution.getLogicalMemberIdentifier().getLogicalIdentityString("#");
+            jfrEvent.type = execution.getInteractionType().name();
+            jfrEvent.failed = execution.getThrew()!=null;
+            jfrEvent.commit();
+        }
+    }
+
     @SneakyThrows
     private Object invokeMethodPassThrough(
             final MethodFacade methodFacade,
@@ -80,7 +80,9 @@ public void ready(@NonNull final Command command) {
 
         if(canPublish(command) && command.getPublishingPhase().isReady()) {
             log.debug("about to PUBLISH command {}: {} to {}", "ready", command, enabledSubscribers);
+            var jfrEvent = _Jfr.enterPublishing();
             enabledSubscribers.forEach(subscriber -> subscriber.onReady(command));
+            _Jfr.exitPublishing(jfrEvent, "CommandPublisher.ready", enabledSubscribers);
         }
 
         _Xray.exitPublishing(handle);
@@ -97,7 +99,9 @@ public void start(@NonNull final Command command) {
 
         if(canPublish(command) && command.getPublishingPhase().isStarted()) {
             log.debug("about to PUBLISH command {}: {} to {}", "started", command, enabledSubscribers);
+            var jfrEvent = _Jfr.enterPublishing();
             enabledSubscribers.forEach(subscriber -> subscriber.onStarted(command));
+            _Jfr.exitPublishing(jfrEvent, "CommandPublisher.started", enabledSubscribers);
         }
 
         _Xray.exitPublishing(handle);
@@ -114,7 +118,9 @@ public void complete(final @NonNull Command command) {
 
         if(canPublish(command) && command.getPublishingPhase().isCompleted()) {
             log.debug("about to PUBLISH command {}: {} to {}", "completed", command, enabledSubscribers);
+            var jfrEvent = _Jfr.enterPublishing();
             enabledSubscribers.forEach(subscriber -> subscriber.onCompleted(command));
+            _Jfr.exitPublishing(jfrEvent, "CommandPublisher.completed", enabledSubscribers);
         }
 
         _Xray.exitPublishing(handle);
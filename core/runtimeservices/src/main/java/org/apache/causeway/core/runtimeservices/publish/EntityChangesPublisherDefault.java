@@ -81,9 +81,11 @@ public void publishChangingEntities(HasEnlistedEntityChanges hasEnlistedEntityCh
                 ()->getCannotPublishReason(payload));
 
         payload.ifPresent(entityChanges->{
+            var jfrEvent = _Jfr.enterPublishing();
             for (var subscriber : enabledSubscribers) {
                 subscriber.onChanging(entityChanges);
             }
+            _Jfr.exitPublishing(jfrEvent, "EntityChangesPublisher", enabledSubscribers);
         });
 
         _Xray.exitPublishing(handle);
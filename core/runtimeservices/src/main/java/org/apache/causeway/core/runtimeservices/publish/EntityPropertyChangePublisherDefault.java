@@ -84,6 +84,11 @@ private HasEnlistedEntityPropertyChanges hasEnlistedEntityPropertyChanges() {
         return hasEnlistedEntityPropertyChangesProvider.get();
     }
 
+    @Override
+    public boolean hasEnabledSubscribers() {
+        return enabledSubscribers.isNotEmpty();
+    }
+
     @Override
     public void publishChangedProperties() {
 
@@ -97,6 +102,17 @@ public void publishChangedProperties() {
         var currentUser = userService.currentUserNameElseNobody();
         var currentTransactionId = transactionService.currentTransactionId().orElse(TransactionId.empty());
 
+        var chunkSize = bulkConfig().getChunkSize();
+        if(chunkSize > 0) {
+            hasEnlistedEntityPropertyChanges().streamPropertyChanges(
+                    currentTime,
+                    currentUser,
+                    currentTransactionId,
+                    chunkSize,
+                    this::publish);
+            return;
+        }
+
         var enlistedPropertyChanges = hasEnlistedEntityPropertyChanges().getPropertyChanges(
                 currentTime,
                 currentUser,
@@ -110,6 +126,12 @@ public void publishChangedProperties() {
             log.warn("Duplicate enlisted property changes discovered\n{}", duplicates);
         }
 
+        publish(uniquePropertyChanges);
+    }
+
+    // -- HELPER
+
+    private void publish(final Can<EntityPropertyChange> uniquePropertyChanges) {
         XrayUtil.SequenceHandle xrayHandle = null;
         try {
             xrayHandle = _Xray.enterEntityPropertyChangePublishing(
@@ -119,7 +141,8 @@ public void publishChangedProperties() {
                     () -> getCannotPublishReason(uniquePropertyChanges)
             );
 
-            if (uniquePropertyChanges.size() <= causewayConfiguration.getCore().getRuntimeServices().getEntityPropertyChangePublisher().getBulk().getThreshold()) {
+            var jfrEvent = _Jfr.enterPublishing();
+            if (uniquePropertyChanges.size() <= bulkConfig().getThreshold()) {
                 uniquePropertyChanges.forEach(propertyChange -> {
                     for (var subscriber : enabledSubscribers) {
                         subscriber.onChanging(propertyChange);
@@ -130,12 +153,15 @@ public void publishChangedProperties() {
                     subscriber.onChanging(uniquePropertyChanges);
                 }
             }
+            _Jfr.exitPublishing(jfrEvent, "EntityPropertyChangePublisher", enabledSubscribers);
         } finally {
             _Xray.exitPublishing(xrayHandle);
         }
     }
 
-    // -- HELPER
+    private CausewayConfiguration.Core.RuntimeServices.EntityPropertyChangePublisher.Bulk bulkConfig() {
+        return causewayConfiguration.getCore().getRuntimeServices().getEntityPropertyChangePublisher().getBulk();
+    }
 
     // x-ray support
     private @Nullable String getCannotPublishReason(final @NonNull Can<EntityPropertyChange> payload) {
@@ -108,9 +108,11 @@ private void notifySubscribers(final Execution<?,?> execution) {
                 this::getCannotPublishReason);
 
         if(canPublish()) {
+            var jfrEvent = _Jfr.enterPublishing();
             for (var subscriber : enabledSubscribers) {
                 subscriber.onExecution(execution);
             }
+            _Jfr.exitPublishing(jfrEvent, "ExecutionPublisher", enabledSubscribers);
         }
 
         _Xray.exitPublishing(handle);
@@ -33,6 +33,7 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.annotation.TransactionScope;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.queryresultscache.SharedQueryResultsCache;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.functional.Either;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
@@ -62,6 +63,7 @@ public class ObjectLifecyclePublisherDefault implements ObjectLifecyclePublisher
     private final Provider<EntityChangeTracker> entityChangeTrackerProvider;
     private final Provider<LifecycleCallbackNotifier> lifecycleCallbackNotifierProvider;
     private final Provider<InteractionService> interactionServiceProvider;
+    private final SharedQueryResultsCache sharedQueryResultsCache;
 
     @Override
     public void onPostCreate(final ManagedObject entity) {
@@ -84,6 +86,7 @@ public void onPrePersist(final Either<ManagedObject, ManagedObject> eitherWithOr
     public void onPostPersist(final ManagedObject entity) {
         entityChangeTracker()
             .ifPresent(entityChangeTracker->entityChangeTracker.enlistCreated(entity));
+        invalidateSharedQueryResults(entity);
         lifecycleCallbackNotifier().postPersist(entity);
     }
 
@@ -93,6 +96,7 @@ public void onPreUpdate(
             final @Nullable Function<ManagedObject, Can<PropertyChangeRecord>> propertyChangeRecordSupplier) {
         entityChangeTracker()
             .ifPresent(entityChangeTracker->entityChangeTracker.enlistUpdating(entity, propertyChangeRecordSupplier));
+        invalidateSharedQueryResults(entity);
         lifecycleCallbackNotifier().preUpdate(entity);
     }
 
@@ -105,6 +109,7 @@ public void onPostUpdate(final ManagedObject entity) {
     public void onPreRemove(final ManagedObject entity) {
         entityChangeTracker()
             .ifPresent(entityChangeTracker->entityChangeTracker.enlistDeleting(entity));
+        invalidateSharedQueryResults(entity);
         lifecycleCallbackNotifier().preRemove(entity);
     }
 
@@ -120,6 +125,10 @@ private Optional<EntityChangeTracker> entityChangeTracker() {
                 : Optional.empty();
     }
 
+    private void invalidateSharedQueryResults(final ManagedObject entity) {
+        sharedQueryResultsCache.invalidate(entity.getSpecification().getCorrespondingClass());
+    }
+
     private LifecycleCallbackNotifier lifecycleCallbackNotifier() {
         return lifecycleCallbackNotifierProvider.get();
     }
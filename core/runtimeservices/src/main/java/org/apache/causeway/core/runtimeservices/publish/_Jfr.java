@@ -0,0 +1,45 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.debug._JfrEvents;
+
+import lombok.NonNull;
+
+final class _Jfr {
+
+    static _JfrEvents.Publishing enterPublishing() {
+        var jfrEvent = new _JfrEvents.Publishing();
+        jfrEvent.begin();
+        return jfrEvent;
+    }
+
+    static void exitPublishing(
+            final @NonNull _JfrEvents.Publishing jfrEvent,
+            final @NonNull String publisher,
+            final @NonNull Can<?> enabledSubscribers) {
+        if(jfrEvent.shouldCommit()) {
+            jfrEvent.publisher = publisher;
+            jfrEvent.subscriberCount = enabledSubscribers.size();
+            jfrEvent.commit();
+        }
+    }
+
+}
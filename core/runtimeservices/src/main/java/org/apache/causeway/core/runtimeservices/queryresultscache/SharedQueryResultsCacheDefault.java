@@ -0,0 +1,334 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.queryresultscache;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.applib.services.queryresultscache.SharedQueryResultsCache;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Default implementation of {@link SharedQueryResultsCache}, holding the results in-memory,
+ * in a size bounded (least recently used) map per registered calling class and method.
+ *
+ * <p>
+ *     Entity changes invalidate affected results immediately. Until the changing transaction completes (either
+ *     way), the affected regions do not cache any results, as these might be computed from data not yet
+ *     committed (or about to be rolled back). On completion, the regions are invalidated once more.
+ *     Each invalidation also bumps the affected region's generation; a result is only cached, if its region's
+ *     generation did not change while it was computed, such that a result computed from data read before an
+ *     invalidation cannot be put after it.
+ * </p>
+ *
+ * <p>
+ *     Only results that are not entities (nor contain any) are shared, as entities are bound to the
+ *     persistence context of the interaction that loaded them. Other results are recomputed on every call.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".SharedQueryResultsCacheDefault")
+@Priority(PriorityPrecedence.EARLY)
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class SharedQueryResultsCacheDefault implements SharedQueryResultsCache {
+
+    private final CausewayConfiguration causewayConfiguration;
+    private final SpecificationLoader specificationLoader;
+
+    private final Map<String, Region> regionsByCaller = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    @Override
+    public void register(
+            final @NonNull Class<?> callingClass,
+            final @NonNull String methodName,
+            final @NonNull Policy policy) {
+        regionsByCaller.put(callerId(callingClass, methodName), new Region(policy));
+    }
+
+    @Override
+    public void register(
+            final @NonNull Class<?> callingClass,
+            final @NonNull String methodName,
+            final Class<?>... invalidatedBy) {
+        var shared = sharedConfig();
+        register(callingClass, methodName,
+                Policy.of(shared.getDefaultTimeToLive(), shared.getDefaultMaxSize(), invalidatedBy));
+    }
+
+    @Override
+    public boolean isShared(final Class<?> callingClass, final String methodName) {
+        return sharedConfig().isEnabled()
+                && regionsByCaller.containsKey(callerId(callingClass, methodName));
+    }
+
+    @Override
+    public <T> T execute(final QueryResultsCache.Key cacheKey, final Callable<T> callable) throws Exception {
+        var region = regionsByCaller.get(callerId(cacheKey.getCallingClass(), cacheKey.getMethodName()));
+        if(region==null) {
+            return callable.call();
+        }
+        var entry = region.get(cacheKey);
+        if(entry!=null) {
+            hitCount.increment();
+            return _Casts.uncheckedCast(entry.getResult());
+        }
+        missCount.increment();
+        var generation = region.generation();
+        // not holding any lock, while computing the result
+        var result = callable.call();
+        if(isShareable(result)) {
+            region.putUnlessInvalidatedSince(cacheKey, result, generation);
+        } else {
+            region.warnNotShareable(cacheKey);
+        }
+        return result;
+    }
+
+    @Override
+    public void invalidate(final @NonNull Class<?> entityType) {
+        if(!sharedConfig().isEnabled()
+                || regionsByCaller.isEmpty()) {
+            return; // called for every entity change, hence keeping this cheap
+        }
+        var affectedRegions = regionsByCaller.values().stream()
+                .filter(region->region.isInvalidatedBy(entityType))
+                .collect(Collectors.toList());
+        if(affectedRegions.isEmpty()) {
+            return;
+        }
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            affectedRegions.forEach(Region::clear);
+            return;
+        }
+        var regionsInvalidated = regionsInvalidatedByCurrentTransaction();
+        affectedRegions.stream()
+            .filter(regionsInvalidated::add) // once per region and transaction
+            .forEach(Region::beginInvalidation);
+    }
+
+    @Override
+    public void invalidateAll() {
+        regionsByCaller.values().forEach(Region::clear);
+    }
+
+    @Override
+    public Metrics getMetrics() {
+        return Metrics.of(
+                hitCount.sum(),
+                missCount.sum(),
+                evictionCount.sum(),
+                invalidationCount.sum(),
+                regionsByCaller.values().stream()
+                    .mapToInt(Region::size)
+                    .sum());
+    }
+
+    // -- HELPER
+
+    private CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.Shared sharedConfig() {
+        return causewayConfiguration.getCore().getRuntimeServices().getQueryResultsCache().getShared();
+    }
+
+    private static String callerId(final Class<?> callingClass, final String methodName) {
+        return callingClass.getName() + "#" + methodName;
+    }
+
+    /**
+     * Whether given result can be shared across interactions, that is, it neither is nor contains an entity.
+     */
+    private boolean isShareable(final Object result) {
+        if(result==null) {
+            return true;
+        }
+        if(result instanceof Optional) {
+            return isShareable(((Optional<?>)result).orElse(null));
+        }
+        if(result instanceof Iterable) {
+            for(var element : (Iterable<?>)result) {
+                if(!isShareable(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return !specificationLoader.specForType(result.getClass())
+                .map(ObjectSpecification::isEntity)
+                .orElse(false);
+    }
+
+    /**
+     * Regions invalidated within the current transaction, each of which does not cache any results until
+     * the transaction completes.
+     */
+    private Set<Region> regionsInvalidatedByCurrentTransaction() {
+        Set<Region> regions = _Casts.uncheckedCast(TransactionSynchronizationManager.getResource(this));
+        if(regions==null) {
+            final Set<Region> newRegions = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, newRegions);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(SharedQueryResultsCacheDefault.this);
+                    newRegions.forEach(Region::endInvalidation);
+                }
+            });
+            regions = newRegions;
+        }
+        return regions;
+    }
+
+    @lombok.Value
+    private static class Entry {
+        private final Object result;
+        private final long expiresAtNanos;
+        boolean isExpired(final long nowNanos) {
+            return nowNanos - expiresAtNanos > 0;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private class Region {
+
+        private final @NonNull Policy policy;
+
+        // incremented on every invalidation
+        private long generation;
+        // number of transactions that invalidated this region and are not yet completed
+        private int openInvalidations;
+        private volatile boolean warnedNotShareable;
+
+        // access ordered, hence least recently used first
+        private final Map<QueryResultsCache.Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<QueryResultsCache.Key, Entry> eldest) {
+                if(size() > policy.getMaxSize()) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        synchronized Entry get(final QueryResultsCache.Key cacheKey) {
+            var entry = entries.get(cacheKey);
+            if(entry!=null
+                    && entry.isExpired(System.nanoTime())) {
+                entries.remove(cacheKey);
+                evictionCount.increment();
+                return null;
+            }
+            return entry;
+        }
+
+        synchronized long generation() {
+            return generation;
+        }
+
+        /**
+         * Puts given result, unless this region was invalidated since given generation was obtained
+         * (that is, while the result was computed), or by a transaction that is not yet completed.
+         */
+        synchronized void putUnlessInvalidatedSince(
+                final QueryResultsCache.Key cacheKey, final Object result, final long generation) {
+            if(this.generation!=generation
+                    || openInvalidations>0) {
+                return;
+            }
+            entries.put(cacheKey,
+                    new Entry(result, System.nanoTime() + policy.getTimeToLive().toNanos()));
+        }
+
+        synchronized void clear() {
+            generation++;
+            if(entries.isEmpty()) {
+                return;
+            }
+            invalidationCount.add(entries.size());
+            log.debug("invalidating {} shared result(s)", entries.size());
+            entries.clear();
+        }
+
+        synchronized void beginInvalidation() {
+            openInvalidations++;
+            clear();
+        }
+
+        synchronized void endInvalidation() {
+            openInvalidations--;
+            clear();
+        }
+
+        void warnNotShareable(final QueryResultsCache.Key cacheKey) {
+            if(warnedNotShareable) {
+                return;
+            }
+            warnedNotShareable = true;
+            log.warn("results of {}#{} are entities (or contain any), hence are not shared across interactions",
+                    cacheKey.getCallingClass().getName(), cacheKey.getMethodName());
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        boolean isInvalidatedBy(final Class<?> entityType) {
+            return policy.getInvalidatedBy().isEmpty()
+                    || policy.getInvalidatedBy().stream()
+                        .anyMatch(type->type.isAssignableFrom(entityType));
+        }
+
+    }
+
+}
@@ -19,6 +19,7 @@
 package org.apache.causeway.core.runtimeservices.session;
 
 import java.io.File;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Stack;
@@ -46,14 +47,18 @@
 import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.inject.ServiceInjector;
+import org.apache.causeway.applib.services.metrics.MetricsSubscriber;
 import org.apache.causeway.applib.util.schema.ChangesDtoUtils;
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.functional.ThrowingRunnable;
+import org.apache.causeway.commons.having.HasEnabling;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.concurrent._ConcurrentContext;
 import org.apache.causeway.commons.internal.concurrent._ConcurrentTaskList;
+import org.apache.causeway.commons.internal.debug._JfrEvents;
 import org.apache.causeway.commons.internal.debug._Probe;
 import org.apache.causeway.commons.internal.debug.xray.XrayUi;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
@@ -106,6 +111,8 @@
 
     final InteractionIdGenerator interactionIdGenerator;
 
+    final Can<MetricsSubscriber> enabledMetricsSubscribers;
+
     @Inject
     public InteractionServiceDefault(
             final MetamodelEventService runtimeEventService,
@@ -115,7 +122,8 @@ public InteractionServiceDefault(
             final ClockService clockService,
             final Provider<CommandPublisher> commandPublisherProvider,
             final ConfigurableBeanFactory beanFactory,
-            final InteractionIdGenerator interactionIdGenerator) {
+            final InteractionIdGenerator interactionIdGenerator,
+            final List<MetricsSubscriber> metricsSubscribers) {
         this.runtimeEventService = runtimeEventService;
         this.specificationLoader = specificationLoader;
         this.serviceInjector = serviceInjector;
@@ -124,6 +132,8 @@ public InteractionServiceDefault(
         this.commandPublisherProvider = commandPublisherProvider;
         this.beanFactory = beanFactory;
         this.interactionIdGenerator = interactionIdGenerator;
+        this.enabledMetricsSubscribers = Can.ofCollection(metricsSubscribers)
+                .filter(HasEnabling::isEnabled);
 
         this.interactionScopeLifecycleHandler = InteractionScopeBeanFactoryPostProcessor.lookupScope(beanFactory);
     }
@@ -201,6 +211,7 @@ public InteractionLayer openInteraction(
         if(isAtTopLevel()) {
             transactionServiceSpring.onOpen(causewayInteraction);
             interactionScopeLifecycleHandler.onTopLevelInteractionOpened();
+            beginJfrEvent(causewayInteraction);
         }
 
         if(log.isDebugEnabled()) {
@@ -446,7 +457,13 @@ private void closeInteractionLayerStackDownToStackSize(final int downToStackSize
                 if(isAtTopLevel()) {
                     // keep the stack unmodified yet, to allow for callbacks to properly operate
 
-                    preInteractionClosed(_Casts.uncheckedCast(stack.peek().getInteraction()));
+                    final CausewayInteraction interaction = _Casts.uncheckedCast(stack.peek().getInteraction());
+                    try {
+                        preInteractionClosed(interaction);
+                    } finally {
+                        notifyMetricsSubscribers(interaction);
+                        commitJfrEvent(interaction);
+                    }
                 }
                 _Xray.closeInteractionLayer(stack);
                 stack.pop();
@@ -461,6 +478,36 @@ private void closeInteractionLayerStackDownToStackSize(final int downToStackSize
         }
     }
 
+    private void notifyMetricsSubscribers(final CausewayInteraction interaction) {
+        if(enabledMetricsSubscribers.isEmpty()) {
+            return;
+        }
+        final long durationNanos = System.nanoTime() - interaction.getStartedAtSystemNanos();
+        enabledMetricsSubscribers.forEach(subscriber->subscriber.onInteractionClosed(interaction, durationNanos));
+    }
+
+    private void beginJfrEvent(final CausewayInteraction interaction) {
+        var jfrEvent = new _JfrEvents.Interaction();
+        // only hold on to the event while recording
+        if(jfrEvent.isEnabled()) {
+            jfrEvent.begin();
+            interaction.putAttribute(_JfrEvents.Interaction.class, jfrEvent);
+        }
+    }
+
+    private void commitJfrEvent(final CausewayInteraction interaction) {
+        var jfrEvent = interaction.getAttribute(_JfrEvents.Interaction.class);
+        if(jfrEvent==null) {
+            return;
+        }
+        interaction.removeAttribute(_JfrEvents.Interaction.class);
+        if(jfrEvent.shouldCommit()) {
+            jfrEvent.interactionId = interaction.getInteractionId().toString();
+            jfrEvent.member = interaction.getCommand().getLogicalMemberIdentifier();
+            jfrEvent.commit();
+        }
+    }
+
     private CausewayInteraction getInternalInteractionElseFail() {
         var interaction = currentInteractionElseFail();
         if(interaction instanceof CausewayInteraction) {
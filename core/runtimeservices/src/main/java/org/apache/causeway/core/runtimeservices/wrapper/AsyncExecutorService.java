@@ -0,0 +1,169 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.wrapper;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.WrapperFactory.AsyncExecutorMode;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * The {@link ExecutorService} that {@link WrapperFactoryDefault} uses to execute async interactions, unless the
+ * <code>AsyncControl</code> provides an executor of its own.
+ * <p>
+ * Delegates to either a fixed thread pool or a virtual thread per task executor (as per {@link AsyncExecutorMode}),
+ * while keeping track of the number of tasks waiting to be executed (queue depth) and of the number of tasks
+ * currently being executed (in-flight).
+ *
+ * @since 2.0 {@index}
+ */
+@Log4j2
+@RequiredArgsConstructor
+public final class AsyncExecutorService extends AbstractExecutorService {
+
+    private final static int MIN_POOL_SIZE = 2; // at least 2
+    private final static int MAX_POOL_SIZE = 4; // max 4
+
+    public static AsyncExecutorService create(final @NonNull AsyncExecutorMode mode) {
+        switch (mode) {
+        case VIRTUAL_THREADS:
+            return new AsyncExecutorService(mode, newVirtualThreadPerTaskExecutor()
+                    .orElseGet(()->{
+                        // not falling back to a thread per task, as a burst of async interactions
+                        // would then create an unbounded number of platform threads
+                        log.warn("virtual threads are not supported by this JVM (requires Java 21+), "
+                                + "falling back to a fixed thread pool");
+                        return newFixedThreadPool();
+                    }));
+        case FIXED_THREAD_POOL:
+        default:
+            return new AsyncExecutorService(mode, newFixedThreadPool());
+        }
+    }
+
+    @Getter private final @NonNull AsyncExecutorMode mode;
+    private final @NonNull ExecutorService delegate;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+
+    /**
+     * Number of tasks submitted, but not yet started.
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * Number of tasks currently being executed.
+     */
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    /**
+     * Number of tasks that have completed (either normally or exceptionally).
+     */
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    @Override
+    public void execute(final @NonNull Runnable command) {
+        queued.incrementAndGet();
+        try {
+            delegate.execute(()->{
+                queued.decrementAndGet();
+                inFlight.incrementAndGet();
+                try {
+                    command.run();
+                } finally {
+                    inFlight.decrementAndGet();
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    // -- HELPER
+
+    private static ExecutorService newFixedThreadPool() {
+        final int poolSize = Math.min(
+                MAX_POOL_SIZE,
+                Math.max(
+                        MIN_POOL_SIZE,
+                        Runtime.getRuntime().availableProcessors()));
+        return Executors.newFixedThreadPool(poolSize);
+    }
+
+    /**
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} is only available with Java 21+,
+     * hence we look it up reflectively.
+     */
+    private static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            var factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) factoryMethod.invoke(null));
+        } catch (ReflectiveOperationException | SecurityException e) {
+            return Optional.empty();
+        }
+    }
+
+}
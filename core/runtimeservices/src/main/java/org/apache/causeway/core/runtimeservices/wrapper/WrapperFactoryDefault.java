@@ -28,7 +28,7 @@
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
 import javax.annotation.PostConstruct;
@@ -111,6 +111,7 @@
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 
 /**
  * Default implementation of {@link WrapperFactory}.
@@ -121,11 +122,17 @@
 @Named(WrapperFactoryDefault.LOGICAL_TYPE_NAME)
 @Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Default")
+@Log4j2
 public class WrapperFactoryDefault
 implements WrapperFactory, HasMetaModelContext {
 
     static final String LOGICAL_TYPE_NAME = CausewayModuleCoreRuntimeServices.NAMESPACE + ".WrapperFactoryDefault";
 
+    /**
+     * How long to wait on shutdown for async interactions still running (or queued) to complete.
+     */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
     @Inject private FactoryService factoryService;
     @Inject @Getter(onMethod_= {@Override}) MetaModelContext metaModelContext; // HasMetaModelContext
     @Inject protected _ProxyFactoryService proxyFactoryService; // protected: in support of JUnit tests
@@ -144,12 +151,17 @@
         dispatchersByEventClass = new HashMap<>();
     private ProxyContextHandler proxyContextHandler;
 
-    private ExecutorService commonExecutorService;
+    /**
+     * Used for async execution, if not overridden by {@link AsyncControl#with(ExecutorService)};
+     * exposes metrics such as queue depth and in-flight tasks.
+     */
+    @Getter private AsyncExecutorService commonExecutorService;
 
     @PostConstruct
     public void init() {
 
-        this.commonExecutorService = newCommonExecutorService();
+        this.commonExecutorService = AsyncExecutorService.create(
+                getConfiguration().getCore().getRuntimeServices().getWrapperFactory().getAsyncExecutorMode());
 
         var proxyCreator = new ProxyCreator(proxyFactoryService);
         proxyContextHandler = new ProxyContextHandler(proxyCreator);
@@ -176,6 +188,17 @@ public void init() {
     @PreDestroy
     public void close() {
         commonExecutorService.shutdown();
+        try {
+            if(!commonExecutorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("async interactions did not complete within {}s of shutdown, interrupting {} task(s)",
+                        SHUTDOWN_TIMEOUT_SECONDS,
+                        commonExecutorService.getInFlightCount() + commonExecutorService.getQueueDepth());
+                commonExecutorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            commonExecutorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
     }
 
     // -- WRAPPING
@@ -682,15 +705,4 @@ private <R> R updateDomainObject(final AsyncCallable<R> asyncCallable) {
                     }).orElse(null));
     }
 
-    private final static int MIN_POOL_SIZE = 2; // at least 2
-    private final static int MAX_POOL_SIZE = 4; // max 4
-    private ExecutorService newCommonExecutorService() {
-        final int poolSize = Math.min(
-                MAX_POOL_SIZE,
-                Math.max(
-                        MIN_POOL_SIZE,
-                        Runtime.getRuntime().availableProcessors()));
-        return Executors.newFixedThreadPool(poolSize);
-    }
-
 }
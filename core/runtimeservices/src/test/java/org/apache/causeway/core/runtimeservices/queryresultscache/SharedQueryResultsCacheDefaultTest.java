@@ -0,0 +1,176 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.queryresultscache;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+
+class SharedQueryResultsCacheDefaultTest {
+
+    static class Customer {}
+    static class Order {}
+    static class Lookups {}
+
+    private SharedQueryResultsCacheDefault sharedCache;
+    private final AtomicInteger callCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        var customerSpec = mock(ObjectSpecification.class);
+        when(customerSpec.isEntity()).thenReturn(true);
+        var specificationLoader = mock(SpecificationLoader.class);
+        when(specificationLoader.specForType(Customer.class)).thenReturn(Optional.of(customerSpec));
+
+        sharedCache = new SharedQueryResultsCacheDefault(
+                new CausewayConfiguration(null, Optional.empty()), specificationLoader);
+        sharedCache.register(Lookups.class, "countryCodes", Customer.class);
+    }
+
+    @Test
+    void hit_after_miss() throws Exception {
+        assertEquals("DE", sharedCache.execute(key("de"), this::compute));
+        assertEquals("DE", sharedCache.execute(key("de"), this::compute));
+
+        assertEquals(1, callCount.get());
+        var metrics = sharedCache.getMetrics();
+        assertEquals(1, metrics.getHitCount());
+        assertEquals(1, metrics.getMissCount());
+        assertEquals(1, metrics.getSize());
+    }
+
+    @Test
+    void invalidated_by_registered_entity_type() throws Exception {
+        sharedCache.execute(key("de"), this::compute);
+
+        sharedCache.invalidate(Order.class); // not registered as invalidating
+        sharedCache.execute(key("de"), this::compute);
+        assertEquals(1, callCount.get());
+
+        sharedCache.invalidate(Customer.class);
+        sharedCache.execute(key("de"), this::compute);
+        assertEquals(2, callCount.get());
+        assertEquals(1, sharedCache.getMetrics().getInvalidationCount());
+    }
+
+    @Test
+    void result_computed_across_invalidation_is_not_cached() throws Exception {
+        // simulates a concurrent commit, invalidating while the result is computed from stale data
+        assertEquals("DE", sharedCache.execute(key("de"), ()->{
+            sharedCache.invalidate(Customer.class);
+            return compute();
+        }));
+        assertEquals(0, sharedCache.getMetrics().getSize());
+
+        sharedCache.execute(key("de"), this::compute);
+        assertEquals(2, callCount.get());
+        assertEquals(1, sharedCache.getMetrics().getSize());
+    }
+
+    @Test
+    void not_cached_while_invalidating_transaction_is_open() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sharedCache.invalidate(Customer.class);
+
+            // eg. computed from uncommitted data by the changing transaction
+            sharedCache.execute(key("de"), this::compute);
+            sharedCache.execute(key("de"), this::compute);
+            assertEquals(2, callCount.get());
+            assertEquals(0, sharedCache.getMetrics().getSize());
+
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(TransactionSynchronizationManager.hasResource(sharedCache));
+        sharedCache.execute(key("de"), this::compute);
+        sharedCache.execute(key("de"), this::compute);
+        assertEquals(3, callCount.get());
+        assertEquals(1, sharedCache.getMetrics().getSize());
+    }
+
+    @Test
+    void invalidation_is_noop_when_disabled_or_unaffected() throws Exception {
+        var configuration = new CausewayConfiguration(null, Optional.empty());
+        configuration.getCore().getRuntimeServices().getQueryResultsCache().getShared().setEnabled(false);
+        var disabledCache = new SharedQueryResultsCacheDefault(configuration, mock(SpecificationLoader.class));
+        disabledCache.register(Lookups.class, "countryCodes", Customer.class);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            disabledCache.invalidate(Customer.class);
+            sharedCache.invalidate(Order.class); // no region invalidated by orders
+
+            assertFalse(TransactionSynchronizationManager.hasResource(disabledCache));
+            assertFalse(TransactionSynchronizationManager.hasResource(sharedCache));
+            assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void entities_are_not_shared() throws Exception {
+        sharedCache.execute(key("customers"), ()->{
+            callCount.incrementAndGet();
+            return List.of(new Customer());
+        });
+        sharedCache.execute(key("customer"), ()->{
+            callCount.incrementAndGet();
+            return Optional.of(new Customer());
+        });
+
+        assertEquals(0, sharedCache.getMetrics().getSize());
+    }
+
+    // -- HELPER
+
+    private static QueryResultsCache.Key key(final String arg) {
+        return new QueryResultsCache.Key(Lookups.class, "countryCodes", arg);
+    }
+
+    private static void completeTransaction(final int status) {
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization->synchronization.afterCompletion(status));
+    }
+
+    private String compute() {
+        callCount.incrementAndGet();
+        return "DE";
+    }
+
+}
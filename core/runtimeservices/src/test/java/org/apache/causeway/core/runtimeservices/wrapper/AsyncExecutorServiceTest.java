@@ -0,0 +1,67 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.wrapper;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.WrapperFactory.AsyncExecutorMode;
+
+import lombok.SneakyThrows;
+
+class AsyncExecutorServiceTest {
+
+    @ParameterizedTest
+    @EnumSource(AsyncExecutorMode.class)
+    @SneakyThrows
+    void shouldTrackInFlightAndCompletedTasks(final AsyncExecutorMode mode) {
+        final int taskCount = 2; // not exceeding the minimum size of the fixed thread pool
+        var executor = AsyncExecutorService.create(mode);
+        var started = new CountDownLatch(taskCount);
+        var release = new CountDownLatch(1);
+
+        for (int i = 0; i < taskCount; i++) {
+            executor.submit(()->{
+                started.countDown();
+                release.await();
+                return null;
+            });
+        }
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(mode, executor.getMode());
+        assertEquals(0, executor.getQueueDepth());
+        assertEquals(taskCount, executor.getInFlightCount());
+        assertEquals(0L, executor.getCompletedCount());
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(0, executor.getInFlightCount());
+        assertEquals(taskCount, executor.getCompletedCount());
+    }
+
+}
@@ -37,4 +37,11 @@ public interface EntityPropertyChangePublisher {
      */
     void publishChangedProperties();
 
+    /**
+     * Whether there is any enabled
+     * {@link org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber} at all;
+     * if not, there is no need to capture the values of changed properties.
+     */
+    boolean hasEnabledSubscribers();
+
 }
@@ -150,6 +150,25 @@ public static class Nq {
         public static final String FIND_BY_REPLAY_STATE                 = LOGICAL_TYPE_NAME + ".findNotYetReplayed";
         public static final String FIND_BACKGROUND_AND_NOT_YET_STARTED  = LOGICAL_TYPE_NAME + ".findBackgroundAndNotYetStarted";
         public static final String FIND_RECENT_BACKGROUND_BY_TARGET     = LOGICAL_TYPE_NAME + ".findRecentBackgroundByTarget";
+        /**
+         * Background commands not yet started, and either not leased or with an expired lease.
+         */
+        public static final String FIND_BACKGROUND_AND_NOT_YET_STARTED_AND_NOT_LEASED = LOGICAL_TYPE_NAME + ".findBackgroundAndNotYetStartedAndNotLeased";
+        /**
+         * Bulk update that leases a single background command, provided it has not yet started and is not
+         * currently leased (by some other node).
+         */
+        public static final String LEASE_BACKGROUND_AND_NOT_YET_STARTED = LOGICAL_TYPE_NAME + ".leaseBackgroundAndNotYetStarted";
+        /**
+         * Bulk update that renews the lease of a single background command, provided it has not yet started and is
+         * still leased by the caller (that is, its lease is unchanged).
+         */
+        public static final String RENEW_LEASE = LOGICAL_TYPE_NAME + ".renewLease";
+        /**
+         * Bulk update that releases the lease of a single background command, provided it is still leased by the
+         * caller (that is, its lease is unchanged).
+         */
+        public static final String RELEASE_LEASE = LOGICAL_TYPE_NAME + ".releaseLease";
     }
 
     @Programmatic
@@ -441,6 +460,36 @@ class DomainEvent extends PropertyDomainEvent<java.sql.Timestamp> {}
     public abstract java.sql.Timestamp getCompletedAt();
     public abstract void setCompletedAt(java.sql.Timestamp completedAt);
 
+    @Property(
+            domainEvent = LeaseExpiresAt.DomainEvent.class,
+            editing = Editing.DISABLED,
+            optionality = Optionality.OPTIONAL
+    )
+    @Parameter(
+            optionality = Optionality.OPTIONAL
+    )
+    @java.lang.annotation.Target({ ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface LeaseExpiresAt {
+        class DomainEvent extends PropertyDomainEvent<java.sql.Timestamp> {}
+        boolean NULLABLE = true;
+        String ALLOWS_NULL = "true";
+    }
+    /**
+     * For {@link ExecuteIn#BACKGROUND background} commands, the time until which the command is leased by the
+     * node that is about to execute it; <code>null</code> if never leased.
+     *
+     * <p>
+     *     Used by the <code>RunBackgroundCommandsJob</code> when running with a parallelism greater than one, so that
+     *     multiple nodes can drain the queue of background commands concurrently.
+     *     A command whose lease has expired without it having been started can be leased again.
+     *     The lease is released (reset to <code>null</code>) once the command has completed.
+     * </p>
+     */
+    @LeaseExpiresAt
+    public abstract java.sql.Timestamp getLeaseExpiresAt();
+    public abstract void setLeaseExpiresAt(java.sql.Timestamp leaseExpiresAt);
+
     @Property(
             domainEvent = Duration.DomainEvent.class,
             editing = Editing.DISABLED
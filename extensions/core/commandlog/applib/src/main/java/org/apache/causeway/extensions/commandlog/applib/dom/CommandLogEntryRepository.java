@@ -126,6 +126,60 @@ List<CommandLogEntry> findByTargetAndFromAndTo(
      */
     List<CommandLogEntry> findBackgroundAndNotYetStarted();
 
+    /**
+     * As {@link #findBackgroundAndNotYetStarted()}, but returning at most <code>batchSize</code> commands,
+     * the limit being applied by the query itself.
+     */
+    List<CommandLogEntry> findBackgroundAndNotYetStarted(final int batchSize);
+
+    /**
+     * Leases up to <code>batchSize</code> of the persisted background commands that have not yet started, and that
+     * are not currently leased (or whose lease has expired as of <code>now</code>), oldest first.
+     *
+     * <p>
+     * Each lease is acquired by means of a conditional update, so that concurrent callers (eg. on other nodes of a
+     * cluster) never lease the same command.  The returned commands are leased until <code>leaseExpiresAt</code>;
+     * if not started by then, they become available to be leased again.
+     * </p>
+     */
+    List<CommandLogEntry> leaseBackgroundAndNotYetStarted(
+            final int batchSize,
+            final java.sql.Timestamp now,
+            final java.sql.Timestamp leaseExpiresAt);
+
+    /**
+     * Renews the lease of the background command identified by <code>interactionId</code> until
+     * <code>renewedLeaseExpiresAt</code>, provided that it has not yet started and is still leased until
+     * <code>leaseExpiresAt</code>, in other words has not been leased by some other caller in the meantime.
+     *
+     * <p>
+     * As with {@link #leaseBackgroundAndNotYetStarted(int, java.sql.Timestamp, java.sql.Timestamp)}, this is done
+     * by means of a conditional update, so the lease is compared and set atomically.
+     * </p>
+     *
+     * @return whether the lease was renewed.
+     */
+    boolean renewLease(
+            final UUID interactionId,
+            final java.sql.Timestamp leaseExpiresAt,
+            final java.sql.Timestamp renewedLeaseExpiresAt);
+
+    /**
+     * Releases the lease of the background command identified by <code>interactionId</code>, provided that it is
+     * still leased until <code>leaseExpiresAt</code>, in other words has not been leased by some other caller in the
+     * meantime.
+     *
+     * <p>
+     * Intended to be called within the transaction that executes the command, so that if the lease was lost, the
+     * transaction can be rolled back rather than the command's changes being committed a second time.
+     * </p>
+     *
+     * @return whether the lease was still held (and is now released).
+     */
+    boolean releaseLease(
+            final UUID interactionId,
+            final java.sql.Timestamp leaseExpiresAt);
+
     List<CommandLogEntry> findRecentBackgroundByTarget(final Bookmark target);
 
     /**
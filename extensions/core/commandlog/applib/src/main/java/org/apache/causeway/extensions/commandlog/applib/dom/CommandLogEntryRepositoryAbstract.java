@@ -25,6 +25,7 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -289,6 +290,85 @@ public List<CommandLogEntry> findBackgroundAndNotYetStarted() {
                     Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED)));
     }
 
+    @Override
+    public List<CommandLogEntry> findBackgroundAndNotYetStarted(final int batchSize) {
+        return _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                    Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED)
+                        .withLimit(batchSize)));
+    }
+
+    @Override
+    public List<CommandLogEntry> leaseBackgroundAndNotYetStarted(
+            final int batchSize,
+            final Timestamp now,
+            final Timestamp leaseExpiresAt) {
+        final List<C> candidates = repositoryService().allMatches(
+                Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED_AND_NOT_LEASED)
+                        .withParameter("now", now)
+                        .withLimit(batchSize));
+        final List<CommandLogEntry> leased = new ArrayList<>(candidates.size());
+        for (C candidate : candidates) {
+            // a candidate might have been leased by some other node in the meantime
+            if(tryLease(candidate.getInteractionId(), now, leaseExpiresAt)) {
+                leased.add(candidate);
+            }
+        }
+        return leased;
+    }
+
+    @Override
+    public boolean renewLease(
+            final UUID interactionId,
+            final Timestamp leaseExpiresAt,
+            final Timestamp renewedLeaseExpiresAt) {
+        return executeUpdate(CommandLogEntry.Nq.RENEW_LEASE, Map.of(
+                "interactionId", interactionId,
+                "leaseExpiresAt", leaseExpiresAt,
+                "renewedLeaseExpiresAt", renewedLeaseExpiresAt)) == 1;
+    }
+
+    @Override
+    public boolean releaseLease(
+            final UUID interactionId,
+            final Timestamp leaseExpiresAt) {
+        return executeUpdate(CommandLogEntry.Nq.RELEASE_LEASE, Map.of(
+                "interactionId", interactionId,
+                "leaseExpiresAt", leaseExpiresAt)) == 1;
+    }
+
+    /**
+     * Leases the background command identified by <code>interactionId</code> until <code>leaseExpiresAt</code>,
+     * provided that it has not yet started and is not currently leased (or its lease has expired as of
+     * <code>now</code>).
+     *
+     * @return whether the lease was acquired.
+     */
+    private boolean tryLease(
+            final UUID interactionId,
+            final Timestamp now,
+            final Timestamp leaseExpiresAt) {
+        return executeUpdate(CommandLogEntry.Nq.LEASE_BACKGROUND_AND_NOT_YET_STARTED, Map.of(
+                "interactionId", interactionId,
+                "now", now,
+                "leaseExpiresAt", leaseExpiresAt)) == 1;
+    }
+
+    /**
+     * Executes the named bulk update (one of {@link CommandLogEntry.Nq#LEASE_BACKGROUND_AND_NOT_YET_STARTED},
+     * {@link CommandLogEntry.Nq#RENEW_LEASE} or {@link CommandLogEntry.Nq#RELEASE_LEASE}) with given parameters.
+     *
+     * <p>
+     * These are conditional updates, which is what guarantees that exactly one of any concurrent callers
+     * succeeds in acquiring, renewing or releasing a lease.
+     * </p>
+     *
+     * @return the number of rows affected.
+     */
+    protected abstract long executeUpdate(
+            final String queryName,
+            final Map<String, Object> parameters);
+
     public List<CommandLogEntry> findRecentBackgroundByTarget(final Bookmark target) {
         return _Casts.uncheckedCast(
                 repositoryService().allMatches(
@@ -18,10 +18,15 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.job;
 
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -32,6 +37,7 @@
 import org.quartz.PersistJobDataAfterExecution;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 
@@ -65,6 +71,26 @@
  *     the control is managed through the injected {@link BackgroundCommandsJobControl}
  * </p>
  *
+ * <p>
+ *     By default the commands are executed one after the other.  If configured with a
+ *     {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands#getParallelism() parallelism} greater
+ *     than 1, then the batch of commands is first leased (by means of a conditional update of
+ *     {@link CommandLogEntry#getLeaseExpiresAt()}), and the leased commands are then executed concurrently on a
+ *     bounded pool of worker threads, each within its own interaction.  This allows multiple nodes to drain the
+ *     queue of background commands concurrently.
+ * </p>
+ *
+ * <p>
+ *     Each lease is renewed (by means of a conditional update) just before its command is executed, and released
+ *     within the very transaction that executes the command.  Should the lease have been taken over by some other
+ *     node in the meantime (because the command ran for longer than the
+ *     {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands#getLeaseDuration() lease duration}),
+ *     that transaction is rolled back, so that only one of the executions is committed.  However, any side effects
+ *     outside of the database (eg. calls to external systems) cannot be rolled back: a command may therefore be
+ *     executed more than once (at-least-once semantics).  The lease duration should hence comfortably exceed the
+ *     execution time of the longest running background command.
+ * </p>
+ *
  * @see BackgroundCommandsJobControl
  *
  * @since 2.0 {@index}
@@ -100,6 +126,12 @@ public void execute(final JobExecutionContext quartzContext) {
         var userMemento = UserMemento.ofNameAndRoleNames("scheduler_user", "admin_role");
         var interactionContext = InteractionContext.builder().user(userMemento).build();
 
+        var runBackgroundCommands = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+        if(runBackgroundCommands.getParallelism() > 1) {
+            executeConcurrently(interactionContext, runBackgroundCommands.getParallelism());
+            return;
+        }
+
         // we obtain the list of Commands first; we use their CommandDto as it is serializable across transactions
         final Optional<List<CommandDto>> commandDtosIfAny = pendingCommandDtos(interactionContext);
 
@@ -107,7 +139,7 @@ public void execute(final JobExecutionContext quartzContext) {
         commandDtosIfAny.ifPresent(commandDtos -> {
             List<CommandAndResult> commandResults = new ArrayList<>();
             for (CommandDto dto : commandDtos) {
-                Try<?> attempt = executeCommandWithinTransaction(dto, interactionContext);
+                Try<?> attempt = executeCommandWithinTransaction(dto, interactionContext, null);
                 if(attempt.isFailure()) {
                     var onFailurePolicy = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getOnFailurePolicy();
                     if (onFailurePolicy == CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.OnFailurePolicy.STOP_THE_LINE) {
@@ -118,16 +150,89 @@ public void execute(final JobExecutionContext quartzContext) {
                 commandResults.add(apply);
             }
 
-            // an enhancement for the listener interface would be to say whether each interaction succeeded or not
-            // whether his is relevant depends on the onFailurePolicy (if it's set to STOP_THE_LINE, then everything passed on will have succeeded)
-            var interactionIds = commandResults.stream()
-                    .filter(commandAndResult -> commandAndResult.getExecutionResult().isSuccess())  // only the successes
-                    .map(CommandAndResult::getCommandDto)
-                    .map(CommandDto::getInteractionId)
-                    .collect(Collectors.toList());
-            listeners.forEach(listener -> {
-                invokeListenerCallbackWithinTransaction(listener, interactionIds, interactionContext);
-            });
+            notifyListeners(commandResults, interactionContext);
+        });
+    }
+
+    /**
+     * Leases the next batch of pending commands, then executes them on a bounded pool of worker threads.
+     *
+     * <p>
+     *     If the {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands#getOnFailurePolicy() onFailurePolicy}
+     *     is {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.OnFailurePolicy#STOP_THE_LINE STOP_THE_LINE},
+     *     then any failure prevents those commands of the batch that have not yet started from being executed; these
+     *     (as well as the failed command) are picked up again once their lease has expired.
+     * </p>
+     */
+    private void executeConcurrently(final InteractionContext interactionContext, final int parallelism) {
+
+        var leaseDuration = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getLeaseDuration();
+        var now = clockService.getClock().nowAsJavaSqlTimestamp();
+        var leaseExpiresAt = leaseUntil(now, leaseDuration, null);
+
+        final Optional<List<CommandDto>> commandDtosIfAny = leasedCommandDtos(interactionContext, now, leaseExpiresAt);
+
+        commandDtosIfAny
+        .filter(commandDtos -> !commandDtos.isEmpty())
+        .ifPresent(commandDtos -> {
+            var stopTheLine = new AtomicBoolean();
+            var executor = Executors.newFixedThreadPool(Math.min(parallelism, commandDtos.size()));
+            try {
+                var futures = new ArrayList<Future<Optional<CommandAndResult>>>(commandDtos.size());
+                for (CommandDto dto : commandDtos) {
+                    futures.add(executor.submit(() ->
+                        executeLeasedCommand(dto, interactionContext, leaseExpiresAt, stopTheLine)));
+                }
+                // collected in the order the commands were leased (oldest first)
+                var commandResults = new ArrayList<CommandAndResult>(commandDtos.size());
+                for (Future<Optional<CommandAndResult>> future : futures) {
+                    try {
+                        future.get().ifPresent(commandResults::add);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (ExecutionException e) {
+                        log.error("Failed to execute background command", e.getCause());
+                    }
+                }
+                notifyListeners(commandResults, interactionContext);
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+    }
+
+    private Optional<CommandAndResult> executeLeasedCommand(
+            final CommandDto dto,
+            final InteractionContext interactionContext,
+            final Timestamp leaseExpiresAt,
+            final AtomicBoolean stopTheLine) {
+        if(stopTheLine.get()) {
+            return Optional.empty(); // leave for a subsequent run, once its lease has expired
+        }
+        Try<?> attempt = executeCommandWithinTransaction(dto, interactionContext, leaseExpiresAt);
+        if(attempt.isFailure()) {
+            var onFailurePolicy = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getOnFailurePolicy();
+            if (onFailurePolicy == CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.OnFailurePolicy.STOP_THE_LINE) {
+                stopTheLine.set(true);
+                return Optional.empty();
+            }
+        }
+        return isLeaseLost(attempt)
+                ? Optional.empty()
+                : Optional.of(CommandAndResult.of(dto, attempt));
+    }
+
+    private void notifyListeners(final List<CommandAndResult> commandResults, final InteractionContext interactionContext) {
+        // an enhancement for the listener interface would be to say whether each interaction succeeded or not
+        // whether his is relevant depends on the onFailurePolicy (if it's set to STOP_THE_LINE, then everything passed on will have succeeded)
+        var interactionIds = commandResults.stream()
+                .filter(commandAndResult -> commandAndResult.getExecutionResult().isSuccess())  // only the successes
+                .map(CommandAndResult::getCommandDto)
+                .map(CommandDto::getInteractionId)
+                .collect(Collectors.toList());
+        listeners.forEach(listener -> {
+            invokeListenerCallbackWithinTransaction(listener, interactionIds, interactionContext);
         });
     }
 
@@ -141,10 +246,10 @@ static class CommandAndResult {
     private Optional<List<CommandDto>> pendingCommandDtos(final InteractionContext interactionContext) {
         return interactionService.callAndCatch(interactionContext, () ->
             transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
-                commandLogEntryRepository.findBackgroundAndNotYetStarted()
+                commandLogEntryRepository.findBackgroundAndNotYetStarted(
+                            causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getBatchSize())
                         .stream()
                         .map(CommandLogEntry::getCommandDto)
-                        .limit(causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getBatchSize())
                         .collect(Collectors.toList())
                 )
                 .ifFailureFail()
@@ -154,33 +259,98 @@ private Optional<List<CommandDto>> pendingCommandDtos(final InteractionContext i
             .getValue();
     }
 
+    private Optional<List<CommandDto>> leasedCommandDtos(
+            final InteractionContext interactionContext,
+            final Timestamp now,
+            final Timestamp leaseExpiresAt) {
+        // the leases are committed before any of the commands is executed, so are visible to other nodes
+        return interactionService.callAndCatch(interactionContext, () ->
+            transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.leaseBackgroundAndNotYetStarted(
+                            causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getBatchSize(),
+                            now,
+                            leaseExpiresAt)
+                        .stream()
+                        .map(CommandLogEntry::getCommandDto)
+                        .collect(Collectors.toList())
+                )
+                .ifFailureFail()
+                .valueAsNonNullElseFail()
+            )
+            .ifFailureFail()    // we give up if unable to lease these
+            .getValue();
+    }
+
     @Inject TransactionServiceSpring transactionServiceSpring;
 
+    /**
+     * Marks a command as not executed (or its execution as rolled back), because (when executing concurrently) its
+     * lease had been taken over by some other node.
+     */
+    private static final Object LEASE_LOST = new Object();
+
+    /**
+     * Thrown within the interaction executing a command, if its lease could not be released because it had been
+     * taken over by some other node; causes the interaction's transaction to be rolled back.
+     */
+    static class LeaseLostException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        LeaseLostException(final String interactionId) {
+            super("Lease lost while executing command: " + interactionId);
+        }
+    }
+
+    /**
+     * @param leaseExpiresAt - if executing concurrently, the lease obtained for the command; the command is only
+     *                       executed if that lease can be renewed, and its execution is only committed if the
+     *                       (renewed) lease can be released thereafter.
+     */
     private Try<?> executeCommandWithinTransaction(
             final CommandDto commandDto,
-            final InteractionContext interactionContext
+            final InteractionContext interactionContext,
+            final @Nullable Timestamp leaseExpiresAt
     ) {
         int remainingAttempts = RETRY_COUNT;
+        Timestamp currentLease = leaseExpiresAt;
         Try<?> result;
         while(true) {
-            result = interactionService.call(interactionContext, () -> {
-
-                // previously we were creating a new transaction here with REQUIRES_NEW, but this isn't necessary
-                // (and massively complicates things) since each interaction will implictly creates its own transaction
-                var commandLogEntryIfAny = commandLogEntryRepository.findByInteractionId(UUID.fromString(commandDto.getInteractionId()));
-                if(commandLogEntryIfAny.isEmpty()) {
-                    return Try.empty();
+            if(currentLease != null) {
+                var renewedLeaseIfAny = renewLease(commandDto, interactionContext, currentLease);
+                if(renewedLeaseIfAny.isEmpty()) {
+                    log.debug("Lease lost, not executing command: " + commandDto.getInteractionId());
+                    return Try.success(LEASE_LOST);
                 }
+                currentLease = renewedLeaseIfAny.get();
+            }
+            final Timestamp heldLease = currentLease;
+            try {
+                result = interactionService.call(interactionContext, () -> {
 
-                var commandLogEntry = commandLogEntryIfAny.get();
-                return commandExecutorService.executeCommand(
-                            CommandExecutorService.InteractionContextPolicy.NO_SWITCH, commandDto)
-                        .ifSuccess(
-                            bookmarkToResultIfAny ->
-                                commandLogEntry.setCompletedAt(clockService.getClock().nowAsJavaSqlTimestamp())
-                        )
-                        .mapFailure(throwable -> new ThrowableWithDetailsOfAttempt(throwable, commandLogEntry.getStartedAt()));
-            });
+                    // previously we were creating a new transaction here with REQUIRES_NEW, but this isn't necessary
+                    // (and massively complicates things) since each interaction will implictly creates its own transaction
+                    var commandLogEntryIfAny = commandLogEntryRepository.findByInteractionId(UUID.fromString(commandDto.getInteractionId()));
+                    if(commandLogEntryIfAny.isEmpty()) {
+                        return Try.empty();
+                    }
+
+                    var commandLogEntry = commandLogEntryIfAny.get();
+                    var executionResult = commandExecutorService.executeCommand(
+                                CommandExecutorService.InteractionContextPolicy.NO_SWITCH, commandDto);
+                    if(executionResult.isSuccess()) {
+                        // compare-and-set on the lease; it only fails if some other node took over the lease
+                        if(heldLease != null
+                                && !commandLogEntryRepository.releaseLease(commandLogEntry.getInteractionId(), heldLease)) {
+                            throw new LeaseLostException(commandDto.getInteractionId());
+                        }
+                        commandLogEntry.setCompletedAt(clockService.getClock().nowAsJavaSqlTimestamp());
+                    }
+                    return executionResult
+                            .mapFailure(throwable -> new ThrowableWithDetailsOfAttempt(throwable, commandLogEntry.getStartedAt()));
+                });
+            } catch (LeaseLostException e) {
+                log.warn("{}; rolled back, as the command is (or was) executed by some other node", e.getMessage());
+                return Try.success(LEASE_LOST);
+            }
             if(result.isSuccess()) {
                 return result;
             }
@@ -270,6 +440,58 @@ private void invokeListenerCallbackWithinTransaction(
         .ifFailureFail();
     }
 
+    /**
+     * Renews the lease of the command in a transaction of its own, such that the renewed lease is visible to other
+     * nodes while the command executes.
+     *
+     * @return the renewed lease, or empty if the lease has been taken over by some other node (or the command has
+     *      been started in the meantime).
+     */
+    private Optional<Timestamp> renewLease(
+            final CommandDto commandDto,
+            final InteractionContext interactionContext,
+            final Timestamp leaseExpiresAt) {
+        var leaseDuration = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getLeaseDuration();
+        var renewedLeaseExpiresAt = leaseUntil(clockService.getClock().nowAsJavaSqlTimestamp(), leaseDuration, leaseExpiresAt);
+        var renewed = interactionService.callAndCatch(interactionContext, () ->
+            transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.renewLease(
+                        UUID.fromString(commandDto.getInteractionId()), leaseExpiresAt, renewedLeaseExpiresAt))
+                .ifFailureFail()
+                .valueAsNonNullElseFail()
+            )
+            .ifFailure(throwable -> log.error("Failed to renew lease of background command", throwable))
+            .getValue()
+            .orElse(false);
+        return renewed
+                ? Optional.of(renewedLeaseExpiresAt)
+                : Optional.empty();
+    }
+
+    /**
+     * Leases are truncated to whole seconds, because they are compared for equality when renewed or released, while
+     * the database column might not store fractions of a second.  A renewed lease is always later than the lease it
+     * renews, as some databases report an update that leaves a row unchanged as not having affected that row.
+     *
+     * @param previousLease - the lease being renewed, if any
+     */
+    private static Timestamp leaseUntil(
+            final Timestamp now,
+            final java.time.Duration leaseDuration,
+            final @Nullable Timestamp previousLease) {
+        var millis = now.getTime() + leaseDuration.toMillis();
+        var lease = new Timestamp(millis - Math.floorMod(millis, 1000L));
+        return previousLease != null
+                && !lease.after(previousLease)
+                ? new Timestamp(previousLease.getTime() + 1000L)
+                : lease;
+    }
+
+    private static boolean isLeaseLost(final Try<?> result) {
+        return result.isSuccess()
+                && result.getValue().orElse(null) == LEASE_LOST;
+    }
+
     private boolean isEncounteredDeadlock(final Try<?> result) {
         if (!result.isFailure()) {
             return false;
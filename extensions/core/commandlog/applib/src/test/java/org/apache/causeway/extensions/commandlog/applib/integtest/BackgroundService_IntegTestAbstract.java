@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.integtest;
 
+import java.sql.Timestamp;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -40,6 +41,7 @@
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
 import org.apache.causeway.applib.services.wrapper.control.AsyncControl;
 import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
 import org.apache.causeway.extensions.commandlog.applib.dom.BackgroundService;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
@@ -209,6 +211,136 @@ void using_background_service() {
 
     }
 
+    @SneakyThrows
+    @Test
+    void using_background_service_with_parallelism() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        var runBackgroundCommands = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+        var parallelismOrig = runBackgroundCommands.getParallelism();
+        runBackgroundCommands.setParallelism(2);
+
+        try {
+            // when
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                var counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+                backgroundService.execute(counter).bumpUsingDeclaredAction();
+            }).ifFailureFail();
+
+            // when (simulate quartz running in the background)
+            runBackgroundCommandsJob.execute(mockQuartzJobExecutionContext);
+            interactionService.nextInteraction();
+
+            // then bumped
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                var counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+                assertThat(counter.getNum()).isEqualTo(1L);
+            }).ifFailureFail();
+
+            // and started and completed, with its lease released
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                var after = commandLogEntryRepository.findAll();
+                assertThat(after).hasSize(1);
+                assertThat(after.get(0))
+                        .satisfies(x -> assertThat(x.getLeaseExpiresAt()).isNull())
+                        .satisfies(x -> assertThat(x.getStartedAt()).isNotNull())
+                        .satisfies(x -> assertThat(x.getCompletedAt()).isNotNull());
+            }).ifFailureFail();
+
+            // when run again, then not executed a second time
+            runBackgroundCommandsJob.execute(mockQuartzJobExecutionContext);
+            interactionService.nextInteraction();
+
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                var counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+                assertThat(counter.getNum()).isEqualTo(1L);
+            }).ifFailureFail();
+
+        } finally {
+            runBackgroundCommands.setParallelism(parallelismOrig);
+        }
+    }
+
+    @Test
+    void lease_background_and_not_yet_started() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+
+        var now = new Timestamp(System.currentTimeMillis());
+        var leaseExpiresAt = new Timestamp(now.getTime() + 60_000L);
+
+        // when
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.leaseBackgroundAndNotYetStarted(10, now, leaseExpiresAt)).hasSize(1);
+        }).ifFailureFail();
+
+        // then cannot be leased again while the lease is held
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.leaseBackgroundAndNotYetStarted(10, now, leaseExpiresAt)).isEmpty();
+        }).ifFailureFail();
+
+        // but can be, once the lease has expired
+        var later = new Timestamp(leaseExpiresAt.getTime() + 1_000L);
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.leaseBackgroundAndNotYetStarted(
+                    10, later, new Timestamp(later.getTime() + 60_000L))).hasSize(1);
+        }).ifFailureFail();
+    }
+
+    @Test
+    void renew_and_release_lease_only_if_still_held() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+
+        var now = new Timestamp(System.currentTimeMillis() / 1000L * 1000L);
+        var leaseExpiresAt = new Timestamp(now.getTime() + 60_000L);
+        var interactionId = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.leaseBackgroundAndNotYetStarted(10, now, leaseExpiresAt)
+                    .get(0).getInteractionId())
+                .valueAsNonNullElseFail();
+
+        // when some other node takes over the lease, once expired
+        var later = new Timestamp(leaseExpiresAt.getTime() + 1_000L);
+        var otherLeaseExpiresAt = new Timestamp(later.getTime() + 60_000L);
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.leaseBackgroundAndNotYetStarted(10, later, otherLeaseExpiresAt)).hasSize(1);
+        }).ifFailureFail();
+
+        // then the original lease can neither be renewed nor released
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.renewLease(
+                    interactionId, leaseExpiresAt, new Timestamp(later.getTime() + 120_000L))).isFalse();
+            assertThat(commandLogEntryRepository.releaseLease(interactionId, leaseExpiresAt)).isFalse();
+        }).ifFailureFail();
+
+        // but the current lease can be renewed, and then released
+        var renewedLeaseExpiresAt = new Timestamp(otherLeaseExpiresAt.getTime() + 60_000L);
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.renewLease(
+                    interactionId, otherLeaseExpiresAt, renewedLeaseExpiresAt)).isTrue();
+        }).ifFailureFail();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.releaseLease(interactionId, otherLeaseExpiresAt)).isFalse();
+            assertThat(commandLogEntryRepository.releaseLease(interactionId, renewedLeaseExpiresAt)).isTrue();
+        }).ifFailureFail();
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findByInteractionId(interactionId))
+                    .hasValueSatisfying(x -> assertThat(x.getLeaseExpiresAt()).isNull());
+        }).ifFailureFail();
+    }
+
     private void removeAllCommandLogEntriesAndCounters() {
         transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
             commandLogEntryRepository.removeAll();
@@ -225,5 +357,6 @@ private void removeAllCommandLogEntriesAndCounters() {
     @Inject RunBackgroundCommandsJob runBackgroundCommandsJob;
     @Inject BookmarkService bookmarkService;
     @Inject CounterRepository counterRepository;
+    @Inject CausewayConfiguration causewayConfiguration;
 
 }
@@ -180,6 +180,34 @@
                   + " WHERE executeIn == 'BACKGROUND' "
                   + "    && startedAt == null "
                   + " ORDER BY timestamp ASC "),
+    @Query(
+            name  = Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED_AND_NOT_LEASED,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE executeIn == 'BACKGROUND' "
+                  + "    && startedAt == null "
+                  + "    && (leaseExpiresAt == null || leaseExpiresAt < :now) "
+                  + " ORDER BY timestamp ASC "),
+    @Query(
+            name  = Nq.LEASE_BACKGROUND_AND_NOT_YET_STARTED,
+            value = "UPDATE " + CommandLogEntry.FQCN + " "
+                  + "   SET leaseExpiresAt = :leaseExpiresAt "
+                  + " WHERE interactionId == :interactionId "
+                  + "    && startedAt == null "
+                  + "    && (leaseExpiresAt == null || leaseExpiresAt < :now) "),
+    @Query(
+            name  = Nq.RENEW_LEASE,
+            value = "UPDATE " + CommandLogEntry.FQCN + " "
+                  + "   SET leaseExpiresAt = :renewedLeaseExpiresAt "
+                  + " WHERE interactionId == :interactionId "
+                  + "    && startedAt == null "
+                  + "    && leaseExpiresAt == :leaseExpiresAt "),
+    @Query(
+            name  = Nq.RELEASE_LEASE,
+            value = "UPDATE " + CommandLogEntry.FQCN + " "
+                  + "   SET leaseExpiresAt = null "
+                  + " WHERE interactionId == :interactionId "
+                  + "    && leaseExpiresAt == :leaseExpiresAt "),
     @Query(
             name  = Nq.FIND_RECENT_BACKGROUND_BY_TARGET,
             value = "SELECT "
@@ -292,6 +320,11 @@ public CommandLogEntry(
     @Getter @Setter
     private java.sql.Timestamp completedAt;
 
+    @Column(allowsNull = LeaseExpiresAt.ALLOWS_NULL)
+    @LeaseExpiresAt
+    @Getter @Setter
+    private java.sql.Timestamp leaseExpiresAt;
+
     @Persistent
     @Column(allowsNull = Result.ALLOWS_NULL, length = Result.MAX_LENGTH)
     @Result
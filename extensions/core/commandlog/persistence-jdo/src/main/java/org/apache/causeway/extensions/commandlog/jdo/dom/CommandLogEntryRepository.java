@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.extensions.commandlog.jdo.dom;
 
+import java.util.Map;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -26,6 +29,7 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jdo.CausewayModuleExtCommandLogPersistenceJdo;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -40,10 +44,26 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJdo.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject JdoSupportService jdoSupportService;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    @Override
+    protected long executeUpdate(
+            final String queryName,
+            final Map<String, Object> parameters) {
+        // JDOQL bulk update, returns the number of affected rows
+        final Object updated = jdoSupportService.getPersistenceManager()
+                .newNamedQuery(CommandLogEntry.class, queryName)
+                .setNamedParameters(parameters)
+                .execute();
+        return updated instanceof Number
+                ? ((Number) updated).longValue()
+                : 0L;
+    }
+
     /**
      * The DN annotation processor (from artifact {@literal org.datanucleus:datanucleus-jdo-query})
      * should  generate Q classes under 'target/generated-sources/annotations'.
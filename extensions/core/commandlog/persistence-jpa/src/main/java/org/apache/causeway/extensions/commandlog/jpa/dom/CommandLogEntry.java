@@ -187,6 +187,34 @@
                   + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
                   + "   AND cl.startedAt is null "
                   + " ORDER BY cl.timestamp ASC"),
+        @NamedQuery(
+            name  = Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED_AND_NOT_LEASED,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "   AND cl.startedAt is null "
+                  + "   AND (cl.leaseExpiresAt is null OR cl.leaseExpiresAt < :now) "
+                  + " ORDER BY cl.timestamp ASC"),
+        @NamedQuery(
+            name  = Nq.LEASE_BACKGROUND_AND_NOT_YET_STARTED,
+            query = "UPDATE CommandLogEntry cl "
+                  + "   SET cl.leaseExpiresAt = :leaseExpiresAt "
+                  + " WHERE cl.pk.interactionId = :interactionId "
+                  + "   AND cl.startedAt is null "
+                  + "   AND (cl.leaseExpiresAt is null OR cl.leaseExpiresAt < :now)"),
+        @NamedQuery(
+            name  = Nq.RENEW_LEASE,
+            query = "UPDATE CommandLogEntry cl "
+                  + "   SET cl.leaseExpiresAt = :renewedLeaseExpiresAt "
+                  + " WHERE cl.pk.interactionId = :interactionId "
+                  + "   AND cl.startedAt is null "
+                  + "   AND cl.leaseExpiresAt = :leaseExpiresAt"),
+        @NamedQuery(
+            name  = Nq.RELEASE_LEASE,
+            query = "UPDATE CommandLogEntry cl "
+                  + "   SET cl.leaseExpiresAt = null "
+                  + " WHERE cl.pk.interactionId = :interactionId "
+                  + "   AND cl.leaseExpiresAt = :leaseExpiresAt"),
         @NamedQuery(
             name  = Nq.FIND_RECENT_BACKGROUND_BY_TARGET,
             query = "SELECT cl "
@@ -303,6 +331,11 @@ public void setInteractionId(final UUID interactionId) {
     @Getter @Setter
     private java.sql.Timestamp completedAt;
 
+    @Column(nullable = LeaseExpiresAt.NULLABLE)
+    @LeaseExpiresAt
+    @Getter @Setter
+    private java.sql.Timestamp leaseExpiresAt;
+
     @Convert(converter = CausewayBookmarkConverter.class)
     @Column(nullable = Result.NULLABLE, length = Result.MAX_LENGTH)
     @Result
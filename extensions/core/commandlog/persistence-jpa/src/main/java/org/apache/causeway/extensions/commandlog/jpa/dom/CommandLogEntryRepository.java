@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.extensions.commandlog.jpa.dom;
 
+import java.util.Map;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -26,6 +29,7 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jpa.CausewayModuleExtCommandLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -40,8 +44,20 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJpa.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject JpaSupportService jpaSupportService;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    @Override
+    protected long executeUpdate(
+            final String queryName,
+            final Map<String, Object> parameters) {
+        var query = jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createNamedQuery(queryName);
+        parameters.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+
 }
@@ -19,7 +19,9 @@
 package org.apache.causeway.extensions.excel.applib;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.value.Blob;
@@ -53,6 +55,22 @@ <T> Blob toExcel(List<T> domainObjects, Class<T> cls, String sheetName, String f
     <T> Blob toExcel(List<T> domainObjects, Class<T> cls, String sheetName, String fileName, InputStream in)
             throws ExcelServiceDefault.Exception;
 
+    /**
+     * Streaming variant of {@link #toExcel(List, Class, String, String)}, that writes the spreadsheet to
+     * given {@link OutputStream}, rather than returning it as a (fully buffered) {@link Blob}.
+     *
+     * <p>
+     *     The domain objects are consumed one at a time, with only a bounded window of rows kept in memory
+     *     (as per <code>causeway.extensions.excel.row-access-window-size</code>). Memory use therefore does
+     *     not grow with the number of domain objects.
+     * </p>
+     *
+     * @param sheetName - must be 31 chars or less
+     * @param out - the spreadsheet is written to; not closed by this method
+     */
+    <T> void toExcel(Stream<T> domainObjects, Class<T> cls, String sheetName, OutputStream out)
+            throws ExcelService.Exception;
+
     <T> Blob toExcel(WorksheetContent worksheetContent, String fileName) throws ExcelService.Exception;
 
     <T> Blob toExcel(WorksheetContent worksheetContent, String fileName, InputStream in)
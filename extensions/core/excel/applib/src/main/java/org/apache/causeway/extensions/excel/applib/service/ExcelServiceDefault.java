@@ -21,7 +21,9 @@
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
@@ -86,6 +88,15 @@ public <T> Blob toExcel(
         return helper.toExcel(domainObjects, cls, sheetName, fileName, in);
     }
 
+    @Override
+    public <T> void toExcel(
+            final Stream<T> domainObjects,
+            final Class<T> cls,
+            final String sheetName,
+            final OutputStream out) throws ExcelServiceDefault.Exception {
+        helper.toExcel(domainObjects, cls, sheetName, out);
+    }
+
     @Override
     public <T> Blob toExcel(
             final WorksheetContent worksheetContent,
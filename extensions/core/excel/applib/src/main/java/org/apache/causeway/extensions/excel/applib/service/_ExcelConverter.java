@@ -22,6 +22,7 @@
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -32,6 +33,7 @@
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.ss.usermodel.Cell;
@@ -42,6 +44,7 @@
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import org.springframework.lang.Nullable;
@@ -120,7 +123,7 @@ public Row newRow() {
 
     // //////////////////////////////////////
 
-    File appendSheet(final List<WorksheetContent> worksheetContents, final XSSFWorkbook workbook) throws IOException {
+    File appendSheet(final List<WorksheetContent> worksheetContents, final SXSSFWorkbook workbook) throws IOException {
         final Set<String> worksheetNames = worksheetContents.stream()
                 .map(x -> x.getSpec().getSheetName())
                 .collect(Collectors.toSet());
@@ -128,11 +131,7 @@ File appendSheet(final List<WorksheetContent> worksheetContents, final XSSFWorkb
             throw new IllegalArgumentException("Sheet names must have distinct names");
         }
         for (final String worksheetName : worksheetNames) {
-            if(worksheetName.length() > 30) {
-                throw new IllegalArgumentException(
-                        String.format("Sheet name cannot exceed 30 characters (invalid name: '%s')",
-                                worksheetName));
-            }
+            assertValidSheetName(worksheetName);
         }
 
         final File tempFile =
@@ -141,23 +140,46 @@ File appendSheet(final List<WorksheetContent> worksheetContents, final XSSFWorkb
 
             for (WorksheetContent worksheetContent : worksheetContents) {
                 final WorksheetSpec spec = worksheetContent.getSpec();
-                appendSheet(workbook, worksheetContent.getDomainObjects(), spec.getFactory(), spec.getSheetName());
+                appendSheet(workbook, worksheetContent.getDomainObjects().stream(), spec.getFactory(), spec.getSheetName());
             }
             workbook.write(fos);
+        } finally {
+            workbook.dispose(); // deletes the temporary files backing the flushed rows
         }
         return tempFile;
     }
 
+    /**
+     * Writes a single sheet, consuming the domain objects one at a time.
+     */
+    void writeSheet(
+            final Stream<?> domainObjects,
+            final WorksheetSpec spec,
+            final SXSSFWorkbook workbook,
+            final OutputStream out) throws IOException {
+        assertValidSheetName(spec.getSheetName());
+        try(workbook) {
+            appendSheet(workbook, domainObjects, spec.getFactory(), spec.getSheetName());
+            workbook.write(out);
+        } finally {
+            workbook.dispose(); // deletes the temporary files backing the flushed rows
+        }
+    }
+
+    private static void assertValidSheetName(final String worksheetName) {
+        if(worksheetName.length() > 30) {
+            throw new IllegalArgumentException(
+                    String.format("Sheet name cannot exceed 30 characters (invalid name: '%s')",
+                            worksheetName));
+        }
+    }
+
     private Sheet appendSheet(
-            final XSSFWorkbook workbook,
-            final List<?> domainObjects,
+            final Workbook workbook,
+            final Stream<?> domainObjects,
             final WorksheetSpec.RowFactory<?> factory,
             final String sheetName) throws IOException {
 
-        final List<ManagedObject> adapters = domainObjects.stream()
-                .map(objectManager::adapt)
-                .collect(Collectors.toList());
-
         final List<OneToOneAssociation> propertyList = _Lists.newArrayList();
 
         specificationLoader.specForType(factory.getCls())
@@ -186,19 +208,21 @@ private Sheet appendSheet(
 
         final _CellMarshaller cellMarshaller = newCellMarshaller(workbook);
 
-        // detail rows
-        for (final ManagedObject objectAdapter : adapters) {
+        // detail rows (adapting the domain objects one at a time)
+        domainObjects
+        .map(objectManager::adapt)
+        .forEach(objectAdapter->{
             final Row detailRow = rowFactory.newRow();
-            i = 0;
+            int columnIndex = 0;
             for (var property : propertyList) {
-                final Cell cell = detailRow.createCell(i++);
+                final Cell cell = detailRow.createCell(columnIndex++);
                 if (annotatedAsHyperlink.contains(property)){
                     cellMarshaller.setCellValueForHyperlink(objectAdapter, property, cell);
                 } else {
                     cellMarshaller.setCellValue(objectAdapter, property, cell);
                 }
             }
-        }
+        });
 
         // freeze panes
         sheet.createFreezePane(0, 1);
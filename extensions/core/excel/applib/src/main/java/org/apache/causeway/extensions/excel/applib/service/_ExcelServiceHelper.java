@@ -21,16 +21,20 @@
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
 import org.apache.causeway.applib.services.inject.ServiceInjector;
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.extensions.excel.applib.WorksheetContent;
@@ -83,6 +87,24 @@ <T> Blob toExcel(
         return toExcel(new WorksheetContent(domainObjects, new WorksheetSpec(cls, sheetName)), fileName, in);
     }
 
+    /**
+     * As {@link #toExcel(List, Class, String, String)}, but consuming the domain objects one at a time and
+     * writing the spreadsheet to given {@link OutputStream}, keeping only a bounded window of rows in memory.
+     *
+     * @param sheetName - must be 31 chars or less
+     */
+    <T> void toExcel(
+            final Stream<T> domainObjects,
+            final Class<T> cls,
+            final String sheetName,
+            final OutputStream out) {
+        try {
+            newExcelConverter().writeSheet(domainObjects, new WorksheetSpec(cls, sheetName), newWorkbook(), out);
+        } catch (final IOException ex) {
+            throw new ExcelServiceDefault.Exception(ex);
+        }
+    }
+
     /**
      * As {@link #toExcel(List, Class, String, String)}, but with the domain objects, class and sheet name provided using a
      * {@link WorksheetContent}.
@@ -104,7 +126,7 @@ <T> Blob toExcel(final WorksheetContent worksheetContent, final String fileName,
      */
     Blob toExcel(final List<WorksheetContent> worksheetContents, final String fileName) {
         try {
-            final File file = newExcelConverter().appendSheet(worksheetContents, new XSSFWorkbook());
+            final File file = newExcelConverter().appendSheet(worksheetContents, newWorkbook());
             return excelFileBlobConverter.toBlob(fileName, file);
         } catch (final IOException ex) {
             throw new ExcelServiceDefault.Exception(ex);
@@ -116,7 +138,7 @@ Blob toExcel(final List<WorksheetContent> worksheetContents, final String fileNa
      */
     Blob toExcel(final List<WorksheetContent> worksheetContents, final String fileName, final InputStream in) {
         try {
-            final File file = newExcelConverter().appendSheet(worksheetContents, new XSSFWorkbook(in));
+            final File file = newExcelConverter().appendSheet(worksheetContents, newWorkbook(new XSSFWorkbook(in)));
             return excelFileBlobConverter.toBlob(fileName, file);
         } catch (final IOException ex) {
             throw new ExcelServiceDefault.Exception(ex);
@@ -219,6 +241,25 @@ List<List<?>> fromExcel(
 
     // -- HELPER
 
+    /**
+     * Rows beyond the configured window are flushed to disk while writing,
+     * so memory use does not grow with the number of rows.
+     */
+    private SXSSFWorkbook newWorkbook() {
+        return new SXSSFWorkbook(rowAccessWindowSize());
+    }
+
+    /**
+     * As {@link #newWorkbook()}, but appending to given (template) workbook.
+     */
+    private SXSSFWorkbook newWorkbook(final XSSFWorkbook template) {
+        return new SXSSFWorkbook(template, rowAccessWindowSize());
+    }
+
+    private int rowAccessWindowSize() {
+        return causewayConfiguration.getExtensions().getExcel().getRowAccessWindowSize();
+    }
+
     @SneakyThrows
     private _ExcelConverter newExcelConverter() {
         return new _ExcelConverter(specificationLoader, objectManager, bookmarkService, serviceInjector);
@@ -238,4 +279,7 @@ private _ExcelConverter newExcelConverter() {
     @javax.inject.Inject
     ObjectManager objectManager;
 
+    @javax.inject.Inject
+    CausewayConfiguration causewayConfiguration;
+
 }
@@ -0,0 +1,126 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.excel.integtests.tests;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.util.DefaultTempFileCreationStrategy;
+import org.apache.poi.util.TempFile;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.extensions.excel.applib.ExcelService;
+import org.apache.causeway.extensions.excel.fixtures.demoapp.demomodule.dom.bulkupdate.BulkUpdateLineItemForDemoToDoItem;
+import org.apache.causeway.extensions.excel.integtests.ExcelModuleIntegTestAbstract;
+
+public class ExcelServiceStreaming_IntegTest extends ExcelModuleIntegTestAbstract {
+
+    /**
+     * Well beyond the (default) row access window of 100, such that rows get flushed to temporary files.
+     */
+    private static final int ROW_COUNT = 5_000;
+
+    @Inject private ExcelService excelService;
+
+    @TempDir Path poiTempDir;
+    private final List<File> tempFilesCreated = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void recordTempFiles() {
+        TempFile.setTempFileCreationStrategy(new DefaultTempFileCreationStrategy(poiTempDir.toFile()) {
+            @Override
+            public File createTempFile(final String prefix, final String suffix) throws IOException {
+                var tempFile = super.createTempFile(prefix, suffix);
+                tempFilesCreated.add(tempFile);
+                return tempFile;
+            }
+        });
+    }
+
+    @AfterEach
+    void restoreTempFiles() {
+        TempFile.setTempFileCreationStrategy(new DefaultTempFileCreationStrategy());
+    }
+
+    @Test
+    void toExcel_fromStream() throws Exception {
+
+        // when
+        var out = new ByteArrayOutputStream();
+        excelService.toExcel(
+                IntStream.range(0, ROW_COUNT).mapToObj(ExcelServiceStreaming_IntegTest::lineItem),
+                BulkUpdateLineItemForDemoToDoItem.class,
+                "Items",
+                out);
+
+        // then - rows beyond the window were flushed to temporary files, all of which have been disposed of
+        assertThat(tempFilesCreated).isNotEmpty();
+        assertThat(tempFilesCreated).noneMatch(File::exists);
+
+        // and then - all rows were written
+        try(var workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            var sheet = workbook.getSheet("Items");
+            assertThat(sheet.getPhysicalNumberOfRows()).isEqualTo(1 + ROW_COUNT); // header row + detail rows
+
+            var descriptionColumn = columnIndex(sheet, "Description");
+            var notesColumn = columnIndex(sheet, "Notes");
+            for (int i : new int[] {0, 99, 100, 2_500, ROW_COUNT - 1}) {
+                var row = sheet.getRow(1 + i);
+                assertThat(row.getCell(descriptionColumn).getStringCellValue()).isEqualTo("Item " + i);
+                assertThat(row.getCell(notesColumn).getStringCellValue()).isEqualTo("Notes on item " + i);
+            }
+        }
+    }
+
+    // -- HELPER
+
+    private static BulkUpdateLineItemForDemoToDoItem lineItem(final int i) {
+        var lineItem = new BulkUpdateLineItemForDemoToDoItem();
+        lineItem.setDescription("Item " + i);
+        lineItem.setNotes("Notes on item " + i);
+        return lineItem;
+    }
+
+    private static int columnIndex(final Sheet sheet, final String header) {
+        final Row headerRow = sheet.getRow(0);
+        for (int i = 0; i < headerRow.getLastCellNum(); i++) {
+            if (header.equals(headerRow.getCell(i).getStringCellValue())) {
+                return i;
+            }
+        }
+        throw new AssertionError("no column with header " + header);
+    }
+
+}
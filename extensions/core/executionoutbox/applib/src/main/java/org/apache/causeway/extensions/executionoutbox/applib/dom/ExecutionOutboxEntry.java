@@ -109,6 +109,9 @@ public static abstract class ActionDomainEvent extends CausewayModuleExtExecutio
     public static class Nq {
         public static final String FIND_BY_INTERACTION_ID_AND_SEQUENCE = LOGICAL_TYPE_NAME + ".findByInteractionIdAndSequence";
         public static final String FIND_OLDEST = LOGICAL_TYPE_NAME + ".findOldest";
+        public static final String FIND_BEFORE = LOGICAL_TYPE_NAME + ".findBefore";
+        public static final String FIND_AFTER_AND_BEFORE = LOGICAL_TYPE_NAME + ".findAfterAndBefore";
+        public static final String DELETE_UP_TO = LOGICAL_TYPE_NAME + ".deleteUpTo";
     }
 
     @UtilityClass
@@ -23,6 +23,8 @@
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.iactn.Execution;
@@ -57,6 +59,25 @@ public NotFoundException(final UUID interactionId) {
 
     List<ExecutionOutboxEntry> findOldest();
 
+    /**
+     * Returns the oldest entries (up to the configured maximum) that come after the entry identified by given
+     * <code>interactionId</code> and <code>sequence</code>, or the oldest entries if there is no such entry
+     * (for example, because it was already deleted).
+     *
+     * <p>
+     *     Entries are ordered by timestamp, interactionId and sequence, and the page is selected by comparing
+     *     against those of the cursor (keyset pagination), so the cost of a page does not depend on how many
+     *     entries come before it.  Entries younger than the configured settle delay are not returned.
+     * </p>
+     *
+     * <p>
+     *     Entries are ordered by the time their execution started, but only become visible once their transaction
+     *     commits. Hence an entry of a transaction that commits late (after the settle delay) may come before the
+     *     cursor, and is then not returned for that cursor.
+     * </p>
+     */
+    List<ExecutionOutboxEntry> findOldestAfter(final @Nullable UUID interactionId, final int sequence);
+
     ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
@@ -79,6 +100,24 @@ ExecutionOutboxEntry upsert(
 
     boolean deleteByInteractionIdAndSequence(final UUID interactionId, final int sequence);
 
+    /**
+     * Deletes the entry identified by given <code>interactionId</code> and <code>sequence</code>, along with
+     * all entries that come before it (as per {@link #findOldestAfter(UUID, int)}), using a single bulk delete.
+     *
+     * <p>
+     *     Idempotent: if there is no such entry (for example, because already deleted), nothing is deleted.
+     * </p>
+     *
+     * <p>
+     *     Any entry of a transaction that committed later than the settle delay, in front of the cursor, is
+     *     deleted too, even though it was never handed out.  Use {@link #deleteByInteractionIdAndSequence(UUID, int)}
+     *     for each entry instead, if the settle delay cannot be relied upon.
+     * </p>
+     *
+     * @return the number of entries deleted
+     */
+    int deleteUpTo(final UUID interactionId, final int sequence);
+
     /**
      * for testing purposes only
      */
@@ -20,16 +20,20 @@
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.clock.ClockService;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.applib.services.repository.RepositoryService;
@@ -69,6 +73,7 @@ public NotFoundException(final UUID interactionId) {
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
     @Inject CausewayConfiguration causewayConfiguration;
+    @Inject ClockService clockService;
 
     protected ExecutionOutboxEntryRepositoryAbstract(final Class<E> executionOutboxEntryClass) {
         this.executionOutboxEntryClass = executionOutboxEntryClass;
@@ -108,11 +113,31 @@ public List<ExecutionOutboxEntry> findOldest() {
         return _Casts.uncheckedCast(
                 repositoryService().allMatches(
                 Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_OLDEST)
-                        .withLimit(causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxPending())
+                        .withLimit(restApiConfig().getMaxPending())
                 )
         );
     }
 
+    public List<ExecutionOutboxEntry> findOldestAfter(final @Nullable UUID interactionId, final int sequence) {
+        var cursorIfAny = interactionId != null
+                ? findByInteractionIdAndSequence(interactionId, sequence)
+                : Optional.<ExecutionOutboxEntry>empty();
+        var before = Timestamp.from(
+                clockService.getClock().nowAsInstant().minus(restApiConfig().getSettleDelay()));
+
+        // keyset pagination: the cursor's (timestamp, interactionId, sequence) is the lower bound of the page
+        var query = cursorIfAny
+                .map(cursor->Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_AFTER_AND_BEFORE)
+                        .withParameter("timestamp", cursor.getTimestamp())
+                        .withParameter("interactionId", cursor.getInteractionId())
+                        .withParameter("sequence", cursor.getSequence()))
+                .orElseGet(()->Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_BEFORE));
+        return _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                    query.withParameter("before", before)
+                         .withLimit(restApiConfig().getMaxPending())));
+    }
+
     public ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
@@ -171,6 +196,33 @@ public boolean deleteByInteractionIdAndSequence(final UUID interactionId, final
         }
     }
 
+    @Programmatic
+    public int deleteUpTo(final UUID interactionId, final int sequence) {
+        var cursorIfAny = findByInteractionIdAndSequence(interactionId, sequence);
+        if(cursorIfAny.isEmpty()) {
+            return 0; // already deleted
+        }
+        var cursor = cursorIfAny.get();
+        return (int) deleteAll(ExecutionOutboxEntry.Nq.DELETE_UP_TO, Map.of(
+                "timestamp", cursor.getTimestamp(),
+                "interactionId", cursor.getInteractionId(),
+                "sequence", cursor.getSequence()));
+    }
+
+    /**
+     * Deletes all entries matched by the named query ({@link ExecutionOutboxEntry.Nq#DELETE_UP_TO}) with given
+     * parameters, as a single bulk delete.
+     *
+     * @return the number of entries deleted.
+     */
+    protected abstract long deleteAll(
+            final String queryName,
+            final Map<String, Object> parameters);
+
+    private CausewayConfiguration.Extensions.ExecutionOutbox.RestApi restApiConfig() {
+        return causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi();
+    }
+
     private void persist(final E commandLogEntry) {
         repositoryService().persist(commandLogEntry);
     }
@@ -26,10 +26,13 @@
 
 import org.apache.causeway.applib.annotation.Action;
 import org.apache.causeway.applib.annotation.DomainService;
+import org.apache.causeway.applib.annotation.Optionality;
+import org.apache.causeway.applib.annotation.Parameter;
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.SemanticsOf;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
+import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
@@ -42,6 +45,12 @@
  * {@link ExecutionOutboxEntry outbox entries} to be processed, and then later to request them to be
  * {@link #deleteMany(String) deleted}.
  *
+ * <p>
+ *     Alternatively, the client can page through the outbox using {@link #pendingAfter(String, int)}, passing in
+ *     the last entry processed so far as a cursor, and then {@link #acknowledgeUpTo(String, int) acknowledge}
+ *     all entries up to that cursor in a single call.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Named(OutboxRestApi.LOGICAL_TYPE_NAME)
@@ -73,6 +82,45 @@ public OutboxEvents pending() {
         return outboxEvents;
     }
 
+    /**
+     * As {@link #pending()}, but returning only those entries that come after the entry identified by given
+     * <code>interactionId</code> and <code>sequence</code> (the cursor).  If no <code>interactionId</code> is
+     * provided, or the entry no longer exists, the oldest entries are returned.
+     *
+     * <p>
+     *     Entries younger than the configured settle delay are not returned, such that transactions committing
+     *     within that delay cannot add entries before a cursor already handed out.
+     * </p>
+     */
+    @Action(
+            semantics = SemanticsOf.SAFE,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public OutboxEvents pendingAfter(
+            @Parameter(optionality = Optionality.OPTIONAL) final String interactionId,
+            final int sequence) {
+        var outboxEvents = factoryService.viewModel(new OutboxEvents());
+        List<? extends ExecutionOutboxEntry> entries = executionOutboxEntryRepository.findOldestAfter(
+                _Strings.isNullOrEmpty(interactionId) ? null : UUID.fromString(interactionId),
+                sequence);
+        outboxEvents.getExecutions().addAll(entries);
+        return outboxEvents;
+    }
+
+    /**
+     * Deletes the entry identified by given <code>interactionId</code> and <code>sequence</code>, and all entries
+     * that were returned before it by {@link #pendingAfter(String, int)}.
+     */
+    @Action(
+            semantics = SemanticsOf.IDEMPOTENT,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public void acknowledgeUpTo(final String interactionId, final int sequence) {
+        executionOutboxEntryRepository.deleteUpTo(UUID.fromString(interactionId), sequence);
+    }
+
     @Action(
             semantics = SemanticsOf.IDEMPOTENT,
             executionPublishing = Publishing.DISABLED,
@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.extensions.executionoutbox.applib.integtest;
 
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -39,9 +41,11 @@
 import org.apache.causeway.applib.services.sudo.SudoService;
 import org.apache.causeway.applib.services.user.UserMemento;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.core.config.presets.CausewayPresets;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryType;
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter;
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.CounterRepository;
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter_bumpUsingMixin;
@@ -276,12 +280,132 @@ void test_all_the_repository_methods() {
 
     }
 
+    @Test
+    void pendingAfter_pages_through_entries_and_returns_entries_committed_late_once_acknowledged() {
+
+        // given
+        var first = newEntry("2020-01-01T00:00:01Z");
+        var second = newEntry("2020-01-01T00:00:03Z");
+
+        // when
+        var page1 = executionOutboxEntryRepository.findOldestAfter(null, 0);
+
+        // then
+        assertThat(page1).containsExactly(first, second);
+
+        // and given a transaction committing late, in front of the cursor
+        var late = newEntry("2020-01-01T00:00:02Z");
+
+        // when
+        var page2 = executionOutboxEntryRepository.findOldestAfter(second.getInteractionId(), second.getSequence());
+
+        // then not yet returned
+        assertThat(page2).isEmpty();
+
+        // when acknowledging the entries handed out
+        page1.forEach(entry->executionOutboxEntryRepository
+                .deleteByInteractionIdAndSequence(entry.getInteractionId(), entry.getSequence()));
+
+        // then the entry committed late is not lost, but returned, as the cursor no longer exists
+        var page3 = executionOutboxEntryRepository.findOldestAfter(second.getInteractionId(), second.getSequence());
+        assertThat(page3).containsExactly(late);
+    }
+
+    @Test
+    void acknowledging_deletes_only_the_entries_handed_out() {
+
+        // given
+        var first = newEntry("2020-01-01T00:00:01Z");
+        var second = newEntry("2020-01-01T00:00:02Z");
+
+        // when
+        var deleted = executionOutboxEntryRepository
+                .deleteByInteractionIdAndSequence(first.getInteractionId(), first.getSequence());
+
+        // then
+        assertThat(deleted).isTrue();
+        assertThat(executionOutboxEntryRepository.findOldestAfter(null, 0)).containsExactly(second);
+
+        // when acknowledged again
+        var deletedAgain = executionOutboxEntryRepository
+                .deleteByInteractionIdAndSequence(first.getInteractionId(), first.getSequence());
+
+        // then idempotent
+        assertThat(deletedAgain).isFalse();
+        assertThat(executionOutboxEntryRepository.findOldestAfter(null, 0)).containsExactly(second);
+    }
+
+    @Test
+    void pendingAfter_pages_through_entries_with_same_timestamp() {
+
+        // given
+        newEntry("2020-01-01T00:00:01Z");
+        newEntry("2020-01-01T00:00:01Z");
+        newEntry("2020-01-01T00:00:01Z");
+        newEntry("2020-01-01T00:00:02Z");
+        var all = executionOutboxEntryRepository.findOldestAfter(null, 0);
+        assertThat(all).hasSize(4);
+
+        // when
+        var cursor = all.get(1);
+        var page = executionOutboxEntryRepository.findOldestAfter(cursor.getInteractionId(), cursor.getSequence());
+
+        // then
+        assertThat(page).containsExactlyElementsOf(all.subList(2, 4));
+    }
+
+    @Test
+    void acknowledgeUpTo_deletes_entries_up_to_and_including_the_cursor() {
+
+        // given
+        newEntry("2020-01-01T00:00:01Z");
+        newEntry("2020-01-01T00:00:02Z");
+        newEntry("2020-01-01T00:00:02Z");
+        newEntry("2020-01-01T00:00:03Z");
+        var all = executionOutboxEntryRepository.findOldestAfter(null, 0);
+        assertThat(all).hasSize(4);
+
+        // when
+        var cursor = all.get(1);
+        var deleted = executionOutboxEntryRepository.deleteUpTo(cursor.getInteractionId(), cursor.getSequence());
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(executionOutboxEntryRepository.findOldestAfter(null, 0)).containsExactlyElementsOf(all.subList(2, 4));
+
+        // when acknowledged again
+        var deletedAgain = executionOutboxEntryRepository.deleteUpTo(cursor.getInteractionId(), cursor.getSequence());
+
+        // then idempotent
+        assertThat(deletedAgain).isZero();
+        assertThat(executionOutboxEntryRepository.findOldestAfter(null, 0)).containsExactlyElementsOf(all.subList(2, 4));
+    }
+
+    private ExecutionOutboxEntry newEntry(final String startedAt) {
+        var interactionId = UUID.randomUUID();
+        var execution = new ActionInvocationDto();
+        execution.setSequence(0);
+        execution.setLogicalMemberIdentifier("executionoutbox.test.Counter#bumpUsingDeclaredAction");
+        var interactionDto = new InteractionDto();
+        interactionDto.setInteractionId(interactionId.toString());
+        interactionDto.setExecution(execution);
+        var entry = executionOutboxEntryRepository.upsert(
+                interactionId, 0, ExecutionOutboxEntryType.ACTION_INVOCATION,
+                Timestamp.from(Instant.parse(startedAt)), "__system",
+                bookmarkService.bookmarkForElseFail(counter1),
+                execution.getLogicalMemberIdentifier(),
+                interactionDto);
+        transactionService.flushTransaction();
+        return entry;
+    }
+
     @Inject ExecutionOutboxEntryRepository executionOutboxEntryRepository;
     @Inject SudoService sudoService;
     @Inject ClockService clockService;
     @Inject InteractionService interactionService;
     @Inject CounterRepository counterRepository;
     @Inject WrapperFactory wrapperFactory;
+    @Inject TransactionService transactionService;
     @Inject BookmarkService bookmarkService;
 
 }
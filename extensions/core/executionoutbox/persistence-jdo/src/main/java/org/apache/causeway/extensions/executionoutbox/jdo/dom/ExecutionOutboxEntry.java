@@ -51,6 +51,7 @@
         objectIdClass= ExecutionOutboxEntryPK.class)
 @Indices({
         @Index(name = "ExecutionOutboxEntry__timestamp__IDX", members = { "timestamp" }),
+        @Index(name = "ExecutionOutboxEntry__timestamp__interactionId__sequence__IDX", members = { "timestamp", "interactionId", "sequence" }),
         @Index(name = "ExecutionOutboxEntry__target__timestamp__IDX", members = { "target", "timestamp" }),
         @Index(name = "ExecutionOutboxEntry__username__timestamp__IDX", members = { "username", "timestamp" }),
 })
@@ -67,6 +68,30 @@
                   + "  FROM " + ExecutionOutboxEntry.FQCN + " "
                   + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"
                     + " RANGE 0,100"),
+    @Query(
+            name = Nq.FIND_BEFORE,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE timestamp < :before "
+                  + " ORDER BY timestamp ASC, interactionId ASC, sequence ASC"),  // programmatic range
+    @Query(
+            name = Nq.FIND_AFTER_AND_BEFORE,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE (timestamp > :timestamp "
+                  + "        || (timestamp == :timestamp "
+                  + "            && (interactionId > :interactionId "
+                  + "                || (interactionId == :interactionId && sequence > :sequence)))) "
+                  + "    && timestamp < :before "
+                  + " ORDER BY timestamp ASC, interactionId ASC, sequence ASC"),  // programmatic range
+    @Query(
+            name = Nq.DELETE_UP_TO,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE timestamp < :timestamp "
+                  + "    || (timestamp == :timestamp "
+                  + "        && (interactionId < :interactionId "
+                  + "            || (interactionId == :interactionId && sequence <= :sequence))) "),  // deletePersistentAll
 })
 @Named(ExecutionOutboxEntry.LOGICAL_TYPE_NAME)
 @DomainObject(
@@ -76,7 +101,7 @@
 @XmlJavaTypeAdapter(PersistentEntityAdapter.class)
 public class ExecutionOutboxEntry extends org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry {
 
-    public static final String FQCN = "org.apache.causeway.extensions.executionlog.jdo.dom.ExecutionLogEntry";
+    public static final String FQCN = "org.apache.causeway.extensions.executionoutbox.jdo.dom.ExecutionOutboxEntry";
     @PrimaryKey
     @InteractionId
     @Column(allowsNull = InteractionId.ALLOWS_NULL, length=InteractionId.MAX_LENGTH)
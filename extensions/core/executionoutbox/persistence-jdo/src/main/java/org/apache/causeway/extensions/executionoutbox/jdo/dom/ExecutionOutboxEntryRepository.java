@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jdo.dom;
 
+import java.util.Map;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -28,6 +31,7 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 import lombok.Builder;
 
@@ -38,6 +42,8 @@
 public class ExecutionOutboxEntryRepository
 extends ExecutionOutboxEntryRepositoryAbstract<ExecutionOutboxEntry> {
 
+    @Inject JdoSupportService jdoSupportService;
+
     public ExecutionOutboxEntryRepository() {
         super(ExecutionOutboxEntry.class);
     }
@@ -53,6 +59,16 @@ public ExecutionOutboxEntryRepository() {
         super(executionLogEntryClass, repositoryServiceProvider, factoryService);
     }
 
+    @Override
+    protected long deleteAll(
+            final String queryName,
+            final Map<String, Object> parameters) {
+        // JDO bulk delete of the query's candidates, returns the number of entries deleted
+        return jdoSupportService.getPersistenceManager()
+                .newNamedQuery(ExecutionOutboxEntry.class, queryName)
+                .deletePersistentAll(parameters);
+    }
+
     @Override
     protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
@@ -59,6 +59,7 @@
         name = ExecutionOutboxEntry.TABLE,
         indexes = {
                 @Index(name = "ExecutionOutboxEntry__timestamp__IDX", columnList = "timestamp"),
+                @Index(name = "ExecutionOutboxEntry__timestamp__interactionId__sequence__IDX", columnList = "timestamp, interactionId, sequence"),
                 @Index(name = "ExecutionOutboxEntry__target__timestamp__IDX", columnList = "target, timestamp"),
                 @Index(name = "ExecutionOutboxEntry__username__timestamp__IDX", columnList = "username, timestamp"),
         }
@@ -75,6 +76,30 @@
             query = "SELECT ele "
                   + "  FROM ExecutionOutboxEntry ele "
                   + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence DESC"),  // programmatic range 0,100
+    @NamedQuery(
+            name = Nq.FIND_BEFORE,
+            query = "SELECT ele "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE ele.timestamp < :before "
+                  + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence ASC"),  // programmatic range
+    @NamedQuery(
+            name = Nq.FIND_AFTER_AND_BEFORE,
+            query = "SELECT ele "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE (ele.timestamp > :timestamp "
+                  + "        OR (ele.timestamp = :timestamp "
+                  + "            AND (ele.pk.interactionId > :interactionId "
+                  + "                 OR (ele.pk.interactionId = :interactionId AND ele.pk.sequence > :sequence)))) "
+                  + "   AND ele.timestamp < :before "
+                  + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence ASC"),  // programmatic range
+    @NamedQuery(
+            name = Nq.DELETE_UP_TO,
+            query = "DELETE "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE ele.timestamp < :timestamp "
+                  + "    OR (ele.timestamp = :timestamp "
+                  + "        AND (ele.pk.interactionId < :interactionId "
+                  + "             OR (ele.pk.interactionId = :interactionId AND ele.pk.sequence <= :sequence))) "),
 })
 @Named(ExecutionOutboxEntry.LOGICAL_TYPE_NAME)
 @DomainObject(
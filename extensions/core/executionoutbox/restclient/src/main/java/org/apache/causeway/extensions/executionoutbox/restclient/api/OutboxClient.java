@@ -27,6 +27,8 @@
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.core.MediaType;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
 import org.apache.causeway.commons.functional.Try;
 import org.apache.causeway.commons.io.JsonUtils;
@@ -130,6 +132,41 @@ public List<InteractionDto> pending() {
                 .orElseGet(Collections::emptyList);
     }
 
+    /**
+     * Returns the pending entries that come after the entry identified by given <code>interactionId</code> and
+     * <code>sequence</code>, typically the last entry returned by the previous call.
+     * Pass in <code>null</code> as the <code>interactionId</code> to obtain the oldest entries.
+     *
+     * <p>
+     *     Once processed, the entries can be acknowledged in a single call using {@link #acknowledgeUpTo(String, int)}.
+     * </p>
+     */
+    public List<InteractionDto> pendingAfter(final @Nullable String interactionId, final int sequence) {
+
+        var queryString = interactionId != null
+                ? "?interactionId=" + interactionId + "&sequence=" + sequence
+                : "?sequence=" + sequence;
+        Invocation.Builder invocationBuilder = client.request(outboxClientConfig.getPendingAfterUri() + queryString)
+                .accept(RestfulClientMediaType.RO_XML.mediaTypeFor(InteractionsDto.class));
+        var response = invocationBuilder.get();
+
+        final Try<InteractionsDto> digest = client.digest(response, InteractionsDto.class);
+
+        digest.ifFailureFail();
+        return digest.getValue()
+                .map(InteractionsDto::getInteractionDto)
+                .orElseGet(Collections::emptyList);
+    }
+
+    /**
+     * Deletes the entry identified by given <code>interactionId</code> and <code>sequence</code>, along with all
+     * entries returned before it by {@link #pendingAfter(String, int)}.
+     */
+    public void acknowledgeUpTo(final String interactionId, final int sequence) {
+        invoke(outboxClientConfig.getAcknowledgeUpToUri(),
+                new DeleteMessage(interactionId, sequence));
+    }
+
     public void delete(final String interactionId, final int sequence) {
         invoke(outboxClientConfig.getDeleteUri(),
                 new DeleteMessage(interactionId, sequence));
@@ -0,0 +1,63 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.metrics.micrometer;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import org.apache.causeway.extensions.metrics.micrometer.spiimpl.AsyncExecutorServiceMeters;
+import org.apache.causeway.extensions.metrics.micrometer.spiimpl.CommandSubscriberForMicrometer;
+import org.apache.causeway.extensions.metrics.micrometer.spiimpl.EntityChangesSubscriberForMicrometer;
+import org.apache.causeway.extensions.metrics.micrometer.spiimpl.ExecutionSubscriberForMicrometer;
+import org.apache.causeway.extensions.metrics.micrometer.spiimpl.MetricsSubscriberForMicrometer;
+import org.apache.causeway.extensions.metrics.micrometer.spiimpl.PageRenderSubscriberForMicrometer;
+import org.apache.causeway.extensions.metrics.micrometer.spiimpl.SharedQueryResultsCacheMeters;
+
+/**
+ * Publishes timers, counters and gauges of interactions, member executions, command and execution publishing,
+ * entity changes, the query results cache, the async executor, the rendering of domain objects and the requests
+ * handled by the Restful Objects viewer, to the Micrometer
+ * {@link io.micrometer.core.instrument.MeterRegistry} of the application.
+ * <p>
+ * Requires a {@link io.micrometer.core.instrument.MeterRegistry} bean, as for example provided by
+ * <i>Spring Boot Actuator</i>.
+ *
+ * @since 2.0 {@index}
+ */
+@Configuration
+@Import({
+        // @Service's
+        AsyncExecutorServiceMeters.class,
+        CommandSubscriberForMicrometer.class,
+        EntityChangesSubscriberForMicrometer.class,
+        ExecutionSubscriberForMicrometer.class,
+        MetricsSubscriberForMicrometer.class,
+        PageRenderSubscriberForMicrometer.class,
+        SharedQueryResultsCacheMeters.class,
+})
+public class CausewayModuleExtMetricsMicrometer {
+
+    public static final String NAMESPACE = "causeway.ext.metrics";
+
+    /**
+     * Common prefix of the names of all meters published by this module.
+     */
+    public static final String METER_PREFIX = "causeway.";
+
+}
@@ -0,0 +1,108 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.metrics.micrometer.spiimpl;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.runtimeservices.wrapper.AsyncExecutorService;
+import org.apache.causeway.core.runtimeservices.wrapper.WrapperFactoryDefault;
+import org.apache.causeway.extensions.metrics.micrometer.CausewayModuleExtMetricsMicrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Binds the queue depth, in-flight and completed task counts of the {@link AsyncExecutorService} that
+ * {@link WrapperFactoryDefault} uses for async interactions, tagged with its mode.
+ *
+ * <p>
+ *     Binds itself to the application's {@link MeterRegistry}; should <i>Spring Boot Actuator</i> bind it
+ *     once more (as it does with any {@link MeterBinder} bean), the already registered meters are reused.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(AsyncExecutorServiceMeters.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Micrometer")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class AsyncExecutorServiceMeters implements MeterBinder {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtMetricsMicrometer.NAMESPACE + ".AsyncExecutorServiceMeters";
+
+    final MeterRegistry meterRegistry;
+    final CausewayConfiguration causewayConfiguration;
+    final Optional<WrapperFactory> wrapperFactory;
+
+    @PostConstruct
+    public void init() {
+        if(!_Meters.isEnabled(causewayConfiguration)) {
+            return;
+        }
+        bindTo(meterRegistry);
+    }
+
+    @Override
+    public void bindTo(final @NonNull MeterRegistry registry) {
+        wrapperFactory
+            .filter(WrapperFactoryDefault.class::isInstance)
+            .map(WrapperFactoryDefault.class::cast)
+            .map(WrapperFactoryDefault::getCommonExecutorService)
+            .ifPresent(executor->bind(registry, executor));
+    }
+
+    // -- HELPER
+
+    private static void bind(final MeterRegistry registry, final AsyncExecutorService executor) {
+        var tags = Tags.of("mode", executor.getMode().name().toLowerCase(Locale.ROOT));
+
+        Gauge.builder(_Meters.ASYNC_EXECUTOR + ".queued", executor, AsyncExecutorService::getQueueDepth)
+                .description("Async interactions submitted, but not yet started")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder(_Meters.ASYNC_EXECUTOR + ".active", executor, AsyncExecutorService::getInFlightCount)
+                .description("Async interactions currently being executed")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder(_Meters.ASYNC_EXECUTOR + ".completed", executor, AsyncExecutorService::getCompletedCount)
+                .description("Async interactions that have completed, either normally or exceptionally")
+                .tags(tags)
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.metrics.micrometer.spiimpl;
+
+import java.time.Duration;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.command.Command;
+import org.apache.causeway.applib.services.publishing.spi.CommandSubscriber;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.metrics.micrometer.CausewayModuleExtMetricsMicrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Times completed (published) commands, from their start until their completion, tagged with the logical member
+ * identifier and outcome.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(CommandSubscriberForMicrometer.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Micrometer")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class CommandSubscriberForMicrometer implements CommandSubscriber {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtMetricsMicrometer.NAMESPACE + ".CommandSubscriberForMicrometer";
+
+    final MeterRegistry meterRegistry;
+    final CausewayConfiguration causewayConfiguration;
+
+    @Override
+    public boolean isEnabled() {
+        return _Meters.isEnabled(causewayConfiguration);
+    }
+
+    @Override
+    public void onReady(final Command command) {
+    }
+
+    @Override
+    public void onStarted(final Command command) {
+    }
+
+    @Override
+    public void onCompleted(final Command command) {
+        var startedAt = command.getStartedAt();
+        var completedAt = command.getCompletedAt();
+        if(startedAt==null
+                || completedAt==null) {
+            return;
+        }
+        _Meters.timer(meterRegistry, causewayConfiguration,
+                _Meters.COMMANDS,
+                "Duration of published commands",
+                Tags.of(
+                        _Meters.TAG_MEMBER, _Meters.member(command.getLogicalMemberIdentifier()),
+                        _Meters.TAG_OUTCOME, _Meters.outcome(command.getException())))
+            .record(Duration.ofMillis(completedAt.getTime() - startedAt.getTime()));
+    }
+
+}
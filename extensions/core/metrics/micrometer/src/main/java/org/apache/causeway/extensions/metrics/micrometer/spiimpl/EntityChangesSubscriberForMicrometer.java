@@ -0,0 +1,82 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.metrics.micrometer.spiimpl;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.publishing.spi.EntityChanges;
+import org.apache.causeway.applib.services.publishing.spi.EntityChangesSubscriber;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.metrics.micrometer.CausewayModuleExtMetricsMicrometer;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records the number of entities loaded, created, updated and deleted, and the number of properties modified,
+ * per transaction (of entities with entity change publishing enabled).
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(EntityChangesSubscriberForMicrometer.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Micrometer")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class EntityChangesSubscriberForMicrometer implements EntityChangesSubscriber {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtMetricsMicrometer.NAMESPACE + ".EntityChangesSubscriberForMicrometer";
+
+    final MeterRegistry meterRegistry;
+    final CausewayConfiguration causewayConfiguration;
+
+    @Override
+    public boolean isEnabled() {
+        return _Meters.isEnabled(causewayConfiguration)
+                && causewayConfiguration.getExtensions().getMetrics().getMicrometer().isEntityChanges();
+    }
+
+    @Override
+    public void onChanging(final EntityChanges entityChanges) {
+        record("loaded", entityChanges.getNumberLoaded());
+        record("created", entityChanges.getNumberCreated());
+        record("updated", entityChanges.getNumberUpdated());
+        record("deleted", entityChanges.getNumberDeleted());
+        record("properties.modified", entityChanges.getNumberPropertiesModified());
+    }
+
+    // -- HELPER
+
+    private void record(final String kind, final int count) {
+        DistributionSummary.builder(_Meters.ENTITY_CHANGES)
+            .description("Number of entities (or properties) changed per transaction")
+            .tags("kind", kind)
+            .register(meterRegistry)
+            .record(count);
+    }
+
+}
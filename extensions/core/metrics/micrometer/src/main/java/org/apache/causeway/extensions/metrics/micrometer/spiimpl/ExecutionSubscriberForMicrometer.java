@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.metrics.micrometer.spiimpl;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.metrics.micrometer.CausewayModuleExtMetricsMicrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Counts published executions, tagged with the logical member identifier.
+ * (The durations of all executions are recorded by {@link MetricsSubscriberForMicrometer}.)
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(ExecutionSubscriberForMicrometer.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Micrometer")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class ExecutionSubscriberForMicrometer implements ExecutionSubscriber {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtMetricsMicrometer.NAMESPACE + ".ExecutionSubscriberForMicrometer";
+
+    final MeterRegistry meterRegistry;
+    final CausewayConfiguration causewayConfiguration;
+
+    @Override
+    public boolean isEnabled() {
+        return _Meters.isEnabled(causewayConfiguration);
+    }
+
+    @Override
+    public void onExecution(final Execution<?, ?> execution) {
+        Counter.builder(_Meters.EXECUTIONS_PUBLISHED)
+            .description("Number of published action invocations and property edits")
+            .tags(
+                    _Meters.TAG_MEMBER, _Meters.member(execution.getLogicalMemberIdentifier()),
+                    _Meters.TAG_TYPE, _Meters.type(execution.getInteractionType()))
+            .register(meterRegistry)
+            .increment();
+    }
+
+}
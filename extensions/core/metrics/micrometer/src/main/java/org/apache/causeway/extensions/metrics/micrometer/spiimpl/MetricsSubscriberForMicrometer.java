@@ -0,0 +1,122 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.metrics.micrometer.spiimpl;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.applib.services.iactn.Interaction;
+import org.apache.causeway.applib.services.metrics.MetricsSubscriber;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.metrics.micrometer.CausewayModuleExtMetricsMicrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Times interactions and member executions, tagged with the logical member identifier, as well as the requests
+ * handled by the viewers, and counts the hits and misses of the (interaction scoped) query results cache.
+ *
+ * <p>
+ *     Interactions are tagged with the member of their command, which for an interaction initiated by a viewer
+ *     is the action invoked or property edited (if any).
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(MetricsSubscriberForMicrometer.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Micrometer")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class MetricsSubscriberForMicrometer implements MetricsSubscriber {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtMetricsMicrometer.NAMESPACE + ".MetricsSubscriberForMicrometer";
+
+    final MeterRegistry meterRegistry;
+    final CausewayConfiguration causewayConfiguration;
+
+    @Override
+    public boolean isEnabled() {
+        return _Meters.isEnabled(causewayConfiguration);
+    }
+
+    @Override
+    public void onInteractionClosed(final Interaction interaction, final long durationNanos) {
+        var command = interaction.getCommand();
+        _Meters.timer(meterRegistry, causewayConfiguration,
+                _Meters.INTERACTIONS,
+                "Duration of interactions, from being opened until their transaction has completed",
+                Tags.of(_Meters.TAG_MEMBER, _Meters.member(command!=null
+                        ? command.getLogicalMemberIdentifier()
+                        : null)))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onExecutionCompleted(final Execution<?, ?> execution, final long durationNanos) {
+        _Meters.timer(meterRegistry, causewayConfiguration,
+                _Meters.EXECUTIONS,
+                "Duration of action invocations and property edits",
+                Tags.of(
+                        _Meters.TAG_MEMBER, _Meters.member(execution.getLogicalMemberIdentifier()),
+                        _Meters.TAG_TYPE, _Meters.type(execution.getInteractionType()),
+                        _Meters.TAG_OUTCOME, _Meters.outcome(execution.getThrew())))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onQueryResultsCacheDisposed(final int hitCount, final int missCount) {
+        queryResultsCacheRequests("hit").increment(hitCount);
+        queryResultsCacheRequests("miss").increment(missCount);
+    }
+
+    @Override
+    public void onRequestHandled(final String viewer, final String resource, final int status, final long durationNanos) {
+        _Meters.timer(meterRegistry, causewayConfiguration,
+                _Meters.REQUESTS,
+                "Duration of requests handled by the viewers, including rendering the response",
+                Tags.of(
+                        "viewer", viewer,
+                        "resource", resource,
+                        "status", Integer.toString(status)))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // -- HELPER
+
+    private Counter queryResultsCacheRequests(final String result) {
+        return Counter.builder(_Meters.QUERY_RESULTS_CACHE + ".requests")
+                .description("Requests to the query results cache")
+                .tags("tier", "interaction", "result", result)
+                .register(meterRegistry);
+    }
+
+}
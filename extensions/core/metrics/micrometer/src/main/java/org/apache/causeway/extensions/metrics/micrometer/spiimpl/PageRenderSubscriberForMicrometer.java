@@ -0,0 +1,131 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.metrics.micrometer.spiimpl;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.publishing.spi.PageRenderSubscriber;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.metrics.micrometer.CausewayModuleExtMetricsMicrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Times the rendering of pages by the viewers, tagged with the page type and, for domain objects, their
+ * logical type name.
+ *
+ * <p>
+ *     Rendering happens on the request thread, hence the sample in progress is held in a thread-local.
+ *     If rendering fails, no sample is recorded.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(PageRenderSubscriberForMicrometer.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Micrometer")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class PageRenderSubscriberForMicrometer implements PageRenderSubscriber {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtMetricsMicrometer.NAMESPACE + ".PageRenderSubscriberForMicrometer";
+
+    final MeterRegistry meterRegistry;
+    final CausewayConfiguration causewayConfiguration;
+
+    private final ThreadLocal<Timer.Sample> currentSample = new ThreadLocal<>();
+
+    @Override
+    public boolean isEnabled() {
+        return _Meters.isEnabled(causewayConfiguration);
+    }
+
+    @Override
+    public void onRendering(final PageType pageType) {
+        // discards any sample of a previous page that failed to render
+        currentSample.remove();
+    }
+
+    @Override
+    public void onRenderingDomainObject(final Bookmark bookmark) {
+        start();
+    }
+
+    @Override
+    public void onRenderingCollection(final Supplier<List<Bookmark>> bookmarkSupplier) {
+        start();
+    }
+
+    @Override
+    public void onRenderingValue(final @Nullable Object value) {
+        start();
+    }
+
+    @Override
+    public void onRenderedDomainObject(final Bookmark bookmark) {
+        stop(PageType.DOMAIN_OBJECT, bookmark.getLogicalTypeName());
+    }
+
+    @Override
+    public void onRenderedCollection(final Supplier<List<Bookmark>> bookmarkSupplier) {
+        stop(PageType.COLLECTION, _Meters.NONE);
+    }
+
+    @Override
+    public void onRenderedValue(final @Nullable Object value) {
+        stop(PageType.VALUE, _Meters.NONE);
+    }
+
+    // -- HELPER
+
+    private void start() {
+        currentSample.set(Timer.start(meterRegistry));
+    }
+
+    private void stop(final PageType pageType, final String logicalTypeName) {
+        var sample = currentSample.get();
+        if(sample==null) {
+            return;
+        }
+        currentSample.remove();
+        sample.stop(_Meters.timer(meterRegistry, causewayConfiguration,
+                _Meters.RENDERING,
+                "Duration of rendering pages",
+                Tags.of(
+                        "page", pageType.name().toLowerCase(Locale.ROOT),
+                        "logicalType", logicalTypeName)));
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.metrics.micrometer.spiimpl;
+
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.queryresultscache.SharedQueryResultsCache;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.metrics.micrometer.CausewayModuleExtMetricsMicrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Binds the {@link SharedQueryResultsCache.Metrics} of the (application scoped) shared tier of the
+ * query results cache, if present.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(SharedQueryResultsCacheMeters.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Micrometer")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class SharedQueryResultsCacheMeters {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtMetricsMicrometer.NAMESPACE + ".SharedQueryResultsCacheMeters";
+
+    final MeterRegistry meterRegistry;
+    final CausewayConfiguration causewayConfiguration;
+    final Optional<SharedQueryResultsCache> sharedQueryResultsCache;
+
+    @PostConstruct
+    public void init() {
+        if(!_Meters.isEnabled(causewayConfiguration)) {
+            return;
+        }
+        sharedQueryResultsCache.ifPresent(this::bind);
+    }
+
+    // -- HELPER
+
+    private void bind(final SharedQueryResultsCache cache) {
+        requests(cache, "hit", metrics->metrics.getHitCount());
+        requests(cache, "miss", metrics->metrics.getMissCount());
+
+        FunctionCounter.builder(_Meters.QUERY_RESULTS_CACHE + ".evictions", cache,
+                    c->c.getMetrics().getEvictionCount())
+                .description("Entries of the shared query results cache dropped because of the size limit or time-to-live")
+                .register(meterRegistry);
+        FunctionCounter.builder(_Meters.QUERY_RESULTS_CACHE + ".invalidations", cache,
+                    c->c.getMetrics().getInvalidationCount())
+                .description("Entries of the shared query results cache dropped because of entity changes")
+                .register(meterRegistry);
+        Gauge.builder(_Meters.QUERY_RESULTS_CACHE + ".size", cache,
+                    c->c.getMetrics().getSize())
+                .description("Number of entries of the shared query results cache")
+                .register(meterRegistry);
+        Gauge.builder(_Meters.QUERY_RESULTS_CACHE + ".hit.ratio", cache,
+                    c->c.getMetrics().getHitRatio())
+                .description("Hit ratio of the shared query results cache, since application start")
+                .register(meterRegistry);
+    }
+
+    private void requests(
+            final SharedQueryResultsCache cache,
+            final String result,
+            final ToDoubleFunction<SharedQueryResultsCache.Metrics> count) {
+        FunctionCounter.builder(_Meters.QUERY_RESULTS_CACHE + ".requests", cache,
+                    c->count.applyAsDouble(c.getMetrics()))
+                .description("Requests to the query results cache")
+                .tags("tier", "shared", "result", result)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.metrics.micrometer.spiimpl;
+
+import java.util.Locale;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.metrics.micrometer.CausewayModuleExtMetricsMicrometer;
+import org.apache.causeway.schema.common.v2.InteractionType;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Meter names and tags, shared by the subscribers of this module.
+ */
+@UtilityClass
+class _Meters {
+
+    final String INTERACTIONS = CausewayModuleExtMetricsMicrometer.METER_PREFIX + "interactions";
+    final String EXECUTIONS = CausewayModuleExtMetricsMicrometer.METER_PREFIX + "executions";
+    final String EXECUTIONS_PUBLISHED = CausewayModuleExtMetricsMicrometer.METER_PREFIX + "executions.published";
+    final String COMMANDS = CausewayModuleExtMetricsMicrometer.METER_PREFIX + "commands";
+    final String ENTITY_CHANGES = CausewayModuleExtMetricsMicrometer.METER_PREFIX + "entity.changes";
+    final String QUERY_RESULTS_CACHE = CausewayModuleExtMetricsMicrometer.METER_PREFIX + "query.results.cache";
+    final String RENDERING = CausewayModuleExtMetricsMicrometer.METER_PREFIX + "rendering";
+    final String REQUESTS = CausewayModuleExtMetricsMicrometer.METER_PREFIX + "requests";
+    final String ASYNC_EXECUTOR = CausewayModuleExtMetricsMicrometer.METER_PREFIX + "async.executor";
+
+    /**
+     * Tag holding the logical member identifier, eg. <code>simple.SimpleObject#updateName</code>.
+     */
+    final String TAG_MEMBER = "member";
+    final String TAG_TYPE = "type";
+    final String TAG_OUTCOME = "outcome";
+    final String NONE = "none";
+
+    String member(final @Nullable Identifier logicalMemberIdentifier) {
+        return logicalMemberIdentifier!=null
+                ? logicalMemberIdentifier.getLogicalIdentityString("#")
+                : NONE;
+    }
+
+    String member(final @Nullable String logicalMemberIdentifier) {
+        return _Strings.isNotEmpty(logicalMemberIdentifier)
+                ? logicalMemberIdentifier
+                : NONE;
+    }
+
+    String type(final @Nullable InteractionType interactionType) {
+        return interactionType!=null
+                ? interactionType.name().toLowerCase(Locale.ROOT)
+                : NONE;
+    }
+
+    String outcome(final @Nullable Throwable threw) {
+        return threw==null
+                ? "success"
+                : "failure";
+    }
+
+    Timer timer(
+            final MeterRegistry meterRegistry,
+            final CausewayConfiguration causewayConfiguration,
+            final String name,
+            final String description,
+            final Tags tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram(causewayConfiguration.getExtensions().getMetrics().getMicrometer()
+                        .isPercentileHistogram())
+                .register(meterRegistry);
+    }
+
+    boolean isEnabled(final CausewayConfiguration causewayConfiguration) {
+        return causewayConfiguration.getExtensions().getMetrics().getMicrometer().isEnabled();
+    }
+
+}
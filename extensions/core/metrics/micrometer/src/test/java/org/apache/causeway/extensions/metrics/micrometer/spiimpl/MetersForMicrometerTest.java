@@ -0,0 +1,237 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.metrics.micrometer.spiimpl;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.command.Command;
+import org.apache.causeway.applib.services.iactn.Interaction;
+import org.apache.causeway.applib.services.queryresultscache.SharedQueryResultsCache;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.WrapperFactory.AsyncExecutorMode;
+import org.apache.causeway.core.runtimeservices.wrapper.AsyncExecutorService;
+import org.apache.causeway.core.runtimeservices.wrapper.WrapperFactoryDefault;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MetersForMicrometerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CausewayConfiguration causewayConfiguration;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        causewayConfiguration = new CausewayConfiguration(null, Optional.empty());
+    }
+
+    @Test
+    void interactions_are_timed_per_member() {
+        var subscriber = new MetricsSubscriberForMicrometer(meterRegistry, causewayConfiguration);
+
+        var command = mock(Command.class);
+        when(command.getLogicalMemberIdentifier()).thenReturn("simple.SimpleObject#updateName");
+        var interaction = mock(Interaction.class);
+        when(interaction.getCommand()).thenReturn(command);
+
+        subscriber.onInteractionClosed(interaction, TimeUnit.MILLISECONDS.toNanos(10));
+        subscriber.onInteractionClosed(interaction, TimeUnit.MILLISECONDS.toNanos(30));
+        subscriber.onInteractionClosed(mock(Interaction.class), TimeUnit.MILLISECONDS.toNanos(5));
+
+        var timer = meterRegistry.get(_Meters.INTERACTIONS)
+                .tag(_Meters.TAG_MEMBER, "simple.SimpleObject#updateName")
+                .timer();
+        assertEquals(2, timer.count());
+        assertEquals(40., timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(30., timer.max(TimeUnit.MILLISECONDS), 0.001);
+
+        assertEquals(1, meterRegistry.get(_Meters.INTERACTIONS)
+                .tag(_Meters.TAG_MEMBER, _Meters.NONE)
+                .timer()
+                .count());
+    }
+
+    @Test
+    void interaction_scoped_query_results_cache_requests_are_counted() {
+        var subscriber = new MetricsSubscriberForMicrometer(meterRegistry, causewayConfiguration);
+
+        subscriber.onQueryResultsCacheDisposed(3, 1);
+        subscriber.onQueryResultsCacheDisposed(2, 0);
+
+        assertEquals(5., requests("interaction", "hit"), 0.);
+        assertEquals(1., requests("interaction", "miss"), 0.);
+    }
+
+    @Test
+    void requests_are_timed_per_viewer_resource_and_status() {
+        var subscriber = new MetricsSubscriberForMicrometer(meterRegistry, causewayConfiguration);
+
+        subscriber.onRequestHandled("restfulobjects", "DomainObjectResourceServerside#object", 200,
+                TimeUnit.MILLISECONDS.toNanos(12));
+        subscriber.onRequestHandled("restfulobjects", "DomainObjectResourceServerside#object", 200,
+                TimeUnit.MILLISECONDS.toNanos(8));
+        subscriber.onRequestHandled("restfulobjects", "DomainObjectResourceServerside#object", 404,
+                TimeUnit.MILLISECONDS.toNanos(1));
+
+        var ok = meterRegistry.get(_Meters.REQUESTS)
+                .tags("viewer", "restfulobjects", "resource", "DomainObjectResourceServerside#object", "status", "200")
+                .timer();
+        assertEquals(2, ok.count());
+        assertEquals(20., ok.totalTime(TimeUnit.MILLISECONDS), 0.001);
+
+        assertEquals(1, meterRegistry.get(_Meters.REQUESTS)
+                .tag("status", "404")
+                .timer()
+                .count());
+    }
+
+    @Test
+    void async_executor_metrics_are_bound() throws InterruptedException {
+        var executor = AsyncExecutorService.create(AsyncExecutorMode.FIXED_THREAD_POOL);
+        var wrapperFactory = mock(WrapperFactoryDefault.class);
+        when(wrapperFactory.getCommonExecutorService()).thenReturn(executor);
+        try {
+            new AsyncExecutorServiceMeters(meterRegistry, causewayConfiguration, Optional.of(wrapperFactory)).init();
+
+            var started = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            executor.execute(()->{
+                started.countDown();
+                awaitQuietly(release);
+            });
+            started.await();
+
+            assertEquals(1., asyncExecutorGauge("active"), 0.);
+            assertEquals(0., asyncExecutorGauge("queued"), 0.);
+
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+
+            assertEquals(0., asyncExecutorGauge("active"), 0.);
+            assertEquals(1., meterRegistry.get(_Meters.ASYNC_EXECUTOR + ".completed")
+                    .tag("mode", "fixed_thread_pool")
+                    .functionCounter()
+                    .count(), 0.);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void commands_are_timed_per_member_and_outcome() {
+        var subscriber = new CommandSubscriberForMicrometer(meterRegistry, causewayConfiguration);
+
+        subscriber.onCompleted(command(1_000L, 1_250L, null));
+        subscriber.onCompleted(command(2_000L, 2_100L, new RuntimeException()));
+        subscriber.onCompleted(command(3_000L, null, null));
+
+        var succeeded = meterRegistry.get(_Meters.COMMANDS)
+                .tags(_Meters.TAG_MEMBER, "simple.SimpleObject#updateName", _Meters.TAG_OUTCOME, "success")
+                .timer();
+        assertEquals(1, succeeded.count());
+        assertEquals(250., succeeded.totalTime(TimeUnit.MILLISECONDS), 0.001);
+
+        var failed = meterRegistry.get(_Meters.COMMANDS)
+                .tags(_Meters.TAG_MEMBER, "simple.SimpleObject#updateName", _Meters.TAG_OUTCOME, "failure")
+                .timer();
+        assertEquals(1, failed.count());
+        assertEquals(100., failed.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    void shared_query_results_cache_metrics_are_bound() {
+        var cache = mock(SharedQueryResultsCache.class);
+        when(cache.getMetrics()).thenReturn(SharedQueryResultsCache.Metrics.of(3, 1, 2, 4, 7));
+
+        new SharedQueryResultsCacheMeters(meterRegistry, causewayConfiguration, Optional.of(cache)).init();
+
+        assertEquals(3., requests("shared", "hit"), 0.);
+        assertEquals(1., requests("shared", "miss"), 0.);
+        assertEquals(2., meterRegistry.get(_Meters.QUERY_RESULTS_CACHE + ".evictions").functionCounter().count(), 0.);
+        assertEquals(4., meterRegistry.get(_Meters.QUERY_RESULTS_CACHE + ".invalidations").functionCounter().count(), 0.);
+        assertEquals(7., meterRegistry.get(_Meters.QUERY_RESULTS_CACHE + ".size").gauge().value(), 0.);
+        assertEquals(.75, meterRegistry.get(_Meters.QUERY_RESULTS_CACHE + ".hit.ratio").gauge().value(), 0.001);
+
+        // function counters and gauges are read on demand
+        when(cache.getMetrics()).thenReturn(SharedQueryResultsCache.Metrics.of(5, 5, 2, 4, 7));
+        assertEquals(5., requests("shared", "hit"), 0.);
+        assertEquals(.5, meterRegistry.get(_Meters.QUERY_RESULTS_CACHE + ".hit.ratio").gauge().value(), 0.001);
+    }
+
+    @Test
+    void nothing_is_bound_when_disabled() {
+        causewayConfiguration.getExtensions().getMetrics().getMicrometer().setEnabled(false);
+        var cache = mock(SharedQueryResultsCache.class);
+
+        new SharedQueryResultsCacheMeters(meterRegistry, causewayConfiguration, Optional.of(cache)).init();
+
+        assertNull(meterRegistry.find(_Meters.QUERY_RESULTS_CACHE + ".requests").meter());
+    }
+
+    // -- HELPER
+
+    private double asyncExecutorGauge(final String name) {
+        return meterRegistry.get(_Meters.ASYNC_EXECUTOR + "." + name)
+                .tag("mode", "fixed_thread_pool")
+                .gauge()
+                .value();
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double requests(final String tier, final String result) {
+        return meterRegistry.get(_Meters.QUERY_RESULTS_CACHE + ".requests")
+                .tags("tier", tier, "result", result)
+                .meter()
+                .measure()
+                .iterator()
+                .next()
+                .getValue();
+    }
+
+    private static Command command(final long startedAt, final Long completedAt, final Throwable exception) {
+        var command = mock(Command.class);
+        when(command.getLogicalMemberIdentifier()).thenReturn("simple.SimpleObject#updateName");
+        when(command.getStartedAt()).thenReturn(new Timestamp(startedAt));
+        when(command.getCompletedAt()).thenReturn(completedAt!=null
+                ? new Timestamp(completedAt)
+                : null);
+        when(command.getException()).thenReturn(exception);
+        return command;
+    }
+
+}
@@ -22,6 +22,7 @@
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,8 +34,10 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
 
 /**
@@ -48,6 +51,8 @@
     @Inject RepositoryService repositoryService;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject TransactionService transactionService;
+    @Inject CausewayConfiguration causewayConfiguration;
 
     private final Class<E> auditTrailEntryClass;
 
@@ -66,9 +71,26 @@ public AuditTrailEntry createFor(final EntityPropertyChange change) {
         return repositoryService.persistAndFlush(entry);
     }
 
+    /**
+     * Persists the entries without flushing in between, other than every
+     * {@link CausewayConfiguration.Extensions.AuditTrail#getBatchSize() batch-size} entries,
+     * such that the ORM can send the inserts using JDBC batch statements.
+     */
     @Override
-    public Can<AuditTrailEntry> createFor(Can<EntityPropertyChange> entityPropertyChanges) {
-        return Can.ofCollection(repositoryService.execInBulk(() -> entityPropertyChanges.map(this::createFor).toList()));
+    public Can<AuditTrailEntry> createFor(final Can<EntityPropertyChange> entityPropertyChanges) {
+        final int batchSize = causewayConfiguration.getExtensions().getAuditTrail().getBatchSize();
+        return Can.ofCollection(repositoryService.execInBulk(() -> {
+            var entries = new ArrayList<AuditTrailEntry>(entityPropertyChanges.size());
+            for (var change : entityPropertyChanges) {
+                E entry = factoryService.detachedEntity(auditTrailEntryClass);
+                entry.init(change);
+                entries.add(repositoryService.persist(entry));
+                if (entries.size() % batchSize == 0) {
+                    transactionService.flushTransaction();
+                }
+            }
+            return entries;
+        }));
     }
 
     public Optional<AuditTrailEntry> findFirstByTarget(final Bookmark target) {
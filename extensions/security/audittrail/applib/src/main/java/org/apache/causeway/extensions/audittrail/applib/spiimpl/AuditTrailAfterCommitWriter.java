@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.causeway.extensions.audittrail.applib.spiimpl;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.audittrail.applib.CausewayModuleExtAuditTrailApplib;
+import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntry;
+import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Persists {@link AuditTrailEntry audit trail entries} asynchronously, once the transaction that changed the
+ * entities has committed, as used if {@link CausewayConfiguration.Extensions.AuditTrail#getWriteMode() write-mode}
+ * is {@link CausewayConfiguration.Extensions.AuditTrail.WriteMode#AFTER_COMMIT after-commit}.
+ *
+ * <p>
+ *     Changes are handed over to a single background writer via a bounded queue
+ *     (see {@link CausewayConfiguration.Extensions.AuditTrail.AfterCommit#getQueueCapacity() queue-capacity}).
+ *     If that queue is full, the committing thread persists its changes itself (back-pressure).
+ * </p>
+ *
+ * <p>
+ *     On shutdown, the changes still queued are drained: the background writer is given some time to persist them,
+ *     and any left over thereafter are persisted by the thread shutting down.  Changes handed over after shutdown are
+ *     persisted synchronously by the committing thread; none are discarded.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(AuditTrailAfterCommitWriter.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class AuditTrailAfterCommitWriter {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtAuditTrailApplib.NAMESPACE + ".AuditTrailAfterCommitWriter";
+
+    final InteractionService interactionService;
+    final TransactionService transactionService;
+    final AuditTrailEntryRepository auditTrailEntryRepository;
+    final CausewayConfiguration causewayConfiguration;
+
+    private final _Lazy<ThreadPoolExecutor> executor = _Lazy.threadSafe(this::createExecutor);
+    private volatile boolean shutdown;
+
+    /**
+     * How long to wait on shutdown for the background writer to persist the changes still queued.
+     */
+    Duration shutdownTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Schedules given changes to be persisted once the current transaction has committed
+     * (and discards them, if it rolls back instead).
+     * If there is no transaction synchronization active, the changes are scheduled immediately.
+     */
+    public void writeAfterCommit(final Can<EntityPropertyChange> entityPropertyChanges) {
+        if(entityPropertyChanges.isEmpty()) {
+            return;
+        }
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(entityPropertyChanges);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(entityPropertyChanges);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shutdown = true;
+        if(!executor.isMemoized()) {
+            return;
+        }
+        var executorService = executor.get();
+        executorService.shutdown();
+        var interrupted = false;
+        try {
+            if(executorService.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            interrupted = true;
+        }
+        var pending = executorService.shutdownNow();
+        if(!pending.isEmpty()) {
+            log.warn("background writer did not finish in time, "
+                    + "persisting {} pending audit trail batch(es) on shutdown", pending.size());
+            pending.forEach(Runnable::run);
+        }
+        if(interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // -- HELPER
+
+    private void enqueue(final Can<EntityPropertyChange> entityPropertyChanges) {
+        if(shutdown) {
+            write(entityPropertyChanges);
+            return;
+        }
+        executor.get().execute(()->write(entityPropertyChanges));
+    }
+
+    /**
+     * Either run by the background writer or (if the queue is full or the writer is shut down) by the committing
+     * thread, in both cases within a new interaction and transaction.
+     */
+    private void write(final Can<EntityPropertyChange> entityPropertyChanges) {
+        interactionService.runAnonymous(()->
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, ()->
+                auditTrailEntryRepository.createFor(entityPropertyChanges))
+            .ifFailure(failure->
+                log.error("failed to persist {} audit trail entries", entityPropertyChanges.size(), failure)));
+    }
+
+    private ThreadPoolExecutor createExecutor() {
+        var queueCapacity = causewayConfiguration.getExtensions().getAuditTrail().getAfterCommit().getQueueCapacity();
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable->{
+                    var thread = new Thread(runnable, "causeway-audittrail-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // unlike CallerRunsPolicy, also runs the task if the executor has been shut down (instead of discarding it)
+                (runnable, executorService)->runnable.run());
+    }
+
+}
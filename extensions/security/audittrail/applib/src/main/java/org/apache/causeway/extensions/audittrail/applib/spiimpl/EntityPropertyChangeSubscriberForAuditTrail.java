@@ -60,6 +60,7 @@ public class EntityPropertyChangeSubscriberForAuditTrail implements EntityProper
     final TransactionService transactionService;
     final AuditTrailEntryRepository auditTrailEntryRepository;
     final CausewayConfiguration causewayConfiguration;
+    final AuditTrailAfterCommitWriter auditTrailAfterCommitWriter;
 
     @Override
     public boolean isEnabled() {
@@ -71,6 +72,10 @@ public void onChanging(final EntityPropertyChange entityPropertyChange) {
         if (!isEnabled()) {
             return;
         }
+        if (isWriteAfterCommit()) {
+            auditTrailAfterCommitWriter.writeAfterCommit(Can.ofSingleton(entityPropertyChange));
+            return;
+        }
         auditTrailEntryRepository.createFor(entityPropertyChange);
     }
 
@@ -79,7 +84,15 @@ public void onChanging(Can<EntityPropertyChange> entityPropertyChanges) {
         if (!isEnabled()) {
             return;
         }
+        if (isWriteAfterCommit()) {
+            auditTrailAfterCommitWriter.writeAfterCommit(entityPropertyChanges);
+            return;
+        }
         auditTrailEntryRepository.createFor(entityPropertyChanges);
     }
 
+    private boolean isWriteAfterCommit() {
+        return causewayConfiguration.getExtensions().getAuditTrail().getWriteMode().isAfterCommit();
+    }
+
 }
@@ -0,0 +1,154 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.audittrail.applib.spiimpl;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.ThrowingRunnable;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
+
+class AuditTrailAfterCommitWriterTest {
+
+    private AuditTrailAfterCommitWriter writer;
+
+    private final List<Can<EntityPropertyChange>> written = new CopyOnWriteArrayList<>();
+    private final List<Thread> writingThreads = new CopyOnWriteArrayList<>();
+    private final CountDownLatch writerBlocked = new CountDownLatch(1);
+    private final CountDownLatch releaseWriter = new CountDownLatch(1);
+    private volatile boolean blockWriter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        var interactionService = mock(InteractionService.class);
+        doAnswer(invocation->{
+            invocation.getArgument(0, ThrowingRunnable.class).run();
+            return null;
+        }).when(interactionService).runAnonymous(any(ThrowingRunnable.class));
+
+        var transactionService = mock(TransactionService.class);
+        when(transactionService.runTransactional(any(Propagation.class), any(ThrowingRunnable.class)))
+        .thenAnswer(invocation->{
+            invocation.getArgument(1, ThrowingRunnable.class).run();
+            return Try.success(null);
+        });
+
+        var auditTrailEntryRepository = mock(AuditTrailEntryRepository.class);
+        when(auditTrailEntryRepository.createFor(any(Can.class)))
+        .thenAnswer(invocation->{
+            if(blockWriter
+                    && Thread.currentThread().getName().equals("causeway-audittrail-writer")) {
+                writerBlocked.countDown();
+                try {
+                    releaseWriter.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    // interrupted by shutdownNow, simulate the batch in progress to be lost
+                    return Can.empty();
+                }
+            }
+            writingThreads.add(Thread.currentThread());
+            written.add(invocation.getArgument(0));
+            return Can.empty();
+        });
+
+        writer = new AuditTrailAfterCommitWriter(
+                interactionService, transactionService, auditTrailEntryRepository,
+                new CausewayConfiguration(null, Optional.empty()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseWriter.countDown();
+    }
+
+    @Test
+    void writes_synchronously_once_shut_down() {
+        writer.shutdown();
+
+        var changes = batch();
+        writer.writeAfterCommit(changes);
+
+        assertEquals(List.of(changes), written);
+        assertEquals(List.of(Thread.currentThread()), writingThreads);
+    }
+
+    @Test
+    void drains_queued_batches_on_shutdown() throws InterruptedException {
+        blockWriter = true;
+        var batches = List.of(batch(), batch(), batch());
+        batches.forEach(writer::writeAfterCommit);
+        assertTrue(writerBlocked.await(10, TimeUnit.SECONDS));
+
+        releaseWriter.countDown();
+        writer.shutdown();
+
+        assertEquals(batches, written);
+    }
+
+    @Test
+    void persists_leftover_batches_if_writer_does_not_finish_in_time() throws InterruptedException {
+        writer.shutdownTimeout = Duration.ofMillis(100);
+        blockWriter = true;
+        var batches = List.of(batch(), batch(), batch());
+        batches.forEach(writer::writeAfterCommit);
+        assertTrue(writerBlocked.await(10, TimeUnit.SECONDS));
+
+        writer.shutdown();
+
+        // the batches still queued are persisted by the thread shutting down ...
+        assertEquals(batches.subList(1, 3), written);
+        assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), writingThreads);
+
+        // ... while the batch in progress is left to the (interrupted) background writer
+    }
+
+    // -- HELPER
+
+    private static Can<EntityPropertyChange> batch() {
+        return Can.ofSingleton(EntityPropertyChange.of(
+                UUID.randomUUID(), 0, Bookmark.forLogicalTypeNameAndIdentifier("audittrail.test.Counter", "1"),
+                "audittrail.test.Counter#num", "num", "1", "2", "sven", new Timestamp(0L)));
+    }
+
+}
@@ -21,6 +21,8 @@
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
@@ -94,6 +96,17 @@ public static abstract class ActionDomainEvent extends CausewayModuleExtSecmanAp
      */
     private PermissionsEvaluationService permissionsEvaluationService;
 
+    /**
+     * Memoizes {@link Evaluation}s per {@link ApplicationFeatureId}, indexed by {@link ApplicationPermissionMode#ordinal()},
+     * such that repeated calls to {@link #evaluate(ApplicationFeatureId, ApplicationPermissionMode)} for the same feature
+     * need not walk the feature's path ids again.
+     *
+     * <p>
+     *     Not serialized, rather (re-)populated lazily; see {@link #evaluationsByFeature()}.
+     * </p>
+     */
+    private transient volatile Map<ApplicationFeatureId, Evaluation[]> evaluationsByFeature;
+
     // -- constructor
 
     public ApplicationPermissionValueSet(
@@ -133,11 +146,31 @@ public boolean grants(final ApplicationFeatureId featureId, final ApplicationPer
         return evaluate(featureId, mode).isGranted();
     }
 
+    /**
+     * The outcome only depends on the (immutable) permissions of this set and the given arguments,
+     * hence is memoized per {@link ApplicationFeatureId} and {@link ApplicationPermissionMode}.
+     */
     @Programmatic
     public Evaluation evaluate(
             final ApplicationFeatureId featureId,
             final ApplicationPermissionMode mode) {
 
+        final Evaluation[] evaluationByMode = evaluationsByFeature()
+                .computeIfAbsent(featureId, __->new Evaluation[ApplicationPermissionMode.values().length]);
+        // benign race: concurrent callers might both evaluate, yielding equivalent results;
+        // Evaluation is immutable, hence safely published
+        var evaluation = evaluationByMode[mode.ordinal()];
+        if(evaluation == null) {
+            evaluation = evaluateUncached(featureId, mode);
+            evaluationByMode[mode.ordinal()] = evaluation;
+        }
+        return evaluation;
+    }
+
+    private Evaluation evaluateUncached(
+            final ApplicationFeatureId featureId,
+            final ApplicationPermissionMode mode) {
+
         for (var pathId : featureId.getPathIds()) {
             var permissionValues = permissionsByFeature.get(pathId);
             var evaluation = permissionsEvaluationService.evaluate(featureId, mode, permissionValues);
@@ -148,6 +181,19 @@ public Evaluation evaluate(
         return new Evaluation(null, false);
     }
 
+    private Map<ApplicationFeatureId, Evaluation[]> evaluationsByFeature() {
+        var evaluationsByFeature = this.evaluationsByFeature;
+        if(evaluationsByFeature == null) {
+            synchronized(this) {
+                evaluationsByFeature = this.evaluationsByFeature;
+                if(evaluationsByFeature == null) {
+                    this.evaluationsByFeature = evaluationsByFeature = new ConcurrentHashMap<>();
+                }
+            }
+        }
+        return evaluationsByFeature;
+    }
+
     // -- equals, hashCode, toString
     @Override
     public boolean equals(final Object o) {
@@ -20,6 +20,7 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import javax.inject.Inject;
@@ -28,8 +29,14 @@
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.InteractionScope;
@@ -39,11 +46,16 @@
 import org.apache.causeway.applib.services.metamodel.MetaModelService;
 import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.security.authentication.logout.LogoutMenu;
 import org.apache.causeway.core.security.authorization.Authorizor;
+import org.apache.causeway.core.transaction.changetracking.events.PostStoreEvent;
+import org.apache.causeway.core.transaction.changetracking.events.PreRemoveEvent;
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUserRepository;
 
@@ -71,7 +83,9 @@ public class AuthorizorSecman implements Authorizor {
 
     @Inject ApplicationUserRepository applicationUserRepository;
     @Inject Provider<PermissionCache> cache;
+    @Inject SharedPermissionCache sharedCache;
     @Inject MetaModelService metaModelService;
+    @Inject CausewayConfiguration causewayConfiguration;
 
     private _Lazy<Identifier> logoutIdentifier = _Lazy.threadSafe(this::logoutIdentifier);
 
@@ -103,11 +117,14 @@ private boolean grants(
             final ApplicationPermissionMode permissionMode) {
 
         var userName = authentication.getUser().getName();
-        var permissionSetIfAny = cache.get()
-                .computeIfAbsent(userName, ()->
+        final Supplier<Optional<ApplicationPermissionValueSet>> lookup = ()->
                 applicationUserRepository
                 .findByUsername(userName)
-                .map(ApplicationUser::getPermissionSet));
+                .map(ApplicationUser::getPermissionSet);
+
+        var permissionSetIfAny = causewayConfiguration.getExtensions().getSecman().getPermissionCache().isShared()
+                ? sharedCache.computeIfAbsent(userName, lookup)
+                : cache.get().computeIfAbsent(userName, lookup);
 
         return permissionSetIfAny
         .map(permissionSet->permissionSet.grants(
@@ -137,4 +154,88 @@ Optional<ApplicationPermissionValueSet> computeIfAbsent(
 
     }
 
+    /**
+     * Application scoped, size-bounded permission cache, shared across interactions;
+     * only used if enabled via configuration.
+     * <p>
+     * Invalidated whenever any {@link ApplicationUser}, {@link ApplicationRole} or {@link ApplicationPermission}
+     * is persisted, updated or removed; and (if within a transaction) once more after that transaction
+     * has completed, so that concurrent lookups cannot re-populate the cache with stale permissions.
+     * <p>
+     * Invalidation is triggered by the {@link PostStoreEvent}s and {@link PreRemoveEvent}s the framework always
+     * posts, hence does not depend on whether (domain object) lifecycle events are configured to be posted.
+     * Changes not made through this application (eg. direct SQL, or by another node of a cluster) are not
+     * noticed, other than by the entries' expiry.
+     *
+     * @see CausewayConfiguration.Extensions.Secman.PermissionCache
+     */
+    @Component
+    @Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".AuthorizorSecman.SharedPermissionCache")
+    static class SharedPermissionCache implements DisposableBean {
+
+        private final Cache<String, Optional<ApplicationPermissionValueSet>> permissionsByUsername;
+
+        @Inject
+        SharedPermissionCache(final CausewayConfiguration causewayConfiguration) {
+            var config = causewayConfiguration.getExtensions().getSecman().getPermissionCache();
+            var builder = Caffeine.newBuilder()
+                    .maximumSize(config.getMaxSizeInEntries());
+            if(config.getExpiryDurationInMinutes()>0) {
+                builder.expireAfterWrite(config.getExpiryDurationInMinutes(), TimeUnit.MINUTES);
+            }
+            this.permissionsByUsername = builder.build();
+        }
+
+        @Override
+        public void destroy() {
+            invalidateAll();
+        }
+
+        Optional<ApplicationPermissionValueSet> computeIfAbsent(
+                final @NonNull String userName,
+                final Supplier<Optional<ApplicationPermissionValueSet>> lookup) {
+
+            return permissionsByUsername.get(userName, __->lookup.get());
+        }
+
+        void invalidateAll() {
+            permissionsByUsername.invalidateAll();
+        }
+
+        /**
+         * Posted after persist and after update.
+         */
+        @EventListener(PostStoreEvent.class)
+        public void onPostStore(final PostStoreEvent event) {
+            invalidateIfAffected(event.getPersistableObject());
+        }
+
+        @EventListener(PreRemoveEvent.class)
+        public void onPreRemove(final PreRemoveEvent event) {
+            invalidateIfAffected(event.getPersistableObject());
+        }
+
+        // -- HELPER
+
+        private void invalidateIfAffected(final Object entity) {
+            if(!(entity instanceof ApplicationUser
+                    || entity instanceof ApplicationRole
+                    || entity instanceof ApplicationPermission)) {
+                return;
+            }
+            // changes to roles or permissions potentially affect any user,
+            // hence we don't bother to only invalidate the affected users
+            invalidateAll();
+            if(TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(final int status) {
+                        invalidateAll();
+                    }
+                });
+            }
+        }
+
+    }
+
 }
@@ -0,0 +1,139 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.metamodel.MetaModelService;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.security.authentication.logout.LogoutMenu;
+import org.apache.causeway.core.transaction.changetracking.events.PostStoreEvent;
+import org.apache.causeway.core.transaction.changetracking.events.PreRemoveEvent;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValue;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUserRepository;
+import org.apache.causeway.extensions.secman.integration.permissions.ApplicationFeatureIdTransformerIdentity;
+import org.apache.causeway.extensions.secman.integration.permissions.PermissionsEvaluationServiceForSecman;
+
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newNamespace;
+import static org.apache.causeway.core.config.CausewayConfiguration.Extensions.Secman.PermissionsEvaluationPolicy.ALLOW_BEATS_VETO;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode.CHANGING;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule.ALLOW;
+
+class AuthorizorSecman_sharedPermissionCache_Test {
+
+    static class Customer {}
+
+    private final InteractionContext sven = InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName("sven"));
+    private final Identifier customerName = Identifier.propertyIdentifier(
+            LogicalType.eager(Customer.class, "customer.Customer"), "name");
+
+    private final AtomicReference<ApplicationPermissionValueSet> permissionsInDatabase = new AtomicReference<>();
+    private AuthorizorSecman authorizor;
+
+    @BeforeEach
+    void setUp() {
+        var causewayConfiguration = new CausewayConfiguration(null, Optional.empty());
+        causewayConfiguration.getExtensions().getSecman().getPermissionCache().setShared(true);
+
+        var user = Mockito.mock(ApplicationUser.class);
+        Mockito.when(user.getPermissionSet()).thenAnswer(__->permissionsInDatabase.get());
+        var applicationUserRepository = Mockito.mock(ApplicationUserRepository.class);
+        Mockito.when(applicationUserRepository.findByUsername("sven")).thenAnswer(__->Optional.of(user));
+        var metaModelService = Mockito.mock(MetaModelService.class);
+        Mockito.when(metaModelService.lookupLogicalTypeByClass(LogoutMenu.class))
+            .thenReturn(Optional.of(LogicalType.fqcn(LogoutMenu.class)));
+
+        authorizor = new AuthorizorSecman();
+        authorizor.applicationUserRepository = applicationUserRepository;
+        authorizor.sharedCache = new AuthorizorSecman.SharedPermissionCache(causewayConfiguration);
+        authorizor.metaModelService = metaModelService;
+        authorizor.causewayConfiguration = causewayConfiguration;
+
+        permissionsInDatabase.set(permissionSet(
+                new ApplicationPermissionValue(newNamespace("customer"), ALLOW, CHANGING)));
+    }
+
+    @Test
+    void permissions_shouldBeCached() {
+        assertThat(authorizor.isUsable(sven, customerName)).isTrue();
+
+        // revoked, but not (yet) through this application
+        permissionsInDatabase.set(permissionSet());
+
+        assertThat(authorizor.isUsable(sven, customerName)).isTrue();
+    }
+
+    @Test
+    void revokedPermission_whenRemoved_shouldBeDenied() {
+        assertThat(authorizor.isUsable(sven, customerName)).isTrue();
+
+        permissionsInDatabase.set(permissionSet());
+        authorizor.sharedCache.onPreRemove(PreRemoveEvent.of(Mockito.mock(ApplicationPermission.class)));
+
+        assertThat(authorizor.isUsable(sven, customerName)).isFalse();
+    }
+
+    @Test
+    void revokedPermission_whenRoleUpdated_shouldBeDenied() {
+        assertThat(authorizor.isUsable(sven, customerName)).isTrue();
+
+        permissionsInDatabase.set(permissionSet());
+        authorizor.sharedCache.onPostStore(PostStoreEvent.of(Mockito.mock(ApplicationRole.class)));
+
+        assertThat(authorizor.isUsable(sven, customerName)).isFalse();
+    }
+
+    @Test
+    void unrelatedEntityChange_shouldNotInvalidate() {
+        assertThat(authorizor.isUsable(sven, customerName)).isTrue();
+
+        permissionsInDatabase.set(permissionSet());
+        authorizor.sharedCache.onPostStore(PostStoreEvent.of(new Customer()));
+
+        assertThat(authorizor.isUsable(sven, customerName)).isTrue();
+    }
+
+    // -- HELPER
+
+    private static ApplicationPermissionValueSet permissionSet(final ApplicationPermissionValue... values) {
+        return new ApplicationPermissionValueSet(
+                List.of(values),
+                PermissionsEvaluationServiceForSecman.builder()
+                    .applicationFeatureIdTransformer(new ApplicationFeatureIdTransformerIdentity())
+                    .policy(ALLOW_BEATS_VETO)
+                    .build());
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.permissions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
+import org.apache.causeway.commons.internal.base._Blackhole;
+import org.apache.causeway.commons.internal.base._Timing;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValue;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.testing.unittestsupport.applib.annotations.DisabledIfRunningWithSurefire;
+
+import static org.apache.causeway.core.config.CausewayConfiguration.Extensions.Secman.PermissionsEvaluationPolicy.ALLOW_BEATS_VETO;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Measures {@link ApplicationPermissionValueSet#grants(ApplicationFeatureId, ApplicationPermissionMode)}
+ * for a user with 50 roles, having 40 permissions each (2,000 in total),
+ * as rendering a page of 100 objects with 20 members each would.
+ */
+@DisabledIfRunningWithSurefire
+@Log4j2
+class ApplicationPermissionValueSetStressTest {
+
+    private static final int ROLES = 50;
+    private static final int PERMISSIONS_PER_ROLE = 40;
+    private static final int TYPES = 100;
+    private static final int MEMBERS_PER_TYPE = 20;
+    private static final int PAGE_RENDERINGS = 1_000;
+
+    ApplicationPermissionValueSet valueSet;
+    List<ApplicationFeatureId> memberIds;
+
+    @BeforeEach
+    void setup() {
+        var evaluator = PermissionsEvaluationServiceForSecman.builder()
+                .applicationFeatureIdTransformer(new ApplicationFeatureIdTransformerIdentity())
+                .policy(ALLOW_BEATS_VETO)
+                .build();
+
+        var permissionValues = new ArrayList<ApplicationPermissionValue>(ROLES * PERMISSIONS_PER_ROLE);
+        for (int role = 0; role < ROLES; role++) {
+            for (int i = 0; i < PERMISSIONS_PER_ROLE; i++) {
+                var type = (role * PERMISSIONS_PER_ROLE + i) % TYPES;
+                final ApplicationFeatureId featureId;
+                switch (i % 4) {
+                case 0:
+                    featureId = ApplicationFeatureId.newNamespace(namespace(type));
+                    break;
+                case 1:
+                    featureId = ApplicationFeatureId.newType(typeName(type));
+                    break;
+                default:
+                    featureId = ApplicationFeatureId.newMember(typeName(type), memberName(i % MEMBERS_PER_TYPE));
+                }
+                permissionValues.add(new ApplicationPermissionValue(
+                        featureId,
+                        i % 7 == 0 ? ApplicationPermissionRule.VETO : ApplicationPermissionRule.ALLOW,
+                        i % 3 == 0 ? ApplicationPermissionMode.CHANGING : ApplicationPermissionMode.VIEWING));
+            }
+        }
+        valueSet = new ApplicationPermissionValueSet(permissionValues, evaluator);
+
+        memberIds = new ArrayList<>(TYPES * MEMBERS_PER_TYPE);
+        for (int type = 0; type < TYPES; type++) {
+            for (int member = 0; member < MEMBERS_PER_TYPE; member++) {
+                memberIds.add(ApplicationFeatureId.newMember(typeName(type), memberName(member)));
+            }
+        }
+    }
+
+    @Test
+    void grants_stressTest() {
+        // first rendering populates the memo table
+        _Timing.runVerbose(log, "Evaluating permissions for 1 page rendering (cold)", ()->
+            renderPages(1));
+
+        _Timing.runVerbose(log, String.format("Evaluating permissions for %d page renderings (warm)", PAGE_RENDERINGS), ()->
+            renderPages(PAGE_RENDERINGS));
+    }
+
+    // -- HELPER
+
+    private void renderPages(final int pageRenderings) {
+        for (int i = 0; i < pageRenderings; i++) {
+            for (var memberId : memberIds) {
+                _Blackhole.consume(valueSet.grants(memberId, ApplicationPermissionMode.VIEWING));
+                _Blackhole.consume(valueSet.grants(memberId, ApplicationPermissionMode.CHANGING));
+            }
+        }
+    }
+
+    private static String namespace(final int type) {
+        return "com.mycompany.module" + (type % 10);
+    }
+
+    private static String typeName(final int type) {
+        return namespace(type) + ".Type" + type;
+    }
+
+    private static String memberName(final int member) {
+        return "member" + member;
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.permissions;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValue;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.permission.spi.PermissionsEvaluationService;
+
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newMember;
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newNamespace;
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newType;
+import static org.apache.causeway.core.config.CausewayConfiguration.Extensions.Secman.PermissionsEvaluationPolicy.ALLOW_BEATS_VETO;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode.CHANGING;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode.VIEWING;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule.ALLOW;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule.VETO;
+
+class ApplicationPermissionValueSet_evaluate_Test {
+
+    PermissionsEvaluationService evaluator;
+    AtomicInteger evaluationCount;
+    ApplicationPermissionValueSet valueSet;
+
+    @BeforeEach
+    void setup() {
+        var delegate = PermissionsEvaluationServiceForSecman.builder()
+                .applicationFeatureIdTransformer(new ApplicationFeatureIdTransformerIdentity())
+                .policy(ALLOW_BEATS_VETO)
+                .build();
+        evaluationCount = new AtomicInteger();
+        evaluator = (targetMemberId, mode, permissionValues) -> {
+            evaluationCount.incrementAndGet();
+            return delegate.evaluate(targetMemberId, mode, permissionValues);
+        };
+        valueSet = new ApplicationPermissionValueSet(
+                List.of(
+                    new ApplicationPermissionValue(newNamespace("customer"), ALLOW, VIEWING),
+                    new ApplicationPermissionValue(newType("customer.Customer"), VETO, VIEWING),
+                    new ApplicationPermissionValue(newMember("customer.Customer#lastName"), ALLOW, CHANGING)
+                ),
+                evaluator);
+    }
+
+    @Test
+    void evaluates_per_mode() {
+        assertThat(valueSet.grants(newMember("customer.Customer#lastName"), VIEWING)).isTrue();
+        assertThat(valueSet.grants(newMember("customer.Customer#lastName"), CHANGING)).isTrue();
+        assertThat(valueSet.grants(newMember("customer.Customer#firstName"), VIEWING)).isFalse();
+        assertThat(valueSet.grants(newMember("customer.Order#number"), VIEWING)).isTrue();
+        assertThat(valueSet.grants(newMember("customer.Order#number"), CHANGING)).isFalse();
+    }
+
+    @Test
+    void repeated_evaluation_is_memoized() {
+        var first = valueSet.evaluate(newMember("customer.Customer#firstName"), VIEWING);
+        final int count = evaluationCount.get();
+        assertThat(count).isPositive();
+
+        var second = valueSet.evaluate(newMember("customer.Customer#firstName"), VIEWING);
+        assertThat(second).isSameAs(first);
+        assertThat(evaluationCount.get()).isEqualTo(count);
+
+        // other mode is evaluated separately
+        valueSet.evaluate(newMember("customer.Customer#firstName"), CHANGING);
+        assertThat(evaluationCount.get()).isGreaterThan(count);
+    }
+
+}
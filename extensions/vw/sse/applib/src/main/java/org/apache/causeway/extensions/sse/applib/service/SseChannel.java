@@ -43,4 +43,26 @@ public interface SseChannel {
 
     void awaitClose() throws InterruptedException;
 
+    /**
+     * Non-blocking alternative to {@link #awaitClose()}: registers given callback to be run once this channel
+     * closes, or runs it immediately, if already closed.
+     *
+     * <p>
+     *     The default implementation merely waits for {@link #awaitClose()} on a separate (daemon) thread,
+     *     for backwards compatibility; implementations should override it, to not hold a thread per channel.
+     * </p>
+     */
+    default void onClose(final Runnable callback) {
+        var thread = new Thread(()->{
+            try {
+                awaitClose();
+                callback.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "causeway-sse-channel-on-close");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
 }
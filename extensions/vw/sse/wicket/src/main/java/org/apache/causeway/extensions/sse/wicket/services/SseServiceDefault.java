@@ -28,9 +28,12 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
+import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -74,6 +77,22 @@ public class SseServiceDefault implements SseService {
 
     private final EventStreamPool eventStreamPool = new EventStreamPool();
 
+    /**
+     * {@link SseSource}s typically block (eg. polling for changes), hence we run them on their own threads,
+     * rather than occupying the common {@link java.util.concurrent.ForkJoinPool}.
+     */
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable->{
+        var thread = new Thread(runnable, "causeway-sse-source-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
     @Override
     public Optional<SseChannel> lookupByType(Class<?> sourceType) {
         return eventStreamPool.lookupByType(sourceType);
@@ -85,8 +104,6 @@ public void submit(SseSource task, ExecutionBehavior executionBehavior) {
         Objects.requireNonNull(task);
         Objects.requireNonNull(executionBehavior);
 
-        var executor = ForkJoinPool.commonPool();
-
         switch(executionBehavior) {
         case SIMPLE:
             CompletableFuture.runAsync(()->run(task), executor);
@@ -201,6 +218,7 @@ private static class EventStreamDefault implements SseChannel {
 
         private final CountDownLatch latch = new CountDownLatch(1);
         private final Queue<Predicate<SseSource>> listeners = new ConcurrentLinkedQueue<>();
+        private final List<Runnable> closeCallbacks = _Lists.newArrayList();
 
         @Override
         public void fire(SseSource source) {
@@ -246,9 +264,35 @@ public void listenWhile(Predicate<SseSource> listener) {
 
         @Override
         public void close() {
+            final List<Runnable> callbacks;
             synchronized ($LOCK) {
+                if(!isActive()) {
+                    return;
+                }
                 listeners.clear();
                 latch.countDown();
+                callbacks = _Lists.newArrayList(closeCallbacks);
+                closeCallbacks.clear();
+            }
+            callbacks.forEach(this::runCloseCallback);
+        }
+
+        @Override
+        public void onClose(final Runnable callback) {
+            synchronized ($LOCK) {
+                if(isActive()) {
+                    closeCallbacks.add(callback);
+                    return;
+                }
+            }
+            runCloseCallback(callback);
+        }
+
+        private void runCloseCallback(final Runnable callback) {
+            try {
+                callback.run();
+            } catch (Exception e) {
+                log.warn("close callback failed on stream {}", id, e);
             }
         }
 
@@ -21,7 +21,6 @@
 import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ForkJoinPool;
 
 import javax.servlet.AsyncContext;
 import javax.servlet.ServletException;
@@ -31,16 +30,19 @@
 
 import org.springframework.beans.factory.annotation.Autowired;
 
-import org.apache.causeway.applib.value.Markup;
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.context._Context;
-import org.apache.causeway.extensions.sse.applib.service.SseChannel;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.sse.applib.service.SseService;
 
 import lombok.extern.log4j.Log4j2;
 
 /**
  * Server-sent events.
+ * <p>
+ * Connections are held using servlet async I/O: once the response headers are sent, the request is put into
+ * asynchronous mode and the container thread is returned to the pool. Events are then written without blocking
+ * (see {@link SseClient}), with all clients of the same channel served by a single listener (see {@link SseSubscribers}).
  *
  * @see <a href="https://www.w3schools.com/html/html5_serversentevents.asp">www.w3schools.com</a>
  *
@@ -53,11 +55,15 @@ public class ServerSentEventsServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
 
     @Autowired private SseService sseService;
+    @Autowired private CausewayConfiguration causewayConfiguration;
+
+    private final transient SseSubscribers subscribers = new SseSubscribers();
 
     @Override
     public void init() throws ServletException {
         super.init();
         Objects.requireNonNull(sseService, "sseService");
+        Objects.requireNonNull(causewayConfiguration, "causewayConfiguration");
     }
 
     @Override
@@ -87,10 +93,15 @@ protected void doGet(final HttpServletRequest request, final HttpServletResponse
         asyncContext(request)
         .ifPresent(asyncContext->{
 
-            // javac explicitly requires curly-braces here (to tell it we want a Runnable)
-            ForkJoinPool.commonPool().submit(()->{
-                fork(asyncContext, eventStream);
-            });
+            // held open until either the event stream or the client closes
+            asyncContext.setTimeout(0);
+
+            try {
+                subscribers.subscribe(eventStream, new SseClient(asyncContext, clientBufferSize()));
+            } catch (IOException | IllegalStateException e) {
+                log.warn("failed to subscribe to event stream {}", eventStream.getId(), e);
+                asyncContext.complete();
+            }
 
         });
 
@@ -98,6 +109,10 @@ protected void doGet(final HttpServletRequest request, final HttpServletResponse
 
     // -- HELPER
 
+    private int clientBufferSize() {
+        return causewayConfiguration.getExtensions().getSse().getClientBufferSize();
+    }
+
     private Optional<AsyncContext> asyncContext(final HttpServletRequest request) {
         try {
             return Optional.of(request.startAsync());
@@ -117,56 +132,6 @@ private boolean flushBuffer(final HttpServletResponse response) {
         return false;
     }
 
-    private void fork(final AsyncContext asyncContext, final SseChannel eventStream) {
-
-        var response = asyncContext.getResponse();
-        var marshaller = new Markup.JaxbToStringAdapter();
-
-        eventStream.listenWhile(source->{
-
-            if(ForkJoinPool.commonPool().isShutdown()) {
-                return false; // stop listening
-            }
-
-            try {
-
-                var writer = response.getWriter(); // don't close the writer, its likely to be reused
-                if(writer==null) {
-                    return false; // stop listening
-                }
-
-                var payload = marshaller.marshal(Markup.valueOf(source.getPayload()));
-
-                writer
-                .append("data: ")
-                .append(payload)
-                .append("\n\n")
-                .flush();
-
-                return true; // continue listening
-
-            } catch (Exception e) {
-                log.warn("failed to run the fork task", e);
-                return false; // stop listening
-            }
-
-        });
-
-        // now we wait until the eventStream closes
-        try {
-            eventStream.awaitClose();
-        } catch (InterruptedException e) {
-            log.warn("Interrupted!", e);
-            // Restore interrupted state...
-            Thread.currentThread().interrupt();
-        }
-
-        // Completes the asynchronous operation that was started on the request
-        // that was used to initialize this AsyncContext.
-        asyncContext.complete();
-
-    }
-
     private Optional<Class<?>> parseEventStreamType(final HttpServletRequest request) {
         var eventStreamId = request.getParameter("eventStream");
         if(_Strings.isNullOrEmpty(eventStreamId)) {
@@ -0,0 +1,161 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.sse.wicket.webmodule;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * A single SSE connection, that is written to using non-blocking servlet I/O ({@link WriteListener}),
+ * such that no container thread is held while the connection is idle.
+ * <p>
+ * Events not yet written are held in a bounded buffer. If the client does not keep up,
+ * its oldest pending events are dropped.
+ */
+@Log4j2
+class SseClient implements WriteListener, AsyncListener {
+
+    private final AsyncContext asyncContext;
+    private final ServletOutputStream out;
+    private final int bufferSize;
+
+    // guarded by this
+    private final Deque<byte[]> pendingEvents = new ArrayDeque<>();
+    private volatile boolean closed;
+
+    SseClient(final AsyncContext asyncContext, final int bufferSize) throws IOException {
+        this.asyncContext = asyncContext;
+        this.out = asyncContext.getResponse().getOutputStream();
+        this.bufferSize = bufferSize;
+        asyncContext.addListener(this);
+        out.setWriteListener(this); // the container calls onWritePossible() once writing is possible
+    }
+
+    /**
+     * Buffers given (encoded) event and writes as many pending events as possible without blocking.
+     * @return whether this client is still connected
+     */
+    boolean offer(final byte[] event) {
+        if(closed) {
+            return false;
+        }
+        synchronized (this) {
+            if(pendingEvents.size()>=bufferSize) {
+                pendingEvents.pollFirst(); // drop the oldest
+            }
+            pendingEvents.addLast(event);
+            writePending();
+        }
+        return !closed;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Completes the asynchronous request, which closes the connection.
+     */
+    void close() {
+        if(closed) {
+            return;
+        }
+        closed = true;
+        synchronized (this) {
+            pendingEvents.clear();
+        }
+        try {
+            asyncContext.complete();
+        } catch (IllegalStateException e) {
+            // already completed or timed out
+        }
+    }
+
+    // -- WRITE LISTENER
+
+    @Override
+    public synchronized void onWritePossible() throws IOException {
+        writePending();
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        log.debug("failed to write to SSE client, closing connection", t);
+        close();
+    }
+
+    // -- ASYNC LISTENER
+
+    @Override
+    public void onComplete(final AsyncEvent event) {
+        closed = true;
+    }
+
+    @Override
+    public void onTimeout(final AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onError(final AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onStartAsync(final AsyncEvent event) {
+        // not used
+    }
+
+    // -- HELPER
+
+    /**
+     * Writes pending events, while the container accepts writes without blocking. Once it does not,
+     * the container calls {@link #onWritePossible()} later on. Must hold the lock.
+     */
+    private void writePending() {
+        if(closed) {
+            return;
+        }
+        try {
+            while(out.isReady()) {
+                var event = pendingEvents.pollFirst();
+                if(event==null) {
+                    return;
+                }
+                out.write(event);
+                if(out.isReady()) {
+                    out.flush();
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("failed to write to SSE client, closing connection", e);
+            close();
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.sse.wicket.webmodule;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.causeway.applib.value.Markup;
+import org.apache.causeway.extensions.sse.applib.annotations.SseSource;
+import org.apache.causeway.extensions.sse.applib.service.SseChannel;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Multiplexes the {@link SseClient}s subscribed to the same {@link SseChannel}:
+ * only a single listener is registered per channel, which encodes each event once and
+ * hands it over to all clients.
+ */
+@Log4j2
+class SseSubscribers {
+
+    private final Map<UUID, ChannelSubscribers> subscribersByChannelId = new ConcurrentHashMap<>();
+
+    void subscribe(final SseChannel channel, final SseClient client) {
+        var subscribers = subscribersByChannelId
+                .computeIfAbsent(channel.getId(), id->new ChannelSubscribers(channel));
+        subscribers.add(client);
+        // registering outside of computeIfAbsent, as the channel might already be closed,
+        // in which case the close callback runs (and removes the mapping) immediately
+        subscribers.attachOnce();
+    }
+
+    /**
+     * Number of connected clients, over all channels.
+     */
+    int clientCount() {
+        return subscribersByChannelId.values().stream()
+                .mapToInt(ChannelSubscribers::clientCount)
+                .sum();
+    }
+
+    // -- HELPER
+
+    @RequiredArgsConstructor
+    private class ChannelSubscribers {
+
+        private final SseChannel channel;
+        private final Set<SseClient> clients = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean attached = new AtomicBoolean();
+        private volatile boolean closed;
+
+        void add(final SseClient client) {
+            clients.removeIf(SseClient::isClosed); // prune clients that went away while idle
+            clients.add(client);
+            if(closed) {
+                // lost the race with the channel closing
+                clients.remove(client);
+                client.close();
+            }
+        }
+
+        void attachOnce() {
+            if(!attached.compareAndSet(false, true)) {
+                return;
+            }
+            channel.listenWhile(this::onEvent);
+            channel.onClose(this::onChannelClosed);
+        }
+
+        int clientCount() {
+            return clients.size();
+        }
+
+        private boolean onEvent(final SseSource source) {
+            if(closed) {
+                return false; // stop listening
+            }
+            final byte[] event;
+            try {
+                event = encode(source);
+            } catch (Exception e) {
+                log.warn("failed to encode event of stream {}", channel.getId(), e);
+                return true; // continue listening
+            }
+            clients.removeIf(client->!client.offer(event));
+            return true; // continue listening
+        }
+
+        private void onChannelClosed() {
+            closed = true;
+            subscribersByChannelId.remove(channel.getId(), this);
+            // completes each client's request, the browser then reconnects
+            clients.forEach(SseClient::close);
+            clients.clear();
+        }
+
+    }
+
+    private static final Markup.JaxbToStringAdapter MARSHALLER = new Markup.JaxbToStringAdapter(); // thread-safe
+
+    private static byte[] encode(final SseSource source) throws Exception {
+        var payload = MARSHALLER.marshal(Markup.valueOf(source.getPayload()));
+        return ("data: " + payload + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.sse.wicket.webmodule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.extensions.sse.applib.annotations.SseSource;
+import org.apache.causeway.extensions.sse.applib.service.SseChannel;
+import org.apache.causeway.extensions.sse.applib.service.SseService.ExecutionBehavior;
+import org.apache.causeway.extensions.sse.wicket.services.SseServiceDefault;
+
+class SseSubscribersLoadTest {
+
+    private static final int CONNECTIONS = 5_000;
+    private static final int CLIENT_BUFFER_SIZE = 16;
+
+    @Test
+    void idleConnections_shouldNotHoldThreads() throws Exception {
+
+        // given an open channel
+        var sseService = new SseServiceDefault();
+        var source = new BlockingSource();
+        sseService.submit(source, ExecutionBehavior.SIMPLE);
+        var channel = source.channel.get(10, TimeUnit.SECONDS);
+
+        final int threadCountBefore = Thread.activeCount();
+
+        // when holding many idle connections
+        var subscribers = new SseSubscribers();
+        var connections = new ArrayList<Connection>(CONNECTIONS);
+        for (int i = 0; i < CONNECTIONS; i++) {
+            var connection = new Connection();
+            subscribers.subscribe(channel, new SseClient(connection.asyncContext, CLIENT_BUFFER_SIZE));
+            connections.add(connection);
+        }
+
+        // then no thread per connection
+        assertEquals(CONNECTIONS, subscribers.clientCount());
+        assertTrue(Thread.activeCount() - threadCountBefore < 10,
+                () -> String.format("threads grew from %d to %d", threadCountBefore, Thread.activeCount()));
+
+        // when an event is fired, then each connection receives it once
+        channel.fire(source);
+        for (var connection : connections) {
+            assertEquals(1, connection.out.eventCount());
+        }
+
+        // when a client stops reading, then its pending events are bounded
+        var slowConnection = connections.get(0);
+        slowConnection.out.ready = false;
+        for (int i = 0; i < 10 * CLIENT_BUFFER_SIZE; i++) {
+            channel.fire(source);
+        }
+        slowConnection.out.resume();
+        assertEquals(1 + CLIENT_BUFFER_SIZE, slowConnection.out.eventCount());
+        assertEquals(1 + 10 * CLIENT_BUFFER_SIZE, connections.get(1).out.eventCount());
+
+        // when the channel closes, then all connections are completed
+        source.release.countDown();
+        channel.awaitClose();
+        awaitNoClients(subscribers);
+        for (var connection : connections) {
+            Mockito.verify(connection.asyncContext).complete();
+        }
+    }
+
+    // -- HELPER
+
+    private static void awaitNoClients(final SseSubscribers subscribers) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while(subscribers.clientCount() > 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, subscribers.clientCount());
+    }
+
+    /**
+     * Holds its channel open, until released.
+     */
+    static class BlockingSource implements SseSource {
+
+        final CompletableFuture<SseChannel> channel = new CompletableFuture<>();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void run(final SseChannel channel) {
+            this.channel.complete(channel);
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public String getPayload() {
+            return "<p>tick</p>";
+        }
+
+    }
+
+    static class Connection {
+
+        final FakeOutputStream out = new FakeOutputStream();
+        final AsyncContext asyncContext = Mockito.mock(AsyncContext.class);
+
+        Connection() throws IOException {
+            var response = Mockito.mock(ServletResponse.class);
+            Mockito.when(response.getOutputStream()).thenReturn(out);
+            Mockito.when(asyncContext.getResponse()).thenReturn(response);
+        }
+
+    }
+
+    /**
+     * Mimics the container's non-blocking output stream.
+     */
+    static class FakeOutputStream extends ServletOutputStream {
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        volatile boolean ready = true;
+        private WriteListener writeListener;
+
+        int eventCount() {
+            var written = new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+            return written.isEmpty()
+                    ? 0
+                    : written.split("\n\n").length;
+        }
+
+        void resume() throws IOException {
+            ready = true;
+            writeListener.onWritePossible();
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            this.writeListener = writeListener;
+        }
+
+        @Override
+        public void write(final int b) {
+            bytes.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b) {
+            bytes.write(b, 0, b.length);
+        }
+
+    }
+
+}
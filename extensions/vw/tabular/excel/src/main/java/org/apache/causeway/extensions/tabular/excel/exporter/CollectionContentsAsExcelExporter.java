@@ -20,10 +20,13 @@
 
 import java.io.File;
 
+import javax.inject.Inject;
+
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import org.apache.causeway.applib.value.NamedWithMimeType.CommonMimeType;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.tabular.simple.CollectionContentsExporter;
 import org.apache.causeway.core.metamodel.tabular.simple.DataTable;
 
@@ -31,12 +34,15 @@
 public class CollectionContentsAsExcelExporter
 implements CollectionContentsExporter {
 
+    @Inject private CausewayConfiguration causewayConfiguration;
+
     @Override
     public void createExport(final DataTable dataTable, final File tempFile,
             final @Nullable CollectionContentsExporter.AccessMode accessMode) {
         ExcelExporter.of(accessMode!=null
                 ? accessMode
-                : CollectionContentsExporter.AccessMode.USER)
+                : CollectionContentsExporter.AccessMode.USER,
+                causewayConfiguration.getExtensions().getExcel().getRowAccessWindowSize())
             .accept(dataTable, tempFile);
     }
 
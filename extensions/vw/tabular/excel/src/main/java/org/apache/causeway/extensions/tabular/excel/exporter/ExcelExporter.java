@@ -34,8 +34,7 @@
 import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 import org.springframework.lang.Nullable;
 
@@ -69,11 +68,17 @@ public Row newRow() {
     }
 
     final InteractionInitiatedBy interactionInitiatedBy;
+    /**
+     * Number of rows kept in memory, any rows beyond are flushed to disk.
+     */
+    final int rowAccessWindowSize;
 
-    static ExcelExporter of(final CollectionContentsExporter.AccessMode accessMode) {
+    static ExcelExporter of(
+            final CollectionContentsExporter.AccessMode accessMode,
+            final int rowAccessWindowSize) {
         switch(accessMode) {
-            case USER: return new ExcelExporter(InteractionInitiatedBy.USER);
-            case PASS_THROUGH: return new ExcelExporter(InteractionInitiatedBy.PASS_THROUGH);
+            case USER: return new ExcelExporter(InteractionInitiatedBy.USER, rowAccessWindowSize);
+            case PASS_THROUGH: return new ExcelExporter(InteractionInitiatedBy.PASS_THROUGH, rowAccessWindowSize);
             default:
                 throw new IllegalArgumentException("Unexpected value: " + accessMode);
         }
@@ -81,12 +86,15 @@ static ExcelExporter of(final CollectionContentsExporter.AccessMode accessMode)
 
     @Override @SneakyThrows
     public void accept(final DataTable table, final File tempFile) {
-        try(final Workbook wb = new XSSFWorkbook()) {
+        final SXSSFWorkbook wb = new SXSSFWorkbook(rowAccessWindowSize);
+        try(wb) {
             final String sheetName = table.getTableFriendlyName();
 
             Row row;
 
             var sheet = wb.createSheet(sheetName);
+            // column widths are tracked while rows are written, as flushed rows are no longer available
+            sheet.trackAllColumnsForAutoSizing();
 
             var cellStyleProvider = new CellStyleProvider(wb);
 
@@ -118,23 +126,23 @@ public void accept(final DataTable table, final File tempFile) {
             autoSizeRow(row, maxLinesInRow.getResult().orElse(1),
                     wb.getFontAt(cellStyleProvider.secondaryHeaderStyle().getFontIndex()));
 
-            var dataRows = table.getDataRows();
-
-            // detail rows
-            for (var dataRow : dataRows) {
-                row = rowFactory.newRow();
-                i=0;
-                maxLinesInRow = _Reduction.of(1, Math::max); // row auto-size calculation
-                for(var column : dataColumns) {
-                    final Cell cell = row.createCell((short) i++);
-                    var cellElements = dataRow.getCellElements(column, interactionInitiatedBy)
-                            .filter(managedObject->managedObject.getPojo()!=null);
-                    final int linesWritten = setCellValue(cellElements,
-                            cell,
-                            cellStyleProvider);
-                    maxLinesInRow.accept(linesWritten);
-                }
-                autoSizeRow(row, maxLinesInRow.getResult().orElse(1), null);
+            // detail rows (streamed, so rows already written can be garbage collected)
+            try(var dataRows = table.streamDataRows()) {
+                dataRows.forEach(dataRow->{
+                    var detailRow = rowFactory.newRow();
+                    int columnIndex = 0;
+                    var maxLinesInDetailRow = _Reduction.of(1, Math::max); // row auto-size calculation
+                    for(var column : dataColumns) {
+                        final Cell cell = detailRow.createCell((short) columnIndex++);
+                        var cellElements = dataRow.getCellElements(column, interactionInitiatedBy)
+                                .filter(managedObject->managedObject.getPojo()!=null);
+                        final int linesWritten = setCellValue(cellElements,
+                                cell,
+                                cellStyleProvider);
+                        maxLinesInDetailRow.accept(linesWritten);
+                    }
+                    autoSizeRow(detailRow, maxLinesInDetailRow.getResult().orElse(1), null);
+                });
             }
 
             // column auto-size
@@ -146,6 +154,8 @@ public void accept(final DataTable table, final File tempFile) {
             try(var fos = new FileOutputStream(tempFile)) {
                 wb.write(fos);
             }
+        } finally {
+            wb.dispose(); // deletes the temporary files backing the flushed rows
         }
     }
 
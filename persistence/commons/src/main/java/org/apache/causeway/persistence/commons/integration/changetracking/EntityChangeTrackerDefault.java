@@ -31,6 +31,7 @@
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -105,6 +106,13 @@
  * {@link org.springframework.core.Ordered} to ensure it isn't called last by {@link TransactionSynchronizationManager}.
  * </p>
  *
+ * <p>
+ * In {@link CausewayConfiguration.Persistence.Commons.EntityChangeTracker.Mode#COMPACT compact} mode, property changes
+ * are held per entity rather than per property (see {@link _CompactPropertyChanges}), pre-values are only captured if
+ * there is any enabled {@link org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber}, and
+ * the changes are streamed to the subscribers (rather than collected up front).
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Service
@@ -173,7 +181,15 @@ private void addPropertyChangeRecordIfAbsent(PropertyChangeRecordId pcrId, Funct
         enlistedPropertyChangeRecordsById.computeIfAbsent(pcrId, func);
     }
 
+    /**
+     * Used instead of {@link #enlistedPropertyChangeRecordsById}, when in compact mode.
+     */
+    private final _CompactPropertyChanges compactPropertyChanges = new _CompactPropertyChanges();
+
     private Changes evaluateChanges() {
+        if(configuration.isCompact()) {
+            return evaluateCompactChanges();
+        }
         var changedProperties = evaluateChangedProperties();
 
         var isCountersAndDetail = causewayConfiguration.getApplib().getService().getMetricsService().getLevel().isCountersAndDetail();
@@ -195,7 +211,25 @@ private Changes evaluateChanges() {
 
         enlistedPropertyChangeRecordsById.clear();
 
-        return new Changes(changedProperties, loadedBookmarks, dirtiedBookmarks);
+        return new Changes(changedProperties, changedProperties.size(), loadedBookmarks, dirtiedBookmarks);
+    }
+
+    private Changes evaluateCompactChanges() {
+        var numberOfDirtiedProperties = compactPropertyChanges.evaluate(this::shouldPublish, deadlockRecognizer);
+
+        var isCountersAndDetail = causewayConfiguration.getApplib().getService().getMetricsService().getLevel().isCountersAndDetail();
+        Set<Bookmark> loadedBookmarks =
+                isCountersAndDetail
+                        ? compactPropertyChanges.loadedBookmarks()
+                        : Collections.emptySet();
+
+        Set<Bookmark> dirtiedBookmarks =
+                isCountersAndDetail
+                        ? compactPropertyChanges.dirtiedBookmarks()
+                        : Collections.emptySet();
+
+        // the post values are retained by compactPropertyChanges, until streamed to the subscribers
+        return new Changes(Collections.emptySet(), numberOfDirtiedProperties, loadedBookmarks, dirtiedBookmarks);
     }
 
     private Set<PropertyChangeRecord> evaluateChangedProperties() {
@@ -218,7 +252,11 @@ private Set<PropertyChangeRecord> evaluateChangedProperties() {
 
     @RequiredArgsConstructor
     static class Changes {
+        /**
+         * Always empty in compact mode.
+         */
         @Getter private final Set<PropertyChangeRecord> dirtiedProperties;
+        @Getter private final int numberOfDirtiedProperties;
         @Getter private final Set<Bookmark> loadedBookmarks;
         @Getter private final Set<Bookmark> dirtiedBookmarks;
     }
@@ -273,6 +311,7 @@ public void destroy() {
 
     private void clearAndReset() {
         enlistedPropertyChangeRecordsById.clear();
+        compactPropertyChanges.clear();
         changes.clear();
 
         changeKindByEnlistedAdapter.clear();
@@ -333,10 +372,12 @@ public void beforeCommit(boolean readOnly) {
             log.debug("EntityChangeTrackerDefault.beforeCommit(readOnly={}) xactn={} interactionId={} thread={}", readOnly, transactionCounter.get(), interactionId, Thread.currentThread().getName());
         }
 
+        // flushes first, as the ORM might enlist updated entities only when flushed (JPA, JDO with dirty field tracking)
+        entityPropertyChangePublisher.publishChangedProperties();
+
         // we memoize the property changes to (hopefully) avoid ConcurrentModificationExceptions with ourselves later
         memoizeChangesIfRequired();
 
-        entityPropertyChangePublisher.publishChangedProperties();
         entityChangesPublisher.publishChangingEntities(this);
     }
 
@@ -382,7 +423,7 @@ public Optional<EntityChanges> getEntityChanges(
 
         // this code path has side-effects, it locks the result for this transaction,
         // such that cannot enlist on top of it
-        final int numberEntityPropertiesModified = memoizeChangesIfRequired().dirtiedProperties.size();
+        final int numberEntityPropertiesModified = memoizeChangesIfRequired().getNumberOfDirtiedProperties();
 
         var interactionId = interaction.getInteractionId();
         final int nextEventSequence = ((InteractionInternal) interaction).getThenIncrementTransactionSequence();
@@ -462,11 +503,39 @@ public Can<EntityPropertyChange> getPropertyChanges(
         // such that cannot enlist on top of it
         Set<PropertyChangeRecord> propertyChangeRecords = memoizeChangesIfRequired().getDirtiedProperties();
 
+        if(configuration.isCompact()) {
+            var propertyChanges = new ArrayList<EntityPropertyChange>();
+            compactPropertyChanges.streamPropertyChanges(timestamp, userName, txId, 0,
+                    chunk->chunk.forEach(propertyChanges::add));
+            return Can.ofCollection(propertyChanges);
+        }
+
         return propertyChangeRecords.stream()
                 .map(propertyChangeRecord -> propertyChangeRecord.toEntityPropertyChange(timestamp, userName, txId))
                 .collect(Can.toCan());
     }
 
+    @Override
+    public void streamPropertyChanges(
+            final java.sql.Timestamp timestamp,
+            final String userName,
+            final TransactionId txId,
+            final int chunkSize,
+            final Consumer<Can<EntityPropertyChange>> chunkConsumer) {
+
+        if(!configuration.isCompact()) {
+            HasEnlistedEntityPropertyChanges.super.streamPropertyChanges(timestamp, userName, txId, chunkSize, chunkConsumer);
+            return;
+        }
+
+        // this code path has side-effects, it locks the result for this transaction,
+        // such that cannot enlist on top of it
+        memoizeChangesIfRequired();
+
+        // unique by construction, as held per entity and property
+        compactPropertyChanges.streamPropertyChanges(timestamp, userName, txId, chunkSize, chunkConsumer);
+    }
+
     // -- DEPENDENCIES
 
     Interaction currentInteraction() {
@@ -520,7 +589,16 @@ private boolean enlistForChangeKindPublishing(
 
     // side-effect free, used by XRay
     long countPotentialPropertyChangeRecords() {
-        return enlistedPropertyChangeRecordsById.size();
+        return enlistedPropertyChangeRecordsById.size()
+                + compactPropertyChanges.size();
+    }
+
+    /**
+     * Whether to capture property (pre-)values at all: in compact mode only if there is anyone to publish them to.
+     */
+    private boolean isCapturingPropertyValues() {
+        return !configuration.isCompact()
+                || entityPropertyChangePublisher.hasEnabledSubscribers();
     }
 
     // -- ENTITY CHANGE TRACKING
@@ -539,6 +617,14 @@ public void enlistCreated(final ManagedObject entity) {
         suppressAutoFlushIfRequired(() -> {
             enlistForChangeKindPublishing(entity, EntityChangeKind.CREATE);
 
+            if(!isCapturingPropertyValues()) {
+                return;
+            }
+            if(configuration.isCompact()) {
+                compactPropertyChanges.enlistCreated(entity, ManagedObjects.bookmarkElseFail(entity));
+                return;
+            }
+
             MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
                 .forEach(pcrId -> addPropertyChangeRecordIfAbsent(pcrId, PropertyChangeRecord.ofNew(pcrId)));
         });
@@ -564,11 +650,18 @@ public void enlistUpdating(
             // additional properties may now have been changed, and the changeKind for publishing might also be modified
             enlistForChangeKindPublishing(entity, EntityChangeKind.UPDATE);
 
+            if(!isCapturingPropertyValues()) {
+                return;
+            }
+
             final Can<PropertyChangeRecord> ormPropertyChangeRecords = propertyChangeRecordSupplier !=null
                     ? propertyChangeRecordSupplier.apply(entity)
                     : null;
 
-            if(ormPropertyChangeRecords != null) {
+            if(configuration.isCompact()) {
+                compactPropertyChanges.enlistUpdating(
+                        entity, ManagedObjects.bookmarkElseFail(entity), ormPropertyChangeRecords, deadlockRecognizer);
+            } else if(ormPropertyChangeRecords != null) {
                 // provided by ORM
                 ormPropertyChangeRecords
                     .stream()
@@ -592,11 +685,17 @@ public void enlistDeleting(final ManagedObject entity) {
 
         suppressAutoFlushIfRequired(() -> {
             final boolean enlisted = enlistForChangeKindPublishing(entity, EntityChangeKind.DELETE);
-            if(enlisted) {
+            if(enlisted
+                    && isCapturingPropertyValues()) {
                 if(log.isDebugEnabled()) {
                     log.debug("enlist entity's property changes for publishing {}", entity);
                 }
 
+                if(configuration.isCompact()) {
+                    compactPropertyChanges.enlistDeleting(entity, ManagedObjects.bookmarkElseFail(entity), deadlockRecognizer);
+                    return;
+                }
+
                 MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
                     .forEach(pcrId -> {
                         addPropertyChangeRecordIfAbsent(pcrId, id -> PropertyChangeRecord.ofDeleting(id, deadlockRecognizer));
@@ -647,6 +746,13 @@ public interface Configuration {
         boolean isSuppressAutoFlush();
 
         boolean isEnabled();
+
+        /**
+         * Whether to hold the changes in compact form, see {@link CausewayConfiguration.Persistence.Commons.EntityChangeTracker.Mode#COMPACT}.
+         */
+        default boolean isCompact() {
+            return false;
+        }
     }
 
     @Component
@@ -665,6 +771,11 @@ public boolean isSuppressAutoFlush() {
         public boolean isEnabled() {
             return causewayConfiguration.getPersistence().getCommons().getEntityChangeTracker().isEnabled();
         }
+
+        @Override
+        public boolean isCompact() {
+            return causewayConfiguration.getPersistence().getCommons().getEntityChangeTracker().getMode().isCompact();
+        }
     }
 
     @Inject private Configuration configuration;
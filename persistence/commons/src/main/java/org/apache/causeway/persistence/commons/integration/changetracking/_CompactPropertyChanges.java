@@ -0,0 +1,295 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.xactn.TransactionId;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.MmEntityUtils;
+import org.apache.causeway.core.metamodel.object.MmUnwrapUtils;
+import org.apache.causeway.core.metamodel.services.deadlock.DeadlockRecognizer;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PreAndPostValue;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Compact alternative to holding a {@link PropertyChangeRecord} for each enlisted property:
+ * holds a single record per enlisted entity instead, with the pre- and post-values of its properties
+ * in an array (indexed by property) and the properties themselves shared by all entities of the same type.
+ * <p>
+ * Not thread-safe, as owned by the {@link EntityChangeTrackerDefault transaction scoped} tracker.
+ */
+final class _CompactPropertyChanges {
+
+    private static final PreAndPostValue NEW = PreAndPostValue.pre(PropertyValuePlaceholder.NEW);
+
+    /**
+     * In order of enlistment.
+     */
+    private final Map<Bookmark, EntityRecord> recordsByBookmark = new LinkedHashMap<>();
+    private final Map<ObjectSpecification, Can<OneToOneAssociation>> propertiesBySpec = new HashMap<>();
+
+    private int dirtiedPropertyCount;
+
+    // -- ENLISTING
+
+    void enlistCreated(final @NonNull ManagedObject entity, final @NonNull Bookmark bookmark) {
+        var record = recordFor(entity, bookmark);
+        for (int i = 0; i < record.values.length; i++) {
+            record.setIfAbsent(i, NEW);
+        }
+    }
+
+    void enlistUpdating(
+            final @NonNull ManagedObject entity,
+            final @NonNull Bookmark bookmark,
+            final @Nullable Can<PropertyChangeRecord> ormPropertyChangeRecords,
+            final @NonNull DeadlockRecognizer deadlockRecognizer) {
+        var record = recordFor(entity, bookmark);
+        if(ormPropertyChangeRecords != null) {
+            // provided by ORM
+            ormPropertyChangeRecords.forEach(pcr->{
+                var index = record.indexOf(pcr.getPropertyId());
+                if(index>=0) {
+                    record.setIfAbsent(index, pcr.getPreAndPostValue());
+                }
+            });
+        } else {
+            // home-grown approach
+            for (int i = 0; i < record.values.length; i++) {
+                if(record.values[i]==null) {
+                    record.values[i] = PreAndPostValue.pre(record.currentValueElseUnknown(i, deadlockRecognizer));
+                }
+            }
+        }
+    }
+
+    void enlistDeleting(
+            final @NonNull ManagedObject entity,
+            final @NonNull Bookmark bookmark,
+            final @NonNull DeadlockRecognizer deadlockRecognizer) {
+        var record = recordFor(entity, bookmark);
+        for (int i = 0; i < record.values.length; i++) {
+            if(record.values[i]==null) {
+                record.values[i] = PreAndPostValue.pre(record.currentValueElseUnknown(i, deadlockRecognizer))
+                        .withPost(PropertyValuePlaceholder.DELETED);
+            }
+        }
+    }
+
+    // -- EVALUATION
+
+    /**
+     * Sets the post-values and determines, which properties actually changed.
+     * @return the number of properties that actually changed
+     */
+    int evaluate(
+            final @NonNull Predicate<PreAndPostValue> shouldPublish,
+            final @NonNull DeadlockRecognizer deadlockRecognizer) {
+        // evaluating post values might enlist further entities, hence iterating over a copy
+        var records = new ArrayList<EntityRecord>(recordsByBookmark.values());
+        dirtiedPropertyCount = 0;
+        for(var record : records) {
+            dirtiedPropertyCount += record.evaluate(shouldPublish, deadlockRecognizer);
+        }
+        return dirtiedPropertyCount;
+    }
+
+    int getDirtiedPropertyCount() {
+        return dirtiedPropertyCount;
+    }
+
+    Set<Bookmark> loadedBookmarks() {
+        return Set.copyOf(recordsByBookmark.keySet());
+    }
+
+    Set<Bookmark> dirtiedBookmarks() {
+        return recordsByBookmark.values().stream()
+                .filter(EntityRecord::isDirtied)
+                .map(record->record.bookmark)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Hands the changed properties (as evaluated) to given consumer, in chunks of at most given size.
+     * @param chunkSize - if not positive, all changes are handed over as a single chunk
+     */
+    void streamPropertyChanges(
+            final Timestamp timestamp, final String userName, final TransactionId txId,
+            final int chunkSize,
+            final @NonNull Consumer<Can<EntityPropertyChange>> chunkConsumer) {
+
+        final int maxChunkSize = chunkSize > 0
+                ? chunkSize
+                : Math.max(1, dirtiedPropertyCount);
+        var chunk = new ArrayList<EntityPropertyChange>();
+        for(var record : recordsByBookmark.values()) {
+            if(record.dirtied==null) {
+                continue;
+            }
+            for (int i = record.dirtied.nextSetBit(0); i >= 0; i = record.dirtied.nextSetBit(i + 1)) {
+                chunk.add(PropertyChangeRecord.toEntityPropertyChange(
+                        record.bookmark, record.properties.getElseFail(i).getId(), record.values[i],
+                        timestamp, userName, txId));
+                if(chunk.size()==maxChunkSize) {
+                    chunkConsumer.accept(Can.ofCollection(chunk));
+                    chunk.clear();
+                }
+            }
+        }
+        if(!chunk.isEmpty()) {
+            chunkConsumer.accept(Can.ofCollection(chunk));
+        }
+    }
+
+    /**
+     * Number of property values held, side-effect free.
+     */
+    long size() {
+        return recordsByBookmark.values().stream()
+                .mapToLong(EntityRecord::size)
+                .sum();
+    }
+
+    void clear() {
+        recordsByBookmark.clear();
+        propertiesBySpec.clear();
+        dirtiedPropertyCount = 0;
+    }
+
+    // -- HELPER
+
+    private EntityRecord recordFor(final ManagedObject entity, final Bookmark bookmark) {
+        return recordsByBookmark.computeIfAbsent(bookmark, key->{
+            var properties = propertiesBySpec.computeIfAbsent(entity.getSpecification(), spec->
+                MmEntityUtils.streamPropertiesEnabledForChangePublishing(entity)
+                    .collect(Can.toCan()));
+            return new EntityRecord(entity, bookmark, properties, new PreAndPostValue[properties.size()]);
+        });
+    }
+
+    @RequiredArgsConstructor
+    private static final class EntityRecord {
+
+        private final ManagedObject entity;
+        private final Bookmark bookmark;
+        private final Can<OneToOneAssociation> properties;
+        /**
+         * Indexed by property, {@code null} if not enlisted.
+         */
+        private final PreAndPostValue[] values;
+        /**
+         * Indexed by property, {@code null} until evaluated or if none changed.
+         */
+        private BitSet dirtied;
+
+        void setIfAbsent(final int index, final PreAndPostValue value) {
+            if(values[index]==null) {
+                values[index] = value;
+            }
+        }
+
+        int indexOf(final String propertyId) {
+            for (int i = 0; i < values.length; i++) {
+                if(properties.getElseFail(i).getId().equals(propertyId)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        Object currentValueElseUnknown(final int index, final DeadlockRecognizer deadlockRecognizer) {
+            try {
+                return currentValue(index);
+            } catch (Exception ex) {
+                deadlockRecognizer.rethrowIfDeadlock(ex);
+                return PropertyValuePlaceholder.UNKNOWN;
+            }
+        }
+
+        int evaluate(
+                final Predicate<PreAndPostValue> shouldPublish,
+                final DeadlockRecognizer deadlockRecognizer) {
+            dirtied = null;
+            var isTransientOrRemoved = MmEntityUtils.getEntityState(entity).isTransientOrRemoved();
+            for (int i = 0; i < values.length; i++) {
+                var value = values[i];
+                if(value==null) {
+                    continue;
+                }
+                // set post values, which have been left empty up to now (unless deleting)
+                if(value.getPost()==null) {
+                    value = value.withPost(isTransientOrRemoved
+                            ? PropertyValuePlaceholder.DELETED
+                            : currentValueElseUnknown(i, deadlockRecognizer));
+                    values[i] = value;
+                }
+                if(shouldPublish.test(value)) {
+                    if(dirtied==null) {
+                        dirtied = new BitSet(values.length);
+                    }
+                    dirtied.set(i);
+                }
+            }
+            return dirtied!=null
+                    ? dirtied.cardinality()
+                    : 0;
+        }
+
+        boolean isDirtied() {
+            return dirtied!=null;
+        }
+
+        long size() {
+            long size = 0;
+            for (var value : values) {
+                if(value!=null) size++;
+            }
+            return size;
+        }
+
+        private Object currentValue(final int index) {
+            var referencedAdapter = properties.getElseFail(index).get(entity, InteractionInitiatedBy.PASS_THROUGH);
+            return MmUnwrapUtils.single(referencedAdapter);
+        }
+
+    }
+
+}
@@ -53,6 +53,7 @@
 import org.apache.causeway.core.metamodel.object.MmEntityUtils;
 import org.apache.causeway.core.metamodel.object.MmUnwrapUtils;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectBulkLoader;
+import org.apache.causeway.core.metamodel.objectmanager.QueryResultList;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.runtime.flushmgmt.FlushMgmt;
 import org.apache.causeway.persistence.commons.CausewayModulePersistenceCommons;
@@ -219,7 +220,8 @@ <T> List<T> submitQuery(final Query<T> query) {
         var queryRequest = ObjectBulkLoader.Request.of(resultTypeSpec, query);
         var allMatching = getObjectManager().queryObjects(queryRequest);
         final List<T> resultList = _Casts.uncheckedCast(MmUnwrapUtils.multipleAsList(allMatching));
-        return resultList;
+        // remembers the query, in support of viewers that page, sort and search via the persistence layer
+        return QueryResultList.of(query, resultList);
     }
 
     @Override
@@ -31,9 +31,13 @@
 import org.datanucleus.enhancement.Persistable;
 
 import org.apache.causeway.applib.annotation.Domain;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.object.MmEntityUtils;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.ObjectLifecyclePublisher;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
 import org.apache.causeway.persistence.jdo.datanucleus.entities.DnStateManagerForCauseway;
@@ -47,7 +51,7 @@
  * <ul>
  * <li>enlistCreated <-> postStore (when NEW)</li>
  * <li>enlistDeleting <-> preDelete</li>
- * <li>enlistUpdating <-> preDirty</li>
+ * <li>enlistUpdating <-> preDirty (or preStore when NOT NEW, if dirty field tracking is enabled)</li>
  * <li>recognizeLoaded <-> postLoad</li>
  * <li>recognizePersisting <-> preStore (when NEW)</li>
  * <li>recognizeUpdating <-> postStore (when NOT NEW)</li>
@@ -65,6 +69,11 @@
     private final @NonNull MetaModelContext metaModelContext;
     private final @NonNull ObjectLifecyclePublisher objectLifecyclePublisher;
 
+    /**
+     * Whether to enlist only the dirty fields, as reported by {@link DnStateManagerForCauseway}, when flushed.
+     */
+    private final _Lazy<Boolean> dirtyFieldTracking = _Lazy.threadSafe(this::isDirtyFieldTrackingEnabled);
+
     // -- CALLBACKS
 
     @Override
@@ -111,6 +120,9 @@ public void preStore(final InstanceLifecycleEvent event) {
             // well but then we need an OID, so we distinguish between either we have one or not
             objectLifecyclePublisher.onPrePersist(
                     entity.asEitherWithOrWithoutMemoizedBookmark());
+        } else if(dirtyFieldTracking.get()) {
+            // the ORM knows which fields changed, like with JPA's @PreUpdate
+            objectLifecyclePublisher.onPreUpdate(entity, adapted->gatherPropertyChangeRecords(pojo, adapted));
         } else {
             // not here, using preDirty for that instead
             //objectLifecyclePublisher.onPreUpdate(entity, /*propertyChangeRecordSupplier*/ null);
@@ -142,6 +154,10 @@ public void postStore(final InstanceLifecycleEvent event) {
     public void preDirty(final InstanceLifecycleEvent event) {
         log.debug("preDirty {}", ()->_Utils.debug(event));
 
+        if(dirtyFieldTracking.get()) {
+            return; // using preStore for that instead
+        }
+
         final Persistable pojo = _Utils.persistableFor(event);
         final Runnable doPreDirty = ()->doPreDirty(pojo);
 
@@ -224,6 +240,36 @@ private ManagedObject adaptEntity(
         return _Utils.adaptEntity(metaModelContext, pojo);
     }
 
+    /**
+     * Only the properties, whose fields DataNucleus reports as dirty, with their pre-values as captured
+     * by {@link DnStateManagerForCauseway}.
+     *
+     * @see org.apache.causeway.persistence.jpa.applib.integration.CausewayEntityListener#gatherPropertyChangeRecords(ManagedObject)
+     */
+    private Can<PropertyChangeRecord> gatherPropertyChangeRecords(
+            final @NonNull Persistable pojo,
+            final @NonNull ManagedObject entity) {
+
+        // guard against null and non-entity types
+        if(!ManagedObjects.isEntity(entity)) {
+            return Can.empty();
+        }
+
+        return DnStateManagerForCauseway.extractFrom(pojo)
+                .map(DnStateManagerForCauseway::consumeDirtyFieldPreValues)
+                .map(preValuesByFieldName->preValuesByFieldName.entrySet().stream()
+                        .map(entry->MmEntityUtils.lookupPropertyChangeRecordIdForChangePublishing(entity, entry.getKey())
+                                .map(id->PropertyChangeRecord.ofCurrent(id, entry.getValue()))
+                                .orElse(null)) // ignore
+                        .collect(Can.toCan())) // a Can only collects non-null elements
+                .orElseGet(Can::empty);
+    }
+
+    private boolean isDirtyFieldTrackingEnabled() {
+        return metaModelContext.getConfiguration().getPersistence().getCommons().getEntityChangeTracker()
+                .isJdoDirtyFieldTracking();
+    }
+
     private boolean isInserting(
             final @NonNull Persistable pojo) {
         return DnStateManagerForCauseway.extractFrom(pojo)
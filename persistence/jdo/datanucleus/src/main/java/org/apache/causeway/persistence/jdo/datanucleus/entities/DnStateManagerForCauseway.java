@@ -18,10 +18,15 @@
  */
 package org.apache.causeway.persistence.jdo.datanucleus.entities;
 
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 import org.datanucleus.ExecutionContext;
+import org.datanucleus.Transaction;
 import org.datanucleus.api.jdo.DataNucleusHelperJDO;
 import org.datanucleus.cache.CachedPC;
 import org.datanucleus.enhancement.Persistable;
@@ -35,6 +40,7 @@
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._Refs;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.persistence.jdo.datanucleus.metamodel.facets.entity.JdoEntityFacet;
 
@@ -122,6 +128,7 @@ public void disconnect() {
          * Using a pseudo StateManager, that only acts as a holder of an OID. */
         var entityPojo = myPC; // keep local reference
         var snapshotOid = snapshotOid();
+        clearPreValues();
 
         super.disconnect();
 
@@ -252,6 +259,154 @@ public Optional<PreDirtyPropagationLock> acquirePreDirtyPropagationLock(final Ob
         return lockIfGranted;
     }
 
+    // -- DIRTY FIELD TRACKING
+
+    /*
+     * Field values as they were before first changed (since last consumed), indexed by absolute field number;
+     * assuming we don't need thread-safety here,
+     * as each thread presumably has its own DN execution context
+     */
+    private Object[] preValues;
+    private BitSet preValueCaptured;
+    private Boolean dirtyFieldTracking; // memoized
+
+    /**
+     * Returns the persistent fields currently reported dirty by DataNucleus, keyed by field name,
+     * each with its value before first changed (since last called), or {@link PropertyValuePlaceholder#UNKNOWN}
+     * if not known (eg. not loaded when changed).
+     * <p>
+     * Consumes the captured pre-values, such that fields that are changed again later on (eg. after a flush)
+     * are reported with their then current value.
+     */
+    public Map<String, Object> consumeDirtyFieldPreValues() {
+        var dirtyFieldNumbers = getDirtyFieldNumbers();
+        if(dirtyFieldNumbers==null
+                || dirtyFieldNumbers.length==0) {
+            return Collections.emptyMap();
+        }
+        var cmd = getClassMetaData();
+        var preValuesByFieldName = new LinkedHashMap<String, Object>(dirtyFieldNumbers.length * 2);
+        for(int fieldNumber : dirtyFieldNumbers) {
+            var fieldName = cmd.getMetaDataForManagedMemberAtAbsolutePosition(fieldNumber).getName();
+            preValuesByFieldName.put(fieldName,
+                    preValueCaptured!=null
+                        && preValueCaptured.get(fieldNumber)
+                            ? preValues[fieldNumber]
+                            : PropertyValuePlaceholder.UNKNOWN);
+        }
+        clearPreValues();
+        return preValuesByFieldName;
+    }
+
+    @Override
+    public void postCommit(final Transaction tx) {
+        super.postCommit(tx);
+        clearPreValues();
+    }
+
+    @Override
+    public void preRollback(final Transaction tx) {
+        super.preRollback(tx);
+        clearPreValues();
+    }
+
+    @Override
+    public void setBooleanField(final Persistable pc, final int fieldNumber, final boolean currentValue, final boolean newValue) {
+        capturePreValue(fieldNumber, currentValue);
+        super.setBooleanField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setByteField(final Persistable pc, final int fieldNumber, final byte currentValue, final byte newValue) {
+        capturePreValue(fieldNumber, currentValue);
+        super.setByteField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setCharField(final Persistable pc, final int fieldNumber, final char currentValue, final char newValue) {
+        capturePreValue(fieldNumber, currentValue);
+        super.setCharField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setDoubleField(final Persistable pc, final int fieldNumber, final double currentValue, final double newValue) {
+        capturePreValue(fieldNumber, currentValue);
+        super.setDoubleField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setFloatField(final Persistable pc, final int fieldNumber, final float currentValue, final float newValue) {
+        capturePreValue(fieldNumber, currentValue);
+        super.setFloatField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setIntField(final Persistable pc, final int fieldNumber, final int currentValue, final int newValue) {
+        capturePreValue(fieldNumber, currentValue);
+        super.setIntField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setLongField(final Persistable pc, final int fieldNumber, final long currentValue, final long newValue) {
+        capturePreValue(fieldNumber, currentValue);
+        super.setLongField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setShortField(final Persistable pc, final int fieldNumber, final short currentValue, final short newValue) {
+        capturePreValue(fieldNumber, currentValue);
+        super.setShortField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setStringField(final Persistable pc, final int fieldNumber, final String currentValue, final String newValue) {
+        capturePreValue(fieldNumber, currentValue);
+        super.setStringField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setObjectField(final Persistable pc, final int fieldNumber, final Object currentValue, final Object newValue) {
+        capturePreValue(fieldNumber, currentValue);
+        super.setObjectField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    /**
+     * Keeps the value a field had before it was first changed, ignoring subsequent changes.
+     */
+    private void capturePreValue(final int fieldNumber, final Object currentValue) {
+        if(!isDirtyFieldTracking()) {
+            return;
+        }
+        if(preValueCaptured==null) {
+            var fieldCount = getClassMetaData().getAllMemberPositions().length;
+            preValues = new Object[fieldCount];
+            preValueCaptured = new BitSet(fieldCount);
+        }
+        if(fieldNumber >= preValues.length
+                || preValueCaptured.get(fieldNumber)) {
+            return;
+        }
+        preValues[fieldNumber] = isFieldLoaded(fieldNumber)
+                ? currentValue
+                : PropertyValuePlaceholder.UNKNOWN;
+        preValueCaptured.set(fieldNumber);
+    }
+
+    private void clearPreValues() {
+        preValues = null;
+        preValueCaptured = null;
+    }
+
+    private boolean isDirtyFieldTracking() {
+        if(dirtyFieldTracking==null) {
+            dirtyFieldTracking = MetaModelContext.instance()
+                    .map(mmc->mmc.getConfiguration().getPersistence().getCommons().getEntityChangeTracker()
+                            .isJdoDirtyFieldTracking())
+                    .orElse(false);
+        }
+        return dirtyFieldTracking;
+    }
+
     // -- UTILITY
 
     public static Optional<DnStateManagerForCauseway> extractFrom(final @Nullable Persistable pojo) {
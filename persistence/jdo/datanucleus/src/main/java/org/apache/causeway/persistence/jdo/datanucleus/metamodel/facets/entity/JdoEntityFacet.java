@@ -24,6 +24,7 @@
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.jdo.FetchGroup;
@@ -48,6 +49,7 @@
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
 import org.apache.causeway.commons.internal.base._NullSafe;
+import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.beans.PersistenceStack;
@@ -106,6 +108,11 @@
     private final EntityOrmMetadata ormMetadata =
             _MetadataUtil.ormMetadataFor(getPersistenceManager(), entityClass);
 
+    // lazily looks up the primary key ordering (needs a PersistenceManager)
+    @Getter(lazy=true, value = AccessLevel.PRIVATE)
+    private final String primaryKeyOrdering =
+            _MetadataUtil.primaryKeyOrderingFor(getPersistenceManager(), entityClass);
+
     public JdoEntityFacet(
             final FacetHolder holder, final Class<?> entityClass) {
         super(EntityFacet.class, holder);
@@ -215,6 +222,50 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Resolves all object ids in one go via {@link PersistenceManager#getObjectsById(java.util.Collection, boolean)},
+     * which allows DataNucleus to fetch those not yet cached in bulk. If any of the entities cannot be found,
+     * falls back to fetching one by one, such that the missing ones are represented by empty {@link ManagedObject}s.
+     */
+    @Override
+    public Can<ManagedObject> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        if(bookmarks.size()<2) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        final List<Object> entityPojos;
+        try {
+
+            var persistenceManager = getPersistenceManager();
+            var objectIds = bookmarks
+                    .map(bookmark->primaryKeyTypeForDecoding().destring(bookmark.getIdentifier()))
+                    .map(primaryKey->persistenceManager.newObjectIdInstance(entityClass, primaryKey))
+                    .toList();
+
+            var fetchPlan = persistenceManager.getFetchPlan();
+            fetchPlan.addGroup(FetchGroup.DEFAULT);
+            entityPojos = _Lists.newArrayList(persistenceManager.getObjectsById(objectIds, true));
+
+        } catch (final RuntimeException e) {
+
+            var recognition = exceptionRecognizerService.recognize(e);
+            if(recognition.isPresent()) {
+                if(recognition.get().getCategory() == Category.NOT_FOUND) {
+                    return EntityFacet.super.fetchByBookmarks(bookmarks);
+                }
+            }
+
+            throw e;
+        }
+
+        var entitySpec = getEntitySpecification();
+        return bookmarks.zipMap(entityPojos, (bookmark, entityPojo)->
+                ManagedObject.entity(entitySpec, entityPojo, Optional.of(bookmark)));
+    }
+
     @Override
     public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
@@ -297,6 +348,78 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 query.getDescription());
     }
 
+    @Override
+    public boolean supportsQueryRefinement(final Query<?> query) {
+        return query instanceof AllInstancesQuery;
+    }
+
+    @Override
+    public long countByQuery(final Query<?> query, final QueryRefinement refinement) {
+
+        assertQueryRefinementSupported(query);
+
+        var jdoQuery = newRefinedQuery(refinement);
+        jdoQuery.setResult("count(this)");
+
+        return getTransactionalProcessor().callWithinCurrentTransactionElseCreateNew(
+                ()->jdoQuery.executeResultUnique(Long.class))
+                .ifFailureFail()
+                .getValue().orElse(0L);
+    }
+
+    @Override
+    public Can<ManagedObject> fetchByQuery(final Query<?> query, final QueryRefinement refinement) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("about to execute Query: {} refined by {}", query.getDescription(), refinement);
+        }
+
+        assertQueryRefinementSupported(query);
+
+        var range = query.getRange();
+        var jdoQuery = newRefinedQuery(refinement);
+
+        // the primary key acts as tiebreaker, such that the order is total and pages don't overlap
+        jdoQuery.setOrdering(refinement.isSorting()
+                ? String.format("this.%s %s, %s",
+                        refinement.getSortMemberId(),
+                        refinement.isSortAscending() ? "ascending" : "descending",
+                        getPrimaryKeyOrdering())
+                : getPrimaryKeyOrdering());
+        if(!range.isUnconstrained()) {
+            jdoQuery.setRange(range.getStart(), range.getEnd());
+        }
+
+        return fetchWithinTransaction(jdoQuery::executeList);
+    }
+
+    private void assertQueryRefinementSupported(final Query<?> query) {
+        if(!supportsQueryRefinement(query)) {
+            throw _Exceptions.unsupportedOperation("query refinement for query type %s (%s) not supported by this persistence implementation",
+                    query.getClass(),
+                    query.getDescription());
+        }
+        // guard against misuse
+        _Assert.assertTypeIsInstanceOf(query.getResultType(), entityClass);
+    }
+
+    /**
+     * Case-insensitive sub-string match on any of the search members.
+     */
+    private javax.jdo.Query<?> newRefinedQuery(final QueryRefinement refinement) {
+        var jdoQuery = getPersistenceManager().newQuery(entityClass);
+        jdoQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+
+        if(refinement.isSearching()) {
+            jdoQuery.setFilter(refinement.getSearchMemberIds().stream()
+                    .map(memberId->String.format(
+                            "(this.%1$s != null && this.%1$s.toLowerCase().indexOf(:searchTerm) >= 0)", memberId))
+                    .collect(Collectors.joining(" || ")));
+            jdoQuery.setNamedParameters(Map.of("searchTerm", refinement.getSearchTerm().toLowerCase()));
+        }
+        return jdoQuery;
+    }
+
     private static boolean hasResultPhrase(final javax.jdo.Query<?> namedQuery) {
         if (namedQuery instanceof JDOQuery) {
             JDOQuery<?> jdoQuery = (JDOQuery<?>) namedQuery;
@@ -382,6 +505,16 @@ public <T> T detach(final T pojo) {
         return getPersistenceManager().detachCopy(pojo);
     }
 
+    @Override
+    public void evict(final @NonNull Can<Object> pojos) {
+        var attached = pojos.filter(pojo->getEntityState(pojo).isAttached());
+        if(attached.isEmpty()) {
+            return;
+        }
+        // as per JDO spec, evicting new or dirty instances has no effect, so no pending changes are lost
+        getPersistenceManager().evictAll(attached.toList());
+    }
+
     // -- HELPER
 
     private static boolean isPersistableType(final Class<?> type) {
@@ -19,8 +19,10 @@
 package org.apache.causeway.persistence.jdo.datanucleus.metamodel.facets.entity;
 
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.jdo.PersistenceManager;
+import javax.jdo.annotations.IdentityType;
 import javax.jdo.metadata.MemberMetadata;
 import javax.jdo.metadata.TypeMetadata;
 
@@ -58,6 +60,36 @@ EntityOrmMetadata ormMetadataFor(
                 typeMetadata);
     }
 
+    /**
+     * JDOQL ordering clause, that is ascending by the entity's primary key member(s),
+     * or by datastore identity, hence unique per instance.
+     */
+    String primaryKeyOrderingFor(
+            final @NonNull PersistenceManager persistenceManager,
+            final @NonNull Class<?> entityClass) {
+
+        var pmf = (JDOPersistenceManagerFactory) persistenceManager.getPersistenceManagerFactory();
+
+        // primary key members might be declared by a super type
+        for(Class<?> type = entityClass; type!=null; type = type.getSuperclass()) {
+            var typeMetadata = pmf.getMetadata(type.getName());
+            if(typeMetadata==null) {
+                break;
+            }
+            if(typeMetadata.getIdentityType() != IdentityType.APPLICATION) {
+                return "JDOHelper.getObjectId(this) ascending";
+            }
+            var ordering = _NullSafe.stream(typeMetadata.getMembers())
+                    .filter(member->Boolean.TRUE.equals(member.getPrimaryKey()))
+                    .map(member->String.format("this.%s ascending", member.getName()))
+                    .collect(Collectors.joining(", "));
+            if(!ordering.isEmpty()) {
+                return ordering;
+            }
+        }
+        return "JDOHelper.getObjectId(this) ascending";
+    }
+
     // -- HELPER
 
     private Can<ColumnOrmMetadata> columns(final TypeMetadata typeMetadata) {
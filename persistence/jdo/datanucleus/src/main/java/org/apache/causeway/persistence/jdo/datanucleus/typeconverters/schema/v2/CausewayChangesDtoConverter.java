@@ -21,6 +21,7 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.ChangesDtoUtils;
+import org.apache.causeway.core.metamodel.services.schema.DtoEncodingService;
 import org.apache.causeway.schema.chg.v2.ChangesDto;
 
 /**
@@ -32,12 +33,16 @@ public class CausewayChangesDtoConverter implements TypeConverter<ChangesDto, St
 
     @Override
     public String toDatastoreType(final ChangesDto memberValue) {
-        return ChangesDtoUtils.dtoMapper().toString(memberValue);
+        var dtoMapper = DtoEncodingService.lookup()
+                .map(DtoEncodingService::changesDtoMapper)
+                .orElseGet(ChangesDtoUtils::dtoMapper);
+        return dtoMapper.toString(memberValue);
     }
 
     @Override
     public ChangesDto toMemberType(final String datastoreValue) {
-        return ChangesDtoUtils.dtoMapper().read(datastoreValue);
+        // reads XML as well
+        return ChangesDtoUtils.compressingDtoMapper().read(datastoreValue);
     }
 
 }
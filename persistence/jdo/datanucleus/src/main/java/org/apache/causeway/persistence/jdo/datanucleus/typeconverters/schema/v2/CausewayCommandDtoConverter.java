@@ -21,6 +21,7 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.core.metamodel.services.schema.DtoEncodingService;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
@@ -32,12 +33,16 @@ public class CausewayCommandDtoConverter implements TypeConverter<CommandDto, St
 
     @Override
     public String toDatastoreType(final CommandDto memberValue) {
-        return CommandDtoUtils.dtoMapper().toString(memberValue);
+        var dtoMapper = DtoEncodingService.lookup()
+                .map(DtoEncodingService::commandDtoMapper)
+                .orElseGet(CommandDtoUtils::dtoMapper);
+        return dtoMapper.toString(memberValue);
     }
 
     @Override
     public CommandDto toMemberType(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        // reads XML as well
+        return CommandDtoUtils.compressingDtoMapper().read(datastoreValue);
     }
 
 }
@@ -21,6 +21,7 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.core.metamodel.services.schema.DtoEncodingService;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 /**
@@ -32,12 +33,16 @@ public class CausewayInteractionDtoConverter implements TypeConverter<Interactio
 
     @Override
     public String toDatastoreType(final InteractionDto memberValue) {
-        return InteractionDtoUtils.dtoMapper().toString(memberValue);
+        var dtoMapper = DtoEncodingService.lookup()
+                .map(DtoEncodingService::interactionDtoMapper)
+                .orElseGet(InteractionDtoUtils::dtoMapper);
+        return dtoMapper.toString(memberValue);
     }
 
     @Override
     public InteractionDto toMemberType(final String datastoreValue) {
-        return InteractionDtoUtils.dtoMapper().read(datastoreValue);
+        // reads XML as well
+        return InteractionDtoUtils.compressingDtoMapper().read(datastoreValue);
     }
 
 }
@@ -19,12 +19,21 @@
 package org.apache.causeway.persistence.jpa.integration.entity;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
 
+import org.eclipse.persistence.sessions.UnitOfWork;
 import org.springframework.data.jpa.repository.JpaContext;
 import org.springframework.lang.Nullable;
 
@@ -46,6 +55,7 @@
 import org.apache.causeway.core.metamodel.services.idstringifier.IdStringifierLookupService;
 import org.apache.causeway.persistence.jpa.applib.integration.HasVersion;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
@@ -59,6 +69,12 @@
     @Inject private JpaContext jpaContext;
     @Inject private IdStringifierLookupService idStringifierLookupService;
 
+    /**
+     * Keeps the parameter count of bulk fetches well below the limits imposed by
+     * some databases (eg. 1000 list elements for Oracle, 2100 parameters for SQL Server).
+     */
+    private static final int MAX_PRIMARY_KEYS_PER_QUERY = 500;
+
     private final Class<?> entityClass;
     private PrimaryKeyType<?> primaryKeyType;
 
@@ -114,6 +130,65 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Fetches all entities using primary key {@code IN (...)} queries, with at most
+     * {@value #MAX_PRIMARY_KEYS_PER_QUERY} keys per query. Falls back to fetching one by one,
+     * if the entity has no single id attribute of basic type (eg. composite ids).
+     */
+    @Override
+    public Can<ManagedObject> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        return fetchByBookmarks(bookmarks, Can.empty());
+    }
+
+    /**
+     * As {@link #fetchByBookmarks(Can)}, with the given associations being (left) fetch joined by these queries.
+     * Ids not mapping to an entity association (eg. derived properties) are ignored.
+     */
+    @Override
+    public Can<ManagedObject> fetchByBookmarks(
+            final @NonNull Can<Bookmark> bookmarks,
+            final @NonNull Can<String> associationIds) {
+
+        var idAttributeName = getIdAttributeName().orElse(null);
+        if(idAttributeName==null
+                || bookmarks.size()<2) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}, associations={}", bookmarks, associationIds);
+
+        var fetchJoinedAttributeNames = associationIds
+                .filter(getAssociationAttributeNames()::contains)
+                .distinct();
+
+        var primaryKeys = bookmarks
+                .map(bookmark->(Object)primaryKeyType.destring(bookmark.getIdentifier()));
+
+        var entityManager = getEntityManager();
+        var persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+        var cb = entityManager.getCriteriaBuilder();
+        var entityPojoByPrimaryKey = new HashMap<Object, Object>();
+
+        primaryKeys.distinct()
+        .partitionInnerBound(MAX_PRIMARY_KEYS_PER_QUERY)
+        .forEach(primaryKeysChunk->{
+            var cr = cb.createQuery(entityClass);
+            var root = cr.from(entityClass);
+            fetchJoinedAttributeNames.forEach(attributeName->root.fetch(attributeName, JoinType.LEFT));
+            cr.select(_Casts.uncheckedCast(root));
+            cr.where(root.get(idAttributeName).in(primaryKeysChunk.toList()));
+            // fetch joined collections repeat their entity per element, hence collected by primary key
+            entityManager.createQuery(cr)
+                .getResultStream()
+                .forEach(entityPojo->entityPojoByPrimaryKey.put(
+                        persistenceUnitUtil.getIdentifier(entityPojo), entityPojo));
+        });
+
+        var entitySpec = getEntitySpecification();
+        return bookmarks.zipMap(primaryKeys, (bookmark, primaryKey)->
+                ManagedObject.entity(entitySpec, entityPojoByPrimaryKey.get(primaryKey), Optional.of(bookmark)));
+    }
+
     private Class<?> getPrimaryKeyType() {
         return getOrmMetadata().primaryKeyClass();
     }
@@ -186,6 +261,105 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 "Support for Query of type %s not implemented.", query.getClass());
     }
 
+    @Override
+    public boolean supportsQueryRefinement(final Query<?> query) {
+        return query instanceof AllInstancesQuery;
+    }
+
+    @Override
+    public long countByQuery(final Query<?> query, final QueryRefinement refinement) {
+
+        assertQueryRefinementSupported(query);
+
+        var entityManager = getEntityManager();
+
+        var cb = entityManager.getCriteriaBuilder();
+        var cr = cb.createQuery(Long.class);
+        var root = cr.from(entityClass);
+
+        cr.select(cb.count(root));
+        if(refinement.isSearching()) {
+            cr.where(searchPredicate(cb, root, refinement));
+        }
+
+        return entityManager
+                .createQuery(cr)
+                .getSingleResult();
+    }
+
+    @Override
+    public Can<ManagedObject> fetchByQuery(final Query<?> query, final QueryRefinement refinement) {
+
+        assertQueryRefinementSupported(query);
+
+        var range = query.getRange();
+        var entityManager = getEntityManager();
+
+        var cb = entityManager.getCriteriaBuilder();
+        var cr = cb.createQuery(entityClass);
+        var root = cr.from(entityClass);
+
+        cr.select(_Casts.uncheckedCast(root));
+        if(refinement.isSearching()) {
+            cr.where(searchPredicate(cb, root, refinement));
+        }
+        var orders = new ArrayList<Order>();
+        if(refinement.isSorting()) {
+            var sortPath = root.get(refinement.getSortMemberId());
+            orders.add(refinement.isSortAscending()
+                    ? cb.asc(sortPath)
+                    : cb.desc(sortPath));
+        }
+        // the id acts as tiebreaker, such that the order is total and pages don't overlap
+        _MetadataUtil.idPathsFor(entityManager, root, entityClass)
+            .forEach(idPath->orders.add(cb.asc(idPath)));
+        cr.orderBy(orders);
+
+        var typedQuery = entityManager
+                .createQuery(cr);
+
+        if (range.hasOffset()) {
+            typedQuery.setFirstResult(range.getStartAsInt());
+        }
+        if (range.hasLimit()) {
+            typedQuery.setMaxResults(range.getLimitAsInt());
+        }
+
+        var entitySpec = getEntitySpecification();
+        return Can.ofStream(
+                typedQuery.getResultStream()
+                        .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+    }
+
+    private void assertQueryRefinementSupported(final Query<?> query) {
+        if(!supportsQueryRefinement(query)) {
+            throw _Exceptions.unsupportedOperation(
+                    "Query refinement for Query of type %s not implemented.", query.getClass());
+        }
+        // guard against misuse
+        _Assert.assertTypeIsInstanceOf(query.getResultType(), entityClass);
+    }
+
+    /**
+     * Case-insensitive sub-string match on any of the search members.
+     */
+    private static Predicate searchPredicate(
+            final CriteriaBuilder cb,
+            final Root<?> root,
+            final QueryRefinement refinement) {
+        var pattern = "%" + escapeLikePattern(refinement.getSearchTerm().toLowerCase()) + "%";
+        return cb.or(refinement.getSearchMemberIds().stream()
+                .map(memberId->cb.like(cb.lower(root.<String>get(memberId)), pattern, '\\'))
+                .toArray(Predicate[]::new));
+    }
+
+    private static String escapeLikePattern(final String searchTerm) {
+        return searchTerm
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
     @Override
     public void persist(final Object pojo) {
         if (pojo == null) {
@@ -263,6 +437,27 @@ public <T> T detach(final T pojo) {
         return pojo;
     }
 
+    @Override
+    public void evict(final @NonNull Can<Object> pojos) {
+        var entityManager = getEntityManager();
+        var attached = pojos.filter(entityManager::contains);
+        if(attached.isEmpty()) {
+            return;
+        }
+        // unlike JDO's evict, JPA's detach would silently drop pending changes, hence we skip
+        // new and dirty entities (changes are computed once for the whole batch)
+        var pendingChanges = entityManager.unwrap(UnitOfWork.class).getCurrentChanges();
+        attached.forEach(pojo->{
+            var objectChangeSet = pendingChanges.getObjectChangeSetForClone(pojo);
+            if(objectChangeSet!=null
+                    && (objectChangeSet.isNew()
+                            || objectChangeSet.hasChanges())) {
+                return;
+            }
+            entityManager.detach(pojo);
+        });
+    }
+
     // -- JPA METAMODEL
 
     // lazily looks up the ORM metadata (needs an EntityManager)
@@ -270,6 +465,16 @@ public <T> T detach(final T pojo) {
     private final EntityOrmMetadata ormMetadata =
             _MetadataUtil.ormMetadataFor(getEntityManager(), entityClass);
 
+    // lazily looks up the id attribute name (needs an EntityManager)
+    @Getter(lazy=true, value = AccessLevel.PRIVATE)
+    private final Optional<String> idAttributeName =
+            _MetadataUtil.singleBasicIdAttributeNameFor(getEntityManager(), entityClass);
+
+    // lazily looks up the names of the attributes that can be fetch joined (needs an EntityManager)
+    @Getter(lazy=true, value = AccessLevel.PRIVATE)
+    private final Set<String> associationAttributeNames =
+            _MetadataUtil.associationAttributeNamesFor(getEntityManager(), entityClass);
+
     // -- DEPENDENCIES
 
     protected EntityManager getEntityManager() {
@@ -19,10 +19,17 @@
 package org.apache.causeway.persistence.jpa.integration.entity;
 
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EmbeddableType;
 import javax.persistence.metamodel.EntityType;
 import javax.persistence.metamodel.SingularAttribute;
+import javax.persistence.metamodel.Type;
 
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._NullSafe;
@@ -54,6 +61,77 @@ EntityOrmMetadata ormMetadataFor(
                 typeMetadata);
     }
 
+    /**
+     * Optionally the name of the entity's id attribute, based on whether the entity has a single
+     * id attribute of basic type (as opposed to eg. an embedded or composite id).
+     */
+    Optional<String> singleBasicIdAttributeNameFor(
+            final @NonNull EntityManager entityManager,
+            final @NonNull Class<?> entityClass) {
+        return lookupJpaMetamodel(entityManager, entityClass)
+                .filter(EntityType::hasSingleIdAttribute)
+                .filter(typeMetadata->
+                    typeMetadata.getIdType().getPersistenceType() == Type.PersistenceType.BASIC)
+                .flatMap(typeMetadata->
+                    _NullSafe.stream(typeMetadata.getSingularAttributes())
+                        .filter(SingularAttribute::isId)
+                        .map(SingularAttribute::getName)
+                        .findFirst());
+    }
+
+    /**
+     * The paths (relative to given {@link Root}) of the entity's id attribute(s),
+     * which in combination are unique per instance.
+     * <p>
+     * An embedded id contributes the paths of its attributes, as ordering by an embeddable is not supported.
+     */
+    Can<Path<?>> idPathsFor(
+            final @NonNull EntityManager entityManager,
+            final @NonNull Root<?> root,
+            final @NonNull Class<?> entityClass) {
+
+        final EntityType<?> typeMetadata = lookupJpaMetamodel(entityManager, entityClass)
+                .orElseThrow(()->
+                    _Exceptions.noSuchElement("cannot find JPA metadata for entity %s", entityClass));
+
+        if(!typeMetadata.hasSingleIdAttribute()) {
+            // @IdClass
+            return _NullSafe.stream(typeMetadata.getIdClassAttributes())
+                    .map(SingularAttribute::getName)
+                    .sorted()
+                    .<Path<?>>map(root::get)
+                    .collect(Can.toCan());
+        }
+
+        var idAttribute = typeMetadata.getId(typeMetadata.getIdType().getJavaType());
+        var idPath = root.get(idAttribute.getName());
+        if(idAttribute.getType() instanceof EmbeddableType) {
+            // @EmbeddedId
+            return _NullSafe.stream(((EmbeddableType<?>)idAttribute.getType()).getAttributes())
+                    .map(Attribute::getName)
+                    .sorted()
+                    .<Path<?>>map(idPath::get)
+                    .collect(Can.toCan());
+        }
+        return Can.<Path<?>>ofSingleton(idPath);
+    }
+
+    /**
+     * Names of the entity's attributes that map to other entities (single valued or collections),
+     * hence can be fetch joined.
+     */
+    Set<String> associationAttributeNamesFor(
+            final @NonNull EntityManager entityManager,
+            final @NonNull Class<?> entityClass) {
+        return lookupJpaMetamodel(entityManager, entityClass)
+                .map(typeMetadata->
+                    _NullSafe.stream(typeMetadata.getAttributes())
+                        .filter(Attribute::isAssociation)
+                        .map(Attribute::getName)
+                        .collect(Collectors.<String>toSet()))
+                .orElseGet(Set::of);
+    }
+
     // -- HELPER
 
     private Can<ColumnOrmMetadata> columns(final EntityType<?> typeMetadata) {
@@ -62,9 +140,15 @@ private Can<ColumnOrmMetadata> columns(final EntityType<?> typeMetadata) {
                 .collect(Can.toCan());
     }
 
-    private ColumnOrmMetadata column(final SingularAttribute sa) {
-        // if somebody knows how to implement this, feel free to inform us
-        return null;
+    /**
+     * Basic attributes only, as these are the ones that can be sorted or searched by.
+     * <p>
+     * The JPA meta-model does not expose column names, hence uses the attribute name instead.
+     */
+    private ColumnOrmMetadata column(final SingularAttribute<?, ?> sa) {
+        return sa.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC
+                ? new ColumnOrmMetadata(sa.getName(), sa.getName(), sa.getJavaType().getName(), sa)
+                : null;
     }
 
     /**
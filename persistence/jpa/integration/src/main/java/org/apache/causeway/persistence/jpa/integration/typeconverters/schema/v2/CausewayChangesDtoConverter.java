@@ -22,6 +22,7 @@
 import javax.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.ChangesDtoUtils;
+import org.apache.causeway.core.metamodel.services.schema.DtoEncodingService;
 import org.apache.causeway.schema.chg.v2.ChangesDto;
 
 /**
@@ -33,12 +34,16 @@
 
     @Override
     public String convertToDatabaseColumn(final ChangesDto memberValue) {
-        return ChangesDtoUtils.dtoMapper().toString(memberValue);
+        var dtoMapper = DtoEncodingService.lookup()
+                .map(DtoEncodingService::changesDtoMapper)
+                .orElseGet(ChangesDtoUtils::dtoMapper);
+        return dtoMapper.toString(memberValue);
     }
 
     @Override
     public ChangesDto convertToEntityAttribute(final String datastoreValue) {
-        return ChangesDtoUtils.dtoMapper().read(datastoreValue);
+        // reads XML as well
+        return ChangesDtoUtils.compressingDtoMapper().read(datastoreValue);
     }
 
 }
@@ -22,6 +22,7 @@
 import javax.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.core.metamodel.services.schema.DtoEncodingService;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
@@ -33,12 +34,16 @@
 
     @Override
     public String convertToDatabaseColumn(final CommandDto memberValue) {
-        return CommandDtoUtils.dtoMapper().toString(memberValue);
+        var dtoMapper = DtoEncodingService.lookup()
+                .map(DtoEncodingService::commandDtoMapper)
+                .orElseGet(CommandDtoUtils::dtoMapper);
+        return dtoMapper.toString(memberValue);
     }
 
     @Override
     public CommandDto convertToEntityAttribute(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        // reads XML as well
+        return CommandDtoUtils.compressingDtoMapper().read(datastoreValue);
     }
 
 }
@@ -22,6 +22,7 @@
 import javax.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.core.metamodel.services.schema.DtoEncodingService;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 /**
@@ -33,12 +34,16 @@
 
     @Override
     public String convertToDatabaseColumn(final InteractionDto memberValue) {
-        return InteractionDtoUtils.dtoMapper().toString(memberValue);
+        var dtoMapper = DtoEncodingService.lookup()
+                .map(DtoEncodingService::interactionDtoMapper)
+                .orElseGet(InteractionDtoUtils::dtoMapper);
+        return dtoMapper.toString(memberValue);
     }
 
     @Override
     public InteractionDto convertToEntityAttribute(final String datastoreValue) {
-        return InteractionDtoUtils.dtoMapper().read(datastoreValue);
+        // reads XML as well
+        return InteractionDtoUtils.compressingDtoMapper().read(datastoreValue);
     }
 
 }
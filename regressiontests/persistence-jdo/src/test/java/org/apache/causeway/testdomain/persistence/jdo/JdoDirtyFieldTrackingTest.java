@@ -0,0 +1,118 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.persistence.jdo;
+
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.testdomain.conf.Configuration_usingJdo;
+import org.apache.causeway.testdomain.jdo.RegressionTestWithJdoFixtures;
+import org.apache.causeway.testdomain.jdo.entities.JdoBook;
+import org.apache.causeway.testdomain.publishing.conf.Configuration_usingEntityPropertyChangePublishing;
+import org.apache.causeway.testdomain.publishing.subscriber.EntityPropertyChangeSubscriberForTesting;
+import org.apache.causeway.testdomain.util.kv.KVStoreForTesting;
+
+/**
+ * With dirty field tracking enabled, pre-values are captured by the state manager's set*Field callbacks,
+ * while the entity is enlisted when flushed (preStore). Each changed property must be published exactly once,
+ * with the value it had at the start of the transaction, even if changed (again) after a flush.
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJdo.class,
+                Configuration_usingEntityPropertyChangePublishing.class,
+        },
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:JdoDirtyFieldTrackingTest",
+                "causeway.persistence.commons.entity-change-tracker.jdo-dirty-field-tracking=true",
+        })
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+class JdoDirtyFieldTrackingTest extends RegressionTestWithJdoFixtures {
+
+    @Inject private KVStoreForTesting kvStore;
+
+    @BeforeEach
+    void clearPropertyChangeEntries() {
+        EntityPropertyChangeSubscriberForTesting.clearPropertyChangeEntries(kvStore);
+    }
+
+    @Test
+    void publishes_only_changed_properties() {
+
+        run(()->dune().setPrice(78.));
+
+        assertPropertyChangeEntries(List.of(
+                "Jdo Book/price: '39.0' -> '78.0'"));
+    }
+
+    @Test
+    void publishes_each_changed_property_once_when_changed_repeatedly() {
+
+        run(()->{
+            var book = dune();
+            book.setName("Dune (2nd ed.)");
+            book.setName("Dune (3rd ed.)");
+        });
+
+        assertPropertyChangeEntries(List.of(
+                "Jdo Book/name: 'Dune' -> 'Dune (3rd ed.)'"));
+    }
+
+    @Test
+    void publishes_each_changed_property_once_when_changed_after_flush() {
+
+        run(()->{
+            var book = dune();
+            book.setName("Dune (2nd ed.)");
+            transactionService.flushTransaction(); // enlists the book (preStore)
+
+            // setters after preStore
+            book.setName("Dune (3rd ed.)");
+            book.setPrice(78.);
+        });
+
+        assertPropertyChangeEntries(List.of(
+                "Jdo Book/name: 'Dune' -> 'Dune (3rd ed.)'",
+                "Jdo Book/price: '39.0' -> '78.0'"));
+    }
+
+    // -- HELPER
+
+    private JdoBook dune() {
+        return repositoryService.firstMatch(JdoBook.class, book->"Dune".equals(book.getName()))
+                .orElseThrow();
+    }
+
+    private void assertPropertyChangeEntries(final List<String> expected) {
+        assertEquals(expected,
+                EntityPropertyChangeSubscriberForTesting.getPropertyChangeEntries(kvStore)
+                    .sorted(String::compareTo)
+                    .toList());
+    }
+
+}
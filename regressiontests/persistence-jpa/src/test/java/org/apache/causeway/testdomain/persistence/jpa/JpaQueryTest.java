@@ -19,6 +19,12 @@
 package org.apache.causeway.testdomain.persistence.jpa;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -38,10 +44,28 @@
 
 import static org.junit.Assert.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet.QueryRefinement;
+import org.apache.causeway.core.metamodel.interactions.managed.ManagedAction;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.MmSortUtils;
+import org.apache.causeway.core.metamodel.object.PackedManagedObject;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.core.metamodel.tabular.DataColumn;
+import org.apache.causeway.core.metamodel.tabular.DataRow;
+import org.apache.causeway.core.metamodel.tabular.DataTableInteractive;
+import org.apache.causeway.core.metamodel.tabular.DataTableInteractive.ColumnSort;
+import org.apache.causeway.core.metamodel.tabular.simple.DataTable;
 import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 import org.apache.causeway.testdomain.conf.Configuration_usingJpa;
 import org.apache.causeway.testdomain.fixtures.EntityTestFixtures.Lock;
@@ -67,6 +91,8 @@ class JpaQueryTest extends CausewayIntegrationTestAbstract {
     @Inject private InteractionService interactionService;
     @Inject private JpaSupportService jpaSupport;
     @Inject ConfigurableBeanFactory configurableBeanFactory;
+    @Inject private SpecificationLoader specificationLoader;
+    @Inject private BookmarkService bookmarkService;
 
     @BeforeAll
     static void beforeAll() throws SQLException {
@@ -163,10 +189,190 @@ void sampleInventory_shouldSupportJpaCriteria() {
         testFixtures.assertInventoryHasBooks(affordableBooks, 1, 2);
     }
 
+    @Test @Order(6)
+    void sampleInventory_shouldSupportQueryRefinement() {
+
+        var entityFacet = specificationLoader.specForTypeElseFail(JpaBook.class).entityFacetElseFail();
+        var query = Query.allInstances(JpaBook.class);
+
+        // case-insensitive search by name, sorted by price descending
+        var refinement = QueryRefinement.of("price", false, Can.of("name"), "THE ");
+
+        assertEquals(2L, entityFacet.countByQuery(query, refinement));
+
+        var firstPage = entityFacet.fetchByQuery(query.withLimit(1), refinement);
+        testFixtures.assertInventoryHasBooks(firstPage.map(ManagedObject::getPojo).toList(), 3);
+
+        var secondPage = entityFacet.fetchByQuery(query.withRange(1, 1), refinement);
+        testFixtures.assertInventoryHasBooks(secondPage.map(ManagedObject::getPojo).toList(), 2);
+    }
+
+    @Test @Order(7)
+    void sampleInventory_shouldSupportBulkFetchByBookmarks() {
+
+        var books = repositoryService.allInstances(JpaBook.class);
+        assertEquals(3, books.size());
+
+        var bookmarks = Can.ofCollection(books)
+                .reverse()
+                .map(bookmarkService::bookmarkForElseFail);
+        var nonExistent = Bookmark.forLogicalTypeNameAndIdentifier(
+                bookmarks.getFirstElseFail().getLogicalTypeName(), "999999");
+
+        var entityFacet = specificationLoader.specForTypeElseFail(JpaBook.class).entityFacetElseFail();
+
+        // when
+        var entities = entityFacet.fetchByBookmarks(bookmarks.add(nonExistent));
+
+        // then - same order as requested, the non-existent one being empty
+        assertEquals(4, entities.size());
+        assertEquals(
+                List.of(books.get(2), books.get(1), books.get(0)),
+                entities.pickByIndex(0, 1, 2).map(ManagedObject::getPojo).toList());
+        assertNull(entities.getElseFail(3).getPojo());
+
+        // when
+        var pojoByBookmark = bookmarkService.lookupAll(bookmarks.add(nonExistent));
+
+        // then - only those found, in the order requested
+        assertEquals(bookmarks.toList(), List.copyOf(pojoByBookmark.keySet()));
+        assertEquals(
+                List.of(books.get(2), books.get(1), books.get(0)),
+                List.copyOf(pojoByBookmark.values()));
+    }
+
+    @Test @Order(8)
+    void sampleInventory_shouldSupportQueryBackedTablePagingAcrossPages() {
+
+        // given - all books at the same price, such that sorting by price leaves the order to the tiebreaker
+        repositoryService.allInstances(JpaBook.class)
+            .forEach(book->book.setPrice(10.));
+        transactionService.flushTransaction();
+
+        var inventoryVm = testFixtures.createViewmodelWithCurrentBooks();
+        var managedAction = ManagedAction
+                .lookupAction(ManagedObject.adaptSingular(specificationLoader, inventoryVm), "listBooks", Where.ANYWHERE)
+                .orElseThrow();
+
+        // when - action returns the result of repositoryService.allInstances(..) as is
+        var actionResult = managedAction.invoke(Can.empty()).getSuccessElseFail();
+
+        // then - table is backed by the query
+        assertTrue(((PackedManagedObject)actionResult).getQuery().isPresent());
+        var table = DataTableInteractive.forAction(managedAction, actionResult);
+        assertEquals(3, table.getFilteredElementCount());
+
+        var priceColumnIndex = table.getDataColumns().getValue().stream()
+                .map(DataColumn::getAssociationMetaModel)
+                .map(ObjectAssociation::getId)
+                .collect(Collectors.toList())
+                .indexOf("price");
+        assertTrue(priceColumnIndex>=0);
+
+        for(var sortDirection : MmSortUtils.SortDirection.values()) {
+            table.getColumnSort().setValue(new ColumnSort(priceColumnIndex, sortDirection));
+
+            // when - paging with page size 2
+            var firstPage = pojosOf(table.iterateDataRowsFilteredAndSorted(0, 2));
+            var secondPage = pojosOf(table.iterateDataRowsFilteredAndSorted(2, 2));
+
+            // then - pages don't overlap and together cover all books
+            assertEquals(2, firstPage.size());
+            assertEquals(1, secondPage.size());
+            var allBooks = new HashSet<Object>(firstPage);
+            allBooks.addAll(secondPage);
+            assertEquals(Set.copyOf(repositoryService.allInstances(JpaBook.class)), allBooks);
+        }
+    }
+
+    @Test @Order(9)
+    void sampleInventory_shouldSupportLazilyPagedExport() {
+
+        // given - a book with pending (not yet flushed) changes
+        var em = jpaSupport.getEntityManagerElseFail(JpaBook.class);
+        var dirtyBook = repositoryService.allInstances(JpaBook.class).get(0);
+        dirtyBook.setPrice(123.);
+
+        // when - populated lazily with page size 2
+        var table = DataTable.forDomainType(JpaBook.class)
+                .populateEntitiesLazily(Query.allInstances(JpaBook.class), QueryRefinement.none(), 2);
+
+        // then - count is provided without fetching any rows
+        assertEquals(3, table.getElementCount());
+        assertEquals(2, DataTable.forDomainType(JpaBook.class)
+                .populateEntitiesLazily(Query.allInstances(JpaBook.class).withRange(1, 5), QueryRefinement.none(), 2)
+                .getElementCount());
+
+        // then - streaming the rows visits every book exactly once
+        final List<Object> exportedBooks;
+        try(var rows = table.streamDataRows()) {
+            exportedBooks = rows
+                    .map(dataRow->dataRow.getRowElement().getPojo())
+                    .collect(Collectors.toList());
+        }
+        assertEquals(3, exportedBooks.size());
+        assertEquals(Set.copyOf(repositoryService.allInstances(JpaBook.class)), Set.copyOf(exportedBooks));
+
+        // then - clean books got evicted, while the dirty one was kept attached with its changes
+        assertTrue(em.contains(dirtyBook));
+        transactionService.flushTransaction();
+        em.clear();
+        assertEquals(123., em.find(JpaBook.class, dirtyBook.getId()).getPrice(), 1E-6);
+    }
+
+    @Test @Order(10)
+    void sampleInventory_shouldExportQueryBackedTableLazily() {
+
+        var inventoryVm = testFixtures.createViewmodelWithCurrentBooks();
+        var managedAction = ManagedAction
+                .lookupAction(ManagedObject.adaptSingular(specificationLoader, inventoryVm), "listBooks", Where.ANYWHERE)
+                .orElseThrow();
+        var actionResult = managedAction.invoke(Can.empty()).getSuccessElseFail();
+
+        // when
+        var exported = DataTableInteractive.forAction(managedAction, actionResult).export();
+
+        // then - rows are pulled from the database as exported, yet cover all books
+        assertEquals(3, exported.getElementCount());
+        var exportedBooks = new HashSet<Object>();
+        try(var rows = exported.streamDataRows()) {
+            rows.forEach(dataRow->exportedBooks.add(dataRow.getRowElement().getPojo()));
+        }
+        assertEquals(Set.copyOf(repositoryService.allInstances(JpaBook.class)), exportedBooks);
+    }
+
+    @Test @Order(11)
+    void sampleInventory_shouldFetchAssociationsAlongWithBulkFetchByBookmarks() {
+
+        var bookmarks = Can.ofCollection(repositoryService.allInstances(JpaBook.class))
+                .map(bookmarkService::bookmarkForElseFail);
+        var em = jpaSupport.getEntityManagerElseFail(JpaBook.class);
+        em.clear(); // such that the books are fetched anew, with their comments not yet loaded
+
+        var entityFacet = specificationLoader.specForTypeElseFail(JpaBook.class).entityFacetElseFail();
+
+        // when
+        var books = entityFacet.fetchByBookmarks(bookmarks, Can.of("comments"));
+
+        // then - comments are fetch joined, hence reading these does not require a query per book
+        assertEquals(3, books.size());
+        var persistenceUnitUtil = em.getEntityManagerFactory().getPersistenceUnitUtil();
+        books.forEach(book->
+            assertTrue(persistenceUnitUtil.isLoaded(book.getPojo(), "comments")));
+    }
+
     @Test @Order(99) @Disabled("broken won't fix")
     void previousTest_shouldHaveRolledBack() {
         assertEquals(0, repositoryService.allInstances(JpaInventory.class).size());
         assertEquals(0, repositoryService.allInstances(JpaProduct.class).size());
     }
 
+    // -- HELPER
+
+    private static List<Object> pojosOf(final Iterator<DataRow> dataRows) {
+        var pojos = new ArrayList<Object>();
+        dataRows.forEachRemaining(dataRow->pojos.add(dataRow.getRowElement().getPojo()));
+        return pojos;
+    }
+
 }
@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.publishing.jpa;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.functional.ThrowingRunnable;
+import org.apache.causeway.testdomain.jpa.JpaTestDomainPersona;
+import org.apache.causeway.testdomain.jpa.entities.JpaBook;
+import org.apache.causeway.testdomain.publishing.subscriber.EntityPropertyChangeSubscriberForTesting;
+import org.apache.causeway.testdomain.util.dto.BookDto;
+import org.apache.causeway.testdomain.util.kv.KVStoreForTesting;
+import org.apache.causeway.testing.fixtures.applib.fixturescripts.FixtureScripts;
+
+/**
+ * Changes the price of several books within a single transaction and verifies, that each change is published
+ * exactly once, independent of the entity change tracker's mode and of publishing in chunks.
+ */
+abstract class JpaPropertyPublishingOfManyChangesTestAbstract {
+
+    private static final int BOOK_COUNT = 5;
+
+    @Inject private InteractionService interactionService;
+    @Inject private TransactionService transactionService;
+    @Inject private RepositoryService repositoryService;
+    @Inject private FixtureScripts fixtureScripts;
+    @Inject private KVStoreForTesting kvStore;
+
+    @BeforeEach
+    void setUp() {
+        runInNewTransaction(()->{
+            fixtureScripts.runPersona(JpaTestDomainPersona.InventoryPurgeAll);
+            IntStream.rangeClosed(1, BOOK_COUNT)
+                .mapToObj(index->JpaBook.fromDto(BookDto.sample().asBuilder()
+                        .name("Book #" + index)
+                        .isbn("ISBN-" + index)
+                        .price(10. * index)
+                        .build()))
+                .forEach(repositoryService::persistAndFlush);
+        });
+        EntityPropertyChangeSubscriberForTesting.clearPropertyChangeEntries(kvStore);
+    }
+
+    @Test
+    void publishes_each_change_exactly_once() {
+
+        // when
+        runInNewTransaction(()->
+            repositoryService.allInstances(JpaBook.class)
+                .forEach(book->book.setPrice(2. * book.getPrice())));
+
+        // then
+        var expected = IntStream.rangeClosed(1, BOOK_COUNT)
+                .mapToObj(index->String.format("Jpa Book/price: '%s' -> '%s'", 10. * index, 20. * index))
+                .sorted()
+                .collect(Collectors.toList());
+        var actual = EntityPropertyChangeSubscriberForTesting.getPropertyChangeEntries(kvStore)
+                .sorted(String::compareTo)
+                .toList();
+
+        assertEquals(expected, actual);
+    }
+
+    // -- HELPER
+
+    private void runInNewTransaction(final ThrowingRunnable runnable) {
+        interactionService.runAnonymous(()->
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, runnable)
+                .ifFailureFail());
+    }
+
+}
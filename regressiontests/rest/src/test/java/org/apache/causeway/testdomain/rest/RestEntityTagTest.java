@@ -0,0 +1,156 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.rest;
+
+import javax.inject.Inject;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.lang.Nullable;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.testdomain.conf.Configuration_usingJdo;
+import org.apache.causeway.testdomain.jdo.RegressionTestWithJdoFixtures;
+import org.apache.causeway.testdomain.jdo.entities.JdoBook;
+import org.apache.causeway.testdomain.jdo.entities.JdoInventory;
+import org.apache.causeway.testdomain.util.rest.RestEndpointService;
+import org.apache.causeway.viewer.restfulobjects.client.RestfulClient;
+import org.apache.causeway.viewer.restfulobjects.jaxrsresteasy.CausewayModuleViewerRestfulObjectsJaxrsResteasy;
+
+@SpringBootTest(
+        classes = {
+                RestEndpointService.class,
+        },
+        properties = {
+                "causeway.viewer.restfulobjects.etags=true",
+        },
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+@Import({
+    Configuration_usingJdo.class,
+    CausewayModuleViewerRestfulObjectsJaxrsResteasy.class
+})
+class RestEntityTagTest extends RegressionTestWithJdoFixtures {
+
+    @Inject RestEndpointService restService;
+
+    private RestfulClient restfulClient;
+    private Bookmark inventoryBookmark;
+
+    @BeforeEach
+    void setUp() {
+        assertTrue(restService.getPort()>0);
+        this.restfulClient = restService.newClient(false);
+        this.inventoryBookmark = call(()->bookmarkService.bookmarkForElseFail(
+                repositoryService.allInstances(JdoInventory.class).get(0)));
+    }
+
+    @Test
+    void object_answersConditionalGet_untilModified() throws InterruptedException {
+
+        // when
+        var response = get(objectPath(), null);
+
+        // then
+        assertEquals(200, response.getStatus());
+        var entityTag = response.getEntityTag();
+        assertNotNull(entityTag);
+        assertTrue(entityTag.isWeak());
+
+        // when
+        var notModified = get(objectPath(), entityTag);
+
+        // then
+        assertEquals(304, notModified.getStatus());
+
+        // when the inventory is modified
+        Thread.sleep(10); // its version is a time-stamp
+        run(()->inventory().setName("Modified Inventory"));
+        var modified = get(objectPath(), entityTag);
+
+        // then
+        assertEquals(200, modified.getStatus());
+        assertNotNull(modified.getEntityTag());
+        assertNotEquals(entityTag, modified.getEntityTag());
+    }
+
+    @Test
+    void collection_isNeverStale() {
+
+        // given
+        var entityTag = get(objectPath(), null).getEntityTag();
+        assertNotNull(entityTag);
+
+        var response = get(collectionPath(), null);
+        assertEquals(200, response.getStatus());
+        assertNull(response.getEntityTag());
+
+        // when a member of the collection is modified, which does not change the inventory's version
+        run(()->inventory().getProducts().stream()
+                .filter(JdoBook.class::isInstance)
+                .findFirst()
+                .orElseThrow()
+                .setName("Modified Book"));
+        var afterChange = get(collectionPath(), entityTag);
+
+        // then
+        assertEquals(200, afterChange.getStatus());
+        assertNull(afterChange.getEntityTag());
+        assertTrue(afterChange.readEntity(String.class).contains("Modified Book"));
+    }
+
+    // -- HELPER
+
+    private JdoInventory inventory() {
+        return bookmarkService.lookup(inventoryBookmark, JdoInventory.class).orElseThrow();
+    }
+
+    private String objectPath() {
+        return String.format("objects/%s/%s",
+                inventoryBookmark.getLogicalTypeName(), inventoryBookmark.getIdentifier());
+    }
+
+    private String collectionPath() {
+        return objectPath() + "/collections/products";
+    }
+
+    private Response get(final String path, final @Nullable EntityTag ifNoneMatch) {
+        var request = restfulClient.request(path);
+        if(ifNoneMatch!=null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        var response = request.get();
+        response.bufferEntity();
+        return response;
+    }
+
+}
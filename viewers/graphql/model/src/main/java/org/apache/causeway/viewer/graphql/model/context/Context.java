@@ -47,6 +47,7 @@
 import org.apache.causeway.viewer.graphql.model.domain.TypeNames;
 import org.apache.causeway.viewer.graphql.model.domain.common.query.CommonDomainObject;
 import org.apache.causeway.viewer.graphql.model.domain.common.query.CommonDomainService;
+import org.apache.causeway.viewer.graphql.model.fetcher.BatchLoaders;
 import org.apache.causeway.viewer.graphql.model.registry.GraphQLTypeRegistry;
 import org.apache.causeway.viewer.graphql.model.types.TypeMapper;
 
@@ -65,6 +66,7 @@ public class Context {
     public final CausewaySystemEnvironment causewaySystemEnvironment;
     public final ObjectManager objectManager;
     public final GraphQLTypeRegistry graphQLTypeRegistry;
+    public final BatchLoaders batchLoaders;
 
     public final Map<String, CommonDomainService> domainServiceByTypeName = new LinkedHashMap<>();
     public final Map<String, CommonDomainObject> domainObjectByTypeName = new LinkedHashMap<>();
@@ -58,7 +58,8 @@ public RichActionInvokeTarget(
 
     @Override
     protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment) {
-        return BookmarkedPojo.sourceFrom(dataFetchingEnvironment, context).getTargetPojo();
+        var bookmarkedPojo = BookmarkedPojo.sourceFrom(dataFetchingEnvironment, context);
+        return context.batchLoaders.load(dataFetchingEnvironment, bookmarkedPojo.getBookmark());
     }
 
 }
@@ -23,12 +23,10 @@
 
 import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
 
-import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
 import org.apache.causeway.viewer.graphql.model.context.Context;
 import org.apache.causeway.viewer.graphql.model.domain.Element;
 import org.apache.causeway.viewer.graphql.model.domain.common.interactors.MemberInteractor;
-import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkedPojo;
 
 public abstract class RichAssociationGet<T extends ObjectAssociation> extends Element {
 
@@ -55,24 +53,8 @@ public RichAssociationGet(
 
     @Override
     protected Object fetchData(final DataFetchingEnvironment environment) {
-
-        // TODO: introduce evaluator
-        var sourcePojo = BookmarkedPojo.sourceFrom(environment);
-
-        var sourcePojoClass = sourcePojo.getClass();
-        var objectSpecification = context.specificationLoader.loadSpecification(sourcePojoClass);
-        if (objectSpecification == null) {
-            // not expected
-            return null;
-        }
-
-        var association = memberInteractor.getObjectMember();
-        var managedObject = ManagedObject.adaptSingular(objectSpecification, sourcePojo);
-        var resultManagedObject = association.get(managedObject);
-
-        return resultManagedObject != null
-                ? resultManagedObject.getPojo()
-                : null;
+        // batched with the same association of sibling objects
+        return context.batchLoaders.load(environment, memberInteractor.getObjectMember());
     }
 
 }
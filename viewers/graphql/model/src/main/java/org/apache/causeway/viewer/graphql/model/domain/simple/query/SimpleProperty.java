@@ -29,7 +29,6 @@
 
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.applib.value.Clob;
-import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.causeway.viewer.graphql.model.context.Context;
@@ -156,22 +155,8 @@ protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment
         if(isBlobOrClob(getObjectMember())) {
             return BookmarkedPojo.sourceFrom(dataFetchingEnvironment, context);
         } else {
-            var sourcePojo = BookmarkedPojo.sourceFrom(dataFetchingEnvironment);
-
-            var sourcePojoClass = sourcePojo.getClass();
-            var objectSpecification = context.specificationLoader.loadSpecification(sourcePojoClass);
-            if (objectSpecification == null) {
-                // not expected
-                return null;
-            }
-
-            var association = getObjectMember();
-            var managedObject = ManagedObject.adaptSingular(objectSpecification, sourcePojo);
-            var resultManagedObject = association.get(managedObject);
-
-            return resultManagedObject != null
-                    ? resultManagedObject.getPojo()
-                    : null;
+            // batched with the same property of sibling objects
+            return context.batchLoaders.load(dataFetchingEnvironment, getObjectMember());
         }
     }
 
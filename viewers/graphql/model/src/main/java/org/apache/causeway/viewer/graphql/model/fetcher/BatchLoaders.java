@@ -0,0 +1,243 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.fetcher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+
+import graphql.schema.DataFetchingEnvironment;
+
+import org.dataloader.BatchLoaderEnvironment;
+import org.dataloader.DataLoader;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.Value;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Registers {@link DataLoader}s with Spring GraphQL's {@link BatchLoaderRegistry}, so that objects (by
+ * {@link Bookmark}) and association values (by the association being fetched and the owning object) that are
+ * requested by sibling fields at the same level of a GraphQL execution are resolved together, rather than one by one.
+ *
+ * <p>
+ *     Each batch is resolved within the interaction of the GraphQL query that requested it (see
+ *     <code>AsyncExecutionStrategyResolvingWithinInteraction</code>), so that the bookmarked objects of a batch are
+ *     fetched with one bulk query per logical type.  Likewise, the owners of a batch of association values are
+ *     fetched with one bulk query per association and logical type, which also fetches the association's values
+ *     (see {@link org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet#fetchByBookmarks(Can, Can)}).
+ * </p>
+ *
+ * <p>
+ *     If no {@link DataLoader} is available for the execution (eg. when no {@link BatchLoaderRegistry} is
+ *     configured), values are resolved immediately instead.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class BatchLoaders {
+
+    public static final String BOOKMARKED_POJOS = "causeway.bookmarkedPojos";
+    public static final String ASSOCIATIONS = "causeway.associations";
+
+    private final Optional<BatchLoaderRegistry> batchLoaderRegistryIfAny;
+    private final InteractionService interactionService;
+    private final ObjectManager objectManager;
+
+    @Value(staticConstructor = "of")
+    static class AssociationKey {
+        ObjectAssociation association;
+        /** either the owning domain object (pojo), or a {@link BookmarkedPojo} pointing to it */
+        Object source;
+    }
+
+    @PostConstruct
+    public void init() {
+        batchLoaderRegistryIfAny.ifPresent(batchLoaderRegistry -> {
+            batchLoaderRegistry.<Bookmark, Object>forName(BOOKMARKED_POJOS)
+                    .registerMappedBatchLoader((bookmarks, env) ->
+                            Mono.fromCallable(() -> withinInteraction(env, () -> resolveAll(bookmarks))));
+            batchLoaderRegistry.<AssociationKey, Object>forName(ASSOCIATIONS)
+                    .withOptions(options -> options.setCachingEnabled(false))
+                    .registerMappedBatchLoader((keys, env) ->
+                            Mono.fromCallable(() -> withinInteraction(env, () -> getAll(keys))));
+        });
+    }
+
+    // -- LOADING
+
+    /**
+     * Returns either the domain object (pojo) identified by given {@link Bookmark}, or a
+     * {@link java.util.concurrent.CompletableFuture} thereof.
+     */
+    public Object load(final DataFetchingEnvironment environment, final Bookmark bookmark) {
+        final DataLoader<Bookmark, Object> dataLoader = environment.getDataLoader(BOOKMARKED_POJOS);
+        return dataLoader != null
+                ? dataLoader.load(bookmark, currentInteractionContext())
+                : resolveAll(List.of(bookmark)).get(bookmark);
+    }
+
+    /**
+     * Returns either the value (pojo) of given association for the source of given {@link DataFetchingEnvironment},
+     * or a {@link java.util.concurrent.CompletableFuture} thereof.
+     */
+    public Object load(final DataFetchingEnvironment environment, final ObjectAssociation association) {
+        var key = AssociationKey.of(association, environment.getSource());
+        final DataLoader<AssociationKey, Object> dataLoader = environment.getDataLoader(ASSOCIATIONS);
+        return dataLoader != null
+                ? dataLoader.load(key, currentInteractionContext())
+                : getAll(Set.of(key)).get(key);
+    }
+
+    // -- HELPER
+
+    private Map<Bookmark, Object> resolveAll(final Collection<Bookmark> bookmarks) {
+        // entities are fetched in bulk, grouped by logical type
+        var distinctBookmarks = Can.ofCollection(bookmarks).distinct();
+        var pojoByBookmark = new HashMap<Bookmark, Object>();
+        objectManager.loadObjects(distinctBookmarks)
+            .zip(distinctBookmarks, (managedObject, bookmark) -> {
+                var pojo = managedObject.getPojo();
+                if (pojo != null) {
+                    pojoByBookmark.put(bookmark, pojo);
+                }
+            });
+        return pojoByBookmark;
+    }
+
+    private Map<AssociationKey, Object> getAll(final Set<AssociationKey> keys) {
+        var valueByKey = new HashMap<AssociationKey, Object>();
+        keys.stream()
+            .collect(Collectors.groupingBy(AssociationKey::getAssociation, LinkedHashMap::new, Collectors.toList()))
+            .forEach((association, keysOfAssociation) ->
+                resolveOwners(association, keysOfAssociation)
+                    .forEach((key, owner) -> {
+                        var resultManagedObject = association.get(owner);
+                        if (resultManagedObject != null) {
+                            valueByKey.put(key, resultManagedObject.getPojo());
+                        }
+                    }));
+        return valueByKey;
+    }
+
+    /**
+     * Resolves the owners of given keys (all of the same association), where entities are fetched in bulk, one query
+     * per logical type, along with the values of the association. Reading the association of these owners thus does
+     * not require a query per owner, even if lazily loaded (as far as supported by the persistence stack).
+     */
+    private Map<AssociationKey, ManagedObject> resolveOwners(
+            final ObjectAssociation association,
+            final List<AssociationKey> keys) {
+
+        var specLoader = objectManager.getSpecificationLoader();
+        var ownerByKey = new LinkedHashMap<AssociationKey, ManagedObject>();
+        var entityKeysBySpec = new LinkedHashMap<ObjectSpecification, List<AssociationKey>>();
+        var bookmarkByKey = new HashMap<AssociationKey, Bookmark>();
+
+        keys.forEach(key -> {
+            final Bookmark bookmark;
+            if (key.getSource() instanceof BookmarkedPojo) {
+                bookmark = ((BookmarkedPojo) key.getSource()).getBookmark();
+            } else {
+                var owner = objectManager.adapt(key.getSource());
+                bookmark = owner.getSpecification().isEntity()
+                        ? ManagedObjects.bookmark(owner).orElse(null)
+                        : null;
+                if (bookmark == null) {
+                    ownerByKey.put(key, owner);
+                    return;
+                }
+            }
+            var spec = specLoader.specForBookmark(bookmark).orElse(null);
+            if (spec == null) {
+                return;
+            }
+            if (!spec.isEntity()) {
+                objectManager.loadObject(bookmark)
+                    .ifPresent(owner -> ownerByKey.put(key, owner));
+                return;
+            }
+            entityKeysBySpec.computeIfAbsent(spec, __ -> new ArrayList<>()).add(key);
+            bookmarkByKey.put(key, bookmark);
+        });
+
+        entityKeysBySpec.forEach((spec, entityKeys) -> {
+            var entityKeysCan = Can.ofCollection(entityKeys);
+            spec.entityFacetElseFail()
+                .fetchByBookmarks(entityKeysCan.map(bookmarkByKey::get), Can.of(association.getId()))
+                .zip(entityKeysCan, (owner, key) -> {
+                    if (owner.getPojo() != null) {
+                        ownerByKey.put(key, owner);
+                    }
+                });
+        });
+
+        return ownerByKey;
+    }
+
+    @Nullable
+    private InteractionContext currentInteractionContext() {
+        return interactionService.currentInteractionContext().orElse(null);
+    }
+
+    /**
+     * Batches are dispatched while the query is still being executed within its interaction, in which case we
+     * participate in that interaction.  Only if dispatched outside of any interaction (eg. if the execution
+     * continues asynchronously), we establish one, using the context of any of the fields that requested the batch.
+     */
+    @SneakyThrows
+    private <T> T withinInteraction(final BatchLoaderEnvironment env, final Callable<T> callable) {
+        if (interactionService.isInInteraction()) {
+            return callable.call();
+        }
+        var interactionContextIfAny = env.getKeyContextsList().stream()
+                .filter(InteractionContext.class::isInstance)
+                .map(InteractionContext.class::cast)
+                .findFirst();
+        return interactionContextIfAny.isPresent()
+                ? interactionService.call(interactionContextIfAny.get(), callable)
+                : interactionService.callAnonymous(callable);
+    }
+
+}
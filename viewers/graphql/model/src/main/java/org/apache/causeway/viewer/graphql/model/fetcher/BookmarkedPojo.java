@@ -24,9 +24,13 @@
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
 import org.apache.causeway.viewer.graphql.model.context.Context;
 
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@EqualsAndHashCode(of = "bookmark")
 public class BookmarkedPojo {
 
-    private final Bookmark bookmark;
+    @Getter private final Bookmark bookmark;
     private final BookmarkService bookmarkService;
 
     public BookmarkedPojo(
@@ -0,0 +1,171 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.fetcher;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import graphql.GraphQLContext;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+
+import org.dataloader.DataLoaderRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.graphql.execution.DefaultBatchLoaderRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
+
+class BatchLoadersTest {
+
+    private InteractionService interactionService;
+    private ObjectManager objectManager;
+    private BatchLoaders batchLoaders;
+    private DataLoaderRegistry dataLoaderRegistry;
+
+    private final List<Bookmark> bookmarks = List.of(
+            Bookmark.forLogicalTypeNameAndIdentifier("univ.Person", "1"),
+            Bookmark.forLogicalTypeNameAndIdentifier("univ.Person", "2"),
+            Bookmark.forLogicalTypeNameAndIdentifier("univ.Person", "3"));
+
+    @BeforeEach
+    void setUp() {
+        interactionService = mock(InteractionService.class);
+        objectManager = mock(ObjectManager.class);
+
+        // entities are fetched by bookmark, each pojo being the bookmark's identifier
+        when(objectManager.loadObjects(any())).thenAnswer(invocation -> {
+            Can<Bookmark> requested = invocation.getArgument(0);
+            return requested.map(bookmark -> managedObject(bookmark.getIdentifier()));
+        });
+        when(objectManager.adapt(any())).thenAnswer(invocation -> managedObject(invocation.getArgument(0)));
+
+        var batchLoaderRegistry = new DefaultBatchLoaderRegistry();
+        batchLoaders = new BatchLoaders(Optional.of(batchLoaderRegistry), interactionService, objectManager);
+        batchLoaders.init();
+
+        dataLoaderRegistry = new DataLoaderRegistry();
+        batchLoaderRegistry.registerDataLoaders(dataLoaderRegistry, GraphQLContext.newContext().build());
+    }
+
+    @Test
+    void objects_of_a_batch_are_fetched_in_bulk_within_the_callers_interaction() {
+
+        // given
+        when(interactionService.isInInteraction()).thenReturn(true);
+
+        // when
+        var futures = bookmarks.stream()
+                .map(bookmark -> batchLoaders.load(environment(null), bookmark))
+                .collect(Collectors.toList());
+        dataLoaderRegistry.dispatchAll();
+
+        // then
+        assertEquals(List.of("1", "2", "3"), joinAll(futures));
+        verify(objectManager, times(1)).loadObjects(any());
+        verify(interactionService, never()).call(any(InteractionContext.class), any(Callable.class));
+    }
+
+    @Test
+    void associations_of_a_batch_are_evaluated_against_sources_fetched_in_bulk() {
+
+        // given
+        when(interactionService.isInInteraction()).thenReturn(true);
+        var association = mock(ObjectAssociation.class);
+        when(association.get(any(ManagedObject.class))).thenAnswer(invocation -> {
+            ManagedObject owner = invocation.getArgument(0);
+            return managedObject("name-of-" + owner.getPojo());
+        });
+
+        // when
+        var futures = bookmarks.stream()
+                .map(bookmark -> batchLoaders.load(environment(new BookmarkedPojo(bookmark, null)), association))
+                .collect(Collectors.toList());
+        dataLoaderRegistry.dispatchAll();
+
+        // then
+        assertEquals(List.of("name-of-1", "name-of-2", "name-of-3"), joinAll(futures));
+        verify(objectManager, times(1)).loadObjects(any());
+        verify(association, times(3)).get(any(ManagedObject.class));
+        verify(interactionService, never()).call(any(InteractionContext.class), any(Callable.class));
+    }
+
+    @Test
+    void batch_dispatched_outside_of_any_interaction_establishes_one_using_the_callers_context() {
+
+        // given
+        var interactionContext = InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName("sven"));
+        when(interactionService.currentInteractionContext()).thenReturn(Optional.of(interactionContext));
+        when(interactionService.isInInteraction()).thenReturn(false);
+        when(interactionService.call(eq(interactionContext), any(Callable.class)))
+                .thenAnswer(invocation -> ((Callable<?>) invocation.getArgument(1)).call());
+
+        // when
+        var futures = bookmarks.stream()
+                .map(bookmark -> batchLoaders.load(environment(null), bookmark))
+                .collect(Collectors.toList());
+        dataLoaderRegistry.dispatchAll();
+
+        // then
+        assertEquals(List.of("1", "2", "3"), joinAll(futures));
+        verify(interactionService, times(1)).call(eq(interactionContext), any(Callable.class));
+    }
+
+    // -- HELPER
+
+    private DataFetchingEnvironment environment(final Object source) {
+        return DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+                .source(source)
+                .dataLoaderRegistry(dataLoaderRegistry)
+                .build();
+    }
+
+    private static ManagedObject managedObject(final Object pojo) {
+        var managedObject = mock(ManagedObject.class);
+        when(managedObject.getPojo()).thenReturn(pojo);
+        return managedObject;
+    }
+
+    private static List<Object> joinAll(final List<Object> futures) {
+        return futures.stream()
+                .map(CompletableFuture.class::cast)
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+    }
+
+}
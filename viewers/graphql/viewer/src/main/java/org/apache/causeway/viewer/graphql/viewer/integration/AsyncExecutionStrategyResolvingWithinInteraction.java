@@ -18,12 +18,15 @@
  */
 package org.apache.causeway.viewer.graphql.viewer.integration;
 
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 
+import graphql.ExecutionResult;
 import graphql.execution.AsyncExecutionStrategy;
 import graphql.execution.ExecutionContext;
 import graphql.execution.ExecutionStrategyParameters;
 import graphql.execution.FieldValueInfo;
+import graphql.language.OperationDefinition;
 
 import org.springframework.stereotype.Service;
 
@@ -46,22 +49,53 @@ public AsyncExecutionStrategyResolvingWithinInteraction(
         this.userMementoProvider = userMementoProvider;
     }
 
+    /**
+     * Query operations are executed within a single interaction spanning all of their fields, so that the batches
+     * dispatched by DataLoaders participate in that interaction (and its persistence context), rather than each
+     * having to establish an interaction of their own.
+     *
+     * <p>
+     *     Mutations are not affected, each of their fields is still resolved within an interaction of its own.
+     * </p>
+     */
+    @Override
+    public CompletableFuture<ExecutionResult> execute(
+            final ExecutionContext executionContext,
+            final ExecutionStrategyParameters parameters) {
+
+        if (executionContext.getOperationDefinition().getOperation() != OperationDefinition.Operation.QUERY
+                || interactionService.isInInteraction()) {
+            return super.execute(executionContext, parameters);
+        }
+        return withinInteraction(executionContext, parameters,
+                () -> super.execute(executionContext, parameters));
+    }
+
     @Override
     protected CompletableFuture<FieldValueInfo> resolveFieldWithInfo(
             final ExecutionContext executionContext,
             final ExecutionStrategyParameters parameters) {
 
+        return withinInteraction(executionContext, parameters,
+                () -> super.resolveFieldWithInfo(executionContext, parameters));
+    }
+
+    // -- HELPER
+
+    private <T> T withinInteraction(
+            final ExecutionContext executionContext,
+            final ExecutionStrategyParameters parameters,
+            final Callable<T> callable) {
+
         var userMemento = userMementoProvider.userMemento(executionContext, parameters);
 
         if (userMemento != null) {
             return interactionService.call(
                     InteractionContext.builder().user(userMemento).build(),
-                    () -> super.resolveFieldWithInfo(executionContext, parameters)
+                    callable
             );
         } else {
-            return interactionService.callAnonymous(
-                    () -> super.resolveFieldWithInfo(executionContext, parameters)
-            );
+            return interactionService.callAnonymous(callable);
         }
     }
 }
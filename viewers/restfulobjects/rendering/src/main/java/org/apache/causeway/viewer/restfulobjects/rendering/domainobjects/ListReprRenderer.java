@@ -30,6 +30,7 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
 import org.apache.causeway.viewer.restfulobjects.rendering.ReprRendererAbstract;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.JsonArrayStreamer;
 
 public class ListReprRenderer
 extends ReprRendererAbstract<Stream<ManagedObject>> {
@@ -100,28 +101,36 @@ private void addValue() {
             return;
         }
 
-        final JsonRepresentation values = JsonRepresentation.newArray();
+        if(resourceContext.config().isStreamRepresentations()) {
+            // elements are rendered one at a time, while being written to the response
+            representation.mapPut("value", JsonArrayStreamer.of(()->objectAdapters.stream().map(this::linkToElement)));
+            return;
+        }
 
-        objectAdapters
-        .forEach(adapter->{
-            final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
-            values.arrayAdd(linkToObject);
-
-            final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
-            if (linkFollower.matches(linkToObject)) {
-                final DomainObjectReprRenderer renderer =
-                        new DomainObjectReprRenderer(
-                                getResourceContext(),
-                                linkFollower,
-                                JsonRepresentation.newMap());
-                final JsonRepresentation domainObject = renderer.with(adapter).render();
-                linkToObject.mapPutJsonRepresentation("value", domainObject);
-            }
-        });
+        final JsonRepresentation values = JsonRepresentation.newArray();
+        objectAdapters.stream()
+        .map(this::linkToElement)
+        .forEach(values::arrayAdd);
 
         representation.mapPutJsonRepresentation("value", values);
     }
 
+    private JsonRepresentation linkToElement(final ManagedObject adapter) {
+        final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
+
+        final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
+        if (linkFollower.matches(linkToObject)) {
+            final DomainObjectReprRenderer renderer =
+                    new DomainObjectReprRenderer(
+                            getResourceContext(),
+                            linkFollower,
+                            JsonRepresentation.newMap());
+            final JsonRepresentation domainObject = renderer.with(adapter).render();
+            linkToObject.mapPutJsonRepresentation("value", domainObject);
+        }
+        return linkToObject;
+    }
+
     protected void addLinkToReturnType() {
         addLink(Rel.RETURN_TYPE, returnType);
     }
@@ -24,6 +24,7 @@
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.core.metamodel.facets.collections.CollectionFacet;
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedCollection;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.causeway.core.metamodel.util.Facets;
@@ -34,6 +35,7 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkBuilder;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
 import org.apache.causeway.viewer.restfulobjects.rendering.domaintypes.CollectionDescriptionReprRenderer;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.JsonArrayStreamer;
 
 public class ObjectCollectionReprRenderer
 extends AbstractObjectMemberReprRenderer<OneToManyAssociation> {
@@ -100,29 +102,43 @@ private void addValue(final LinkFollowSpecs linkFollower) {
                         && Facets.defaultViewIsTable(objectMember)
                         && resourceContext.canEagerlyRender(valueAdapter));
 
+        if(resourceContext.config().isStreamRepresentations()
+                && !mode.isEventSerialization()) {
+            // elements are rendered one at a time, while being written to the response
+            representation.mapPut("value", JsonArrayStreamer.of(()->
+                    CollectionFacet.streamAdapters(valueAdapter)
+                    .map(elementAdapter->linkToElement(elementAdapter, followHref, eagerlyRender))));
+            return;
+        }
+
         final List<JsonRepresentation> list = _Lists.newArrayList();
 
         CollectionFacet.streamAdapters(valueAdapter)
-        .forEach(elementAdapter->{
-            final LinkBuilder valueLinkBuilder = DomainObjectReprRenderer
-                    .newLinkToBuilder(resourceContext, Rel.VALUE, elementAdapter);
-            if(eagerlyRender) {
-                var domainObjectReprRenderer =
-                        new DomainObjectReprRenderer(getResourceContext(), followHref, JsonRepresentation.newMap())
-                        .with(elementAdapter);
-                if(mode.isEventSerialization()) {
-                    domainObjectReprRenderer.asEventSerialization();
-                }
-
-                valueLinkBuilder.withValue(domainObjectReprRenderer.render());
-            }
-
-            list.add(valueLinkBuilder.build());
-        });
+        .map(elementAdapter->linkToElement(elementAdapter, followHref, eagerlyRender))
+        .forEach(list::add);
 
         representation.mapPut("value", list);
     }
 
+    private JsonRepresentation linkToElement(
+            final ManagedObject elementAdapter,
+            final LinkFollowSpecs followHref,
+            final boolean eagerlyRender) {
+        final LinkBuilder valueLinkBuilder = DomainObjectReprRenderer
+                .newLinkToBuilder(resourceContext, Rel.VALUE, elementAdapter);
+        if(eagerlyRender) {
+            var domainObjectReprRenderer =
+                    new DomainObjectReprRenderer(getResourceContext(), followHref, JsonRepresentation.newMap())
+                    .with(elementAdapter);
+            if(mode.isEventSerialization()) {
+                domainObjectReprRenderer.asEventSerialization();
+            }
+
+            valueLinkBuilder.withValue(domainObjectReprRenderer.render());
+        }
+        return valueLinkBuilder.build();
+    }
+
     // ///////////////////////////////////////////////////
     // details link
     // ///////////////////////////////////////////////////
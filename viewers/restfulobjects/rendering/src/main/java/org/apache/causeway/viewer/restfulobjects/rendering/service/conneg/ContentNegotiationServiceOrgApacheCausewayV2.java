@@ -55,6 +55,7 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.Responses;
 import org.apache.causeway.viewer.restfulobjects.rendering.domainobjects.ObjectAndActionInvocation;
 import org.apache.causeway.viewer.restfulobjects.rendering.domainobjects.ObjectPropertyReprRenderer;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.JsonArrayStreamer;
 
 import lombok.RequiredArgsConstructor;
 
@@ -142,20 +143,33 @@ public Response.ResponseBuilder buildResponse(
         final EnumSet<SuppressionType> suppression = suppress(resourceContext);
         final boolean suppressRO = suppression.contains(SuppressionType.RO);
 
-        final JsonRepresentation rootRepresentation = JsonRepresentation.newArray();
-
-        appendCollectionTo(resourceContext, managedCollection, rootRepresentation, suppression);
-
         final JsonRepresentation $$roRepresentation;
+        final JsonRepresentation $$roContainerRepresentation;
         if(!suppressRO) {
             // $$ro representation will be an object in the list with a single property named "$$ro"
-            final JsonRepresentation $$roContainerRepresentation = JsonRepresentation.newMap();
-            rootRepresentation.arrayAdd($$roContainerRepresentation);
+            $$roContainerRepresentation = JsonRepresentation.newMap();
 
             $$roRepresentation = JsonRepresentation.newMap();
             $$roContainerRepresentation.mapPutJsonRepresentation("$$ro", $$roRepresentation);
         } else {
             $$roRepresentation = null;
+            $$roContainerRepresentation = null;
+        }
+
+        final JsonRepresentation rootRepresentation;
+        if(resourceContext.config().isStreamRepresentations()) {
+            // elements are rendered one at a time, while being written to the response
+            rootRepresentation = JsonArrayStreamer.of(()->Stream.concat(
+                    managedCollection.streamElements(resourceContext.getInteractionInitiatedBy())
+                        .map(element->elementRepresentation(resourceContext, element, suppression)),
+                    Stream.ofNullable($$roContainerRepresentation)))
+                    .asRepresentation();
+        } else {
+            rootRepresentation = JsonRepresentation.newArray();
+            appendCollectionTo(resourceContext, managedCollection, rootRepresentation, suppression);
+            if($$roContainerRepresentation != null) {
+                rootRepresentation.arrayAdd($$roContainerRepresentation);
+            }
         }
 
         final Response.ResponseBuilder responseBuilder =
@@ -235,17 +249,32 @@ public Response.ResponseBuilder buildResponse(
 
             }
 
-            rootRepresentation = JsonRepresentation.newArray();
-
-            objectAndActionInvocation.streamElementAdapters()
-            .forEach(elementAdapter->
-                appendElementTo(resourceContext, elementAdapter, rootRepresentation, suppression));
-
             // $$ro representation will be an object in the list with a single property named "$$ro"
+            final JsonRepresentation $$roContainerRepresentation;
             if(!suppressRO) {
-                JsonRepresentation $$roContainerRepresentation = JsonRepresentation.newMap();
-                rootRepresentation.arrayAdd($$roContainerRepresentation);
+                $$roContainerRepresentation = JsonRepresentation.newMap();
                 $$roContainerRepresentation.mapPutJsonRepresentation("$$ro", $$roRepresentation);
+            } else {
+                $$roContainerRepresentation = null;
+            }
+
+            if(resourceContext.config().isStreamRepresentations()) {
+                // elements are rendered one at a time, while being written to the response
+                rootRepresentation = JsonArrayStreamer.of(()->Stream.concat(
+                        objectAndActionInvocation.streamElementAdapters()
+                            .map(elementAdapter->elementRepresentation(resourceContext, elementAdapter, suppression)),
+                        Stream.ofNullable($$roContainerRepresentation)))
+                        .asRepresentation();
+            } else {
+                rootRepresentation = JsonRepresentation.newArray();
+
+                objectAndActionInvocation.streamElementAdapters()
+                .forEach(elementAdapter->
+                    appendElementTo(resourceContext, elementAdapter, rootRepresentation, suppression));
+
+                if($$roContainerRepresentation != null) {
+                    rootRepresentation.arrayAdd($$roContainerRepresentation);
+                }
             }
 
             headerContentType = RepresentationTypeSimplifiedV2.LIST;
@@ -438,9 +467,17 @@ private void appendElementTo(
             final JsonRepresentation collectionRepresentation,
             final EnumSet<SuppressionType> suppression) {
 
+        collectionRepresentation.arrayAdd(elementRepresentation(resourceContext, elementAdapter, suppression));
+    }
+
+    private JsonRepresentation elementRepresentation(
+            final IResourceContext resourceContext,
+            final ManagedObject elementAdapter,
+            final EnumSet<SuppressionType> suppression) {
+
         var elementRepresentation = JsonRepresentation.newMap();
         appendPropertiesTo(resourceContext, elementAdapter, elementRepresentation, suppression);
-        collectionRepresentation.arrayAdd(elementRepresentation);
+        return elementRepresentation;
     }
 
 }
@@ -0,0 +1,77 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.node.POJONode;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A JSON array, whose elements are rendered one at a time, while being written to the {@link JsonGenerator},
+ * rather than all being held in memory up front.
+ *
+ * <p>
+ *     Put into a {@link JsonRepresentation} using {@link JsonRepresentation#mapPut(String, Object)}, or used as
+ *     the root via {@link #asRepresentation()}.  Elements are rendered (again) each time the array is written.
+ * </p>
+ *
+ * @see JsonWriterUtil#streamingJsonFor(Object, org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapper.PrettyPrinting)
+ */
+@RequiredArgsConstructor(staticName = "of")
+public final class JsonArrayStreamer implements JsonSerializable {
+
+    private final @NonNull Supplier<Stream<JsonRepresentation>> elements;
+
+    public JsonRepresentation asRepresentation() {
+        return new JsonRepresentation(new POJONode(this));
+    }
+
+    @Override
+    public void serialize(final JsonGenerator gen, final SerializerProvider serializers) throws IOException {
+        gen.writeStartArray();
+        try(var stream = elements.get()) {
+            final Iterator<JsonRepresentation> iterator = stream.iterator();
+            while(iterator.hasNext()) {
+                gen.writeTree(iterator.next().asJsonNode());
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(
+            final JsonGenerator gen,
+            final SerializerProvider serializers,
+            final TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+
+}
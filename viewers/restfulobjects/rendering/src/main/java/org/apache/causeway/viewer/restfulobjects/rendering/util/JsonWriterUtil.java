@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.viewer.restfulobjects.rendering.util;
 
+import javax.ws.rs.core.StreamingOutput;
+
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
@@ -35,6 +37,14 @@ public String jsonFor(final Object object, final JsonMapper.PrettyPrinting prett
         return JsonMapper.instance(prettyPrinting).write(object);
     }
 
+    /**
+     * As {@link #jsonFor(Object, JsonMapper.PrettyPrinting)}, but rather than returning the JSON as a {@link String},
+     * returns a {@link StreamingOutput}, that writes it directly to the response's output stream.
+     */
+    public StreamingOutput streamingJsonFor(final Object object, final JsonMapper.PrettyPrinting prettyPrinting) {
+        return out->JsonMapper.instance(prettyPrinting).write(object, out);
+    }
+
     public String jsonFor(final Object object, @Nullable final CausewaySystemEnvironment systemEnvironment) {
         var prettyPrinting = (systemEnvironment!=null && systemEnvironment.isPrototyping())
                 ? JsonMapper.PrettyPrinting.ENABLE
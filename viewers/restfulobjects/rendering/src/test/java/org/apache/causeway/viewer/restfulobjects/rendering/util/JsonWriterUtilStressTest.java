@@ -0,0 +1,90 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.internaltestsupport.annotations.DisabledIfRunningWithSurefire;
+import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapper;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Measures the bytes allocated when rendering a collection of 10k elements to a (discarding) response stream,
+ * either as an in-memory representation written as a {@link String}, or streamed element by element
+ * using {@link JsonArrayStreamer}.
+ */
+@DisabledIfRunningWithSurefire
+@Log4j2
+class JsonWriterUtilStressTest {
+
+    private static final int ELEMENT_COUNT = 10_000;
+
+    @Test
+    void streaming_shouldAllocateLessThanString() throws Exception {
+        var threadMXBean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        var allocationCounter = (com.sun.management.ThreadMXBean) threadMXBean;
+        Assumptions.assumeTrue(allocationCounter.isThreadAllocatedMemorySupported()
+                && allocationCounter.isThreadAllocatedMemoryEnabled());
+
+        var discard = OutputStream.nullOutputStream();
+        final long threadId = Thread.currentThread().getId();
+
+        // warm up
+        for (int i = 0; i < 3; i++) {
+            discard.write(JsonWriterUtil.jsonFor(
+                    JsonWriterUtilTest.collectionRepresentation(ELEMENT_COUNT), JsonMapper.PrettyPrinting.DISABLE)
+                    .getBytes(StandardCharsets.UTF_8));
+            JsonWriterUtil.streamingJsonFor(
+                    JsonWriterUtilTest.streamingCollectionRepresentation(ELEMENT_COUNT, new AtomicInteger()),
+                    JsonMapper.PrettyPrinting.DISABLE)
+                .write(discard);
+        }
+
+        long before = allocationCounter.getThreadAllocatedBytes(threadId);
+        var json = JsonWriterUtil.jsonFor(
+                JsonWriterUtilTest.collectionRepresentation(ELEMENT_COUNT), JsonMapper.PrettyPrinting.DISABLE);
+        discard.write(json.getBytes(StandardCharsets.UTF_8)); // as done by the JAX-RS String message body writer
+        final long allocatedViaString = allocationCounter.getThreadAllocatedBytes(threadId) - before;
+
+        before = allocationCounter.getThreadAllocatedBytes(threadId);
+        JsonWriterUtil.streamingJsonFor(
+                JsonWriterUtilTest.streamingCollectionRepresentation(ELEMENT_COUNT, new AtomicInteger()),
+                JsonMapper.PrettyPrinting.DISABLE)
+            .write(discard);
+        final long allocatedViaStreaming = allocationCounter.getThreadAllocatedBytes(threadId) - before;
+
+        log.info("{} elements ({} bytes of JSON): string {} bytes allocated, streaming {} bytes allocated",
+                ELEMENT_COUNT, json.length(), allocatedViaString, allocatedViaStreaming);
+
+        // the string variant holds the whole representation tree and (at least) one full copy of the payload,
+        // the streaming variant holds a single element at a time
+        assertTrue(allocatedViaStreaming < allocatedViaString);
+    }
+
+}
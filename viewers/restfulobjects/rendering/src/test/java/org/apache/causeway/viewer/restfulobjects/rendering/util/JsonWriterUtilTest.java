@@ -0,0 +1,117 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapper;
+
+class JsonWriterUtilTest {
+
+    @ParameterizedTest
+    @EnumSource(JsonMapper.PrettyPrinting.class)
+    void streaming_shouldWriteSameJson(final JsonMapper.PrettyPrinting prettyPrinting) throws Exception {
+        var representation = collectionRepresentation(10);
+
+        var streamed = new ByteArrayOutputStream();
+        JsonWriterUtil.streamingJsonFor(representation, prettyPrinting).write(streamed);
+
+        assertEquals(
+                JsonWriterUtil.jsonFor(representation, prettyPrinting),
+                new String(streamed.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @ParameterizedTest
+    @EnumSource(JsonMapper.PrettyPrinting.class)
+    void arrayStreamer_shouldWriteSameJsonAsArray(final JsonMapper.PrettyPrinting prettyPrinting) throws Exception {
+        var representation = collectionRepresentation(10);
+        var streamingRepresentation = streamingCollectionRepresentation(10, new AtomicInteger());
+
+        var streamed = new ByteArrayOutputStream();
+        JsonWriterUtil.streamingJsonFor(streamingRepresentation, prettyPrinting).write(streamed);
+
+        assertEquals(
+                JsonWriterUtil.jsonFor(representation, prettyPrinting),
+                new String(streamed.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(
+                JsonWriterUtil.jsonFor(representation, prettyPrinting),
+                JsonWriterUtil.jsonFor(streamingRepresentation, prettyPrinting));
+    }
+
+    @Test
+    void arrayStreamer_shouldRenderElementsOnlyWhileWriting() throws Exception {
+        var renderedCount = new AtomicInteger();
+        var streamingRepresentation = streamingCollectionRepresentation(10, renderedCount);
+
+        assertEquals(0, renderedCount.get());
+
+        JsonWriterUtil.streamingJsonFor(streamingRepresentation, JsonMapper.PrettyPrinting.DISABLE)
+            .write(OutputStream.nullOutputStream());
+
+        assertEquals(10, renderedCount.get());
+    }
+
+    // -- HELPER
+
+    static JsonRepresentation streamingCollectionRepresentation(final int elementCount, final AtomicInteger renderedCount) {
+        var collection = JsonRepresentation.newMap();
+        collection.mapPutString("id", "customers");
+        collection.mapPutString("memberType", "collection");
+        collection.mapPut("value", JsonArrayStreamer.of(()->IntStream.range(0, elementCount)
+                .mapToObj(i->{
+                    renderedCount.incrementAndGet();
+                    return link(i);
+                })));
+        return collection;
+    }
+
+    static JsonRepresentation collectionRepresentation(final int elementCount) {
+        var value = JsonRepresentation.newArray(elementCount);
+        for (int i = 0; i < elementCount; i++) {
+            value.arrayAdd(link(i));
+        }
+        var collection = JsonRepresentation.newMap();
+        collection.mapPutString("id", "customers");
+        collection.mapPutString("memberType", "collection");
+        collection.mapPutJsonRepresentation("value", value);
+        return collection;
+    }
+
+    private static JsonRepresentation link(final int i) {
+        var link = JsonRepresentation.newMap();
+        link.mapPutString("rel", "urn:org.restfulobjects:rels/value");
+        link.mapPutString("href", "http://localhost:8080/restful/objects/simple.Customer/" + i);
+        link.mapPutString("method", "GET");
+        link.mapPutString("type", "application/json;profile=\"urn:org.restfulobjects:repr-types/object\"");
+        link.mapPutString("title", "Customer #" + i);
+        return link;
+    }
+
+}
@@ -26,6 +26,7 @@
     exports org.apache.causeway.viewer.restfulobjects.viewer.util;
     exports org.apache.causeway.viewer.restfulobjects.viewer.mappers.entity;
     exports org.apache.causeway.viewer.restfulobjects.viewer.mappers;
+    exports org.apache.causeway.viewer.restfulobjects.viewer.metrics;
     exports org.apache.causeway.viewer.restfulobjects.viewer.resources.serialization;
 
     requires com.fasterxml.jackson.core;
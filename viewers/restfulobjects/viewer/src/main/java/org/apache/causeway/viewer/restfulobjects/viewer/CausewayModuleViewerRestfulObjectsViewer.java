@@ -28,6 +28,7 @@
 import org.apache.causeway.viewer.restfulobjects.viewer.mappers.ExceptionMapperForObjectNotFound;
 import org.apache.causeway.viewer.restfulobjects.viewer.mappers.ExceptionMapperForRestfulObjectsApplication;
 import org.apache.causeway.viewer.restfulobjects.viewer.mappers.ExceptionMapperForRuntimeException;
+import org.apache.causeway.viewer.restfulobjects.viewer.metrics.ResourceMetricsFilter;
 import org.apache.causeway.viewer.restfulobjects.viewer.resources.DomainObjectResourceServerside;
 import org.apache.causeway.viewer.restfulobjects.viewer.resources.DomainServiceResourceServerside;
 import org.apache.causeway.viewer.restfulobjects.viewer.resources.DomainTypeResourceServerside;
@@ -64,6 +65,7 @@
         ExceptionMapperForObjectNotFound.class,
         AcceptHeaderServiceForRest.RequestFilter.class,
         AcceptHeaderServiceForRest.ResponseFilter.class,
+        ResourceMetricsFilter.class,
 
 })
 public class CausewayModuleViewerRestfulObjectsViewer {
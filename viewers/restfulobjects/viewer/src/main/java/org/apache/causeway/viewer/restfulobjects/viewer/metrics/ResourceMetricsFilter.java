@@ -0,0 +1,141 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.metrics;
+
+import java.io.IOException;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.springframework.stereotype.Component;
+
+import org.apache.causeway.applib.services.metrics.MetricsSubscriber;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Lazy;
+
+/**
+ * Times the requests handled by the resources of the <i>Restful Objects</i> viewer, and notifies any
+ * enabled {@link MetricsSubscriber}s.
+ * <p>
+ * The response body is written after the response filters have run (and with
+ * <code>causeway.viewer.restfulobjects.stream-representations</code> set, that is also when
+ * collections are rendered). Hence for responses with an entity the time is taken once the
+ * body has been written, otherwise when the response is filtered.
+ *
+ * @since 2.0 {@index}
+ */
+@Component
+@Provider
+public class ResourceMetricsFilter
+implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+
+    public static final String VIEWER = "restfulobjects";
+
+    private static final String PROPERTY_PREFIX = ResourceMetricsFilter.class.getName() + ".";
+    private static final String STARTED_AT_NANOS = PROPERTY_PREFIX + "startedAtNanos";
+    private static final String RESOURCE = PROPERTY_PREFIX + "resource";
+    private static final String STATUS = PROPERTY_PREFIX + "status";
+
+    @Context ResourceInfo resourceInfo;
+
+    private final _Lazy<Can<MetricsSubscriber>> enabledMetricsSubscribers;
+
+    @Inject
+    public ResourceMetricsFilter(final List<MetricsSubscriber> metricsSubscribers) {
+        this.enabledMetricsSubscribers = _Lazy.threadSafe(()->
+                Can.ofCollection(metricsSubscribers)
+                    .filter(MetricsSubscriber::isEnabled));
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext) throws IOException {
+        if(enabledMetricsSubscribers.get().isEmpty()) {
+            return;
+        }
+        requestContext.setProperty(STARTED_AT_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void filter(
+            final ContainerRequestContext requestContext,
+            final ContainerResponseContext responseContext) throws IOException {
+
+        var startedAtNanos = (Long) requestContext.getProperty(STARTED_AT_NANOS);
+        if(startedAtNanos==null) {
+            return;
+        }
+        var resource = resource();
+        if(responseContext.hasEntity()) {
+            // defer until the body has been written, see aroundWriteTo
+            requestContext.setProperty(RESOURCE, resource);
+            requestContext.setProperty(STATUS, responseContext.getStatus());
+            return;
+        }
+        requestContext.removeProperty(STARTED_AT_NANOS);
+        notifyMetricsSubscribers(resource, responseContext.getStatus(), startedAtNanos);
+    }
+
+    @Override
+    public void aroundWriteTo(final WriterInterceptorContext context) throws IOException, WebApplicationException {
+        try {
+            context.proceed();
+        } finally {
+            var startedAtNanos = (Long) context.getProperty(STARTED_AT_NANOS);
+            if(startedAtNanos!=null) {
+                context.removeProperty(STARTED_AT_NANOS);
+                notifyMetricsSubscribers(
+                        (String) context.getProperty(RESOURCE),
+                        (Integer) context.getProperty(STATUS),
+                        startedAtNanos);
+            }
+        }
+    }
+
+    // -- HELPER
+
+    private String resource() {
+        var resourceClass = resourceInfo!=null
+                ? resourceInfo.getResourceClass()
+                : null;
+        var resourceMethod = resourceInfo!=null
+                ? resourceInfo.getResourceMethod()
+                : null;
+        return resourceClass!=null
+                && resourceMethod!=null
+                ? resourceClass.getSimpleName() + "#" + resourceMethod.getName()
+                : "none";
+    }
+
+    private void notifyMetricsSubscribers(final String resource, final int status, final long startedAtNanos) {
+        var durationNanos = System.nanoTime() - startedAtNanos;
+        enabledMetricsSubscribers.get()
+            .forEach(subscriber->subscriber.onRequestHandled(VIEWER, resource, status, durationNanos));
+    }
+
+}
@@ -170,10 +170,12 @@ public Response object(
 
         var objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "GET /objects/{}/{}", domainType, instanceId, roEx));
-        var domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "GET /objects/{}/{}", domainType, instanceId,
-                domainResourceHelper.objectRepresentation());
+                conditionalObjectGet(resourceContext, objectAdapter, ()->
+                    _DomainResourceHelper
+                    .ofObjectResource(resourceContext, objectAdapter)
+                    .objectRepresentation()));
     }
 
     @Override
@@ -20,13 +20,17 @@
 
 import java.io.InputStream;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriInfo;
 import javax.ws.rs.ext.Providers;
@@ -158,6 +162,46 @@ protected ManagedObject getObjectAdapterElseThrowNotFound(
                                         bookmark)));
     }
 
+    /**
+     * If enabled (and given object is a versioned entity), answers a conditional <code>GET</code> of the object
+     * resource with <i>Not Modified</i>, if the <code>If-None-Match</code> header matches the representation's
+     * (weak) entity tag, without building the representation.  Otherwise builds the representation, adding the
+     * entity tag.
+     *
+     * <p>
+     *     Only for the object resource, as property and collection details (and any links followed) depend on other
+     *     objects, whose changes are not reflected by the entity's version.
+     * </p>
+     */
+    protected Response conditionalObjectGet(
+            final ResourceContext resourceContext,
+            final ManagedObject objectAdapter,
+            final Supplier<Response> representation) {
+
+        var entityTag = getConfiguration().getViewer().getRestfulobjects().isEtags()
+                && resourceContext.getFollowLinks().isEmpty()
+                ? getInteractionService().currentInteractionContext()
+                    .flatMap(interactionContext->_EntityTags.entityTag(
+                            objectAdapter,
+                            interactionContext,
+                            uriInfo.getPath(),
+                            httpHeaders.getHeaderString(HttpHeaders.ACCEPT),
+                            httpServletRequest.getQueryString()))
+                : Optional.<EntityTag>empty();
+        if(entityTag.isEmpty()) {
+            return representation.get();
+        }
+
+        var notModified = request.evaluatePreconditions(entityTag.get());
+        if(notModified!=null) {
+            return notModified.tag(entityTag.get()).build();
+        }
+        var response = representation.get();
+        return response.getStatus() == HttpStatusCode.OK.getStatusCode()
+                ? Response.fromResponse(response).tag(entityTag.get()).build()
+                : response;
+    }
+
     // -- HELPER
 
     private String getUrlDecodedQueryStringIfAny() {
@@ -19,6 +19,7 @@
 package org.apache.causeway.viewer.restfulobjects.viewer.resources;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.apache.logging.log4j.Logger;
 
@@ -184,6 +185,8 @@ private void logResponse(final Logger log, final Response response) {
         if(dto==null
                 || dto instanceof String) {
             log.debug(dto);
+        } else if(dto instanceof StreamingOutput) {
+            log.debug("streamed content");
         } else if(_Collections.isAnyCollectionOrArrayType(dto.getClass())){
             log.debug("non-scalar content of type {}", dto.getClass());
         } else {
@@ -0,0 +1,83 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.core.EntityTag;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.commons.io.HashUtils;
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Computes weak {@link EntityTag}s for the representations of entities, based on the entity's version.
+ * These are weak, as the representation itself is not hashed: it may differ (eg. in derived properties),
+ * while the entity's version does not.
+ * <p>
+ * Because representations depend on the user (visibility and usability of members), the user's locale and
+ * time-zone, the requested media type and query parameters (eg. <code>x-ro-follow-links</code>),
+ * these are all part of the tag.
+ */
+@UtilityClass
+class _EntityTags {
+
+    /**
+     * Returns empty if given object is not an entity, or if the entity is not versioned.
+     */
+    Optional<EntityTag> entityTag(
+            final ManagedObject objectAdapter,
+            final InteractionContext interactionContext,
+            final String resourcePath,
+            final @Nullable String acceptHeader,
+            final @Nullable String queryString) {
+
+        var version = objectAdapter.getSpecification().entityFacet()
+                .map(entityFacet->entityFacet.versionOf(objectAdapter.getPojo()))
+                .orElse(null);
+        if(version==null) {
+            return Optional.empty();
+        }
+
+        var user = interactionContext.getUser();
+        var fingerprint = new StringBuilder()
+                .append(resourcePath).append('\n')
+                .append(version).append('\n')
+                .append(user.getName()).append('\n')
+                .append(user.streamRoleNames().sorted().collect(Collectors.joining(","))).append('\n')
+                .append(user.getMultiTenancyToken()).append('\n')
+                .append(user.isImpersonating()).append('\n')
+                .append(interactionContext.getLocale()).append('\n')
+                .append(interactionContext.getTimeZone()).append('\n')
+                .append(acceptHeader).append('\n')
+                .append(queryString);
+
+        return HashUtils.tryDigest(HashAlgorithm.SHA256, fingerprint.toString().getBytes(StandardCharsets.UTF_8), 1024)
+                .getValue()
+                .map(hash->new EntityTag(hash.asHexString(), true));
+    }
+
+}
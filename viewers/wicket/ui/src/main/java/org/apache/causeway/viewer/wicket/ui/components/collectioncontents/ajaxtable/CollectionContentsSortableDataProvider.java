@@ -80,8 +80,7 @@ public long size() {
     @Override
     public Iterator<DataRow> iterator(final long skip, final long limit) {
         var dataTable = getDataTableModel();
-        return dataTable.getDataRowsFilteredAndSorted().getValue()
-                .iterator(Math.toIntExact(skip), Math.toIntExact(limit));
+        return dataTable.iterateDataRowsFilteredAndSorted(Math.toIntExact(skip), Math.toIntExact(limit));
     }
 
     // -- HELPER